@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.action;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.ActionFilterChain;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+
+/**
+ * Overhead of the action filter per bulk request, from {@code apply} to the response of the
+ * wrapped listener. The filter chain responds immediately.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionFilterBenchmark {
+    /**
+     * disabled: Performance Analyzer is disabled. events: a start and a finish event per request.
+     * recorder: the events go through the RequestEventRecorder. summaries: the requests are
+     * counted in the HttpRequestSummaries.
+     */
+    @Param({"disabled", "events", "recorder", "summaries"})
+    public String mode;
+
+    private PerformanceAnalyzerActionFilter filter;
+    private BulkRequest request;
+    private ActionFilterChain<BulkRequest, BulkResponse> chain;
+    private ActionListener<BulkResponse> listener;
+    private int calls;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        BenchmarkUtil.configureMetrics();
+        RequestEventRecorder.setEnabled(mode.equals("recorder"));
+        HttpRequestSummaries.setEnabled(mode.equals("summaries"));
+        filter =
+                new PerformanceAnalyzerActionFilter(
+                        BenchmarkUtil.controller(!mode.equals("disabled")));
+        request = new BulkRequest();
+        for (int i = 0; i < 10; i++) {
+            request.add(new IndexRequest("index").id(String.valueOf(i)).source("field", i));
+        }
+        BulkResponse response = new BulkResponse(new BulkItemResponse[0], 1);
+        chain = (task, action, bulkRequest, bulkListener) -> bulkListener.onResponse(response);
+        listener =
+                new ActionListener<BulkResponse>() {
+                    @Override
+                    public void onResponse(BulkResponse bulkResponse) {
+                        blackhole.consume(bulkResponse);
+                    }
+
+                    @Override
+                    public void onFailure(Exception e) {
+                        blackhole.consume(e);
+                    }
+                };
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestEventRecorder.setEnabled(false);
+        HttpRequestSummaries.setEnabled(false);
+        HttpRequestSummaries.discard();
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void bulk() {
+        filter.apply(null, "indices:data/write/bulk", request, listener, chain);
+        if (++calls % BenchmarkUtil.DISCARD_PERIOD == 0) {
+            BenchmarkUtil.discardEvents();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.cache.query.QueryCacheStats;
+import org.opensearch.index.cache.request.ShardRequestCache;
+import org.opensearch.index.fielddata.FieldDataStats;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.shard.ShardPath;
+import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+
+/**
+ * Cost of one run of the all shards node stats collector over synthetic shards, in full mode,
+ * where every shard is visited, and in incremental mode, where a run visits the shards that fit in
+ * the slice budget.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NodeStatsAllShardsMetricsCollectorBenchmark {
+    private static final int SHARDS_PER_INDEX = 10;
+
+    @Param({"100", "1000"})
+    public int shards;
+
+    @Param({"false", "true"})
+    public boolean incremental;
+
+    private NodeStatsAllShardsMetricsCollector collector;
+    private long startTime;
+
+    @Setup
+    public void setup() {
+        BenchmarkUtil.configureMetrics();
+        MetricsConfiguration.CONFIG_MAP.put(
+                NodeStatsAllShardsMetricsCollector.class, MetricsConfiguration.cdefault);
+        OpenSearchResources.INSTANCE.setIndicesService(indicesService());
+        collector =
+                new NodeStatsAllShardsMetricsCollector(
+                        BenchmarkUtil.controller(true),
+                        incremental,
+                        NodeStatsAllShardsMetricsCollector.DEFAULT_SLICE_BUDGET_MILLIS);
+        startTime = System.currentTimeMillis();
+    }
+
+    @TearDown
+    public void tearDown() {
+        OpenSearchResources.INSTANCE.setIndicesService(null);
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void collectMetrics() {
+        startTime += NodeStatsAllShardsMetricsCollector.SAMPLING_TIME_INTERVAL;
+        collector.collectMetrics(startTime);
+        PerformanceAnalyzerMetrics.metricQueue.clear();
+    }
+
+    private IndicesService indicesService() {
+        Path dataPath = Paths.get(System.getProperty("java.io.tmpdir"), "pa-benchmark");
+        List<IndexService> indexServices = new ArrayList<>();
+        for (int i = 0; i * SHARDS_PER_INDEX < shards; i++) {
+            Index index = new Index("index-" + i, "uuid-" + i);
+            List<IndexShard> indexShards = new ArrayList<>();
+            for (int id = 0; id < SHARDS_PER_INDEX && i * SHARDS_PER_INDEX + id < shards; id++) {
+                indexShards.add(indexShard(new ShardId(index, id), dataPath));
+            }
+            IndexService indexService = mock(IndexService.class, withSettings().stubOnly());
+            when(indexService.iterator()).thenAnswer(invocation -> indexShards.iterator());
+            indexServices.add(indexService);
+        }
+        IndicesQueryCache queryCache = mock(IndicesQueryCache.class, withSettings().stubOnly());
+        when(queryCache.getStats(any())).thenReturn(new QueryCacheStats());
+        IndicesService indicesService = mock(IndicesService.class, withSettings().stubOnly());
+        when(indicesService.iterator()).thenAnswer(invocation -> indexServices.iterator());
+        when(indicesService.getIndicesQueryCache()).thenReturn(queryCache);
+        return indicesService;
+    }
+
+    private static IndexShard indexShard(ShardId shardId, Path dataPath) {
+        // Shard paths are only reported, nothing is read from or written to them.
+        Path shardPath =
+                dataPath.resolve(shardId.getIndex().getUUID())
+                        .resolve(String.valueOf(shardId.id()));
+        IndexShard indexShard = mock(IndexShard.class, withSettings().stubOnly());
+        when(indexShard.shardId()).thenReturn(shardId);
+        when(indexShard.routingEntry())
+                .thenReturn(
+                        TestShardRouting.newShardRouting(
+                                shardId, "node-0", true, ShardRoutingState.STARTED));
+        when(indexShard.shardPath())
+                .thenReturn(new ShardPath(false, shardPath, shardPath, shardId));
+        when(indexShard.fieldDataStats(any())).thenReturn(new FieldDataStats());
+        when(indexShard.requestCache()).thenReturn(new ShardRequestCache());
+        return indexShard;
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.opensearch.test.OpenSearchTestCase.buildNewFakeTransportAddress;
+import static org.opensearch.test.OpenSearchTestCase.settings;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+
+/**
+ * Cost of one run of the shard state collector over a synthetic routing table, either with every
+ * shard started, where nothing is emitted, or with every replica unassigned, where every replica
+ * is serialized. In the event driven mode the routing table is diffed once, on the first run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardStateCollectorBenchmark {
+    private static final int SHARDS_PER_INDEX = 5;
+    private static final String[] NODES = {"node-0", "node-1"};
+
+    @Param({"10", "100", "1000"})
+    public int indices;
+
+    @Param({"true", "false"})
+    public boolean unassignedReplicas;
+
+    @Param({"false", "true"})
+    public boolean eventDriven;
+
+    private ShardStateCollector collector;
+    private long startTime;
+
+    @Setup
+    public void setup() {
+        BenchmarkUtil.configureMetrics();
+        MetricsConfiguration.CONFIG_MAP.put(
+                ShardStateCollector.class, MetricsConfiguration.cdefault);
+        ClusterService clusterService = mock(ClusterService.class, withSettings().stubOnly());
+        when(clusterService.state()).thenReturn(clusterState());
+        OpenSearchResources.INSTANCE.setClusterService(clusterService);
+        collector = new ShardStateCollector(BenchmarkUtil.controller(true), null, eventDriven);
+        startTime = System.currentTimeMillis();
+    }
+
+    @TearDown
+    public void tearDown() {
+        OpenSearchResources.INSTANCE.setClusterService(null);
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void collectMetrics() {
+        startTime += ShardStateCollector.SAMPLING_TIME_INTERVAL;
+        collector.collectMetrics(startTime);
+        PerformanceAnalyzerMetrics.metricQueue.clear();
+    }
+
+    private ClusterState clusterState() {
+        Metadata.Builder metadata = Metadata.builder();
+        RoutingTable.Builder routingTable = RoutingTable.builder();
+        for (int i = 0; i < indices; i++) {
+            IndexMetadata indexMetadata =
+                    IndexMetadata.builder("index-" + i)
+                            .settings(settings(Version.CURRENT))
+                            .numberOfShards(SHARDS_PER_INDEX)
+                            .numberOfReplicas(1)
+                            .build();
+            metadata.put(indexMetadata, false);
+            IndexRoutingTable.Builder indexRoutingTable =
+                    IndexRoutingTable.builder(indexMetadata.getIndex());
+            for (int shard = 0; shard < SHARDS_PER_INDEX; shard++) {
+                ShardId shardId = new ShardId(indexMetadata.getIndex(), shard);
+                String primaryNode = NODES[shard % NODES.length];
+                String replicaNode = NODES[(shard + 1) % NODES.length];
+                indexRoutingTable.addIndexShard(
+                        new IndexShardRoutingTable.Builder(shardId)
+                                .addShard(
+                                        TestShardRouting.newShardRouting(
+                                                shardId,
+                                                primaryNode,
+                                                true,
+                                                ShardRoutingState.STARTED))
+                                .addShard(
+                                        unassignedReplicas
+                                                ? TestShardRouting.newShardRouting(
+                                                        shardId,
+                                                        null,
+                                                        false,
+                                                        ShardRoutingState.UNASSIGNED)
+                                                : TestShardRouting.newShardRouting(
+                                                        shardId,
+                                                        replicaNode,
+                                                        false,
+                                                        ShardRoutingState.STARTED))
+                                .build());
+            }
+            routingTable.add(indexRoutingTable.build());
+        }
+        DiscoveryNodes.Builder nodes = DiscoveryNodes.builder();
+        for (String node : NODES) {
+            nodes.add(new DiscoveryNode(node, buildNewFakeTransportAddress(), Version.CURRENT));
+        }
+        return ClusterState.builder(ClusterName.CLUSTER_NAME_SETTING.getDefault(Settings.EMPTY))
+                .metadata(metadata)
+                .routingTable(routingTable.build())
+                .nodes(nodes)
+                .build();
+    }
+}
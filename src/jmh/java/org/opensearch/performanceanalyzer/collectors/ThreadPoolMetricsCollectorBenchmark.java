@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+/** Cost of one run of the thread pool collector over the idle thread pools of a node. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ThreadPoolMetricsCollectorBenchmark {
+    private ThreadPool threadPool;
+    private ThreadPoolMetricsCollector collector;
+    private long startTime;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkUtil.configureMetrics();
+        threadPool = new TestThreadPool("benchmark");
+        // The collector reads the executors through the thread pool of the indices service.
+        IndicesService indicesService = mock(IndicesService.class, withSettings().stubOnly());
+        Field threadPoolField = IndicesService.class.getDeclaredField("threadPool");
+        threadPoolField.setAccessible(true);
+        threadPoolField.set(indicesService, threadPool);
+        OpenSearchResources.INSTANCE.setThreadPool(threadPool);
+        OpenSearchResources.INSTANCE.setIndicesService(indicesService);
+        collector = new ThreadPoolMetricsCollector();
+        startTime = System.currentTimeMillis();
+    }
+
+    @TearDown
+    public void tearDown() {
+        ThreadPool.terminate(threadPool, 10, TimeUnit.SECONDS);
+        OpenSearchResources.INSTANCE.setThreadPool(null);
+        OpenSearchResources.INSTANCE.setIndicesService(null);
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void collectMetrics() {
+        // Each run is a sampling interval after the previous one, as scheduled.
+        startTime += ThreadPoolMetricsCollector.SAMPLING_TIME_INTERVAL;
+        collector.collectMetrics(startTime);
+        PerformanceAnalyzerMetrics.metricQueue.clear();
+    }
+}
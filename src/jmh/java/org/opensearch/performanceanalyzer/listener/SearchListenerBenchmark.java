@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.listener;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.search.internal.SearchContext;
+import org.opensearch.search.internal.ShardSearchContextId;
+import org.opensearch.search.internal.ShardSearchRequest;
+
+/**
+ * Overhead of the search listener per shard query and fetch phase, from the pre phase to the
+ * phase hook. The search context is a mock that does not record its invocations, its cost is
+ * included in every mode.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchListenerBenchmark {
+    /**
+     * disabled: Performance Analyzer is disabled. events: a start and a finish event per phase.
+     * recorder: the events go through the RequestEventRecorder. histograms: the phases are
+     * recorded in the ShardSearchLatencyHistograms.
+     */
+    @Param({"disabled", "events", "recorder", "histograms"})
+    public String mode;
+
+    private PerformanceAnalyzerSearchListener listener;
+    private SearchContext searchContext;
+    private int calls;
+
+    @Setup
+    public void setup() {
+        BenchmarkUtil.configureMetrics();
+        RequestEventRecorder.setEnabled(mode.equals("recorder"));
+        ShardSearchLatencyHistograms.setEnabled(mode.equals("histograms"));
+        listener =
+                new PerformanceAnalyzerSearchListener(
+                        BenchmarkUtil.controller(!mode.equals("disabled")));
+        ShardSearchRequest request = mock(ShardSearchRequest.class, withSettings().stubOnly());
+        when(request.shardId()).thenReturn(new ShardId("index", "uuid", 0));
+        searchContext = mock(SearchContext.class, withSettings().stubOnly());
+        when(searchContext.request()).thenReturn(request);
+        when(searchContext.id()).thenReturn(new ShardSearchContextId("session", 1));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestEventRecorder.setEnabled(false);
+        ShardSearchLatencyHistograms.setEnabled(false);
+        ShardSearchLatencyHistograms.discard();
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void queryPhase() {
+        listener.onPreQueryPhase(searchContext);
+        listener.onQueryPhase(searchContext, 1_000_000L);
+        discardPeriodically();
+    }
+
+    @Benchmark
+    public void fetchPhase() {
+        listener.onPreFetchPhase(searchContext);
+        listener.onFetchPhase(searchContext, 100_000L);
+        discardPeriodically();
+    }
+
+    private void discardPeriodically() {
+        if (++calls % BenchmarkUtil.DISCARD_PERIOD == 0) {
+            BenchmarkUtil.discardEvents();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.transport;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteShardRequest;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequestHandler;
+
+/**
+ * Overhead of the transport request handler and channel per primary shard bulk operation, from
+ * the reception of the request to the response. The wrapped handler responds immediately.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransportChannelBenchmark {
+    /**
+     * disabled: Performance Analyzer is disabled. events: a start and a finish event per
+     * operation. recorder: the events go through the RequestEventRecorder. fused: a single
+     * complete event per operation. histograms: the default events and the
+     * ShardWriteLatencyHistograms.
+     */
+    @Param({"disabled", "events", "recorder", "fused", "histograms"})
+    public String mode;
+
+    private PerformanceAnalyzerTransportRequestHandler<ConcreteShardRequest<BulkShardRequest>>
+            handler;
+    private ConcreteShardRequest<BulkShardRequest> request;
+    private TransportChannel channel;
+    private int calls;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        BenchmarkUtil.configureMetrics();
+        RequestEventRecorder.setEnabled(mode.equals("recorder"));
+        PerformanceAnalyzerTransportChannel.setFusedRecords(mode.equals("fused"));
+        ShardWriteLatencyHistograms.setEnabled(mode.equals("histograms"));
+        TransportRequestHandler<ConcreteShardRequest<BulkShardRequest>> actualHandler =
+                (shardRequest, shardChannel, task) ->
+                        shardChannel.sendResponse(TransportResponse.Empty.INSTANCE);
+        handler =
+                new PerformanceAnalyzerTransportRequestHandler<>(
+                        actualHandler, BenchmarkUtil.controller(!mode.equals("disabled")));
+        request =
+                new ConcreteShardRequest<>(
+                        new BulkShardRequest(
+                                new ShardId("index", "uuid", 0),
+                                WriteRequest.RefreshPolicy.NONE,
+                                new BulkItemRequest[10]),
+                        "allocation",
+                        1);
+        channel = new NoOpChannel(blackhole);
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestEventRecorder.setEnabled(false);
+        PerformanceAnalyzerTransportChannel.setFusedRecords(false);
+        ShardWriteLatencyHistograms.setEnabled(false);
+        ShardWriteLatencyHistograms.discard();
+        BenchmarkUtil.discardEvents();
+    }
+
+    @Benchmark
+    public void primaryShardBulk() throws Exception {
+        handler.messageReceived(request, channel, null);
+        if (++calls % BenchmarkUtil.DISCARD_PERIOD == 0) {
+            BenchmarkUtil.discardEvents();
+        }
+    }
+
+    private static class NoOpChannel implements TransportChannel {
+        private final Blackhole blackhole;
+
+        NoOpChannel(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public String getProfileName() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getChannelType() {
+            return "benchmark";
+        }
+
+        @Override
+        public void sendResponse(TransportResponse response) throws IOException {
+            blackhole.consume(response);
+        }
+
+        @Override
+        public void sendResponse(Exception exception) throws IOException {
+            blackhole.consume(exception);
+        }
+    }
+}
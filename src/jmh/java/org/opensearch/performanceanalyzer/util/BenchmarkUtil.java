@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.performanceanalyzer.writer.StripedMetricQueue;
+
+/** Fixtures shared by the benchmarks. */
+public final class BenchmarkUtil {
+    /**
+     * Hook calls between two {@link #discardEvents()}, so that the metric queue never fills up and
+     * the benchmarks measure the path taken when it has room.
+     */
+    public static final int DISCARD_PERIOD = 1024;
+
+    private BenchmarkUtil() {}
+
+    public static void configureMetrics() {
+        System.setProperty("performanceanalyzer.metrics.log.enabled", "False");
+        Utils.configureMetrics();
+    }
+
+    /**
+     * Returns a controller with Performance Analyzer and every collector enabled or disabled. The
+     * mock does not record its invocations, so that it does not grow with the benchmark.
+     */
+    public static PerformanceAnalyzerController controller(boolean enabled) {
+        PerformanceAnalyzerController controller =
+                mock(PerformanceAnalyzerController.class, withSettings().stubOnly());
+        when(controller.isPerformanceAnalyzerEnabled()).thenReturn(enabled);
+        when(controller.isCollectorEnabled(any(), anyString())).thenReturn(enabled);
+        return controller;
+    }
+
+    /** Drops the events emitted by the hooks and the collectors. */
+    public static void discardEvents() {
+        RequestEventRecorder.discard();
+        StripedMetricQueue.discard();
+        PerformanceAnalyzerMetrics.metricQueue.clear();
+    }
+}
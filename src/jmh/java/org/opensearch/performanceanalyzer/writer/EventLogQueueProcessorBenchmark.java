@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.event_process.EventLog;
+import org.opensearch.performanceanalyzer.commons.event_process.EventLogFileHandler;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerConfigAction;
+import org.opensearch.performanceanalyzer.transport.PerformanceAnalyzerTransportChannel;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+
+/**
+ * Cost of one purge of the metric queue into the event log of the previous sampling interval, for
+ * each writer. The queue is filled before every purge with shard bulk events and node stats
+ * events; the allocation of the events themselves is part of the bytes allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventLogQueueProcessorBenchmark {
+    private static final int INDICES = 20;
+    private static final int SHARDS_PER_INDEX = 5;
+
+    @Param({"1000", "10000", "50000"})
+    public int queueSize;
+
+    @Param({"file", "columnar", "segment"})
+    public String writer;
+
+    private Path metricsDir;
+    private String metricsLocation;
+    private String[] keys;
+    private String[] values;
+    private EventLogQueueProcessor processor;
+
+    @Setup
+    public void setup() throws IOException {
+        BenchmarkUtil.configureMetrics();
+        PerformanceAnalyzerConfigAction.setInstance(
+                mock(PerformanceAnalyzerConfigAction.class, withSettings().stubOnly()));
+        metricsDir = Files.createTempDirectory("pa-benchmark");
+        metricsLocation = metricsDir.toString() + "/";
+        keys = new String[queueSize];
+        values = new String[queueSize];
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < queueSize; i++) {
+            String index = "index-" + (i % INDICES);
+            int shard = i % SHARDS_PER_INDEX;
+            if (i % 4 == 0) {
+                keys[i] = "indices/" + index + "/" + shard;
+                values[i] =
+                        PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds()
+                                + PerformanceAnalyzerMetrics.sMetricNewLineDelimitor
+                                + "{\"IndexingThrottleTime\":0,\"CacheQueryHit\":"
+                                + i
+                                + ",\"CacheQueryMiss\":3,\"CacheQuerySize\":4096}";
+            } else {
+                keys[i] = "threads/" + (1000 + i % 64) + "/shardbulk/" + i + "/start";
+                values[i] =
+                        PerformanceAnalyzerTransportChannel.generateStartMetrics(
+                                now, 100, index, shard, i % 2 == 0);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        PerformanceAnalyzerConfigAction.setInstance(null);
+        BenchmarkUtil.discardEvents();
+        deleteFiles(true);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillQueue() throws IOException {
+        deleteFiles(false);
+        processor = newProcessor();
+        // Events of the previous interval, which the purge writes and rotates.
+        long epoch =
+                PerformanceAnalyzerMetrics.getTimeInterval(
+                                System.currentTimeMillis(), MetricsConfiguration.SAMPLING_INTERVAL)
+                        - MetricsConfiguration.SAMPLING_INTERVAL;
+        for (int i = 0; i < queueSize; i++) {
+            PerformanceAnalyzerMetrics.metricQueue.offer(new Event(keys[i], values[i], epoch));
+        }
+    }
+
+    @Benchmark
+    public void purgeQueueAndPersist() {
+        processor.purgeQueueAndPersist();
+    }
+
+    private EventLogQueueProcessor newProcessor() {
+        EventLogFileHandler fileHandler = new EventLogFileHandler(new EventLog(), metricsLocation);
+        return new EventLogQueueProcessor(
+                fileHandler,
+                MetricsConfiguration.SAMPLING_INTERVAL,
+                MetricsConfiguration.SAMPLING_INTERVAL,
+                BenchmarkUtil.controller(true),
+                "columnar".equals(writer) ? new ColumnarEventLogFileWriter(metricsLocation) : null,
+                "segment".equals(writer) ? new EventLogSegmentWriter(metricsLocation) : null);
+    }
+
+    private void deleteFiles(boolean includingDir) throws IOException {
+        try (Stream<Path> paths = Files.walk(metricsDir)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                if (includingDir || !path.equals(metricsDir)) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,603 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatExceptionCode.STALE_METRICS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import org.opensearch.performanceanalyzer.PerformanceAnalyzerPlugin;
+import org.opensearch.performanceanalyzer.action.PerformanceAnalyzerActionListener;
+import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.event_process.EventLog;
+import org.opensearch.performanceanalyzer.commons.event_process.EventLogFileHandler;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerConfigAction;
+import org.opensearch.performanceanalyzer.listener.PerformanceAnalyzerSearchListener;
+import org.opensearch.performanceanalyzer.transport.PerformanceAnalyzerTransportChannel;
+import org.opensearch.performanceanalyzer.util.BenchmarkUtil;
+
+/**
+ * Soak test of the writer pipeline: {@link PerformanceAnalyzerMetrics#metricQueue}, the {@link
+ * EventLogQueueProcessor} scheduled as in the plugin and the configured event log writer, fed by
+ * synthetic generators at fixed rates.
+ *
+ * <p>Generator threads emit the events of shard searches (query and fetch phases), http bulk
+ * requests and shard bulk operations, with the paths and values of the real hooks and through
+ * {@link StripedMetricQueue#save}, and a collector thread emits one node stats event per shard
+ * every sampling interval. The writer is wrapped to count the events it writes, the time spent
+ * writing and how late each bucket is written. Every report interval and at the end, the harness
+ * prints the sustained event rates, the events lost to a full queue or ring ({@code dropped}),
+ * those older than the bucket being written ({@code stale}), the bucket lateness, the number of
+ * files and the bytes written per second.
+ *
+ * <p>Options are passed as {@code name=value} arguments, see {@link Options}. Run it with {@code
+ * ./gradlew writerSoak -Psoak.args="duration=600 shardBulkRate=20000"}.
+ */
+public final class WriterSoakHarness {
+    private static final String SEARCH = "search";
+    private static final String BULK = "bulk";
+    private static final String SHARD_BULK = "shardbulk";
+    private static final String COLLECTOR = "collector";
+    private static final String[] GENERATORS = {SEARCH, BULK, SHARD_BULK};
+    private static final int INDICES = 20;
+    private static final int SHARDS_PER_INDEX = 5;
+    private static final String TMP_FILE_EXT = ".tmp";
+
+    // Keys of the synthetic events are complete metrics paths, as built by the hooks.
+    private static final MetricsProcessor PATHS =
+            new MetricsProcessor() {
+                @Override
+                public String getMetricsPath(long startTime, String... keysPath) {
+                    return PerformanceAnalyzerMetrics.generatePath(startTime, keysPath);
+                }
+            };
+
+    private final Options options;
+    private final Path metricsDir;
+    private final WriteStats writeStats = new WriteStats();
+    private final Map<String, LongAdder> generated = new HashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+    private final List<Thread> threads = new ArrayList<>();
+    // Largest size seen per file name, without the tmp extension, to account for deleted files.
+    private final Map<String, Long> fileSizes = new HashMap<>();
+    private volatile boolean running = true;
+
+    private WriterSoakHarness(Options options) throws IOException {
+        this.options = options;
+        this.metricsDir = Files.createTempDirectory(Paths.get(options.dir), "pa-soak");
+        for (String generator : GENERATORS) {
+            generated.put(generator, new LongAdder());
+        }
+        generated.put(COLLECTOR, new LongAdder());
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        BenchmarkUtil.configureMetrics();
+        StripedMetricQueue.setEnabled(options.striped);
+        PerformanceAnalyzerConfigAction.setInstance(
+                mock(PerformanceAnalyzerConfigAction.class, withSettings().stubOnly()));
+        new WriterSoakHarness(options).run();
+        // The queue processor runs on non daemon threads that cannot be stopped.
+        System.exit(0);
+    }
+
+    private void run() throws Exception {
+        System.out.printf(
+                "Writing %s event logs to %s for %ds, search %d/s, bulk %d/s, shard bulk %d/s,"
+                        + " collector %d shards, %d threads per generator, striped %b%n",
+                options.writer,
+                metricsDir,
+                options.duration,
+                options.searchRate,
+                options.bulkRate,
+                options.shardBulkRate,
+                options.collectorShards,
+                options.threads,
+                options.striped);
+        newProcessor().scheduleExecutor();
+        startGenerators();
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(options.duration);
+        long staleAtStart = staleCount();
+        Snapshot previous = new Snapshot(start, 0, 0);
+        while (System.nanoTime() < end) {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(options.reportInterval));
+            Snapshot current = new Snapshot(System.nanoTime(), totalGenerated(), totalBytes());
+            report(previous, current, staleAtStart);
+            previous = current;
+        }
+        running = false;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // Let the processor write the events of the last two buckets.
+        Thread.sleep(
+                2 * MetricsConfiguration.SAMPLING_INTERVAL
+                        + PerformanceAnalyzerPlugin.QUEUE_PURGE_INTERVAL_MS);
+        summarize(start, staleAtStart);
+        if (!options.keepFiles) {
+            deleteFiles();
+        }
+    }
+
+    private EventLogQueueProcessor newProcessor() {
+        String location = metricsDir.toString() + "/";
+        return new EventLogQueueProcessor(
+                new CountingFileHandler(location, writeStats),
+                MetricsConfiguration.SAMPLING_INTERVAL,
+                PerformanceAnalyzerPlugin.QUEUE_PURGE_INTERVAL_MS,
+                BenchmarkUtil.controller(true),
+                "columnar".equals(options.writer)
+                        ? new CountingColumnarWriter(location, writeStats)
+                        : null,
+                "segment".equals(options.writer)
+                        ? new CountingSegmentWriter(location, writeStats)
+                        : null);
+    }
+
+    private void startGenerators() {
+        for (int i = 0; i < options.threads; i++) {
+            start(SEARCH, options.searchRate, this::emitSearch);
+            start(BULK, options.bulkRate, this::emitBulk);
+            start(SHARD_BULK, options.shardBulkRate, this::emitShardBulk);
+        }
+        if (options.collectorShards > 0) {
+            Thread collector = new Thread(this::runCollector, "pa-soak-" + COLLECTOR);
+            threads.add(collector);
+            collector.start();
+        }
+    }
+
+    private void start(String name, int rate, Emitter emitter) {
+        if (rate <= 0) {
+            return;
+        }
+        double threadRate = (double) rate / options.threads;
+        Thread thread = new Thread(() -> generate(name, threadRate, emitter), "pa-soak-" + name);
+        threads.add(thread);
+        thread.start();
+    }
+
+    /** Emits requests at the given rate, catching up on the requests due after a stall. */
+    private void generate(String name, double ratePerSecond, Emitter emitter) {
+        LongAdder count = generated.get(name);
+        long start = System.nanoTime();
+        long done = 0;
+        while (running) {
+            long due = (long) ((System.nanoTime() - start) / 1e9 * ratePerSecond);
+            while (done < due && running) {
+                count.add(emitter.emit(requestIds.incrementAndGet()));
+                done++;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void runCollector() {
+        LongAdder count = generated.get(COLLECTOR);
+        while (running) {
+            long now = System.currentTimeMillis();
+            for (int shard = 0; shard < options.collectorShards; shard++) {
+                StripedMetricQueue.save(
+                        PATHS,
+                        PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds()
+                                + PerformanceAnalyzerMetrics.sMetricNewLineDelimitor
+                                + "{\"IndexingThrottleTime\":0,\"CacheQueryHit\":"
+                                + now
+                                + ",\"CacheQueryMiss\":3,\"CacheQuerySize\":4096"
+                                + ",\"CacheFieldDataEviction\":0,\"CacheFieldDataSize\":1024"
+                                + ",\"CacheRequestHit\":7,\"CacheRequestMiss\":1"
+                                + ",\"CacheRequestEviction\":0,\"CacheRequestSize\":2048}",
+                        now,
+                        PerformanceAnalyzerMetrics.sIndicesPath,
+                        indexName(shard / SHARDS_PER_INDEX),
+                        String.valueOf(shard % SHARDS_PER_INDEX));
+            }
+            count.add(options.collectorShards);
+            // Runs again at the start of the next sampling interval, as the scheduled collectors.
+            long interval = MetricsConfiguration.SAMPLING_INTERVAL;
+            LockSupport.parkNanos(
+                    TimeUnit.MILLISECONDS.toNanos(
+                            interval - System.currentTimeMillis() % interval));
+        }
+    }
+
+    private int emitSearch(long id) {
+        String threadId = String.valueOf(Thread.currentThread().getId());
+        String searchId = String.valueOf(id);
+        String index = indexName((int) (id % INDICES));
+        int shard = (int) (id % SHARDS_PER_INDEX);
+        for (String phase :
+                new String[] {
+                    PerformanceAnalyzerMetrics.sShardQueryPath,
+                    PerformanceAnalyzerMetrics.sShardFetchPath
+                }) {
+            long now = System.currentTimeMillis();
+            StripedMetricQueue.save(
+                    PATHS,
+                    PerformanceAnalyzerSearchListener.generateStartMetrics(now, index, shard),
+                    now,
+                    PerformanceAnalyzerMetrics.sThreadsPath,
+                    threadId,
+                    phase,
+                    searchId,
+                    PerformanceAnalyzerMetrics.START_FILE_NAME);
+            StripedMetricQueue.save(
+                    PATHS,
+                    PerformanceAnalyzerSearchListener.generateFinishMetrics(
+                            now, false, index, shard),
+                    now,
+                    PerformanceAnalyzerMetrics.sThreadsPath,
+                    threadId,
+                    phase,
+                    searchId,
+                    PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+        }
+        return 4;
+    }
+
+    private int emitBulk(long id) {
+        String requestId = String.valueOf(id);
+        long now = System.currentTimeMillis();
+        StripedMetricQueue.save(
+                PATHS,
+                PerformanceAnalyzerActionListener.generateStartMetrics(
+                        now, indexName((int) (id % INDICES)), 100),
+                now,
+                PerformanceAnalyzerMetrics.sThreadsPath,
+                PerformanceAnalyzerMetrics.sHttpPath,
+                BULK,
+                requestId,
+                PerformanceAnalyzerMetrics.START_FILE_NAME);
+        StripedMetricQueue.save(
+                PATHS,
+                PerformanceAnalyzerActionListener.generateFinishMetrics(now, 200, ""),
+                now,
+                PerformanceAnalyzerMetrics.sThreadsPath,
+                PerformanceAnalyzerMetrics.sHttpPath,
+                BULK,
+                requestId,
+                PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+        return 2;
+    }
+
+    private int emitShardBulk(long id) {
+        String threadId = String.valueOf(Thread.currentThread().getId());
+        String requestId = String.valueOf(id);
+        String index = indexName((int) (id % INDICES));
+        int shard = (int) (id % SHARDS_PER_INDEX);
+        boolean primary = id % 2 == 0;
+        long now = System.currentTimeMillis();
+        StripedMetricQueue.save(
+                PATHS,
+                PerformanceAnalyzerTransportChannel.generateStartMetrics(
+                        now, 20, index, shard, primary),
+                now,
+                PerformanceAnalyzerMetrics.sThreadsPath,
+                threadId,
+                PerformanceAnalyzerMetrics.sShardBulkPath,
+                requestId,
+                PerformanceAnalyzerMetrics.START_FILE_NAME);
+        StripedMetricQueue.save(
+                PATHS,
+                PerformanceAnalyzerTransportChannel.generateFinishMetrics(
+                        now, index, shard, primary, null),
+                now,
+                PerformanceAnalyzerMetrics.sThreadsPath,
+                threadId,
+                PerformanceAnalyzerMetrics.sShardBulkPath,
+                requestId,
+                PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+        return 2;
+    }
+
+    private static String indexName(int index) {
+        return "index-" + index;
+    }
+
+    private void report(Snapshot previous, Snapshot current, long staleAtStart)
+            throws IOException {
+        double seconds = (current.nanos - previous.nanos) / 1e9;
+        System.out.printf(
+                "generated %.0f/s, written %d, dropped %d, stale %d, queue %d, max lateness %dms,"
+                        + " files %d, %.0f bytes/s%n",
+                (current.generated - previous.generated) / seconds,
+                writeStats.events.sum(),
+                dropped(staleAtStart),
+                staleCount() - staleAtStart,
+                PerformanceAnalyzerMetrics.metricQueue.size(),
+                writeStats.maxLatenessMillis.get(),
+                fileCount(false),
+                (current.bytes - previous.bytes) / seconds);
+    }
+
+    private void summarize(long start, long staleAtStart) throws IOException {
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long written = writeStats.events.sum();
+        long writes = writeStats.currentBucketWrites.sum();
+        System.out.printf("%nSummary over %.0fs%n", seconds);
+        for (Map.Entry<String, LongAdder> entry : generated.entrySet()) {
+            System.out.printf(
+                    "  %-10s %d events, %.0f/s%n",
+                    entry.getKey(), entry.getValue().sum(), entry.getValue().sum() / seconds);
+        }
+        System.out.printf("  generated  %d events%n", totalGenerated());
+        System.out.printf("  written    %d events, %.0f/s%n", written, written / seconds);
+        System.out.printf(
+                "  dropped    %d events, of which %d in full stripes%n",
+                dropped(staleAtStart), StripedMetricQueue.getOverflowCount());
+        System.out.printf("  stale      %d events%n", staleCount() - staleAtStart);
+        System.out.printf(
+                "  pending    %d events%n", PerformanceAnalyzerMetrics.metricQueue.size());
+        System.out.printf(
+                "  lateness   mean %dms, max %dms%n",
+                writes == 0 ? 0 : writeStats.totalLatenessMillis.sum() / writes,
+                writeStats.maxLatenessMillis.get());
+        System.out.printf(
+                "  writes     %d, mean %dus, max %dus%n",
+                writeStats.writes.sum(),
+                writeStats.writes.sum() == 0
+                        ? 0
+                        : TimeUnit.NANOSECONDS.toMicros(
+                                writeStats.writeNanos.sum() / writeStats.writes.sum()),
+                TimeUnit.NANOSECONDS.toMicros(writeStats.maxWriteNanos.get()));
+        long bytes = totalBytes();
+        System.out.printf(
+                "  files      %d, of which %d tmp%n", fileCount(false), fileCount(true));
+        System.out.printf("  bytes      %d, %.0f/s%n", bytes, bytes / seconds);
+    }
+
+    private long totalGenerated() {
+        long total = 0;
+        for (LongAdder count : generated.values()) {
+            total += count.sum();
+        }
+        return total;
+    }
+
+    /** Events neither written, stale nor pending, lost to a full queue or stripe. */
+    private long dropped(long staleAtStart) {
+        return totalGenerated()
+                - writeStats.events.sum()
+                - (staleCount() - staleAtStart)
+                - PerformanceAnalyzerMetrics.metricQueue.size();
+    }
+
+    private static long staleCount() {
+        Number count = StatsCollector.instance().getCounters().get(STALE_METRICS.toString());
+        return count == null ? 0 : count.longValue();
+    }
+
+    /**
+     * Returns the bytes written so far, summing the largest size seen of every file, including
+     * the files since deleted by the processor. Segment files are counted at their allocated size.
+     */
+    private long totalBytes() throws IOException {
+        try (Stream<Path> paths = Files.list(metricsDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(TMP_FILE_EXT)) {
+                    name = name.substring(0, name.length() - TMP_FILE_EXT.length());
+                }
+                long size;
+                try {
+                    size = Files.size(path);
+                } catch (IOException e) {
+                    // Deleted or renamed since it was listed.
+                    continue;
+                }
+                fileSizes.merge(name, size, Math::max);
+            }
+        }
+        long total = 0;
+        for (long size : fileSizes.values()) {
+            total += size;
+        }
+        return total;
+    }
+
+    private long fileCount(boolean tmpOnly) throws IOException {
+        try (Stream<Path> paths = Files.list(metricsDir)) {
+            return paths.filter(
+                            path -> !tmpOnly || path.toString().endsWith(TMP_FILE_EXT))
+                    .count();
+        }
+    }
+
+    private void deleteFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(metricsDir)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                Files.deleteIfExists(path);
+            }
+        }
+        Files.deleteIfExists(metricsDir);
+    }
+
+    @FunctionalInterface
+    private interface Emitter {
+        /** Emits the events of one request and returns their number. */
+        int emit(long id);
+    }
+
+    private static final class Snapshot {
+        private final long nanos;
+        private final long generated;
+        private final long bytes;
+
+        Snapshot(long nanos, long generated, long bytes) {
+            this.nanos = nanos;
+            this.generated = generated;
+            this.bytes = bytes;
+        }
+    }
+
+    /** Events written by the writer and how long after the end of their bucket. */
+    private static final class WriteStats {
+        private final LongAdder events = new LongAdder();
+        private final LongAdder writes = new LongAdder();
+        private final LongAdder writeNanos = new LongAdder();
+        private final AtomicLong maxWriteNanos = new AtomicLong();
+        private final LongAdder currentBucketWrites = new LongAdder();
+        private final LongAdder totalLatenessMillis = new LongAdder();
+        private final AtomicLong maxLatenessMillis = new AtomicLong();
+
+        void record(List<Event> events, long bucket, long startNanos) {
+            long tookNanos = System.nanoTime() - startNanos;
+            this.events.add(events.size());
+            writes.increment();
+            writeNanos.add(tookNanos);
+            maxWriteNanos.accumulateAndGet(tookNanos, Math::max);
+            // Events of the bucket in progress are written ahead of time, they are not late.
+            long lateness =
+                    System.currentTimeMillis() - (bucket + MetricsConfiguration.SAMPLING_INTERVAL);
+            if (lateness >= 0) {
+                currentBucketWrites.increment();
+                totalLatenessMillis.add(lateness);
+                maxLatenessMillis.accumulateAndGet(lateness, Math::max);
+            }
+        }
+    }
+
+    private static final class CountingFileHandler extends EventLogFileHandler {
+        private final WriteStats stats;
+
+        CountingFileHandler(String metricsLocation, WriteStats stats) {
+            super(new EventLog(), metricsLocation);
+            this.stats = stats;
+        }
+
+        @Override
+        public void writeTmpFile(List<Event> events, long bucket) {
+            long start = System.nanoTime();
+            super.writeTmpFile(events, bucket);
+            stats.record(events, bucket, start);
+        }
+    }
+
+    private static final class CountingColumnarWriter extends ColumnarEventLogFileWriter {
+        private final WriteStats stats;
+
+        CountingColumnarWriter(String metricsLocation, WriteStats stats) {
+            super(metricsLocation);
+            this.stats = stats;
+        }
+
+        @Override
+        public void writeTmpFile(List<Event> events, long bucket) {
+            long start = System.nanoTime();
+            super.writeTmpFile(events, bucket);
+            stats.record(events, bucket, start);
+        }
+    }
+
+    private static final class CountingSegmentWriter extends EventLogSegmentWriter {
+        private final WriteStats stats;
+
+        CountingSegmentWriter(String metricsLocation, WriteStats stats) {
+            super(metricsLocation);
+            this.stats = stats;
+        }
+
+        @Override
+        public void append(List<Event> events, long bucket) {
+            long start = System.nanoTime();
+            super.append(events, bucket);
+            stats.record(events, bucket, start);
+        }
+    }
+
+    /** Options of a run, each passed as a {@code name=value} argument. */
+    static final class Options {
+        // Run duration and report interval, in seconds.
+        int duration = 300;
+        int reportInterval = 10;
+        // Requests per second of each generator, over all of its threads. A search emits four
+        // events, a bulk and a shard bulk two.
+        int searchRate = 2000;
+        int bulkRate = 200;
+        int shardBulkRate = 2000;
+        // Shards reported by the collector every sampling interval, one event each.
+        int collectorShards = 1000;
+        int threads = 4;
+        // file, columnar or segment, as the event-log-encoding and event-log-writer settings.
+        String writer = "file";
+        boolean striped;
+        boolean keepFiles;
+        // Parent of the metrics directory, preferably a tmpfs so that the disk is not measured.
+        String dir = Files.isDirectory(Paths.get("/dev/shm")) ? "/dev/shm" : "/tmp";
+
+        static Options parse(String[] args) {
+            Options options = new Options();
+            for (String arg : args) {
+                int separator = arg.indexOf('=');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Expected name=value, got " + arg);
+                }
+                String name = arg.substring(0, separator);
+                String value = arg.substring(separator + 1);
+                switch (name) {
+                    case "duration":
+                        options.duration = Integer.parseInt(value);
+                        break;
+                    case "reportInterval":
+                        options.reportInterval = Integer.parseInt(value);
+                        break;
+                    case "searchRate":
+                        options.searchRate = Integer.parseInt(value);
+                        break;
+                    case "bulkRate":
+                        options.bulkRate = Integer.parseInt(value);
+                        break;
+                    case "shardBulkRate":
+                        options.shardBulkRate = Integer.parseInt(value);
+                        break;
+                    case "collectorShards":
+                        options.collectorShards = Integer.parseInt(value);
+                        break;
+                    case "threads":
+                        options.threads = Integer.parseInt(value);
+                        break;
+                    case "writer":
+                        options.writer = value;
+                        break;
+                    case "striped":
+                        options.striped = Boolean.parseBoolean(value);
+                        break;
+                    case "keepFiles":
+                        options.keepFiles = Boolean.parseBoolean(value);
+                        break;
+                    case "dir":
+                        options.dir = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown option " + name);
+                }
+            }
+            if (options.threads <= 0) {
+                throw new IllegalArgumentException("threads must be positive");
+            }
+            return options;
+        }
+    }
+}
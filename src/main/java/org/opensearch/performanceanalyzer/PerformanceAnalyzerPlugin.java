@@ -8,6 +8,7 @@ package org.opensearch.performanceanalyzer;
 import static java.util.Collections.singletonList;
 
 import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.security.AccessController;
@@ -45,13 +46,17 @@ import org.opensearch.performanceanalyzer.collectors.AdmissionControlMetricsColl
 import org.opensearch.performanceanalyzer.collectors.CacheConfigMetricsCollector;
 import org.opensearch.performanceanalyzer.collectors.CircuitBreakerCollector;
 import org.opensearch.performanceanalyzer.collectors.ClusterApplierServiceStatsCollector;
+import org.opensearch.performanceanalyzer.collectors.ClusterManagerQueueTracker;
 import org.opensearch.performanceanalyzer.collectors.ClusterManagerServiceEventMetrics;
 import org.opensearch.performanceanalyzer.collectors.ClusterManagerServiceMetrics;
 import org.opensearch.performanceanalyzer.collectors.ClusterManagerThrottlingMetricsCollector;
 import org.opensearch.performanceanalyzer.collectors.ElectionTermCollector;
 import org.opensearch.performanceanalyzer.collectors.FaultDetectionMetricsCollector;
+import org.opensearch.performanceanalyzer.collectors.InstrumentedMetricsCollector;
+import org.opensearch.performanceanalyzer.collectors.IsolatedCollectorScheduler;
 import org.opensearch.performanceanalyzer.collectors.NodeDetailsCollector;
 import org.opensearch.performanceanalyzer.collectors.NodeStatsAllShardsMetricsCollector;
+import org.opensearch.performanceanalyzer.collectors.NodeStatsFixedShardsMetricsCollector;
 import org.opensearch.performanceanalyzer.collectors.SearchBackPressureStatsCollector;
 import org.opensearch.performanceanalyzer.collectors.ShardIndexingPressureMetricsCollector;
 import org.opensearch.performanceanalyzer.collectors.ShardStateCollector;
@@ -75,14 +80,21 @@ import org.opensearch.performanceanalyzer.config.setting.PerformanceAnalyzerClus
 import org.opensearch.performanceanalyzer.config.setting.handler.ConfigOverridesClusterSettingHandler;
 import org.opensearch.performanceanalyzer.config.setting.handler.NodeStatsSettingHandler;
 import org.opensearch.performanceanalyzer.config.setting.handler.PerformanceAnalyzerClusterSettingHandler;
+import org.opensearch.performanceanalyzer.config.setting.handler.TransportInstrumentationSettingHandler;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerClusterConfigAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerConfigAction;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerNodeMetricsAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerOverridesClusterConfigAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerResourceProvider;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerStatsAction;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerWriteLatencyAction;
+import org.opensearch.performanceanalyzer.http_action.nodemetrics.NodeMetricsAction;
+import org.opensearch.performanceanalyzer.http_action.nodemetrics.TransportNodeMetricsAction;
 import org.opensearch.performanceanalyzer.http_action.whoami.TransportWhoAmIAction;
 import org.opensearch.performanceanalyzer.http_action.whoami.WhoAmIAction;
 import org.opensearch.performanceanalyzer.listener.PerformanceAnalyzerSearchListener;
 import org.opensearch.performanceanalyzer.transport.PerformanceAnalyzerTransportInterceptor;
+import org.opensearch.performanceanalyzer.transport.TransportInterceptionRegistry;
 import org.opensearch.performanceanalyzer.util.Utils;
 import org.opensearch.performanceanalyzer.writer.EventLogQueueProcessor;
 import org.opensearch.plugins.ActionPlugin;
@@ -112,6 +124,7 @@ public final class PerformanceAnalyzerPlugin extends Plugin
     private final ConfigOverridesWrapper configOverridesWrapper;
     private final PerformanceAnalyzerController performanceAnalyzerController;
     private final ClusterSettingsManager clusterSettingsManager;
+    private final TransportInterceptionRegistry transportInterceptionRegistry;
 
     static {
         SecurityManager sm = System.getSecurityManager();
@@ -142,6 +155,8 @@ public final class PerformanceAnalyzerPlugin extends Plugin
     }
 
     private final ScheduledMetricCollectorsExecutor scheduledMetricCollectorsExecutor;
+    private final IsolatedCollectorScheduler isolatedCollectorScheduler;
+    private final ThreadPoolMetricsCollector threadPoolMetricsCollector;
 
     public PerformanceAnalyzerPlugin(final Settings settings, final java.nio.file.Path configPath) {
 
@@ -160,6 +175,9 @@ public final class PerformanceAnalyzerPlugin extends Plugin
         scheduledMetricCollectorsExecutor = new ScheduledMetricCollectorsExecutor();
         this.performanceAnalyzerController =
                 new PerformanceAnalyzerController(scheduledMetricCollectorsExecutor);
+        isolatedCollectorScheduler =
+                new IsolatedCollectorScheduler(
+                        performanceAnalyzerController::isPerformanceAnalyzerEnabled);
 
         configOverridesWrapper = new ConfigOverridesWrapper();
         clusterSettingsManager =
@@ -167,8 +185,10 @@ public final class PerformanceAnalyzerPlugin extends Plugin
                         Arrays.asList(
                                 PerformanceAnalyzerClusterSettings.COMPOSITE_PA_SETTING,
                                 PerformanceAnalyzerClusterSettings.PA_NODE_STATS_SETTING),
-                        Collections.singletonList(
-                                PerformanceAnalyzerClusterSettings.CONFIG_OVERRIDES_SETTING));
+                        Arrays.asList(
+                                PerformanceAnalyzerClusterSettings.CONFIG_OVERRIDES_SETTING,
+                                PerformanceAnalyzerClusterSettings
+                                        .TRANSPORT_INSTRUMENTED_ACTIONS_SETTING));
         configOverridesClusterSettingHandler =
                 new ConfigOverridesClusterSettingHandler(
                         configOverridesWrapper,
@@ -189,50 +209,56 @@ public final class PerformanceAnalyzerPlugin extends Plugin
         clusterSettingsManager.addSubscriberForIntSetting(
                 PerformanceAnalyzerClusterSettings.PA_NODE_STATS_SETTING, nodeStatsSettingHandler);
 
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new ThreadPoolMetricsCollector());
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new CacheConfigMetricsCollector());
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new CircuitBreakerCollector());
+        // The handlers are registered before the cluster state is read, the cluster setting is
+        // applied to the wrapped shard bulk handlers once it is.
+        transportInterceptionRegistry =
+                new TransportInterceptionRegistry(
+                        performanceAnalyzerController,
+                        PerformanceAnalyzerClusterSettings.TRANSPORT_INSTRUMENTED_ACTIONS_SETTING
+                                .get(settings));
+        clusterSettingsManager.addSubscriberForStringSetting(
+                PerformanceAnalyzerClusterSettings.TRANSPORT_INSTRUMENTED_ACTIONS_SETTING,
+                new TransportInstrumentationSettingHandler(transportInterceptionRegistry));
+
+        threadPoolMetricsCollector = new ThreadPoolMetricsCollector();
+        addCollector(threadPoolMetricsCollector);
+        addCollector(new CacheConfigMetricsCollector());
+        addCollector(new CircuitBreakerCollector());
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(new OSMetricsCollector());
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(new HeapMetricsCollector());
 
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new NodeDetailsCollector(configOverridesWrapper));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new NodeStatsAllShardsMetricsCollector(performanceAnalyzerController));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new ClusterManagerServiceMetrics());
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new ClusterManagerServiceEventMetrics());
+        addCollector(new NodeDetailsCollector(configOverridesWrapper));
+        addCollector(new NodeStatsAllShardsMetricsCollector(performanceAnalyzerController));
+        addCollector(new NodeStatsFixedShardsMetricsCollector(performanceAnalyzerController));
+        ClusterManagerQueueTracker clusterManagerQueueTracker = ClusterManagerQueueTracker.create();
+        addCollector(new ClusterManagerServiceMetrics(clusterManagerQueueTracker));
+        addCollector(new ClusterManagerServiceEventMetrics(clusterManagerQueueTracker));
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(new DisksCollector());
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
                 new NetworkInterfaceCollector());
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(new GCInfoCollector());
         scheduledMetricCollectorsExecutor.addScheduledMetricCollector(StatsCollector.instance());
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(
                 new FaultDetectionMetricsCollector(
                         performanceAnalyzerController, configOverridesWrapper));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(
                 new ShardStateCollector(performanceAnalyzerController, configOverridesWrapper));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(
                 new ClusterManagerThrottlingMetricsCollector(
                         performanceAnalyzerController, configOverridesWrapper));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(
                 new ClusterApplierServiceStatsCollector(
                         performanceAnalyzerController, configOverridesWrapper));
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(
                 new SearchBackPressureStatsCollector(
                         performanceAnalyzerController, configOverridesWrapper));
 
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
-                new AdmissionControlMetricsCollector());
-        scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+        addCollector(new AdmissionControlMetricsCollector());
+        addCollector(
                 new ElectionTermCollector(performanceAnalyzerController, configOverridesWrapper));
         try {
             Class.forName(ShardIndexingPressureMetricsCollector.SHARD_INDEXING_PRESSURE_CLASS_NAME);
-            scheduledMetricCollectorsExecutor.addScheduledMetricCollector(
+            addCollector(
                     new ShardIndexingPressureMetricsCollector(
                             performanceAnalyzerController, configOverridesWrapper));
         } catch (ClassNotFoundException e) {
@@ -240,6 +266,7 @@ public final class PerformanceAnalyzerPlugin extends Plugin
                     "Shard IndexingPressure not present in this OpenSearch version. Skipping ShardIndexingPressureMetricsCollector");
         }
         scheduledMetricCollectorsExecutor.start();
+        isolatedCollectorScheduler.start();
 
         EventLog eventLog = new EventLog();
         EventLogFileHandler eventLogFileHandler =
@@ -252,6 +279,21 @@ public final class PerformanceAnalyzerPlugin extends Plugin
                 .scheduleExecutor();
     }
 
+    @Override
+    public void close() throws IOException {
+        threadPoolMetricsCollector.shutdown();
+        isolatedCollectorScheduler.stop();
+        super.close();
+    }
+
+    private void addCollector(InstrumentedMetricsCollector collector) {
+        if (isolatedCollectorScheduler.isIsolated(collector)) {
+            isolatedCollectorScheduler.addCollector(collector);
+        } else {
+            scheduledMetricCollectorsExecutor.addScheduledMetricCollector(collector);
+        }
+    }
+
     // - http level: bulk, search
     @Override
     public List<ActionFilter> getActionFilters() {
@@ -261,8 +303,10 @@ public final class PerformanceAnalyzerPlugin extends Plugin
     @Override
     public List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> getActions() {
         List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> actions =
-                new ArrayList<>(1);
+                new ArrayList<>(2);
         actions.add(new ActionHandler<>(WhoAmIAction.INSTANCE, TransportWhoAmIAction.class));
+        actions.add(
+                new ActionHandler<>(NodeMetricsAction.INSTANCE, TransportNodeMetricsAction.class));
         return actions;
     }
 
@@ -300,7 +344,7 @@ public final class PerformanceAnalyzerPlugin extends Plugin
     public List<TransportInterceptor> getTransportInterceptors(
             NamedWriteableRegistry namedWriteableRegistry, ThreadContext threadContext) {
         return singletonList(
-                new PerformanceAnalyzerTransportInterceptor(performanceAnalyzerController));
+                new PerformanceAnalyzerTransportInterceptor(transportInterceptionRegistry));
     }
 
     @Override
@@ -333,7 +377,10 @@ public final class PerformanceAnalyzerPlugin extends Plugin
                 performanceanalyzerConfigAction,
                 paClusterConfigAction,
                 performanceAnalyzerRp,
-                paOverridesConfigClusterAction);
+                paOverridesConfigClusterAction,
+                new PerformanceAnalyzerWriteLatencyAction(),
+                new PerformanceAnalyzerStatsAction(performanceAnalyzerRp),
+                new PerformanceAnalyzerNodeMetricsAction());
     }
 
     @Override
@@ -381,6 +428,7 @@ public final class PerformanceAnalyzerPlugin extends Plugin
         return Arrays.asList(
                 PerformanceAnalyzerClusterSettings.COMPOSITE_PA_SETTING,
                 PerformanceAnalyzerClusterSettings.PA_NODE_STATS_SETTING,
-                PerformanceAnalyzerClusterSettings.CONFIG_OVERRIDES_SETTING);
+                PerformanceAnalyzerClusterSettings.CONFIG_OVERRIDES_SETTING,
+                PerformanceAnalyzerClusterSettings.TRANSPORT_INSTRUMENTED_ACTIONS_SETTING);
     }
 }
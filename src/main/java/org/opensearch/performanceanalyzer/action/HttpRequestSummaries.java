@@ -0,0 +1,237 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.action;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.IntervalSnapshotEmitter;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+import org.opensearch.performanceanalyzer.util.LatencyHistogramStatus;
+
+/**
+ * Aggregates the bulk and search requests seen by the {@link PerformanceAnalyzerActionFilter} into
+ * one summary per request type and sampling interval, instead of a start and a finish event per
+ * request.
+ *
+ * <p>Each request type keeps {@link LongAdder} counters of the requests, documents, response
+ * status classes and exception classes, and a {@link LatencyHistogram} of the request latencies in
+ * microseconds. The memory used does not depend on the request rate. Once per sampling interval,
+ * the {@link org.opensearch.performanceanalyzer.writer.EventLogQueueProcessor} thread calls {@link
+ * #emitSummaries(long)}, which emits the summary of every request type seen in the interval and
+ * resets the counters.
+ *
+ * <p>The summaries are opt-in through the {@code http-request-summaries} plugin setting. When they
+ * are enabled the action filter no longer emits the per request start and finish events.
+ */
+public final class HttpRequestSummaries {
+    private static final Logger LOG = LogManager.getLogger(HttpRequestSummaries.class);
+    static final String HTTP_REQUEST_SUMMARIES_SETTING = "http-request-summaries";
+    // Root of the metrics path of the summaries, followed by the request type.
+    static final String HTTP_SUMMARY_PATH = "http_summary";
+    // Distinct exception classes counted per request type and interval, the others are counted
+    // as OTHER_EXCEPTIONS.
+    static final int MAX_EXCEPTION_CLASSES = 32;
+    static final String OTHER_EXCEPTIONS = "other";
+    // Status classes 1xx to 5xx, and 0 for a missing or unexpected status.
+    private static final int STATUS_CLASSES = 6;
+
+    private static final Map<RequestType, Summary> SUMMARIES = new EnumMap<>(RequestType.class);
+    private static final IntervalSnapshotEmitter EMITTER =
+            new IntervalSnapshotEmitter(HTTP_REQUEST_SUMMARIES_SETTING, HTTP_SUMMARY_PATH, 1);
+
+    static {
+        SUMMARIES.put(RequestType.bulk, new Summary());
+        SUMMARIES.put(RequestType.search, new Summary());
+    }
+
+    private HttpRequestSummaries() {}
+
+    public static boolean isEnabled() {
+        return EMITTER.isEnabled();
+    }
+
+    @VisibleForTesting
+    public static void setEnabled(boolean value) {
+        EMITTER.setEnabled(value);
+    }
+
+    static void recordStart(RequestType type, int docs) {
+        SUMMARIES.get(type).docs.add(docs);
+    }
+
+    static void recordFinish(RequestType type, long startNanos, int status, Class<?> exception) {
+        Summary summary = SUMMARIES.get(type);
+        summary.latencies.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        summary.statusClasses[status >= 100 && status < 600 ? status / 100 : 0].increment();
+        if (exception != null) {
+            summary.countException(exception);
+        }
+    }
+
+    /**
+     * Emits the summary of every request type seen since the previous call to {@link
+     * PerformanceAnalyzerMetrics#metricQueue}, once the time reaches a new sampling interval.
+     *
+     * @return the number of summaries emitted
+     */
+    public static int emitSummaries(long currentTimeMillis) {
+        if (!EMITTER.startInterval(currentTimeMillis)) {
+            return 0;
+        }
+        int emitted = 0;
+        for (Map.Entry<RequestType, Summary> entry : SUMMARIES.entrySet()) {
+            try {
+                RequestSummary summary = entry.getValue().take();
+                if (summary.getCount() == 0 && summary.getDocs() == 0) {
+                    continue;
+                }
+                EMITTER.emit(summary, currentTimeMillis, entry.getKey().toString());
+                emitted++;
+            } catch (Exception ex) {
+                LOG.debug("Unable to emit http request summary", ex);
+            }
+        }
+        return emitted;
+    }
+
+    /** Resets the counters, used while Performance Analyzer is disabled. */
+    public static void discard() {
+        for (Summary summary : SUMMARIES.values()) {
+            summary.take();
+        }
+    }
+
+    /** Counters of one request type. */
+    private static final class Summary {
+        private final LongAdder docs = new LongAdder();
+        private final LongAdder[] statusClasses = new LongAdder[STATUS_CLASSES];
+        private final Map<Class<?>, LongAdder> exceptions = new ConcurrentHashMap<>();
+        private final LongAdder otherExceptions = new LongAdder();
+        private final LatencyHistogram latencies = new LatencyHistogram();
+
+        Summary() {
+            for (int i = 0; i < STATUS_CLASSES; i++) {
+                statusClasses[i] = new LongAdder();
+            }
+        }
+
+        void countException(Class<?> exception) {
+            LongAdder count = exceptions.get(exception);
+            if (count == null) {
+                if (exceptions.size() >= MAX_EXCEPTION_CLASSES) {
+                    otherExceptions.increment();
+                    return;
+                }
+                count = exceptions.computeIfAbsent(exception, k -> new LongAdder());
+            }
+            count.increment();
+        }
+
+        RequestSummary take() {
+            long[] statuses = new long[STATUS_CLASSES];
+            for (int i = 0; i < STATUS_CLASSES; i++) {
+                statuses[i] = statusClasses[i].sumThenReset();
+            }
+            StringBuilder exceptionCounts = new StringBuilder();
+            for (Map.Entry<Class<?>, LongAdder> entry : exceptions.entrySet()) {
+                if (!appendCount(exceptionCounts, entry.getKey().getName(), entry.getValue())) {
+                    // Frees the slot of a class not seen in the interval.
+                    exceptions.remove(entry.getKey(), entry.getValue());
+                }
+            }
+            appendCount(exceptionCounts, OTHER_EXCEPTIONS, otherExceptions);
+            return new RequestSummary(
+                    docs.sumThenReset(),
+                    statuses,
+                    exceptionCounts.toString(),
+                    latencies.takeSnapshot());
+        }
+
+        private static boolean appendCount(StringBuilder builder, String name, LongAdder count) {
+            long value = count.sumThenReset();
+            if (value == 0) {
+                return false;
+            }
+            if (builder.length() > 0) {
+                builder.append(',');
+            }
+            builder.append(name).append(':').append(value);
+            return true;
+        }
+    }
+
+    /** Requests of one type over a sampling interval, latencies are in microseconds. */
+    public static class RequestSummary extends LatencyHistogramStatus {
+        public static final String DOCS = "Docs";
+        public static final String STATUS_PREFIX = "Status_";
+        public static final String EXCEPTIONS = "Exceptions";
+
+        private final long docs;
+        private final long[] statuses;
+        private final String exceptions;
+
+        RequestSummary(
+                long docs,
+                long[] statuses,
+                String exceptions,
+                LatencyHistogram.Snapshot latencies) {
+            super(latencies);
+            this.docs = docs;
+            this.statuses = statuses;
+            this.exceptions = exceptions;
+        }
+
+        @JsonProperty(DOCS)
+        public long getDocs() {
+            return docs;
+        }
+
+        @JsonProperty(STATUS_PREFIX + "1xx")
+        public long getStatus1xx() {
+            return statuses[1];
+        }
+
+        @JsonProperty(STATUS_PREFIX + "2xx")
+        public long getStatus2xx() {
+            return statuses[2];
+        }
+
+        @JsonProperty(STATUS_PREFIX + "3xx")
+        public long getStatus3xx() {
+            return statuses[3];
+        }
+
+        @JsonProperty(STATUS_PREFIX + "4xx")
+        public long getStatus4xx() {
+            return statuses[4];
+        }
+
+        @JsonProperty(STATUS_PREFIX + "5xx")
+        public long getStatus5xx() {
+            return statuses[5];
+        }
+
+        /** Requests that completed without a status, such as non OpenSearch failures. */
+        @JsonProperty(STATUS_PREFIX + "unknown")
+        public long getStatusUnknown() {
+            return statuses[0];
+        }
+
+        /** Comma separated {@code exceptionClass:count} pairs. */
+        @JsonProperty(EXCEPTIONS)
+        public String getExceptions() {
+            return exceptions;
+        }
+    }
+}
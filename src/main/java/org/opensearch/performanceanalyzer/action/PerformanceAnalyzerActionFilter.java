@@ -19,6 +19,8 @@ import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.performanceanalyzer.writer.StripedMetricQueue;
 import org.opensearch.tasks.Task;
 
 public class PerformanceAnalyzerActionFilter implements ActionFilter {
@@ -41,14 +43,23 @@ public class PerformanceAnalyzerActionFilter implements ActionFilter {
             ActionFilterChain<Request, Response> chain) {
 
         if (controller.isPerformanceAnalyzerEnabled()) {
-            if (request instanceof BulkRequest) {
+            if (HttpRequestSummaries.isEnabled()
+                    && (request instanceof BulkRequest || request instanceof SearchRequest)) {
+                chain.proceed(task, action, request, summarize(request, listener));
+                return;
+            } else if (RequestEventRecorder.isEnabled()
+                    && (request instanceof BulkRequest || request instanceof SearchRequest)) {
+                chain.proceed(task, action, request, recordStart(request, listener));
+                return;
+            } else if (request instanceof BulkRequest) {
                 PerformanceAnalyzerActionListener<Response> newListener =
                         new PerformanceAnalyzerActionListener<>();
                 String id = String.valueOf(uniqueID.getAndIncrement());
                 long startTime = System.currentTimeMillis();
                 BulkRequest bulk = (BulkRequest) request;
                 newListener.set(RequestType.bulk, id, listener);
-                newListener.saveMetricValues(
+                StripedMetricQueue.save(
+                        newListener,
                         newListener.generateStartMetrics(startTime, "", bulk.requests().size()),
                         startTime,
                         RequestType.bulk.toString(),
@@ -63,7 +74,8 @@ public class PerformanceAnalyzerActionFilter implements ActionFilter {
                 long startTime = System.currentTimeMillis();
                 SearchRequest search = (SearchRequest) request;
                 newListener.set(RequestType.search, id, listener);
-                newListener.saveMetricValues(
+                StripedMetricQueue.save(
+                        newListener,
                         newListener.generateStartMetrics(
                                 startTime, String.join(",", search.indices()), 0),
                         startTime,
@@ -78,6 +90,52 @@ public class PerformanceAnalyzerActionFilter implements ActionFilter {
         chain.proceed(task, action, request, listener);
     }
 
+    /**
+     * Records the start of a bulk or search request through the {@link RequestEventRecorder},
+     * deferring the formatting of the event to the writer thread.
+     */
+    private <Response extends ActionResponse> ActionListener<Response> recordStart(
+            ActionRequest request, ActionListener<Response> listener) {
+        PerformanceAnalyzerActionListener<Response> newListener =
+                new PerformanceAnalyzerActionListener<>();
+        long id = uniqueID.getAndIncrement();
+        long startTime = System.currentTimeMillis();
+        if (request instanceof BulkRequest) {
+            newListener.set(RequestType.bulk, id, listener);
+            RequestEventRecorder.recordHttpStart(
+                    RequestType.bulk.toString(),
+                    id,
+                    startTime,
+                    null,
+                    ((BulkRequest) request).requests().size());
+        } else {
+            newListener.set(RequestType.search, id, listener);
+            RequestEventRecorder.recordHttpStart(
+                    RequestType.search.toString(),
+                    id,
+                    startTime,
+                    ((SearchRequest) request).indices(),
+                    0);
+        }
+        return newListener;
+    }
+
+    /** Counts a bulk or search request in the {@link HttpRequestSummaries}. */
+    private <Response extends ActionResponse> ActionListener<Response> summarize(
+            ActionRequest request, ActionListener<Response> listener) {
+        PerformanceAnalyzerActionListener<Response> newListener =
+                new PerformanceAnalyzerActionListener<>();
+        if (request instanceof BulkRequest) {
+            HttpRequestSummaries.recordStart(
+                    RequestType.bulk, ((BulkRequest) request).requests().size());
+            newListener.setSummarized(RequestType.bulk, System.nanoTime(), listener);
+        } else {
+            HttpRequestSummaries.recordStart(RequestType.search, 0);
+            newListener.setSummarized(RequestType.search, System.nanoTime(), listener);
+        }
+        return newListener;
+    }
+
     /** The position of the filter in the chain. Execution is done from lowest order to highest. */
     @Override
     public int order() {
@@ -14,6 +14,8 @@ import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.HttpDimensi
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.HttpMetric;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.performanceanalyzer.writer.StripedMetricQueue;
 
 public class PerformanceAnalyzerActionListener<Response>
         implements ActionListener<Response>, MetricsProcessor {
@@ -21,6 +23,11 @@ public class PerformanceAnalyzerActionListener<Response>
     private RequestType type;
     private ActionListener<Response> original;
     private String id;
+    // Used instead of id when the request is tracked through the RequestEventRecorder.
+    private long requestId;
+    // Set when the request is only counted in the HttpRequestSummaries.
+    private boolean summarized;
+    private long startNanos;
     private static final int KEYS_PATH_LENGTH = 3;
 
     void set(RequestType type, String id, ActionListener<Response> original) {
@@ -29,6 +36,29 @@ public class PerformanceAnalyzerActionListener<Response>
         this.original = original;
     }
 
+    /**
+     * Sets up the listener to record its finish event through the {@link RequestEventRecorder}
+     * rather than formatting it on the responding thread.
+     */
+    void set(RequestType type, long requestId, ActionListener<Response> original) {
+        this.type = type;
+        this.id = null;
+        this.requestId = requestId;
+        this.original = original;
+    }
+
+    /**
+     * Sets up the listener to count the request in the {@link HttpRequestSummaries} rather than
+     * emitting a finish event.
+     */
+    void setSummarized(RequestType type, long startNanos, ActionListener<Response> original) {
+        this.type = type;
+        this.id = null;
+        this.summarized = true;
+        this.startNanos = startNanos;
+        this.original = original;
+    }
+
     @Override
     public void onResponse(Response response) {
         int responseStatus = -1;
@@ -43,13 +73,7 @@ public class PerformanceAnalyzerActionListener<Response>
 
         // - If response type is BulkResponse/SearchResponse, responseStatus will not be -1
         if (responseStatus != -1) {
-            long currTime = System.currentTimeMillis();
-            saveMetricValues(
-                    generateFinishMetrics(currTime, responseStatus, ""),
-                    currTime,
-                    type.toString(),
-                    id,
-                    PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+            saveFinishMetrics(System.currentTimeMillis(), responseStatus, null);
         }
 
         original.onResponse(response);
@@ -60,30 +84,48 @@ public class PerformanceAnalyzerActionListener<Response>
         long currTime = System.currentTimeMillis();
 
         if (exception instanceof OpenSearchException) {
-            saveMetricValues(
-                    generateFinishMetrics(
-                            currTime,
-                            ((OpenSearchException) exception).status().getStatus(),
-                            exception.getClass().getName()),
+            saveFinishMetrics(
                     currTime,
-                    type.toString(),
-                    id,
-                    PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+                    ((OpenSearchException) exception).status().getStatus(),
+                    exception.getClass());
         } else {
-            saveMetricValues(
-                    generateFinishMetrics(currTime, -1, exception.getClass().getName()),
-                    currTime,
-                    type.toString(),
-                    id,
-                    PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+            saveFinishMetrics(currTime, -1, exception.getClass());
         }
 
         original.onFailure(exception);
     }
 
-    static String generateStartMetrics(long startTime, String indices, int itemCount) {
+    private void saveFinishMetrics(long currTime, int status, Class<?> exception) {
+        if (summarized) {
+            HttpRequestSummaries.recordFinish(type, startNanos, status, exception);
+            return;
+        }
+        if (id == null) {
+            RequestEventRecorder.recordHttpFinish(
+                    type.toString(), requestId, currTime, status, exception);
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
+                generateFinishMetrics(
+                        currTime, status, exception == null ? "" : exception.getName()),
+                currTime,
+                type.toString(),
+                id,
+                PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+    }
+
+    public static String generateStartMetrics(long startTime, String indices, int itemCount) {
+        return generateStartMetrics(System.currentTimeMillis(), startTime, indices, itemCount);
+    }
+
+    /** @param currentTime the time the event was recorded, emitted as the current_time metric */
+    public static String generateStartMetrics(
+            long currentTime, long startTime, String indices, int itemCount) {
         return new StringBuilder()
-                .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
+                .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(currentTime)
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                 .append(HttpMetric.START_TIME.toString())
                 .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
@@ -99,9 +141,17 @@ public class PerformanceAnalyzerActionListener<Response>
                 .toString();
     }
 
-    static String generateFinishMetrics(long finishTime, int status, String exception) {
+    public static String generateFinishMetrics(long finishTime, int status, String exception) {
+        return generateFinishMetrics(System.currentTimeMillis(), finishTime, status, exception);
+    }
+
+    /** @param currentTime the time the event was recorded, emitted as the current_time metric */
+    public static String generateFinishMetrics(
+            long currentTime, long finishTime, int status, String exception) {
         return new StringBuilder()
-                .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
+                .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(currentTime)
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                 .append(HttpMetric.FINISH_TIME.toString())
                 .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
@@ -0,0 +1,151 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+
+/**
+ * Sizes the number of shards a round-robin shard collector visits per run.
+ *
+ * <p>The count is the larger of:
+ *
+ * <ul>
+ *   <li>the number of shards that fit in the CPU budget of a run, based on the measured CPU time
+ *       of collecting one shard on the collector thread, smoothed across runs, and
+ *   <li>the number of shards needed to visit every shard once per coverage window.
+ * </ul>
+ *
+ * Coverage wins over the CPU budget, so that every shard is reported at least once per window even
+ * when the shards are more expensive than the budget allows. The collector caps the count with the
+ * shardsPerCollection cluster setting, which bounds the cost of a run in every case, and lengthens
+ * the coverage window when it is below the coverage count, see {@link
+ * #getCoverageWindowMillis(int, int)}.
+ *
+ * <p>Adaptive sizing is opt-in through the {@code node-stats-fixed-shards-adaptive} plugin setting.
+ *
+ * <p>Not thread safe, it is only accessed by the collector thread.
+ */
+class AdaptiveShardBudget {
+    private static final Logger LOG = LogManager.getLogger(AdaptiveShardBudget.class);
+    static final String ADAPTIVE_SETTING = "node-stats-fixed-shards-adaptive";
+    static final String CPU_BUDGET_SETTING = "node-stats-fixed-shards-cpu-budget-millis";
+    static final String COVERAGE_WINDOW_SETTING = "node-stats-fixed-shards-coverage-window-millis";
+    static final long DEFAULT_CPU_BUDGET_MILLIS = 20;
+    static final long DEFAULT_COVERAGE_WINDOW_MILLIS = 60_000;
+    // Weight of the latest measurement in the smoothed per shard cost.
+    private static final double COST_SMOOTHING = 0.3;
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final long cpuBudgetNanos;
+    private final long collectionIntervalMillis;
+    private final long collectionsPerWindow;
+    // Smoothed cost of collecting one shard, 0 until the first measurement.
+    private double shardCostNanos;
+
+    AdaptiveShardBudget(
+            long cpuBudgetMillis, long coverageWindowMillis, long collectionIntervalMillis) {
+        this.cpuBudgetNanos = cpuBudgetMillis * 1_000_000L;
+        this.collectionIntervalMillis = collectionIntervalMillis;
+        this.collectionsPerWindow = Math.max(1, coverageWindowMillis / collectionIntervalMillis);
+    }
+
+    /** Returns a budget if the {@link #ADAPTIVE_SETTING} setting is set, null otherwise. */
+    static AdaptiveShardBudget fromSettings(long collectionIntervalMillis) {
+        if (!readAdaptiveSetting()) {
+            return null;
+        }
+        return new AdaptiveShardBudget(
+                readSetting(CPU_BUDGET_SETTING, DEFAULT_CPU_BUDGET_MILLIS),
+                readSetting(COVERAGE_WINDOW_SETTING, DEFAULT_COVERAGE_WINDOW_MILLIS),
+                collectionIntervalMillis);
+    }
+
+    /** Returns the number of shards to visit in the next run. */
+    int getShardsPerCollection(int shardCount) {
+        if (shardCount <= 0) {
+            return 0;
+        }
+        long coverage = getCoverageShards(shardCount);
+        long affordable = shardCostNanos > 0 ? (long) (cpuBudgetNanos / shardCostNanos) : coverage;
+        return (int) Math.min(shardCount, Math.max(1, Math.max(coverage, affordable)));
+    }
+
+    /** Returns the number of shards to visit per run to visit every shard once per window. */
+    int getCoverageShards(int shardCount) {
+        return (int) ((shardCount + collectionsPerWindow - 1) / collectionsPerWindow);
+    }
+
+    /**
+     * Returns the time it takes to visit every shard once when visiting the given number of
+     * shards per run, which is longer than the coverage window when that number is capped below
+     * {@link #getCoverageShards(int)}.
+     */
+    long getCoverageWindowMillis(int shardCount, int shardsPerCollection) {
+        if (shardsPerCollection <= 0) {
+            return 0;
+        }
+        return (shardCount + shardsPerCollection - 1) / shardsPerCollection
+                * collectionIntervalMillis;
+    }
+
+    /**
+     * Returns the CPU time of the calling thread, or the wall clock time if the JVM does not
+     * measure thread CPU time, in nanoseconds.
+     */
+    static long currentThreadCpuNanos() {
+        if (THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            long cpuNanos = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+            if (cpuNanos >= 0) {
+                return cpuNanos;
+            }
+        }
+        return System.nanoTime();
+    }
+
+    /** Records the CPU time a run took to visit the given number of shards. */
+    void recordCollection(int shards, long elapsedNanos) {
+        if (shards <= 0) {
+            return;
+        }
+        double cost = (double) elapsedNanos / shards;
+        shardCostNanos =
+                shardCostNanos > 0
+                        ? shardCostNanos + COST_SMOOTHING * (cost - shardCostNanos)
+                        : cost;
+    }
+
+    double getShardCostNanos() {
+        return shardCostNanos;
+    }
+
+    private static boolean readAdaptiveSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance().getSettingValue(ADAPTIVE_SETTING, "false").trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, adaptive shard sizing disabled", ADAPTIVE_SETTING);
+            return false;
+        }
+    }
+
+    private static long readSetting(String key, long defaultValue) {
+        try {
+            long value =
+                    Long.parseLong(
+                            PluginSettings.instance()
+                                    .getSettingValue(key, String.valueOf(defaultValue))
+                                    .trim());
+            return value > 0 ? value : defaultValue;
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, using {}", key, defaultValue);
+            return defaultValue;
+        }
+    }
+}
@@ -10,12 +10,10 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
@@ -23,9 +21,11 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.commons.stats.ServiceMetrics;
 import org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetrics;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors.MethodAccessor;
 
 /** AdmissionControlMetricsCollector collects `UsedQuota`, `TotalQuota`, RejectionCount */
-public class AdmissionControlMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class AdmissionControlMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
 
     private static final Logger LOG = LogManager.getLogger(AdmissionControlMetricsCollector.class);
@@ -71,9 +71,11 @@ public class AdmissionControlMetricsCollector extends PerformanceAnalyzerMetrics
 
         try {
 
-            Method getAdmissionController =
-                    this.jettyAdmissionControllerServiceClass.getDeclaredMethod(
-                            "getAdmissionController", String.class);
+            MethodAccessor getAdmissionController =
+                    ReflectiveAccessors.method(
+                            this.jettyAdmissionControllerServiceClass,
+                            "getAdmissionController",
+                            String.class);
 
             Object globalJVMMP = getAdmissionController.invoke(null, GLOBAL_JVMMP);
             Object requestSize = getAdmissionController.invoke(null, REQUEST_SIZE);
@@ -84,10 +86,12 @@ public class AdmissionControlMetricsCollector extends PerformanceAnalyzerMetrics
 
             value.setLength(0);
 
-            Method getUsedQuota = this.admissionControllerClass.getDeclaredMethod("getUsedQuota");
-            Method getTotalQuota = this.admissionControllerClass.getDeclaredMethod("getTotalQuota");
-            Method getRejectionCount =
-                    this.admissionControllerClass.getDeclaredMethod("getRejectionCount");
+            MethodAccessor getUsedQuota =
+                    ReflectiveAccessors.method(this.admissionControllerClass, "getUsedQuota");
+            MethodAccessor getTotalQuota =
+                    ReflectiveAccessors.method(this.admissionControllerClass, "getTotalQuota");
+            MethodAccessor getRejectionCount =
+                    ReflectiveAccessors.method(this.admissionControllerClass, "getRejectionCount");
 
             if (!Objects.isNull(globalJVMMP)) {
                 value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
@@ -95,9 +99,9 @@ public class AdmissionControlMetricsCollector extends PerformanceAnalyzerMetrics
                         .append(
                                 new AdmissionControlMetrics(
                                                 GLOBAL_JVMMP,
-                                                (long) getUsedQuota.invoke(globalJVMMP),
-                                                (long) getTotalQuota.invoke(globalJVMMP),
-                                                (long) getRejectionCount.invoke(globalJVMMP))
+                                                getUsedQuota.invokeLong(globalJVMMP),
+                                                getTotalQuota.invokeLong(globalJVMMP),
+                                                getRejectionCount.invokeLong(globalJVMMP))
                                         .serialize());
             }
 
@@ -107,14 +111,14 @@ public class AdmissionControlMetricsCollector extends PerformanceAnalyzerMetrics
                         .append(
                                 new AdmissionControlMetrics(
                                                 REQUEST_SIZE,
-                                                (long) getUsedQuota.invoke(requestSize),
-                                                (long) getTotalQuota.invoke(requestSize),
-                                                (long) getRejectionCount.invoke(requestSize))
+                                                getUsedQuota.invokeLong(requestSize),
+                                                getTotalQuota.invokeLong(requestSize),
+                                                getRejectionCount.invokeLong(requestSize))
                                         .serialize());
             }
 
             saveMetricValues(value.toString(), startTime);
-        } catch (NoSuchMethodException | InvocationTargetException | IllegalAccessException ex) {
+        } catch (NoSuchMethodException | InvocationTargetException ex) {
             LOG.debug(
                     "[ {} ] Exception in collecting AdmissionControl Metrics: {}",
                     this::getCollectorName,
@@ -21,7 +21,6 @@ import org.opensearch.common.cache.Cache;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.CacheConfigDimension;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.CacheConfigValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
@@ -39,7 +38,7 @@ import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMet
  * cache metric.
  *
  */
-public class CacheConfigMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class CacheConfigMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(CacheConfigMetricsCollector.class).samplingInterval;
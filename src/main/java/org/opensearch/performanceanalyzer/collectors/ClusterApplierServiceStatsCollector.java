@@ -16,21 +16,20 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterApplierService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
 
-public class ClusterApplierServiceStatsCollector extends PerformanceAnalyzerMetricsCollector
+public class ClusterApplierServiceStatsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(ClusterApplierServiceStatsCollector.class)
@@ -45,6 +44,8 @@ public class ClusterApplierServiceStatsCollector extends PerformanceAnalyzerMetr
     private final StringBuilder value;
     private final PerformanceAnalyzerController controller;
     private final ConfigOverridesWrapper configOverridesWrapper;
+    // Set once the fields of the stats are found not to match ClusterApplierServiceStats.
+    private boolean jsonFallback;
 
     static {
         mapper = new ObjectMapper();
@@ -79,13 +80,8 @@ public class ClusterApplierServiceStatsCollector extends PerformanceAnalyzerMetr
         ClusterApplierServiceStats currentClusterApplierServiceStats = null;
         try {
             currentClusterApplierServiceStats =
-                    mapper.readValue(
-                            mapper.writeValueAsString(getClusterApplierServiceStats()),
-                            ClusterApplierServiceStats.class);
-        } catch (InvocationTargetException
-                | IllegalAccessException
-                | NoSuchMethodException
-                | JsonProcessingException ex) {
+                    toClusterApplierServiceStats(getClusterApplierServiceStats());
+        } catch (InvocationTargetException | NoSuchMethodException | JsonProcessingException ex) {
             LOG.warn(
                     "No method found to get cluster state applier thread stats. "
                             + "Skipping ClusterApplierServiceStatsCollector");
@@ -112,14 +108,48 @@ public class ClusterApplierServiceStatsCollector extends PerformanceAnalyzerMetr
                 new ClusterApplierServiceStats();
     }
 
+    /**
+     * Reads the fields of the stats returned by ClusterApplierService directly. Falls back to a
+     * JSON round trip, for good, if they do not match {@link ClusterApplierServiceStats}, which can
+     * happen when the collector runs against a different OpenSearch version, or if a field is
+     * null.
+     */
+    private ClusterApplierServiceStats toClusterApplierServiceStats(Object stats)
+            throws JsonProcessingException {
+        if (!jsonFallback) {
+            try {
+                return readClusterApplierServiceStats(stats);
+            } catch (NoSuchFieldException | RuntimeException ex) {
+                // A RuntimeException is a field of an unexpected type or a null value.
+                jsonFallback = true;
+                LOG.info(
+                        "Unexpected cluster applier service stats fields, falling back to JSON: {}",
+                        ex.toString());
+            }
+        }
+        return mapper.readValue(
+                mapper.writeValueAsString(stats), ClusterApplierServiceStats.class);
+    }
+
+    @VisibleForTesting
+    static ClusterApplierServiceStats readClusterApplierServiceStats(Object stats)
+            throws NoSuchFieldException {
+        return new ClusterApplierServiceStats(
+                ReflectiveAccessors.readLong(stats, "totalCount"),
+                ReflectiveAccessors.readLong(stats, "timeTakenInMillis"),
+                ReflectiveAccessors.readLong(stats, "failedCount"),
+                ReflectiveAccessors.readLong(stats, "elapsedTimeCurrentInMillis"));
+    }
+
     @VisibleForTesting
     public Object getClusterApplierServiceStats()
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException {
-        Method method =
-                ClusterApplierService.class.getMethod(
-                        GET_CLUSTER_APPLIER_SERVICE_STATS_METHOD_NAME);
-        return method.invoke(
-                OpenSearchResources.INSTANCE.getClusterService().getClusterApplierService());
+            throws InvocationTargetException, NoSuchMethodException {
+        return ReflectiveAccessors.method(
+                        ClusterApplierService.class, GET_CLUSTER_APPLIER_SERVICE_STATS_METHOD_NAME)
+                .invoke(
+                        OpenSearchResources.INSTANCE
+                                .getClusterService()
+                                .getClusterApplierService());
     }
 
     /**
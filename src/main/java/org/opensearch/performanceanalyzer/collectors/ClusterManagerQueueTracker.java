@@ -0,0 +1,408 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatExceptionCode.CLUSTER_MANAGER_METRICS_ERROR;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingQueue;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.cluster.service.ClusterManagerService;
+import org.opensearch.cluster.service.SourcePrioritizedRunnable;
+import org.opensearch.common.Priority;
+import org.opensearch.common.util.concurrent.PrioritizedOpenSearchThreadPoolExecutor;
+import org.opensearch.common.util.concurrent.PrioritizedRunnable;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+
+/**
+ * Tracks the pending task queue of the cluster manager for the {@link
+ * ClusterManagerServiceMetrics} and {@link ClusterManagerServiceEventMetrics} collectors, which
+ * share one {@link QueueSnapshot} per sampling interval.
+ *
+ * <p>The work per snapshot is bounded. The queue size and the age of its head, the next task to
+ * run, are read in constant time. The queue is a priority queue that can only be read as a whole,
+ * its iterator copies it too, so the queued tasks are only looked at, for the per task type counts
+ * and the queue age distribution, when there are at most {@link #MAX_SAMPLED_TASKS_SETTING} of
+ * them. For a longer queue, the per task type counts of the previous snapshot are scaled to the
+ * queue size, and its age distribution is left out. No pending task description is built. The
+ * enqueue and dequeue counts are derived from the completed task count and the queue size. The
+ * task in progress is read from the executor without going through {@code
+ * PrioritizedOpenSearchThreadPoolExecutor.addPending}.
+ */
+public class ClusterManagerQueueTracker {
+    private static final Logger LOG = LogManager.getLogger(ClusterManagerQueueTracker.class);
+    static final String ENABLED_SETTING = "cluster-manager-queue-tracker";
+    static final String MAX_SAMPLED_TASKS_SETTING = "cluster-manager-queue-max-sampled-tasks";
+    static final int DEFAULT_MAX_SAMPLED_TASKS = 1000;
+    static final String UNKNOWN_TASK_TYPE = "unknown";
+    private static final String[] WRAPPED_TASK_FIELDS = {"runnable", "task"};
+
+    private final int maxSampledTasks;
+    private PrioritizedOpenSearchThreadPoolExecutor executor;
+    private Queue<Runnable> current;
+    private QueueSnapshot lastSnapshot;
+    private long lastTimeInterval = -1;
+
+    @VisibleForTesting
+    ClusterManagerQueueTracker(int maxSampledTasks) {
+        this.maxSampledTasks = Math.max(1, maxSampledTasks);
+    }
+
+    /** Returns a tracker if the {@link #ENABLED_SETTING} setting is set, null otherwise. */
+    public static ClusterManagerQueueTracker create() {
+        return readEnabledSetting() ? new ClusterManagerQueueTracker(readMaxSampledTasks()) : null;
+    }
+
+    /**
+     * Returns the snapshot of the sampling interval of the start time, taking it on the first call
+     * of the interval, or null if the cluster manager queue cannot be read.
+     */
+    synchronized QueueSnapshot sample(long startTime) {
+        long timeInterval = PerformanceAnalyzerMetrics.getTimeInterval(startTime);
+        if (lastSnapshot != null && timeInterval == lastTimeInterval) {
+            return lastSnapshot;
+        }
+        try {
+            if (executor == null && !resolveExecutor()) {
+                return null;
+            }
+            QueueSnapshot snapshot = sample(executor, current, lastSnapshot, startTime);
+            lastSnapshot = snapshot;
+            lastTimeInterval = timeInterval;
+            return snapshot;
+        } catch (NoSuchFieldException | RuntimeException e) {
+            LOG.debug("Unable to sample the cluster manager queue: {}", e.toString());
+            StatsCollector.instance().logException(CLUSTER_MANAGER_METRICS_ERROR);
+            return null;
+        }
+    }
+
+    @VisibleForTesting
+    QueueSnapshot sample(
+            PrioritizedOpenSearchThreadPoolExecutor executor,
+            Queue<Runnable> current,
+            QueueSnapshot previous,
+            long nowMillis)
+            throws NoSuchFieldException {
+        // The counts are read one after the other without a lock, a task that moves in between
+        // is accounted for by the next snapshot.
+        long completed = executor.getCompletedTaskCount();
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        int pending = queue.size();
+        Runnable head = queue.peek();
+        Runnable running = current == null ? null : current.peek();
+        int inProgress = running == null ? 0 : 1;
+
+        Runnable[] queued = pending <= maxSampledTasks ? queue.toArray(new Runnable[0]) : null;
+        int sampled = queued == null ? 0 : queued.length;
+        Map<String, Integer> countsByType = new HashMap<>();
+        LatencyHistogram ages = new LatencyHistogram();
+        for (int i = 0; i < sampled; i++) {
+            countsByType.merge(taskType(queued[i]), 1, Integer::sum);
+            long ageMillis = ageInMillis(queued[i]);
+            if (ageMillis >= 0) {
+                ages.record(ageMillis);
+            }
+        }
+        if (queued == null) {
+            estimateCountsByType(previous, pending, countsByType);
+        }
+        long headAgeMillis = head == null ? 0 : Math.max(0, ageInMillis(head));
+
+        long dequeued = 0;
+        long enqueued = 0;
+        long elapsedMillis = 0;
+        if (previous != null) {
+            // Tasks that left the queue, and completed or are still in progress.
+            dequeued =
+                    Math.max(
+                            0, completed - previous.completed + inProgress - previous.inProgress);
+            enqueued = Math.max(0, dequeued + pending - previous.pending);
+            elapsedMillis = nowMillis - previous.timeMillis;
+        }
+
+        long currentInsertionOrder = -1;
+        Priority currentPriority = null;
+        String currentSource = null;
+        long currentAgeMillis = 0;
+        if (running != null) {
+            currentInsertionOrder = ReflectiveAccessors.readLong(running, "insertionOrder");
+            currentPriority = (Priority) ReflectiveAccessors.readField(running, "priority");
+            Object task = unwrap(running);
+            if (task instanceof SourcePrioritizedRunnable) {
+                currentSource = ((SourcePrioritizedRunnable) task).source();
+                currentAgeMillis = ((SourcePrioritizedRunnable) task).getAgeInMillis();
+            }
+        }
+
+        return new QueueSnapshot(
+                nowMillis,
+                completed,
+                inProgress,
+                pending,
+                sampled,
+                Collections.unmodifiableMap(countsByType),
+                ages.takeSnapshot(),
+                headAgeMillis,
+                enqueued,
+                dequeued,
+                elapsedMillis,
+                currentInsertionOrder,
+                currentPriority,
+                currentSource,
+                currentAgeMillis);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean resolveExecutor() throws NoSuchFieldException {
+        if (OpenSearchResources.INSTANCE.getClusterService() == null) {
+            return false;
+        }
+        ClusterManagerService clusterManagerService =
+                OpenSearchResources.INSTANCE.getClusterService().getClusterManagerService();
+        if (clusterManagerService == null) {
+            return false;
+        }
+        // Currently ClusterManagerService extends MasterService, remove getSuperClass(),
+        // once MasterService contents are moved and class is removed.
+        PrioritizedOpenSearchThreadPoolExecutor resolved =
+                (PrioritizedOpenSearchThreadPoolExecutor)
+                        ReflectiveAccessors.field(
+                                        ClusterManagerService.class.getSuperclass(),
+                                        "threadPoolExecutor")
+                                .get(clusterManagerService);
+        if (resolved == null) {
+            return false;
+        }
+        current =
+                (Queue<Runnable>)
+                        ReflectiveAccessors.field(
+                                        PrioritizedOpenSearchThreadPoolExecutor.class, "current")
+                                .get(resolved);
+        executor = resolved;
+        return true;
+    }
+
+    /**
+     * Spreads the pending tasks of a queue too long to be sampled over the task types in the
+     * proportions of the previous snapshot, or counts them as {@link #UNKNOWN_TASK_TYPE} tasks if
+     * there are none. The rounding remainder goes to the most frequent task type, so that the
+     * counts add up to the queue size.
+     */
+    private static void estimateCountsByType(
+            QueueSnapshot previous, int pending, Map<String, Integer> countsByType) {
+        Map<String, Integer> previousCounts =
+                previous == null ? Collections.emptyMap() : previous.countsByType;
+        long previousPending = 0;
+        String mostFrequentType = UNKNOWN_TASK_TYPE;
+        int mostFrequentCount = 0;
+        for (Map.Entry<String, Integer> entry : previousCounts.entrySet()) {
+            previousPending += entry.getValue();
+            if (entry.getValue() > mostFrequentCount) {
+                mostFrequentType = entry.getKey();
+                mostFrequentCount = entry.getValue();
+            }
+        }
+        int assigned = 0;
+        for (Map.Entry<String, Integer> entry : previousCounts.entrySet()) {
+            int count = (int) (entry.getValue() * (long) pending / previousPending);
+            if (count > 0) {
+                countsByType.put(entry.getKey(), count);
+                assigned += count;
+            }
+        }
+        if (pending > assigned) {
+            countsByType.merge(mostFrequentType, pending - assigned, Integer::sum);
+        }
+    }
+
+    /**
+     * Returns the task the executor wrapped to break priority ties by insertion order, in a
+     * TieBreakingPrioritizedRunnable when executed or in a PrioritizedFutureTask when submitted.
+     */
+    private static Object unwrap(Runnable task) {
+        if (task instanceof SourcePrioritizedRunnable) {
+            return task;
+        }
+        for (String field : WRAPPED_TASK_FIELDS) {
+            try {
+                return ReflectiveAccessors.readField(task, field);
+            } catch (NoSuchFieldException e) {
+                // Not this kind of wrapper.
+            }
+        }
+        return task;
+    }
+
+    /** Returns the time the task spent in the queue so far, -1 if unknown. */
+    private static long ageInMillis(Runnable task) {
+        if (task instanceof PrioritizedRunnable) {
+            return ((PrioritizedRunnable) task).getAgeInMillis();
+        }
+        Object unwrapped = unwrap(task);
+        return unwrapped instanceof PrioritizedRunnable
+                ? ((PrioritizedRunnable) unwrapped).getAgeInMillis()
+                : -1;
+    }
+
+    private static String taskType(Runnable task) {
+        Object unwrapped = unwrap(task);
+        if (!(unwrapped instanceof SourcePrioritizedRunnable)) {
+            return UNKNOWN_TASK_TYPE;
+        }
+        String source = ((SourcePrioritizedRunnable) unwrapped).source();
+        int firstSpaceIndex = source.indexOf(' ');
+        return firstSpaceIndex == -1 ? source : source.substring(0, firstSpaceIndex);
+    }
+
+    private static boolean readEnabledSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance().getSettingValue(ENABLED_SETTING, "false").trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, cluster manager queue tracking disabled", ENABLED_SETTING);
+            return false;
+        }
+    }
+
+    private static int readMaxSampledTasks() {
+        try {
+            return Integer.parseInt(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    MAX_SAMPLED_TASKS_SETTING,
+                                    String.valueOf(DEFAULT_MAX_SAMPLED_TASKS))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, using {}",
+                    MAX_SAMPLED_TASKS_SETTING,
+                    DEFAULT_MAX_SAMPLED_TASKS);
+            return DEFAULT_MAX_SAMPLED_TASKS;
+        }
+    }
+
+    /** Pending task queue of the cluster manager at one point in time. */
+    static final class QueueSnapshot {
+        private final long timeMillis;
+        private final long completed;
+        private final int inProgress;
+        private final int pending;
+        private final int sampled;
+        private final Map<String, Integer> countsByType;
+        private final LatencyHistogram.Snapshot ages;
+        private final long headAgeMillis;
+        private final long enqueued;
+        private final long dequeued;
+        private final long elapsedMillis;
+        private final long currentInsertionOrder;
+        private final Priority currentPriority;
+        private final String currentSource;
+        private final long currentAgeMillis;
+
+        QueueSnapshot(
+                long timeMillis,
+                long completed,
+                int inProgress,
+                int pending,
+                int sampled,
+                Map<String, Integer> countsByType,
+                LatencyHistogram.Snapshot ages,
+                long headAgeMillis,
+                long enqueued,
+                long dequeued,
+                long elapsedMillis,
+                long currentInsertionOrder,
+                Priority currentPriority,
+                String currentSource,
+                long currentAgeMillis) {
+            this.timeMillis = timeMillis;
+            this.completed = completed;
+            this.inProgress = inProgress;
+            this.pending = pending;
+            this.sampled = sampled;
+            this.countsByType = countsByType;
+            this.ages = ages;
+            this.headAgeMillis = headAgeMillis;
+            this.enqueued = enqueued;
+            this.dequeued = dequeued;
+            this.elapsedMillis = elapsedMillis;
+            this.currentInsertionOrder = currentInsertionOrder;
+            this.currentPriority = currentPriority;
+            this.currentSource = currentSource;
+            this.currentAgeMillis = currentAgeMillis;
+        }
+
+        int getPending() {
+            return pending;
+        }
+
+        int getSampled() {
+            return sampled;
+        }
+
+        /**
+         * Queued tasks by task type, estimated from the previous snapshot if the queue was too long
+         * to be sampled.
+         */
+        Map<String, Integer> getCountsByType() {
+            return countsByType;
+        }
+
+        /** Time the sampled tasks spent in the queue so far, in milliseconds. */
+        LatencyHistogram.Snapshot getAges() {
+            return ages;
+        }
+
+        /** Time the next task to run spent in the queue so far, 0 if the queue is empty. */
+        long getHeadAgeMillis() {
+            return headAgeMillis;
+        }
+
+        /** Tasks enqueued since the previous snapshot. */
+        long getEnqueued() {
+            return enqueued;
+        }
+
+        /** Tasks that started since the previous snapshot. */
+        long getDequeued() {
+            return dequeued;
+        }
+
+        /** Time since the previous snapshot, 0 for the first one. */
+        long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        /** Insertion order of the task in progress, -1 if none. */
+        long getCurrentInsertionOrder() {
+            return currentInsertionOrder;
+        }
+
+        Priority getCurrentPriority() {
+            return currentPriority;
+        }
+
+        /** Source of the task in progress, null if none or not a cluster state update. */
+        String getCurrentSource() {
+            return currentSource;
+        }
+
+        long getCurrentAgeMillis() {
+            return currentAgeMillis;
+        }
+    }
+}
@@ -10,26 +10,27 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatExcep
 import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetrics.CLUSTER_MANAGER_SERVICE_EVENTS_METRICS_COLLECTOR_EXECUTION_TIME;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ThreadPoolExecutor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterManagerService;
 import org.opensearch.cluster.service.SourcePrioritizedRunnable;
+import org.opensearch.common.Priority;
 import org.opensearch.common.util.concurrent.PrioritizedOpenSearchThreadPoolExecutor;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.*;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ClusterManagerMetricDimensions;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ClusterManagerMetricValues;
 import org.opensearch.performanceanalyzer.commons.util.ThreadIDUtil;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors.FieldAccessor;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors.MethodAccessor;
 
 @SuppressWarnings("unchecked")
-public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetricsCollector
+public class ClusterManagerServiceEventMetrics extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(ClusterManagerServiceEventMetrics.class)
@@ -43,10 +44,16 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
     private HashSet<Object> clusterManagerServiceWorkers;
     private long currentThreadId;
     private Object currentWorker;
+    private final ClusterManagerQueueTracker queueTracker;
 
     @VisibleForTesting long lastTaskInsertionOrder;
 
     public ClusterManagerServiceEventMetrics() {
+        this(null);
+    }
+
+    /** With a queue tracker, the task in progress is read from its snapshot. */
+    public ClusterManagerServiceEventMetrics(ClusterManagerQueueTracker queueTracker) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "ClusterManagerServiceEventMetrics",
@@ -59,6 +66,7 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         currentThreadId = -1;
         lastTaskInsertionOrder = -1;
         value = new StringBuilder();
+        this.queueTracker = queueTracker;
     }
 
     @Override
@@ -89,6 +97,10 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
             }
 
             value.setLength(0);
+            if (queueTracker != null) {
+                collectFromTracker(startTime);
+                return;
+            }
             Queue<Runnable> current = getClusterManagerServiceCurrentQueue();
 
             if (Objects.isNull(current) || current.size() == 0) {
@@ -110,46 +122,13 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
                 PrioritizedOpenSearchThreadPoolExecutor.Pending firstPending = pending.get(0);
 
                 if (lastTaskInsertionOrder != firstPending.insertionOrder) {
-                    generateFinishMetrics(startTime);
                     SourcePrioritizedRunnable task = (SourcePrioritizedRunnable) firstPending.task;
-                    lastTaskInsertionOrder = firstPending.insertionOrder;
-                    int firstSpaceIndex = task.source().indexOf(" ");
-                    value.append(PerformanceAnalyzerMetrics.getCurrentTimeMetric());
-                    PerformanceAnalyzerMetrics.addMetricEntry(
-                            value,
-                            ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_PRIORITY.toString(),
-                            firstPending.priority.toString());
-                    // - as it is sampling, we won't exactly know the start time of the current
-                    // task, we will be
-                    // - capturing start time as midpoint of previous time bucket
-                    PerformanceAnalyzerMetrics.addMetricEntry(
-                            value,
-                            ClusterManagerMetricValues.START_TIME.toString(),
-                            startTime - SAMPLING_TIME_INTERVAL / 2);
-                    PerformanceAnalyzerMetrics.addMetricEntry(
-                            value,
-                            ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_TYPE.toString(),
-                            firstSpaceIndex == -1
-                                    ? task.source()
-                                    : task.source().substring(0, firstSpaceIndex));
-                    PerformanceAnalyzerMetrics.addMetricEntry(
-                            value,
-                            ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_METADATA.toString(),
-                            firstSpaceIndex == -1 ? "" : task.source().substring(firstSpaceIndex));
-                    PerformanceAnalyzerMetrics.addMetricEntry(
-                            value,
-                            ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_QUEUE_TIME
-                                    .toString(),
-                            task.getAgeInMillis());
-
-                    saveMetricValues(
-                            value.toString(),
+                    generateStartMetrics(
                             startTime,
-                            String.valueOf(getClusterManagerThreadId()),
-                            String.valueOf(lastTaskInsertionOrder),
-                            PerformanceAnalyzerMetrics.START_FILE_NAME);
-
-                    value.setLength(0);
+                            firstPending.insertionOrder,
+                            firstPending.priority,
+                            task.source(),
+                            task.getAgeInMillis());
                 }
             } else {
                 generateFinishMetrics(startTime);
@@ -157,7 +136,6 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         } catch (NoSuchFieldException
                 | NoSuchMethodException
                 | InvocationTargetException
-                | IllegalAccessException
                 | ClassNotFoundException e) {
             LOG.debug(
                     "[ {} ] Exception raised while getting Cluster Manager throttling metrics: {} ",
@@ -167,6 +145,65 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         }
     }
 
+    private void collectFromTracker(long startTime)
+            throws NoSuchFieldException, ClassNotFoundException {
+        ClusterManagerQueueTracker.QueueSnapshot snapshot = queueTracker.sample(startTime);
+        if (snapshot == null) {
+            return;
+        }
+        if (snapshot.getCurrentInsertionOrder() == -1) {
+            generateFinishMetrics(startTime);
+        } else if (lastTaskInsertionOrder != snapshot.getCurrentInsertionOrder()) {
+            String source = snapshot.getCurrentSource();
+            generateStartMetrics(
+                    startTime,
+                    snapshot.getCurrentInsertionOrder(),
+                    snapshot.getCurrentPriority(),
+                    source == null ? ClusterManagerQueueTracker.UNKNOWN_TASK_TYPE : source,
+                    snapshot.getCurrentAgeMillis());
+        }
+    }
+
+    private void generateStartMetrics(
+            long startTime, long insertionOrder, Priority priority, String source, long ageMillis)
+            throws NoSuchFieldException, ClassNotFoundException {
+        generateFinishMetrics(startTime);
+        lastTaskInsertionOrder = insertionOrder;
+        int firstSpaceIndex = source.indexOf(" ");
+        value.append(PerformanceAnalyzerMetrics.getCurrentTimeMetric());
+        PerformanceAnalyzerMetrics.addMetricEntry(
+                value,
+                ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_PRIORITY.toString(),
+                String.valueOf(priority));
+        // - as it is sampling, we won't exactly know the start time of the current task, we will
+        // - be capturing start time as midpoint of previous time bucket
+        PerformanceAnalyzerMetrics.addMetricEntry(
+                value,
+                ClusterManagerMetricValues.START_TIME.toString(),
+                startTime - SAMPLING_TIME_INTERVAL / 2);
+        PerformanceAnalyzerMetrics.addMetricEntry(
+                value,
+                ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_TYPE.toString(),
+                firstSpaceIndex == -1 ? source : source.substring(0, firstSpaceIndex));
+        PerformanceAnalyzerMetrics.addMetricEntry(
+                value,
+                ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_METADATA.toString(),
+                firstSpaceIndex == -1 ? "" : source.substring(firstSpaceIndex));
+        PerformanceAnalyzerMetrics.addMetricEntry(
+                value,
+                ClusterManagerMetricDimensions.CLUSTER_MANAGER_TASK_QUEUE_TIME.toString(),
+                ageMillis);
+
+        saveMetricValues(
+                value.toString(),
+                startTime,
+                String.valueOf(getClusterManagerThreadId()),
+                String.valueOf(lastTaskInsertionOrder),
+                PerformanceAnalyzerMetrics.START_FILE_NAME);
+
+        value.setLength(0);
+    }
+
     @VisibleForTesting
     void generateFinishMetrics(long startTime) {
         if (lastTaskInsertionOrder != -1) {
@@ -187,45 +224,34 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
     }
 
     // - Separated to have a unit test; and catch any code changes around this field
-    Field getClusterManagerServiceTPExecutorField() throws NoSuchFieldException {
+    FieldAccessor getClusterManagerServiceTPExecutorField() throws NoSuchFieldException {
         // Currently ClusterManagerService extends MasterService, remove getSuperClass(),
         // once MasterService contents are moved and class is removed.
-        Field threadPoolExecutorField =
-                ClusterManagerService.class.getSuperclass().getDeclaredField("threadPoolExecutor");
-        threadPoolExecutorField.setAccessible(true);
-        return threadPoolExecutorField;
+        return ReflectiveAccessors.field(
+                ClusterManagerService.class.getSuperclass(), "threadPoolExecutor");
     }
 
     // - Separated to have a unit test; and catch any code changes around this field
-    Field getPrioritizedTPExecutorCurrentField() throws NoSuchFieldException {
-        Field currentField =
-                PrioritizedOpenSearchThreadPoolExecutor.class.getDeclaredField("current");
-        currentField.setAccessible(true);
-        return currentField;
+    FieldAccessor getPrioritizedTPExecutorCurrentField() throws NoSuchFieldException {
+        return ReflectiveAccessors.field(PrioritizedOpenSearchThreadPoolExecutor.class, "current");
     }
 
     // - Separated to have a unit test; and catch any code changes around this field
-    Field getTPExecutorWorkersField() throws NoSuchFieldException {
-        Field workersField = ThreadPoolExecutor.class.getDeclaredField("workers");
-        workersField.setAccessible(true);
-        return workersField;
+    FieldAccessor getTPExecutorWorkersField() throws NoSuchFieldException {
+        return ReflectiveAccessors.field(ThreadPoolExecutor.class, "workers");
     }
 
     // - Separated to have a unit test; and catch any code changes around this field
-    Method getPrioritizedTPExecutorAddPendingMethod() throws NoSuchMethodException {
-        Class<?>[] classArray = new Class<?>[TPEXECUTOR_ADD_PENDING_PARAM_COUNT];
-        classArray[0] = List.class;
-        classArray[1] = List.class;
-        classArray[2] = boolean.class;
-        Method addPendingMethod =
-                PrioritizedOpenSearchThreadPoolExecutor.class.getDeclaredMethod(
-                        "addPending", classArray);
-        addPendingMethod.setAccessible(true);
-        return addPendingMethod;
+    MethodAccessor getPrioritizedTPExecutorAddPendingMethod() throws NoSuchMethodException {
+        return ReflectiveAccessors.method(
+                PrioritizedOpenSearchThreadPoolExecutor.class,
+                "addPending",
+                List.class,
+                List.class,
+                boolean.class);
     }
 
-    Queue<Runnable> getClusterManagerServiceCurrentQueue()
-            throws NoSuchFieldException, IllegalAccessException {
+    Queue<Runnable> getClusterManagerServiceCurrentQueue() throws NoSuchFieldException {
         if (clusterManagerServiceCurrentQueue == null) {
             if (OpenSearchResources.INSTANCE.getClusterService() != null) {
                 ClusterManagerService clusterManagerService =
@@ -254,8 +280,7 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         return clusterManagerServiceCurrentQueue;
     }
 
-    HashSet<Object> getClusterManagerServiceWorkers()
-            throws NoSuchFieldException, IllegalAccessException {
+    HashSet<Object> getClusterManagerServiceWorkers() throws NoSuchFieldException {
         if (clusterManagerServiceWorkers == null) {
             if (OpenSearchResources.INSTANCE.getClusterService() != null) {
                 ClusterManagerService clusterManagerService =
@@ -280,8 +305,7 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         return clusterManagerServiceWorkers;
     }
 
-    long getClusterManagerThreadId()
-            throws NoSuchFieldException, IllegalAccessException, ClassNotFoundException {
+    long getClusterManagerThreadId() throws NoSuchFieldException, ClassNotFoundException {
         HashSet<Object> currentWorkers = getClusterManagerServiceWorkers();
 
         if (currentWorkers.size() > 0) {
@@ -309,11 +333,8 @@ public class ClusterManagerServiceEventMetrics extends PerformanceAnalyzerMetric
         return currentThreadId;
     }
 
-    Field getWorkerThreadField() throws ClassNotFoundException, NoSuchFieldException {
-        Class<?> tpExecutorWorkerClass =
-                Class.forName("java.util.concurrent.ThreadPoolExecutor$Worker");
-        Field workerField = tpExecutorWorkerClass.getDeclaredField("thread");
-        workerField.setAccessible(true);
-        return workerField;
+    FieldAccessor getWorkerThreadField() throws ClassNotFoundException, NoSuchFieldException {
+        return ReflectiveAccessors.field(
+                "java.util.concurrent.ThreadPoolExecutor$Worker", "thread");
     }
 }
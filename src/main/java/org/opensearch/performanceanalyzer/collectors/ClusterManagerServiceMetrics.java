@@ -17,30 +17,43 @@ import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.PendingClusterTask;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ClusterManagerPendingTaskDimension;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ClusterManagerPendingValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
 
 @SuppressWarnings("unchecked")
-public class ClusterManagerServiceMetrics extends PerformanceAnalyzerMetricsCollector
+public class ClusterManagerServiceMetrics extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(ClusterManagerServiceMetrics.class)
                     .samplingInterval;
     private static final Logger LOG = LogManager.getLogger(ClusterManagerServiceMetrics.class);
     private static final int KEYS_PATH_LENGTH = 2;
+    // Key of the queue summary, in place of PerformanceAnalyzerMetrics.CLUSTER_MANAGER_CURRENT.
+    public static final String CLUSTER_MANAGER_QUEUE = "queue";
+    private final ClusterManagerQueueTracker queueTracker;
     private StringBuilder value;
 
     public ClusterManagerServiceMetrics() {
+        this(null);
+    }
+
+    /**
+     * With a queue tracker, the pending task counts are exact while the queue is short enough for
+     * the tracker to sample and estimated otherwise, as told by the sampled task count of the
+     * summary of the queue emitted under {@link #CLUSTER_MANAGER_QUEUE}.
+     */
+    public ClusterManagerServiceMetrics(ClusterManagerQueueTracker queueTracker) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "ClusterManagerServiceMetrics",
                 CLUSTER_MANAGER_SERVICE_METRICS_COLLECTOR_EXECUTION_TIME,
                 CLUSTER_MANAGER_METRICS_ERROR);
         value = new StringBuilder();
+        this.queueTracker = queueTracker;
     }
 
     @Override
@@ -64,6 +77,10 @@ public class ClusterManagerServiceMetrics extends PerformanceAnalyzerMetricsColl
                                 .getClusterManagerService())) {
             return;
         }
+        if (queueTracker != null) {
+            collectFromTracker(startTime);
+            return;
+        }
 
         /*
          * pendingTasks API returns object of PendingClusterTask which contains insertOrder, priority, source, timeInQueue.
@@ -107,6 +124,51 @@ public class ClusterManagerServiceMetrics extends PerformanceAnalyzerMetricsColl
                 PerformanceAnalyzerMetrics.CLUSTER_MANAGER_META_DATA);
     }
 
+    private void collectFromTracker(long startTime) {
+        ClusterManagerQueueTracker.QueueSnapshot snapshot = queueTracker.sample(startTime);
+        if (snapshot == null) {
+            return;
+        }
+        value.setLength(0);
+        value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds());
+        snapshot.getCountsByType()
+                .forEach(
+                        (pendingTaskType, pendingTaskValue) -> {
+                            value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
+                            value.append(
+                                    new ClusterManagerPendingStatus(
+                                                    pendingTaskType, pendingTaskValue)
+                                            .serialize());
+                        });
+        saveMetricValues(
+                value.toString(),
+                startTime,
+                PerformanceAnalyzerMetrics.CLUSTER_MANAGER_CURRENT,
+                PerformanceAnalyzerMetrics.CLUSTER_MANAGER_META_DATA);
+
+        LatencyHistogram.Snapshot ages = snapshot.getAges();
+        value.setLength(0);
+        value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(
+                        new ClusterManagerQueueStatus(
+                                        snapshot.getPending(),
+                                        snapshot.getSampled(),
+                                        snapshot.getEnqueued(),
+                                        snapshot.getDequeued(),
+                                        snapshot.getElapsedMillis(),
+                                        snapshot.getHeadAgeMillis(),
+                                        ages.getPercentile(50),
+                                        ages.getPercentile(99),
+                                        ages.getMax())
+                                .serialize());
+        saveMetricValues(
+                value.toString(),
+                startTime,
+                CLUSTER_MANAGER_QUEUE,
+                PerformanceAnalyzerMetrics.CLUSTER_MANAGER_META_DATA);
+    }
+
     public static class ClusterManagerPendingStatus extends MetricStatus {
         private final String pendingTaskType;
         private final int pendingTasksCount;
@@ -126,4 +188,96 @@ public class ClusterManagerServiceMetrics extends PerformanceAnalyzerMetricsColl
             return pendingTasksCount;
         }
     }
+
+    /**
+     * Summary of the cluster manager queue: its size, the tasks enqueued and dequeued since the
+     * previous summary, and the time the sampled tasks spent in the queue so far.
+     */
+    public static class ClusterManagerQueueStatus extends MetricStatus {
+        public static final String PENDING = "Pending";
+        public static final String SAMPLED = "Sampled";
+        public static final String ENQUEUED = "Enqueued";
+        public static final String DEQUEUED = "Dequeued";
+        public static final String ELAPSED = "ElapsedMillis";
+        public static final String HEAD_AGE = "HeadAgeMillis";
+        public static final String AGE_P50 = "AgeP50Millis";
+        public static final String AGE_P99 = "AgeP99Millis";
+        public static final String AGE_MAX = "AgeMaxMillis";
+
+        private final int pending;
+        private final int sampled;
+        private final long enqueued;
+        private final long dequeued;
+        private final long elapsedMillis;
+        private final long headAgeMillis;
+        private final long ageP50Millis;
+        private final long ageP99Millis;
+        private final long ageMaxMillis;
+
+        public ClusterManagerQueueStatus(
+                int pending,
+                int sampled,
+                long enqueued,
+                long dequeued,
+                long elapsedMillis,
+                long headAgeMillis,
+                long ageP50Millis,
+                long ageP99Millis,
+                long ageMaxMillis) {
+            this.pending = pending;
+            this.sampled = sampled;
+            this.enqueued = enqueued;
+            this.dequeued = dequeued;
+            this.elapsedMillis = elapsedMillis;
+            this.headAgeMillis = headAgeMillis;
+            this.ageP50Millis = ageP50Millis;
+            this.ageP99Millis = ageP99Millis;
+            this.ageMaxMillis = ageMaxMillis;
+        }
+
+        @JsonProperty(PENDING)
+        public int getPending() {
+            return pending;
+        }
+
+        @JsonProperty(SAMPLED)
+        public int getSampled() {
+            return sampled;
+        }
+
+        @JsonProperty(ENQUEUED)
+        public long getEnqueued() {
+            return enqueued;
+        }
+
+        @JsonProperty(DEQUEUED)
+        public long getDequeued() {
+            return dequeued;
+        }
+
+        @JsonProperty(ELAPSED)
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        @JsonProperty(HEAD_AGE)
+        public long getHeadAgeMillis() {
+            return headAgeMillis;
+        }
+
+        @JsonProperty(AGE_P50)
+        public long getAgeP50Millis() {
+            return ageP50Millis;
+        }
+
+        @JsonProperty(AGE_P99)
+        public long getAgeP99Millis() {
+            return ageP99Millis;
+        }
+
+        @JsonProperty(AGE_MAX)
+        public long getAgeMaxMillis() {
+            return ageMaxMillis;
+        }
+    }
 }
@@ -10,14 +10,12 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.cluster.service.ClusterManagerService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
@@ -27,8 +25,9 @@ import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMet
 import org.opensearch.performanceanalyzer.commons.stats.ServiceMetrics;
 import org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
 
-public class ClusterManagerThrottlingMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class ClusterManagerThrottlingMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
 
     public static final int SAMPLING_TIME_INTERVAL =
@@ -89,10 +88,7 @@ public class ClusterManagerThrottlingMetricsCollector extends PerformanceAnalyze
                                     getRetryingPendingTaskCount(),
                                     getTotalClusterManagerThrottledTaskCount())
                             .serialize());
-        } catch (ClassNotFoundException
-                | NoSuchMethodException
-                | InvocationTargetException
-                | IllegalAccessException e) {
+        } catch (ClassNotFoundException | NoSuchMethodException | InvocationTargetException e) {
             LOG.debug(
                     "[ {} ] Exception raised while getting Cluster Manager throttling metrics: {} ",
                     this::getCollectorName,
@@ -105,33 +101,28 @@ public class ClusterManagerThrottlingMetricsCollector extends PerformanceAnalyze
     }
 
     private boolean isClusterManagerThrottlingFeatureAvailable() {
-        try {
-            Class.forName(CLUSTER_MANAGER_THROTTLING_RETRY_LISTENER_PATH);
-            ClusterManagerService.class.getMethod(THROTTLED_PENDING_TASK_COUNT_METHOD_NAME);
-        } catch (ClassNotFoundException | NoSuchMethodException e) {
-            return false;
-        }
-        return true;
+        return ReflectiveAccessors.isClassPresent(CLUSTER_MANAGER_THROTTLING_RETRY_LISTENER_PATH)
+                && ReflectiveAccessors.isMethodPresent(
+                        ClusterManagerService.class, THROTTLED_PENDING_TASK_COUNT_METHOD_NAME);
     }
 
     private long getTotalClusterManagerThrottledTaskCount()
-            throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        Method method =
-                ClusterManagerService.class.getMethod(THROTTLED_PENDING_TASK_COUNT_METHOD_NAME);
-        return (long)
-                method.invoke(
+            throws NoSuchMethodException, InvocationTargetException {
+        return ReflectiveAccessors.method(
+                        ClusterManagerService.class, THROTTLED_PENDING_TASK_COUNT_METHOD_NAME)
+                .invokeLong(
                         OpenSearchResources.INSTANCE
                                 .getClusterService()
                                 .getClusterManagerService());
     }
 
     private long getRetryingPendingTaskCount()
-            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException,
-                    IllegalAccessException {
-        Method method =
-                Class.forName(CLUSTER_MANAGER_THROTTLING_RETRY_LISTENER_PATH)
-                        .getMethod(RETRYING_TASK_COUNT_METHOD_NAME);
-        return (long) method.invoke(null);
+            throws ClassNotFoundException, NoSuchMethodException, InvocationTargetException {
+        return ReflectiveAccessors.method(
+                        ReflectiveAccessors.findClass(
+                                CLUSTER_MANAGER_THROTTLING_RETRY_LISTENER_PATH),
+                        RETRYING_TASK_COUNT_METHOD_NAME)
+                .invokeLong(null);
     }
 
     @Override
@@ -0,0 +1,271 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+
+/**
+ * Self telemetry of the {@link InstrumentedMetricsCollector}s of the node, by collector class.
+ *
+ * <p>For every collector it keeps a {@link LatencyHistogram} of the run times in microseconds, the
+ * number of runs, of runs that took longer than the sampling interval (overruns) and of runs the
+ * scheduler skipped, and the number and size of the events the collector emitted. A run is counted
+ * as skipped when the time between two runs spans more than one sampling interval, which happens
+ * while the previous run is still in progress or the scheduler is late.
+ *
+ * <p>Collectors run by the {@link IsolatedCollectorScheduler} also report its decisions: their
+ * time budget, the runs over budget, and how many times their interval was backed off or
+ * recovered. Their interval is the current, possibly backed off, one.
+ *
+ * <p>Collectors that visit the shards of the node over several runs report their coverage window,
+ * the time it takes them to visit every shard once.
+ *
+ * <p>The values are cumulative since the node started and are served by the {@code _stats} REST
+ * endpoint of the plugin.
+ */
+public final class CollectorTelemetry {
+    private static final Map<String, Telemetry> COLLECTORS = new ConcurrentHashMap<>();
+
+    private CollectorTelemetry() {}
+
+    static void recordRun(String collector, long startMillis, long tookNanos, long intervalMillis) {
+        Telemetry telemetry = get(collector, intervalMillis);
+        telemetry.intervalMillis = intervalMillis;
+        telemetry.runTimes.record(TimeUnit.NANOSECONDS.toMicros(tookNanos));
+        telemetry.runs.incrementAndGet();
+        if (TimeUnit.NANOSECONDS.toMillis(tookNanos) > intervalMillis) {
+            telemetry.overruns.incrementAndGet();
+        }
+        long lastStartMillis = telemetry.lastStartMillis;
+        if (lastStartMillis > 0 && intervalMillis > 0) {
+            // Runs due in the gap, rounded to the closest interval to absorb scheduling jitter.
+            long missed = (startMillis - lastStartMillis + intervalMillis / 2) / intervalMillis - 1;
+            if (missed > 0) {
+                telemetry.skipped.addAndGet(missed);
+            }
+        }
+        telemetry.lastStartMillis = startMillis;
+    }
+
+    static void recordDecision(
+            String collector,
+            long intervalMillis,
+            long budgetMillis,
+            boolean overBudget,
+            IsolatedCollectorScheduler.Decision decision) {
+        Telemetry telemetry = get(collector, intervalMillis);
+        telemetry.intervalMillis = intervalMillis;
+        telemetry.isolated = true;
+        telemetry.budgetMillis = budgetMillis;
+        if (overBudget) {
+            telemetry.overBudget.incrementAndGet();
+        }
+        if (decision == IsolatedCollectorScheduler.Decision.BACK_OFF) {
+            telemetry.backoffs.incrementAndGet();
+        } else if (decision == IsolatedCollectorScheduler.Decision.RECOVER) {
+            telemetry.recoveries.incrementAndGet();
+        }
+    }
+
+    static void recordCoverageWindow(
+            String collector, long intervalMillis, long coverageWindowMillis) {
+        get(collector, intervalMillis).coverageWindowMillis = coverageWindowMillis;
+    }
+
+    static void recordEmit(String collector, long intervalMillis, int bytes) {
+        Telemetry telemetry = get(collector, intervalMillis);
+        telemetry.events.incrementAndGet();
+        telemetry.bytes.addAndGet(bytes);
+    }
+
+    /** Returns the telemetry of every collector that ran or emitted, ordered by collector name. */
+    public static List<CollectorStats> getStats() {
+        List<CollectorStats> stats = new ArrayList<>(COLLECTORS.size());
+        for (Map.Entry<String, Telemetry> entry : COLLECTORS.entrySet()) {
+            Telemetry telemetry = entry.getValue();
+            stats.add(
+                    new CollectorStats(
+                            entry.getKey(),
+                            telemetry.intervalMillis,
+                            telemetry.runs.get(),
+                            telemetry.overruns.get(),
+                            telemetry.skipped.get(),
+                            telemetry.events.get(),
+                            telemetry.bytes.get(),
+                            telemetry.lastStartMillis,
+                            telemetry.runTimes.snapshot(),
+                            telemetry.isolated,
+                            telemetry.budgetMillis,
+                            telemetry.overBudget.get(),
+                            telemetry.backoffs.get(),
+                            telemetry.recoveries.get(),
+                            telemetry.coverageWindowMillis));
+        }
+        stats.sort(Comparator.comparing(CollectorStats::getName));
+        return stats;
+    }
+
+    @VisibleForTesting
+    static void clear() {
+        COLLECTORS.clear();
+    }
+
+    private static Telemetry get(String collector, long intervalMillis) {
+        Telemetry telemetry = COLLECTORS.get(collector);
+        if (telemetry == null) {
+            telemetry =
+                    COLLECTORS.computeIfAbsent(collector, k -> new Telemetry(intervalMillis));
+        }
+        return telemetry;
+    }
+
+    private static final class Telemetry {
+        private volatile long intervalMillis;
+        private final LatencyHistogram runTimes = new LatencyHistogram();
+        private final AtomicLong runs = new AtomicLong();
+        private final AtomicLong overruns = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong events = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong overBudget = new AtomicLong();
+        private final AtomicLong backoffs = new AtomicLong();
+        private final AtomicLong recoveries = new AtomicLong();
+        private volatile boolean isolated;
+        private volatile long budgetMillis;
+        private volatile long coverageWindowMillis;
+        // Only written by the collector thread, runs of a collector do not overlap.
+        private volatile long lastStartMillis;
+
+        Telemetry(long intervalMillis) {
+            this.intervalMillis = intervalMillis;
+        }
+    }
+
+    /** Telemetry of one collector at the time of {@link #getStats()}, run times are in micros. */
+    public static final class CollectorStats {
+        private final String name;
+        private final long intervalMillis;
+        private final long runs;
+        private final long overruns;
+        private final long skipped;
+        private final long events;
+        private final long bytes;
+        private final long lastRunTime;
+        private final LatencyHistogram.Snapshot runTimes;
+        private final boolean isolated;
+        private final long budgetMillis;
+        private final long overBudget;
+        private final long backoffs;
+        private final long recoveries;
+        private final long coverageWindowMillis;
+
+        CollectorStats(
+                String name,
+                long intervalMillis,
+                long runs,
+                long overruns,
+                long skipped,
+                long events,
+                long bytes,
+                long lastRunTime,
+                LatencyHistogram.Snapshot runTimes,
+                boolean isolated,
+                long budgetMillis,
+                long overBudget,
+                long backoffs,
+                long recoveries,
+                long coverageWindowMillis) {
+            this.name = name;
+            this.intervalMillis = intervalMillis;
+            this.runs = runs;
+            this.overruns = overruns;
+            this.skipped = skipped;
+            this.events = events;
+            this.bytes = bytes;
+            this.lastRunTime = lastRunTime;
+            this.runTimes = runTimes;
+            this.isolated = isolated;
+            this.budgetMillis = budgetMillis;
+            this.overBudget = overBudget;
+            this.backoffs = backoffs;
+            this.recoveries = recoveries;
+            this.coverageWindowMillis = coverageWindowMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        public long getRuns() {
+            return runs;
+        }
+
+        public long getOverruns() {
+            return overruns;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+
+        public long getEvents() {
+            return events;
+        }
+
+        /** Characters of the emitted event values, which are ASCII. */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /** Start time of the last run, in epoch milliseconds, or 0 if none. */
+        public long getLastRunTime() {
+            return lastRunTime;
+        }
+
+        public LatencyHistogram.Snapshot getRunTimes() {
+            return runTimes;
+        }
+
+        /** Whether the collector runs on a worker of the {@link IsolatedCollectorScheduler}. */
+        public boolean isIsolated() {
+            return isolated;
+        }
+
+        /** Time budget of a run of an isolated collector, 0 otherwise. */
+        public long getBudgetMillis() {
+            return budgetMillis;
+        }
+
+        public long getOverBudget() {
+            return overBudget;
+        }
+
+        public long getBackoffs() {
+            return backoffs;
+        }
+
+        public long getRecoveries() {
+            return recoveries;
+        }
+
+        /** Time the collector takes to visit every shard once, 0 if it does not report one. */
+        public long getCoverageWindowMillis() {
+            return coverageWindowMillis;
+        }
+    }
+}
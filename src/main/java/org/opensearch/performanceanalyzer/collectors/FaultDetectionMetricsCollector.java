@@ -11,14 +11,12 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jooq.tools.StringUtils;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
@@ -26,8 +24,10 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors.FieldAccessor;
 
-public class FaultDetectionMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class FaultDetectionMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(FaultDetectionMetricsCollector.class)
@@ -64,7 +64,7 @@ public class FaultDetectionMetricsCollector extends PerformanceAnalyzerMetricsCo
 
         Class<?> faultDetectionHandler;
         try {
-            faultDetectionHandler = Class.forName(FAULT_DETECTION_HANDLER_NAME);
+            faultDetectionHandler = ReflectiveAccessors.findClass(FAULT_DETECTION_HANDLER_NAME);
         } catch (ClassNotFoundException e) {
             LOG.debug(
                     "[ {} ] No Handler Detected for Fault Detection. Skipping!",
@@ -87,7 +87,7 @@ public class FaultDetectionMetricsCollector extends PerformanceAnalyzerMetricsCo
                 faultDetectionContextsList.add(
                         mapper.readValue(metric, ClusterFaultDetectionContext.class));
             }
-        } catch (IllegalAccessException | NoSuchFieldException | JsonProcessingException e) {
+        } catch (NoSuchFieldException | JsonProcessingException e) {
             LOG.debug(
                     "[ {} ] Exception in getting fields for Fault Detection Metrics: {}",
                     this::getCollectorName,
@@ -139,12 +139,10 @@ public class FaultDetectionMetricsCollector extends PerformanceAnalyzerMetricsCo
         }
     }
 
-    Field getFaultDetectionHandlerMetricsQueue(Class<?> faultDetectionHandler)
+    FieldAccessor getFaultDetectionHandlerMetricsQueue(Class<?> faultDetectionHandler)
             throws NoSuchFieldException {
-        Field metricsQueue =
-                faultDetectionHandler.getDeclaredField(FAULT_DETECTION_HANDLER_METRIC_QUEUE);
-        metricsQueue.setAccessible(true);
-        return metricsQueue;
+        return ReflectiveAccessors.field(
+                faultDetectionHandler, FAULT_DETECTION_HANDLER_METRIC_QUEUE);
     }
 
     /**
@@ -0,0 +1,72 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
+import org.opensearch.performanceanalyzer.commons.stats.metrics.StatExceptionCode;
+import org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetrics;
+
+/**
+ * Base class of the collectors of this plugin, which reports their runs and emitted events to
+ * {@link CollectorTelemetry} under the simple name of the collector class.
+ *
+ * <p>Collectors configured as isolated are run by the {@link IsolatedCollectorScheduler} through
+ * {@link #run(long)} instead of by the shared collector executor.
+ */
+public abstract class InstrumentedMetricsCollector extends PerformanceAnalyzerMetricsCollector
+        implements MetricsProcessor {
+    private final String telemetryName = getClass().getSimpleName();
+    private final int samplingIntervalMillis;
+
+    protected InstrumentedMetricsCollector(
+            int timeInterval,
+            String collectorName,
+            StatMetrics executionTimeMetric,
+            StatExceptionCode errorCode) {
+        super(timeInterval, collectorName, executionTimeMetric, errorCode);
+        this.samplingIntervalMillis = timeInterval;
+    }
+
+    String getTelemetryName() {
+        return telemetryName;
+    }
+
+    int getSamplingIntervalMillis() {
+        return samplingIntervalMillis;
+    }
+
+    @Override
+    public void run() {
+        run(samplingIntervalMillis);
+    }
+
+    /**
+     * Runs the collector on the calling thread through the run of the base class, which clears
+     * the in progress flag and records the execution time, and reports the run to {@link
+     * CollectorTelemetry} as one of a collector running every {@code intervalMillis}.
+     *
+     * @return how long the run took in nanoseconds
+     */
+    long run(long intervalMillis) {
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        long tookNanos;
+        try {
+            super.run();
+        } finally {
+            tookNanos = System.nanoTime() - startNanos;
+            CollectorTelemetry.recordRun(telemetryName, startMillis, tookNanos, intervalMillis);
+        }
+        return tookNanos;
+    }
+
+    @Override
+    public void saveMetricValues(String value, long startTime, String... keysPath) {
+        CollectorTelemetry.recordEmit(telemetryName, samplingIntervalMillis, value.length());
+        MetricsProcessor.super.saveMetricValues(value, startTime, keysPath);
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+
+/**
+ * Runs the heavy collectors named by the {@link #ISOLATED_COLLECTORS_SETTING} setting, each on a
+ * worker thread of its own, so that a slow run delays neither the cheap OS and JVM collectors of
+ * the shared collector executor nor the other heavy collectors.
+ *
+ * <p>Runs are aligned on the sampling interval and start a quarter of an interval after the
+ * boundary, once the collectors of the shared executor had their turn. A run that is still in
+ * progress when its next slot comes skips that slot. Like the shared executor, the scheduler sets
+ * the start time of the collector and calls its run, so a collector that is still in progress
+ * elsewhere is skipped and the execution time of the run is recorded.
+ *
+ * <p>Each run has a time budget, a percentage of the sampling interval. A collector that is over
+ * budget for {@link #BACK_OFF_AFTER} consecutive runs is backed off: its interval is doubled, up
+ * to {@link #MAX_MULTIPLIER} times the sampling interval. A backed off collector that is within
+ * budget for {@link #RECOVER_AFTER} consecutive runs has its interval halved again. The budget,
+ * the current interval and the decisions are reported to {@link CollectorTelemetry}.
+ */
+public class IsolatedCollectorScheduler {
+    private static final Logger LOG = LogManager.getLogger(IsolatedCollectorScheduler.class);
+    public static final String ISOLATED_COLLECTORS_SETTING = "isolated-collectors";
+    public static final String BUDGET_PERCENT_SETTING = "isolated-collector-budget-percent";
+    static final int DEFAULT_BUDGET_PERCENT = 50;
+    static final int BACK_OFF_AFTER = 3;
+    static final int RECOVER_AFTER = 10;
+    static final int MAX_MULTIPLIER = 8;
+    private static final String WORKER_THREAD_NAME = "pa-isolated-collector-";
+
+    enum Decision {
+        NONE,
+        BACK_OFF,
+        RECOVER
+    }
+
+    private final BooleanSupplier enabled;
+    private final Set<String> isolatedCollectors;
+    private final int budgetPercent;
+    private final List<CollectorSchedule> schedules = new ArrayList<>();
+    private final List<ScheduledExecutorService> workers = new ArrayList<>();
+
+    public IsolatedCollectorScheduler(BooleanSupplier enabled) {
+        this(enabled, readIsolatedCollectorsSetting(), readBudgetPercentSetting());
+    }
+
+    @VisibleForTesting
+    IsolatedCollectorScheduler(
+            BooleanSupplier enabled, Set<String> isolatedCollectors, int budgetPercent) {
+        this.enabled = enabled;
+        this.isolatedCollectors = isolatedCollectors;
+        this.budgetPercent = budgetPercent;
+    }
+
+    /** Whether the collector is configured to run on a worker of its own. */
+    public boolean isIsolated(InstrumentedMetricsCollector collector) {
+        return isolatedCollectors.contains(collector.getTelemetryName());
+    }
+
+    public void addCollector(InstrumentedMetricsCollector collector) {
+        schedules.add(
+                new CollectorSchedule(
+                        collector, collector.getSamplingIntervalMillis(), budgetPercent));
+    }
+
+    /** Starts a worker per added collector. */
+    public void start() {
+        for (CollectorSchedule schedule : schedules) {
+            ScheduledExecutorService worker =
+                    Executors.newSingleThreadScheduledExecutor(
+                            runnable -> {
+                                Thread thread =
+                                        new Thread(
+                                                runnable,
+                                                WORKER_THREAD_NAME
+                                                        + schedule.collector.getTelemetryName());
+                                thread.setDaemon(true);
+                                return thread;
+                            });
+            workers.add(worker);
+            scheduleNext(schedule, worker);
+            LOG.info(
+                    "Running {} on its own worker with a budget of {}ms",
+                    schedule.collector.getTelemetryName(),
+                    schedule.getBudgetMillis());
+        }
+    }
+
+    /** Stops the workers, interrupting the runs in progress. */
+    public void stop() {
+        for (ScheduledExecutorService worker : workers) {
+            worker.shutdownNow();
+        }
+    }
+
+    @VisibleForTesting
+    List<ScheduledExecutorService> getWorkers() {
+        return workers;
+    }
+
+    private void scheduleNext(CollectorSchedule schedule, ScheduledExecutorService worker) {
+        if (worker.isShutdown()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        worker.schedule(
+                () -> run(schedule, worker),
+                schedule.nextRunMillis(now) - now,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void run(CollectorSchedule schedule, ScheduledExecutorService worker) {
+        try {
+            if (enabled.getAsBoolean()) {
+                runOnce(schedule, System.currentTimeMillis());
+            }
+        } catch (Exception ex) {
+            LOG.debug("Unable to run isolated collector: {}", ex.toString());
+        } finally {
+            scheduleNext(schedule, worker);
+        }
+    }
+
+    @VisibleForTesting
+    static Decision runOnce(CollectorSchedule schedule, long startMillis) {
+        String name = schedule.collector.getTelemetryName();
+        if (schedule.collector.inProgress()) {
+            LOG.debug("{} is still in progress, skipping its run", name);
+            return Decision.NONE;
+        }
+        schedule.collector.setStartTime(startMillis);
+        long tookNanos = schedule.collector.run(schedule.getIntervalMillis());
+        long tookMillis = TimeUnit.NANOSECONDS.toMillis(tookNanos);
+        boolean overBudget = schedule.isOverBudget(tookMillis);
+        Decision decision = schedule.onRun(tookMillis);
+        if (decision == Decision.BACK_OFF) {
+            LOG.info(
+                    "{} was over its {}ms budget for {} runs, running it every {}ms",
+                    name,
+                    schedule.getBudgetMillis(),
+                    BACK_OFF_AFTER,
+                    schedule.getIntervalMillis());
+        } else if (decision == Decision.RECOVER) {
+            LOG.info(
+                    "{} is within its budget, running it every {}ms",
+                    name,
+                    schedule.getIntervalMillis());
+        }
+        CollectorTelemetry.recordDecision(
+                name,
+                schedule.getIntervalMillis(),
+                schedule.getBudgetMillis(),
+                overBudget,
+                decision);
+        return decision;
+    }
+
+    private static Set<String> readIsolatedCollectorsSetting() {
+        try {
+            String value =
+                    PluginSettings.instance().getSettingValue(ISOLATED_COLLECTORS_SETTING, "");
+            return Arrays.stream(value.split(","))
+                    .map(String::trim)
+                    .filter(name -> !name.isEmpty())
+                    .collect(Collectors.toSet());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, no collector is isolated", ISOLATED_COLLECTORS_SETTING);
+            return Collections.emptySet();
+        }
+    }
+
+    private static int readBudgetPercentSetting() {
+        try {
+            return Integer.parseInt(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    BUDGET_PERCENT_SETTING, String.valueOf(DEFAULT_BUDGET_PERCENT))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, using {}%", BUDGET_PERCENT_SETTING, DEFAULT_BUDGET_PERCENT);
+            return DEFAULT_BUDGET_PERCENT;
+        }
+    }
+
+    /** Budget and back-off state of one collector, only used by its worker thread. */
+    static final class CollectorSchedule {
+        private final InstrumentedMetricsCollector collector;
+        private final long samplingIntervalMillis;
+        private final long budgetMillis;
+        private int multiplier = 1;
+        private int overBudgetRuns;
+        private int withinBudgetRuns;
+
+        CollectorSchedule(
+                InstrumentedMetricsCollector collector,
+                long samplingIntervalMillis,
+                int budgetPercent) {
+            this.collector = collector;
+            this.samplingIntervalMillis = samplingIntervalMillis;
+            this.budgetMillis = samplingIntervalMillis * budgetPercent / 100;
+        }
+
+        long getIntervalMillis() {
+            return samplingIntervalMillis * multiplier;
+        }
+
+        long getBudgetMillis() {
+            return budgetMillis;
+        }
+
+        boolean isOverBudget(long tookMillis) {
+            return tookMillis > budgetMillis;
+        }
+
+        /** Accounts for a run and returns whether the interval was backed off or recovered. */
+        Decision onRun(long tookMillis) {
+            if (isOverBudget(tookMillis)) {
+                withinBudgetRuns = 0;
+                if (++overBudgetRuns >= BACK_OFF_AFTER && multiplier < MAX_MULTIPLIER) {
+                    overBudgetRuns = 0;
+                    multiplier *= 2;
+                    return Decision.BACK_OFF;
+                }
+            } else {
+                overBudgetRuns = 0;
+                if (++withinBudgetRuns >= RECOVER_AFTER && multiplier > 1) {
+                    withinBudgetRuns = 0;
+                    multiplier /= 2;
+                    return Decision.RECOVER;
+                }
+            }
+            return Decision.NONE;
+        }
+
+        /**
+         * Returns the start of the first slot after now, slots are aligned on the current interval
+         * and offset by a quarter of the sampling interval.
+         */
+        long nextRunMillis(long nowMillis) {
+            long intervalMillis = getIntervalMillis();
+            long phaseMillis = samplingIntervalMillis / 4;
+            return ((nowMillis - phaseMillis) / intervalMillis + 1) * intervalMillis + phaseMillis;
+        }
+    }
+}
@@ -18,8 +18,8 @@ import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesHelper;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.NodeDetailColumns;
@@ -28,21 +28,54 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 
-public class NodeDetailsCollector extends PerformanceAnalyzerMetricsCollector
-        implements MetricsProcessor {
+/**
+ * Emits the config overrides and the nodes of the cluster, as seen by the local node.
+ *
+ * <p>In the change driven mode, a full snapshot is only emitted when the nodes of the cluster or
+ * the config overrides changed, or when the last full snapshot is older than {@link
+ * #FULL_SNAPSHOT_SETTING}. Other runs emit a heartbeat record holding the start time of the last
+ * full snapshot under {@link #HEARTBEAT_PATH}, so that the node details file always holds a full
+ * snapshot, with the config overrides on its second line and the nodes after them. A reader that
+ * does not know the heartbeat finds no node details in the intervals between full snapshots, and
+ * has to keep the last full snapshot as current, as it does when a run of the collector is missed.
+ */
+public class NodeDetailsCollector extends InstrumentedMetricsCollector implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(NodeDetailsCollector.class).samplingInterval;
     private static final Logger LOG = LogManager.getLogger(NodeDetailsCollector.class);
     private static final int KEYS_PATH_LENGTH = 0;
+    static final String CHANGE_DRIVEN_SETTING = "node-details-change-driven";
+    static final String FULL_SNAPSHOT_SETTING = "node-details-full-snapshot-millis";
+    static final long DEFAULT_FULL_SNAPSHOT_MILLIS = 60_000;
+    public static final String LAST_SNAPSHOT_TIME = "LastSnapshotTime";
+    public static final String HEARTBEAT_PATH =
+            PerformanceAnalyzerMetrics.sNodesPath + "_heartbeat";
     private final ConfigOverridesWrapper configOverridesWrapper;
+    private final boolean changeDriven;
+    private final long fullSnapshotMillis;
+    private final StringBuilder value = new StringBuilder();
+    // Nodes and overrides timestamp of the last full snapshot. The nodes of the cluster state are
+    // the same instance until they change.
+    private DiscoveryNodes lastNodes;
+    private long lastOverridesTimestamp;
+    private long lastSnapshotTime;
 
     public NodeDetailsCollector(final ConfigOverridesWrapper configOverridesWrapper) {
+        this(configOverridesWrapper, readChangeDrivenSetting(), readFullSnapshotSetting());
+    }
+
+    NodeDetailsCollector(
+            final ConfigOverridesWrapper configOverridesWrapper,
+            boolean changeDriven,
+            long fullSnapshotMillis) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "NodeDetails",
                 NODE_DETAILS_COLLECTOR_EXECUTION_TIME,
                 NODESTATS_COLLECTION_ERROR);
         this.configOverridesWrapper = configOverridesWrapper;
+        this.changeDriven = changeDriven;
+        this.fullSnapshotMillis = fullSnapshotMillis;
     }
 
     @Override
@@ -53,12 +86,30 @@ public class NodeDetailsCollector extends PerformanceAnalyzerMetricsCollector
             return;
         }
 
-        long mCurrT = System.currentTimeMillis();
-
-        StringBuilder value = new StringBuilder();
+        DiscoveryNodes discoveryNodes =
+                OpenSearchResources.INSTANCE.getClusterService().state().nodes();
+        long overridesTimestamp =
+                configOverridesWrapper != null
+                        ? configOverridesWrapper.getLastUpdatedTimestamp()
+                        : 0L;
+        value.setLength(0);
         value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
 
+        if (changeDriven
+                && discoveryNodes == lastNodes
+                && overridesTimestamp == lastOverridesTimestamp
+                && startTime - lastSnapshotTime < fullSnapshotMillis) {
+            value.append("{\"")
+                    .append(LAST_SNAPSHOT_TIME)
+                    .append("\":")
+                    .append(lastSnapshotTime)
+                    .append('}')
+                    .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
+            saveMetricValues(value.toString(), startTime, HEARTBEAT_PATH);
+            return;
+        }
+
         // We add the config overrides in line#2 because we don't know how many lines
         // follow that belong to actual node details, and the reader also has no way to
         // know this information in advance unless we add the number of nodes as
@@ -79,16 +130,9 @@ public class NodeDetailsCollector extends PerformanceAnalyzerMetricsCollector
         value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
 
         // line#3 denotes when the timestamp when the config override happened.
-        if (configOverridesWrapper != null) {
-            value.append(configOverridesWrapper.getLastUpdatedTimestamp());
-        } else {
-            value.append(0L);
-        }
+        value.append(overridesTimestamp);
         value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
 
-        DiscoveryNodes discoveryNodes =
-                OpenSearchResources.INSTANCE.getClusterService().state().nodes();
-
         DiscoveryNode clusterManagerNode = discoveryNodes.getClusterManagerNode();
 
         Iterator<DiscoveryNode> discoveryNodeIterator = discoveryNodes.iterator();
@@ -100,6 +144,9 @@ public class NodeDetailsCollector extends PerformanceAnalyzerMetricsCollector
                     discoveryNodeIterator.next(), value, localNodeID, clusterManagerNode);
         }
         saveMetricValues(value.toString(), startTime);
+        lastNodes = discoveryNodes;
+        lastOverridesTimestamp = overridesTimestamp;
+        lastSnapshotTime = startTime;
     }
 
     private void addMetricsToStringBuilder(
@@ -128,8 +175,40 @@ public class NodeDetailsCollector extends PerformanceAnalyzerMetricsCollector
         return role.toString();
     }
 
+    private static boolean readChangeDrivenSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance()
+                            .getSettingValue(CHANGE_DRIVEN_SETTING, "false")
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, change driven collection disabled", CHANGE_DRIVEN_SETTING);
+            return false;
+        }
+    }
+
+    private static long readFullSnapshotSetting() {
+        try {
+            return Long.parseLong(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    FULL_SNAPSHOT_SETTING,
+                                    String.valueOf(DEFAULT_FULL_SNAPSHOT_MILLIS))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, using {}ms",
+                    FULL_SNAPSHOT_SETTING,
+                    DEFAULT_FULL_SNAPSHOT_MILLIS);
+            return DEFAULT_FULL_SNAPSHOT_MILLIS;
+        }
+    }
+
     @Override
     public String getMetricsPath(long startTime, String... keysPath) {
+        if (keysPath.length == 1 && HEARTBEAT_PATH.equals(keysPath[0])) {
+            return PerformanceAnalyzerMetrics.generatePath(startTime, HEARTBEAT_PATH);
+        }
         // throw exception if keys.length is not equal to 0
         if (keysPath.length != KEYS_PATH_LENGTH) {
             throw new RuntimeException("keys length should be " + KEYS_PATH_LENGTH);
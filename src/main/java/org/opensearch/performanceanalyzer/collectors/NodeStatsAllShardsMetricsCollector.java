@@ -10,10 +10,15 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
@@ -25,7 +30,7 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardStatsValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
@@ -39,16 +44,18 @@ import org.opensearch.performanceanalyzer.util.Utils;
  */
 
 /**
- * currentShards: Contains the Mapping of the Shard ID to the Shard for the shards currently present
- * on the cluster in this run of the collector. currentPerShardStats: Contains the mapping of the
- * Shard Stats and the shards present in this run of the collector. prevPerShardStats: Contains the
- * mapping of the Shard Stats and the shards present in the previous run of the collector. The diff
- * is calculated between (currentPerShardStats and prevPerShardStats) for each shard in the
- * currentShards and for shards not present in the prevPerShardStat absolute value of the
- * currentPerShardStats is updated.
+ * counterTable: Contains the counters of every shard present in the previous run of the collector.
+ * The diff is calculated between the current stats of each shard present on the node and its
+ * counters in the table, and for shards not present in the table the absolute value is emitted.
+ * Shards no longer present on the node are evicted from the table at the end of each run.
+ *
+ * <p>With the {@code node-stats-all-shards-incremental} plugin setting, the collector instead
+ * visits the shards in slices bounded by {@code node-stats-all-shards-slice-budget-millis} per
+ * run, resuming where the previous run stopped. A shard's delta then covers the time since its
+ * previous visit.
  */
 @SuppressWarnings("unchecked")
-public class NodeStatsAllShardsMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class NodeStatsAllShardsMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(NodeStatsAllShardsMetricsCollector.class)
@@ -56,30 +63,56 @@ public class NodeStatsAllShardsMetricsCollector extends PerformanceAnalyzerMetri
     private static final int KEYS_PATH_LENGTH = 2;
     private static final Logger LOG =
             LogManager.getLogger(NodeStatsAllShardsMetricsCollector.class);
-    private HashMap<ShardId, IndexShard> currentShards;
-    private HashMap<ShardId, ShardStats> currentPerShardStats;
-    private HashMap<ShardId, ShardStats> prevPerShardStats;
     private final PerformanceAnalyzerController controller;
 
+    static final String INCREMENTAL_SETTING = "node-stats-all-shards-incremental";
+    static final String SLICE_BUDGET_SETTING = "node-stats-all-shards-slice-budget-millis";
+    static final long DEFAULT_SLICE_BUDGET_MILLIS = 50;
+
+    // Order of the counters in the ShardCounterTable, as passed to the
+    // NodeStatsMetricsAllShardsPerCollectionStatus constructor.
+    private static final ShardStatsValue[] COUNTERS = {
+        ShardStatsValue.CACHE_QUERY_HIT,
+        ShardStatsValue.CACHE_QUERY_MISS,
+        ShardStatsValue.CACHE_QUERY_SIZE,
+        ShardStatsValue.CACHE_FIELDDATA_EVICTION,
+        ShardStatsValue.CACHE_FIELDDATA_SIZE,
+        ShardStatsValue.CACHE_REQUEST_HIT,
+        ShardStatsValue.CACHE_REQUEST_MISS,
+        ShardStatsValue.CACHE_REQUEST_EVICTION,
+        ShardStatsValue.CACHE_REQUEST_SIZE
+    };
+    // Sizes are reported as is, the other counters as a delta.
+    private static final boolean[] IS_SIZE = {
+        false, false, true, false, true, false, false, false, true
+    };
+
+    private final boolean incremental;
+    private final long sliceBudgetNanos;
+    private final ShardCounterTable counterTable = new ShardCounterTable(COUNTERS.length);
+    private final long[] shardCounters = new long[COUNTERS.length];
+    private final long[] shardDeltas = new long[COUNTERS.length];
+    // Shards of the current incremental pass and the next one to visit.
+    private List<IndexShard> pendingShards = Collections.emptyList();
+    private int nextShard;
+
     public NodeStatsAllShardsMetricsCollector(final PerformanceAnalyzerController controller) {
+        this(controller, readIncrementalSetting(), readSliceBudgetSetting());
+    }
+
+    @VisibleForTesting
+    NodeStatsAllShardsMetricsCollector(
+            final PerformanceAnalyzerController controller,
+            boolean incremental,
+            long sliceBudgetMillis) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "NodeStatsMetrics",
                 NODE_STATS_ALL_SHARDS_METRICS_COLLECTOR_EXECUTION_TIME,
                 NODESTATS_COLLECTION_ERROR);
-        currentShards = new HashMap<>();
-        prevPerShardStats = new HashMap<>();
-        currentPerShardStats = new HashMap<>();
         this.controller = controller;
-    }
-
-    private void populateCurrentShards() {
-        if (!currentShards.isEmpty()) {
-            prevPerShardStats.putAll(currentPerShardStats);
-            currentPerShardStats.clear();
-        }
-        currentShards.clear();
-        currentShards = Utils.getShards();
+        this.incremental = incremental;
+        this.sliceBudgetNanos = TimeUnit.MILLISECONDS.toNanos(sliceBudgetMillis);
     }
 
     private static final Map<String, ValueCalculator> maps =
@@ -151,101 +184,140 @@ public class NodeStatsAllShardsMetricsCollector extends PerformanceAnalyzerMetri
         if (indicesService == null) {
             return;
         }
-        populateCurrentShards();
-        populatePerShardStats(indicesService);
-
-        for (HashMap.Entry currentShard : currentPerShardStats.entrySet()) {
-            ShardId shardId = (ShardId) currentShard.getKey();
-            ShardStats currentShardStats = (ShardStats) currentShard.getValue();
-            if (prevPerShardStats.size() == 0) {
-                // Populating value for the first run.
-                populateMetricValue(
-                        currentShardStats, startTime, shardId.getIndexName(), shardId.id());
-                continue;
-            }
-            ShardStats prevShardStats = prevPerShardStats.get(shardId);
-            if (prevShardStats == null) {
-                // Populate value for shards which are new and were not present in the previous
-                // run.
-                populateMetricValue(
-                        currentShardStats, startTime, shardId.getIndexName(), shardId.id());
-                continue;
-            }
-            NodeStatsMetricsAllShardsPerCollectionStatus prevValue =
-                    new NodeStatsMetricsAllShardsPerCollectionStatus(prevShardStats);
-            NodeStatsMetricsAllShardsPerCollectionStatus currValue =
-                    new NodeStatsMetricsAllShardsPerCollectionStatus(currentShardStats);
-            populateDiffMetricValue(
-                    prevValue, currValue, startTime, shardId.getIndexName(), shardId.id());
+        if (incremental) {
+            collectSlice(indicesService, startTime);
+            return;
+        }
+        counterTable.startGeneration();
+        CommonStatsFlags flags = newStatsFlags();
+        for (IndexShard indexShard : Utils.getShards().values()) {
+            collectShard(indicesService, indexShard, flags, startTime);
         }
+        // Shards that were closed or relocated away since the previous run.
+        counterTable.evictUnseen();
     }
 
-    // - Separated to have a unit test; and catch any code changes around this field
-    Field getNodeIndicesStatsByShardField() throws Exception {
-        Field field = NodeIndicesStats.class.getDeclaredField("statsByShard");
-        field.setAccessible(true);
-        return field;
+    /**
+     * Visits the shards of the current pass until the slice budget is spent, starting a new pass
+     * once every shard was visited. At least one shard is visited per run.
+     */
+    private void collectSlice(IndicesService indicesService, long startTime) {
+        if (nextShard >= pendingShards.size()) {
+            // Shards that were not visited during the previous pass are gone.
+            counterTable.evictUnseen();
+            counterTable.startGeneration();
+            pendingShards = new ArrayList<>(Utils.getShards().values());
+            nextShard = 0;
+        }
+        CommonStatsFlags flags = newStatsFlags();
+        long sliceStart = System.nanoTime();
+        while (nextShard < pendingShards.size()) {
+            IndexShard indexShard = pendingShards.get(nextShard);
+            // Drop the reference so that a closed shard can be collected before the pass ends.
+            pendingShards.set(nextShard++, null);
+            try {
+                collectShard(indicesService, indexShard, flags, startTime);
+            } catch (Exception ex) {
+                // The shard may have been closed or relocated since the pass started.
+                LOG.debug("Unable to collect stats of shard {}", indexShard.shardId(), ex);
+            }
+            if (System.nanoTime() - sliceStart >= sliceBudgetNanos) {
+                break;
+            }
+        }
     }
 
-    public void populatePerShardStats(IndicesService indicesService) {
-        // Populate the shard stats per shard.
-        for (HashMap.Entry currentShard : currentShards.entrySet()) {
-            IndexShard currentIndexShard = (IndexShard) currentShard.getValue();
-            IndexShardStats currentIndexShardStats =
-                    Utils.indexShardStats(
-                            indicesService,
-                            currentIndexShard,
-                            new CommonStatsFlags(
-                                    CommonStatsFlags.Flag.QueryCache,
-                                    CommonStatsFlags.Flag.FieldData,
-                                    CommonStatsFlags.Flag.RequestCache));
-            for (ShardStats shardStats : currentIndexShardStats.getShards()) {
-                currentPerShardStats.put(currentIndexShardStats.getShardId(), shardStats);
+    private void collectShard(
+            IndicesService indicesService,
+            IndexShard indexShard,
+            CommonStatsFlags flags,
+            long startTime) {
+        IndexShardStats indexShardStats = Utils.indexShardStats(indicesService, indexShard, flags);
+        if (indexShardStats == null) {
+            return;
+        }
+        ShardId shardId = indexShardStats.getShardId();
+        for (ShardStats shardStats : indexShardStats.getShards()) {
+            for (int i = 0; i < COUNTERS.length; i++) {
+                shardCounters[i] =
+                        valueCalculators.get(COUNTERS[i].toString()).calculateValue(shardStats);
             }
+            int ordinal = counterTable.ordinalOf(shardId);
+            if (ordinal < 0) {
+                // First visit, the absolute values are emitted.
+                populateCounterValue(shardCounters, startTime, shardId);
+                ordinal = counterTable.add(shardId);
+            } else {
+                for (int i = 0; i < COUNTERS.length; i++) {
+                    shardDeltas[i] =
+                            IS_SIZE[i]
+                                    ? shardCounters[i]
+                                    : Math.max(shardCounters[i] - counterTable.get(ordinal, i), 0);
+                }
+                populateCounterValue(shardDeltas, startTime, shardId);
+            }
+            counterTable.set(ordinal, shardCounters);
         }
     }
 
-    public void populateMetricValue(
-            ShardStats shardStats, long startTime, String IndexName, int ShardId) {
-        StringBuilder value = new StringBuilder();
-        value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds());
-        // Populate the result with cache specific metrics only.
-        value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                .append(new NodeStatsMetricsAllShardsPerCollectionStatus(shardStats).serialize());
-        saveMetricValues(value.toString(), startTime, IndexName, String.valueOf(ShardId));
+    private static CommonStatsFlags newStatsFlags() {
+        return new CommonStatsFlags(
+                CommonStatsFlags.Flag.QueryCache,
+                CommonStatsFlags.Flag.FieldData,
+                CommonStatsFlags.Flag.RequestCache);
     }
 
-    public void populateDiffMetricValue(
-            NodeStatsMetricsAllShardsPerCollectionStatus prevValue,
-            NodeStatsMetricsAllShardsPerCollectionStatus currValue,
-            long startTime,
-            String IndexName,
-            int ShardId) {
-        StringBuilder value = new StringBuilder();
-
+    private void populateCounterValue(long[] counters, long startTime, ShardId shardId) {
         NodeStatsMetricsAllShardsPerCollectionStatus nodeStatsMetrics =
                 new NodeStatsMetricsAllShardsPerCollectionStatus(
-                        Math.max((currValue.queryCacheHitCount - prevValue.queryCacheHitCount), 0),
-                        Math.max(
-                                (currValue.queryCacheMissCount - prevValue.queryCacheMissCount), 0),
-                        currValue.queryCacheInBytes,
-                        Math.max((currValue.fieldDataEvictions - prevValue.fieldDataEvictions), 0),
-                        currValue.fieldDataInBytes,
-                        Math.max(
-                                (currValue.requestCacheHitCount - prevValue.requestCacheHitCount),
-                                0),
-                        Math.max(
-                                (currValue.requestCacheMissCount - prevValue.requestCacheMissCount),
-                                0),
-                        Math.max(
-                                (currValue.requestCacheEvictions - prevValue.requestCacheEvictions),
-                                0),
-                        currValue.requestCacheInBytes);
-
-        value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
-                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                .append(nodeStatsMetrics.serialize());
-        saveMetricValues(value.toString(), startTime, IndexName, String.valueOf(ShardId));
+                        counters[0],
+                        counters[1],
+                        counters[2],
+                        counters[3],
+                        counters[4],
+                        counters[5],
+                        counters[6],
+                        counters[7],
+                        counters[8]);
+        String value =
+                PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds()
+                        + PerformanceAnalyzerMetrics.sMetricNewLineDelimitor
+                        + nodeStatsMetrics.serialize();
+        saveMetricValues(value, startTime, shardId.getIndexName(), String.valueOf(shardId.id()));
+    }
+
+    private static boolean readIncrementalSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance().getSettingValue(INCREMENTAL_SETTING, "false").trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, incremental collection disabled", INCREMENTAL_SETTING);
+            return false;
+        }
+    }
+
+    private static long readSliceBudgetSetting() {
+        try {
+            return Long.parseLong(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    SLICE_BUDGET_SETTING,
+                                    String.valueOf(DEFAULT_SLICE_BUDGET_MILLIS))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, using {}ms",
+                    SLICE_BUDGET_SETTING,
+                    DEFAULT_SLICE_BUDGET_MILLIS);
+            return DEFAULT_SLICE_BUDGET_MILLIS;
+        }
+    }
+
+    // - Separated to have a unit test; and catch any code changes around this field
+    Field getNodeIndicesStatsByShardField() throws Exception {
+        Field field = NodeIndicesStats.class.getDeclaredField("statsByShard");
+        field.setAccessible(true);
+        return field;
     }
 
     public static class NodeStatsMetricsAllShardsPerCollectionStatus extends MetricStatus {
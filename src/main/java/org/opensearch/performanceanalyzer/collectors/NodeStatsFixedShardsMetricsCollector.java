@@ -10,6 +10,7 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
 import java.lang.reflect.Field;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -25,7 +26,6 @@ import org.opensearch.indices.IndicesService;
 import org.opensearch.indices.NodeIndicesStats;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardStatsValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
@@ -41,9 +41,17 @@ import org.opensearch.performanceanalyzer.util.Utils;
  * metrics are heavy which have performance impacts on the performance of the node. The number of
  * shards is set via a cluster settings api. The parameter to set is shardsPerCollection. The
  * metrics will be populated for these many shards in a single run.
+ *
+ * <p>A shardsPerCollection of 0 disables the collector. When the {@code
+ * node-stats-fixed-shards-adaptive} plugin setting is enabled, the number of shards per run is
+ * sized by an {@link AdaptiveShardBudget} from the measured cost of a shard, so that every shard is
+ * visited within the coverage window while staying within the CPU budget of a run when possible,
+ * and shardsPerCollection is the upper bound of that number. A shardsPerCollection below the number
+ * of shards the coverage window needs is logged once, and the resulting coverage window is reported
+ * in the collector telemetry.
  */
 @SuppressWarnings("unchecked")
-public class NodeStatsFixedShardsMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class NodeStatsFixedShardsMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(NodeStatsAllShardsMetricsCollector.class)
@@ -54,8 +62,16 @@ public class NodeStatsFixedShardsMetricsCollector extends PerformanceAnalyzerMet
     private HashMap<ShardId, IndexShard> currentShards;
     private Iterator<HashMap.Entry<ShardId, IndexShard>> currentShardsIter;
     private final PerformanceAnalyzerController controller;
+    private final AdaptiveShardBudget budget;
+    private boolean coverageCapWarned;
 
     public NodeStatsFixedShardsMetricsCollector(final PerformanceAnalyzerController controller) {
+        this(controller, AdaptiveShardBudget.fromSettings(SAMPLING_TIME_INTERVAL));
+    }
+
+    @VisibleForTesting
+    NodeStatsFixedShardsMetricsCollector(
+            final PerformanceAnalyzerController controller, final AdaptiveShardBudget budget) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "NodeStatsMetrics",
@@ -64,6 +80,7 @@ public class NodeStatsFixedShardsMetricsCollector extends PerformanceAnalyzerMet
         currentShards = new HashMap<>();
         currentShardsIter = currentShards.entrySet().iterator();
         this.controller = controller;
+        this.budget = budget;
     }
 
     private void populateCurrentShards() {
@@ -179,10 +196,36 @@ public class NodeStatsFixedShardsMetricsCollector extends PerformanceAnalyzerMet
         if (!currentShardsIter.hasNext()) {
             populateCurrentShards();
         }
-        for (int i = 0; i < controller.getNodeStatsShardsPerCollection(); i++) {
+        int shardsPerCollection = controller.getNodeStatsShardsPerCollection();
+        boolean adaptive = budget != null && shardsPerCollection > 0;
+        if (adaptive) {
+            int shardCount = currentShards.size();
+            int coverageShards = budget.getCoverageShards(shardCount);
+            if (shardsPerCollection < coverageShards && !coverageCapWarned) {
+                coverageCapWarned = true;
+                LOG.warn(
+                        "shardsPerCollection {} is below the {} shards per run needed to visit"
+                                + " the {} shards within the coverage window, they are visited"
+                                + " once every {}ms",
+                        shardsPerCollection,
+                        coverageShards,
+                        shardCount,
+                        budget.getCoverageWindowMillis(shardCount, shardsPerCollection));
+            }
+            shardsPerCollection =
+                    Math.min(shardsPerCollection, budget.getShardsPerCollection(shardCount));
+            CollectorTelemetry.recordCoverageWindow(
+                    getTelemetryName(),
+                    getSamplingIntervalMillis(),
+                    budget.getCoverageWindowMillis(shardCount, shardsPerCollection));
+        }
+        long collectionStart = AdaptiveShardBudget.currentThreadCpuNanos();
+        int collected = 0;
+        for (int i = 0; i < shardsPerCollection; i++) {
             if (!currentShardsIter.hasNext()) {
                 break;
             }
+            collected++;
             IndexShard currentIndexShard = currentShardsIter.next().getValue();
             IndexShardStats currentIndexShardStats =
                     Utils.indexShardStats(
@@ -213,6 +256,10 @@ public class NodeStatsFixedShardsMetricsCollector extends PerformanceAnalyzerMet
                         String.valueOf(currentIndexShardStats.getShardId().id()));
             }
         }
+        if (adaptive) {
+            budget.recordCollection(
+                    collected, AdaptiveShardBudget.currentThreadCpuNanos() - collectionStart);
+        }
     }
 
     // - Separated to have a unit test; and catch any code changes around this field
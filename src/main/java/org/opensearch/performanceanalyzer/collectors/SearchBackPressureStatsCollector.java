@@ -16,9 +16,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.annotations.VisibleForTesting;
-import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.HashMap;
 import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -26,18 +25,18 @@ import org.opensearch.env.NodeEnvironment;
 import org.opensearch.node.Node;
 import org.opensearch.node.NodeService;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.SearchBackPressureStatsValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
 import org.opensearch.search.backpressure.SearchBackpressureService;
 import org.opensearch.search.backpressure.stats.SearchShardTaskStats;
 import org.opensearch.search.backpressure.stats.SearchTaskStats;
 
-public class SearchBackPressureStatsCollector extends PerformanceAnalyzerMetricsCollector
+public class SearchBackPressureStatsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     // SAMPLING TIME INTERVAL to collect search back pressure stats
     public static final int SAMPLING_TIME_INTERVAL =
@@ -57,9 +56,46 @@ public class SearchBackPressureStatsCollector extends PerformanceAnalyzerMetrics
     public static final String CPU_USAGE_TRACKER_FIELD_NAME = "CPU_USAGE_TRACKER";
     public static final String ELAPSED_TIME_USAGE_TRACKER_FIELD_NAME = "ELAPSED_TIME_TRACKER";
 
+    // Fields of the stats returned by SearchBackpressureService, named like the JSON properties.
+    private static final String MODE_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_SEARCH_BACK_PRESSURE_STATS_MODE;
+    private static final String SHARD_TASK_STATS_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_BACK_PRESSURE_STATS_SEARCH_SHARD_TASK_STATS;
+    private static final String TASK_STATS_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_BACK_PRESSURE_STATS_SEARCH_TASK_STATS;
+    private static final String SHARD_CANCELLATION_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_SHARD_TASK_STATS_CANCELLATIONCOUNT;
+    private static final String SHARD_LIMIT_REACHED_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_SHARD_TASK_STATS_LIMITREACHEDCOUNT;
+    private static final String SHARD_RESOURCE_USAGE_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_SHARD_TASK_STATS_RESOURCE_USAGE_TRACKER_STATS;
+    private static final String TASK_CANCELLATION_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_SEARCH_TASK_STATS_CANCELLATIONCOUNT;
+    private static final String TASK_LIMIT_REACHED_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_SEARCH_TASK_STATS_LIMITREACHEDCOUNT;
+    private static final String TASK_RESOURCE_USAGE_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_SEARCH_TASK_STATS_RESOURCE_USAGE_TRACKER_STATS;
+    private static final String TRACKER_CANCELLATION_FIELD =
+            SearchBackPressureStatsValue.Constants
+                    .SEARCHBP_RESOURCE_USAGE_TRACKER_STATS_CANCELLATIONCOUNT;
+    private static final String TRACKER_CURRENT_MAX_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_RESOURCE_USAGE_TRACKER_STATS_CURRENTMAX;
+    private static final String TRACKER_CURRENT_AVG_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_RESOURCE_USAGE_TRACKER_STATS_CURRENTAVG;
+    private static final String TRACKER_ROLLING_AVG_FIELD =
+            SearchBackPressureStatsValue.Constants.SEARCHBP_RESOURCE_USAGE_TRACKER_STATS_ROLLINGAVG;
+
     // Headline for search back pressure metrics
     public static final String PATH_TO_STORE_METRICS = "search_back_pressure";
     private String nodeId;
+    // Set once the fields of the stats are found not to match the POJOs below.
+    private boolean jsonFallback;
 
     // Metrics to be collected as a String and written in a JSON String
     private final StringBuilder value;
@@ -106,21 +142,18 @@ public class SearchBackPressureStatsCollector extends PerformanceAnalyzerMetrics
     public void collectMetrics(long startTime) {
         SearchBackPressureStats currentSearchBackPressureStats = null;
         try {
-            String jsonString = mapper.writeValueAsString(getSearchBackPressureStats());
             currentSearchBackPressureStats =
-                    mapper.readValue(jsonString, SearchBackPressureStats.class);
-
+                    toSearchBackPressureStats(getSearchBackPressureStats());
         } catch (InvocationTargetException
-                | IllegalAccessException
                 | NoSuchMethodException
                 | NoSuchFieldException
                 | ClassNotFoundException
                 | JsonProcessingException ex) {
-            ex.printStackTrace();
             LOG.warn(
                     "No method found to get Search BackPressure Stats. "
                             + "Skipping SearchBackPressureStatsCollector. Error: "
-                            + ex.getMessage());
+                            + ex.getMessage(),
+                    ex);
             return;
         }
 
@@ -145,43 +178,102 @@ public class SearchBackPressureStatsCollector extends PerformanceAnalyzerMetrics
         saveMetricValues(value.toString(), startTime);
     }
 
-    Field getField(String className, String fieldName)
-            throws NoSuchFieldException, ClassNotFoundException {
+    /**
+     * Reads the fields of the stats returned by SearchBackpressureService directly. Falls back to a
+     * JSON round trip, for good, if they do not match the POJOs of this collector, which can happen
+     * when the collector runs against a different OpenSearch version, or if a nested object or
+     * tracker stats value is null.
+     */
+    @VisibleForTesting
+    SearchBackPressureStats toSearchBackPressureStats(Object stats)
+            throws JsonProcessingException {
+        if (!jsonFallback) {
+            try {
+                return readSearchBackPressureStats(stats);
+            } catch (NoSuchFieldException | RuntimeException ex) {
+                // A RuntimeException is a field of an unexpected type or a null nested object.
+                jsonFallback = true;
+                LOG.info(
+                        "Unexpected Search BackPressure Stats fields, falling back to JSON: {}",
+                        ex.toString());
+            }
+        }
+        String jsonString = mapper.writeValueAsString(stats);
+        return mapper.readValue(jsonString, SearchBackPressureStats.class);
+    }
+
+    @VisibleForTesting
+    static SearchBackPressureStats readSearchBackPressureStats(Object stats)
+            throws NoSuchFieldException {
+        Object mode = ReflectiveAccessors.readField(stats, MODE_FIELD);
+        Object shardTaskStats = ReflectiveAccessors.readField(stats, SHARD_TASK_STATS_FIELD);
+        Object taskStats = ReflectiveAccessors.readField(stats, TASK_STATS_FIELD);
+        return new SearchBackPressureStats(
+                new SearchShardTaskStats(
+                        ReflectiveAccessors.readLong(shardTaskStats, SHARD_CANCELLATION_FIELD),
+                        ReflectiveAccessors.readLong(shardTaskStats, SHARD_LIMIT_REACHED_FIELD),
+                        readResourceUsageTrackerStats(
+                                ReflectiveAccessors.readField(
+                                        shardTaskStats, SHARD_RESOURCE_USAGE_FIELD))),
+                mode == null ? null : nameOf(mode),
+                new SearchTaskStats(
+                        ReflectiveAccessors.readLong(taskStats, TASK_CANCELLATION_FIELD),
+                        ReflectiveAccessors.readLong(taskStats, TASK_LIMIT_REACHED_FIELD),
+                        readResourceUsageTrackerStats(
+                                ReflectiveAccessors.readField(
+                                        taskStats, TASK_RESOURCE_USAGE_FIELD))));
+    }
 
-        Class<?> BootStrapClass = Class.forName(className);
-        Field bootStrapField = BootStrapClass.getDeclaredField(fieldName);
+    private static Map<String, ResourceUsageTrackerStats> readResourceUsageTrackerStats(
+            Object trackerStats) {
+        Map<String, ResourceUsageTrackerStats> result = new HashMap<>();
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) trackerStats).entrySet()) {
+            Object stats = entry.getValue();
+            // Each tracker only has the averages it computes, the others are left to 0 like the
+            // JSON path does.
+            result.put(
+                    nameOf(entry.getKey()),
+                    new ResourceUsageTrackerStats(
+                            ReflectiveAccessors.readLong(stats, TRACKER_CANCELLATION_FIELD, 0),
+                            ReflectiveAccessors.readLong(stats, TRACKER_CURRENT_MAX_FIELD, 0),
+                            ReflectiveAccessors.readLong(stats, TRACKER_CURRENT_AVG_FIELD, 0),
+                            ReflectiveAccessors.readLong(stats, TRACKER_ROLLING_AVG_FIELD, 0),
+                            false));
+        }
+        return result;
+    }
 
-        // set the field to be accessible
-        bootStrapField.setAccessible(true);
-        return bootStrapField;
+    // Jackson writes enums, as values and as map keys, by name.
+    private static String nameOf(Object value) {
+        return value instanceof Enum ? ((Enum<?>) value).name() : value.toString();
     }
 
     @VisibleForTesting
     public Object getSearchBackPressureStats()
-            throws InvocationTargetException, IllegalAccessException, NoSuchMethodException,
-                    NoSuchFieldException, NoSuchFieldError, ClassNotFoundException {
+            throws InvocationTargetException, NoSuchMethodException, NoSuchFieldException,
+                    ClassNotFoundException {
 
         // Get the static instance of Bootstrap
         Object bootStrapSInstance =
-                getField(BOOTSTRAP_CLASS_NAME, BOOTSTRAP_INSTANCE_FIELD_NAME).get(null);
+                ReflectiveAccessors.field(BOOTSTRAP_CLASS_NAME, BOOTSTRAP_INSTANCE_FIELD_NAME)
+                        .get(null);
 
         // Get the Node instance from the Bootstrap instance
         Node node =
-                (Node)
-                        getField(BOOTSTRAP_CLASS_NAME, BOOTSTRAP_NODE_FIELD_NAME)
-                                .get(bootStrapSInstance);
+                ReflectiveAccessors.field(BOOTSTRAP_CLASS_NAME, BOOTSTRAP_NODE_FIELD_NAME)
+                        .get(bootStrapSInstance, Node.class);
 
         NodeEnvironment nodeEnvironment = node.getNodeEnvironment();
         setNodeId(nodeEnvironment.nodeId());
 
         // Get the NodeService instance from the Node instance
         NodeService nodeService =
-                (NodeService) getField(NODE_CLASS_NAME, NODE_SERVICE_FIELD_NAME).get(node);
+                ReflectiveAccessors.field(NODE_CLASS_NAME, NODE_SERVICE_FIELD_NAME)
+                        .get(node, NodeService.class);
 
         String GET_STATS_METHOD_NAME = "nodeStats";
-        Method method = SearchBackpressureService.class.getMethod(GET_STATS_METHOD_NAME);
-
-        return method.invoke(nodeService.getSearchBackpressureService());
+        return ReflectiveAccessors.method(SearchBackpressureService.class, GET_STATS_METHOD_NAME)
+                .invoke(nodeService.getSearchBackpressureService());
     }
 
     @Override
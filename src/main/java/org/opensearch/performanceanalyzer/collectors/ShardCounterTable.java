@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.opensearch.core.index.shard.ShardId;
+
+/**
+ * Fixed number of long counters per shard, stored in a single {@code long[]} indexed by a shard
+ * ordinal. Used by the shard level collectors to keep the previous value of the counters they emit
+ * deltas for, instead of retaining whole {@code ShardStats} object graphs.
+ *
+ * <p>Shards that were closed or relocated away are evicted by generation: a collector calls {@link
+ * #startGeneration()} at the start of a pass over the shards and {@link #evictUnseen()} once the
+ * pass is complete, which frees the ordinals of the shards whose counters were not set during the
+ * pass so they can be reused.
+ *
+ * <p>Not thread safe, it is only accessed by the collector thread.
+ */
+class ShardCounterTable {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int slots;
+    private final HashMap<ShardId, Integer> ordinals = new HashMap<>();
+    private long[] counters;
+    // Generation in which the counters of each ordinal were last set.
+    private int[] generations;
+    // Ordinals released by evictUnseen, reused before new ones are assigned.
+    private int[] freeOrdinals = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int nextOrdinal;
+    private int generation;
+
+    ShardCounterTable(int slots) {
+        this.slots = slots;
+        this.counters = new long[INITIAL_CAPACITY * slots];
+        this.generations = new int[INITIAL_CAPACITY];
+    }
+
+    /** Returns the ordinal of the shard, or -1 if the shard has no counters yet. */
+    int ordinalOf(ShardId shardId) {
+        Integer ordinal = ordinals.get(shardId);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /** Assigns an ordinal to a shard that has no counters yet. */
+    int add(ShardId shardId) {
+        int ordinal;
+        if (freeCount > 0) {
+            ordinal = freeOrdinals[--freeCount];
+        } else {
+            ordinal = nextOrdinal++;
+            if (ordinal == generations.length) {
+                generations = Arrays.copyOf(generations, ordinal * 2);
+                counters = Arrays.copyOf(counters, ordinal * 2 * slots);
+            }
+        }
+        ordinals.put(shardId, ordinal);
+        return ordinal;
+    }
+
+    long get(int ordinal, int slot) {
+        return counters[ordinal * slots + slot];
+    }
+
+    /** Copies all the counters of a shard from {@code values} and marks it as seen. */
+    void set(int ordinal, long[] values) {
+        System.arraycopy(values, 0, counters, ordinal * slots, slots);
+        generations[ordinal] = generation;
+    }
+
+    void startGeneration() {
+        generation++;
+    }
+
+    /**
+     * Removes the shards whose counters were not set since the last {@link #startGeneration()}.
+     *
+     * @return the number of shards removed
+     */
+    int evictUnseen() {
+        int evicted = 0;
+        Iterator<Map.Entry<ShardId, Integer>> it = ordinals.entrySet().iterator();
+        while (it.hasNext()) {
+            int ordinal = it.next().getValue();
+            if (generations[ordinal] != generation) {
+                it.remove();
+                if (freeCount == freeOrdinals.length) {
+                    freeOrdinals = Arrays.copyOf(freeOrdinals, freeCount * 2);
+                }
+                freeOrdinals[freeCount++] = ordinal;
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    int size() {
+        return ordinals.size();
+    }
+
+    int getSlots() {
+        return slots;
+    }
+}
@@ -11,7 +11,8 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import org.apache.logging.log4j.LogManager;
@@ -20,9 +21,9 @@ import org.jooq.tools.json.JSONObject;
 import org.jooq.tools.json.JSONParser;
 import org.jooq.tools.json.ParseException;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.index.shard.ShardId;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
@@ -32,8 +33,10 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors.FieldAccessor;
 
-public class ShardIndexingPressureMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class ShardIndexingPressureMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(ShardIndexingPressureMetricsCollector.class)
@@ -61,9 +64,57 @@ public class ShardIndexingPressureMetricsCollector extends PerformanceAnalyzerMe
 
     private static final Integer MAX_HOT_STORE_LIMIT = 50;
 
+    private static final AllMetrics.IndexingStage[] STAGES = {
+        AllMetrics.IndexingStage.COORDINATING,
+        AllMetrics.IndexingStage.PRIMARY,
+        AllMetrics.IndexingStage.REPLICA
+    };
+    // Tracker properties of each of the STAGES, at the REJECTIONS... indexes.
+    private static final String[][] STAGE_PROPERTIES = {
+        {
+            "coordinatingRejections",
+            "currentCoordinatingBytes",
+            "primaryAndCoordinatingLimits",
+            "coordinatingThroughputMovingAverage",
+            "lastSuccessfulCoordinatingRequestTimestamp"
+        },
+        {
+            "primaryRejections",
+            "currentPrimaryBytes",
+            "primaryAndCoordinatingLimits",
+            "primaryThroughputMovingAverage",
+            "lastSuccessfulPrimaryRequestTimestamp"
+        },
+        {
+            "replicaRejections",
+            "currentReplicaBytes",
+            "replicaLimits",
+            "replicaThroughputMovingAverage",
+            "lastSuccessfulReplicaRequestTimestamp"
+        }
+    };
+    private static final String[][] STAGE_GETTERS =
+            Arrays.stream(STAGE_PROPERTIES)
+                    .map(
+                            properties ->
+                                    Arrays.stream(properties)
+                                            .map(ShardIndexingPressureMetricsCollector::getterOf)
+                                            .toArray(String[]::new))
+                    .toArray(String[][]::new);
+    private static final int REJECTIONS = 0;
+    private static final int CURRENT_BYTES = 1;
+    private static final int LIMITS = 2;
+    private static final int THROUGHPUT = 3;
+    private static final int LAST_SUCCESSFUL_TIMESTAMP = 4;
+    private static final int PROPERTY_COUNT = 5;
+
     private final ConfigOverridesWrapper configOverridesWrapper;
     private final PerformanceAnalyzerController controller;
     private StringBuilder value;
+    // Values of the STAGE_PROPERTIES of the tracker being appended.
+    private final long[][] trackerValues = new long[STAGES.length][PROPERTY_COUNT];
+    // Set once the tracker getters are found not to match the STAGE_PROPERTIES.
+    private boolean jsonFallback;
 
     public ShardIndexingPressureMetricsCollector(
             PerformanceAnalyzerController controller,
@@ -111,128 +162,13 @@ public class ShardIndexingPressureMetricsCollector extends PerformanceAnalyzerMe
                                     .get(shardIndexingPressureStore);
 
             value.setLength(0);
-            shardIndexingPressureHotStore.entrySet().stream()
+            shardIndexingPressureHotStore.values().stream()
                     .limit(MAX_HOT_STORE_LIMIT)
-                    .forEach(
-                            storeObject -> {
-                                JSONObject tracker;
-                                JSONObject shardId;
-                                try {
-                                    tracker =
-                                            (JSONObject)
-                                                    parser.parse(
-                                                            mapper.writeValueAsString(
-                                                                    storeObject.getValue()));
-                                    shardId =
-                                            (JSONObject)
-                                                    parser.parse(
-                                                            mapper.writeValueAsString(
-                                                                    tracker.get("shardId")));
-                                } catch (ParseException | JsonProcessingException e) {
-                                    LOG.debug(
-                                            "[ {} ] Exception raised while parsing Shard Indexing Pressure fields: {} ",
-                                            this::getCollectorName,
-                                            e::getMessage);
-                                    StatsCollector.instance()
-                                            .logException(SHARD_INDEXING_PRESSURE_COLLECTOR_ERROR);
-                                    return;
-                                }
-                                value.append(
-                                                PerformanceAnalyzerMetrics
-                                                        .getJsonCurrentMilliSeconds())
-                                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
-                                value.append(
-                                                new ShardIndexingPressureStatus(
-                                                                AllMetrics.IndexingStage
-                                                                        .COORDINATING
-                                                                        .toString(),
-                                                                shardId.get("indexName").toString(),
-                                                                shardId.get("id").toString(),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "coordinatingRejections")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "currentCoordinatingBytes")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "primaryAndCoordinatingLimits")
-                                                                                .toString()),
-                                                                Double.longBitsToDouble(
-                                                                        Long.parseLong(
-                                                                                tracker.get(
-                                                                                                "coordinatingThroughputMovingAverage")
-                                                                                        .toString())),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "lastSuccessfulCoordinatingRequestTimestamp")
-                                                                                .toString()))
-                                                        .serialize())
-                                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
-                                value.append(
-                                                new ShardIndexingPressureStatus(
-                                                                AllMetrics.IndexingStage.PRIMARY
-                                                                        .toString(),
-                                                                shardId.get("indexName").toString(),
-                                                                shardId.get("id").toString(),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "primaryRejections")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "currentPrimaryBytes")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "primaryAndCoordinatingLimits")
-                                                                                .toString()),
-                                                                Double.longBitsToDouble(
-                                                                        Long.parseLong(
-                                                                                tracker.get(
-                                                                                                "primaryThroughputMovingAverage")
-                                                                                        .toString())),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "lastSuccessfulPrimaryRequestTimestamp")
-                                                                                .toString()))
-                                                        .serialize())
-                                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
-                                value.append(
-                                                new ShardIndexingPressureStatus(
-                                                                AllMetrics.IndexingStage.REPLICA
-                                                                        .toString(),
-                                                                shardId.get("indexName").toString(),
-                                                                shardId.get("id").toString(),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "replicaRejections")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "currentReplicaBytes")
-                                                                                .toString()),
-                                                                Long.parseLong(
-                                                                        tracker.get("replicaLimits")
-                                                                                .toString()),
-                                                                Double.longBitsToDouble(
-                                                                        Long.parseLong(
-                                                                                tracker.get(
-                                                                                                "replicaThroughputMovingAverage")
-                                                                                        .toString())),
-                                                                Long.parseLong(
-                                                                        tracker.get(
-                                                                                        "lastSuccessfulReplicaRequestTimestamp")
-                                                                                .toString()))
-                                                        .serialize())
-                                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
-                            });
+                    .forEach(this::appendTracker);
             if (value.length() != 0) {
                 saveMetricValues(value.toString(), startTime);
             }
-        } catch (IllegalAccessException | NoSuchFieldException | ClassNotFoundException e) {
+        } catch (NoSuchFieldException | ClassNotFoundException e) {
             LOG.debug(
                     "[ {} ] Exception raised while getting Shard Indexing Pressure fields: {} ",
                     this::getCollectorName,
@@ -241,12 +177,95 @@ public class ShardIndexingPressureMetricsCollector extends PerformanceAnalyzerMe
         }
     }
 
-    Field getField(String className, String fieldName)
+    /**
+     * Appends the status of each indexing stage of a shard tracker. The tracker properties are read
+     * through their getters, and through a JSON round trip, for good, if the getters do not match
+     * {@link #STAGE_PROPERTIES}, which can happen when the collector runs against a different
+     * OpenSearch version.
+     */
+    private void appendTracker(Object tracker) {
+        String indexName;
+        String shardId;
+        if (!jsonFallback) {
+            try {
+                ShardId id =
+                        (ShardId)
+                                ReflectiveAccessors.method(tracker.getClass(), "getShardId")
+                                        .invoke(tracker);
+                readTrackerProperties(tracker);
+                appendStages(id.getIndexName(), String.valueOf(id.id()));
+                return;
+            } catch (NoSuchMethodException | InvocationTargetException | ClassCastException e) {
+                jsonFallback = true;
+                LOG.info(
+                        "Unexpected Shard Indexing Pressure getters, falling back to JSON: {}",
+                        e.toString());
+            }
+        }
+        try {
+            JSONObject jsonTracker =
+                    (JSONObject) parser.parse(mapper.writeValueAsString(tracker));
+            JSONObject trackerShardId =
+                    (JSONObject)
+                            parser.parse(mapper.writeValueAsString(jsonTracker.get("shardId")));
+            indexName = trackerShardId.get("indexName").toString();
+            shardId = trackerShardId.get("id").toString();
+            for (int stage = 0; stage < STAGE_PROPERTIES.length; stage++) {
+                for (int i = 0; i < STAGE_PROPERTIES[stage].length; i++) {
+                    trackerValues[stage][i] =
+                            Long.parseLong(jsonTracker.get(STAGE_PROPERTIES[stage][i]).toString());
+                }
+            }
+        } catch (ParseException | JsonProcessingException e) {
+            LOG.debug(
+                    "[ {} ] Exception raised while parsing Shard Indexing Pressure fields: {} ",
+                    this::getCollectorName,
+                    e::getMessage);
+            StatsCollector.instance().logException(SHARD_INDEXING_PRESSURE_COLLECTOR_ERROR);
+            return;
+        }
+        appendStages(indexName, shardId);
+    }
+
+    private void readTrackerProperties(Object tracker)
+            throws NoSuchMethodException, InvocationTargetException {
+        for (int stage = 0; stage < STAGE_GETTERS.length; stage++) {
+            for (int i = 0; i < STAGE_GETTERS[stage].length; i++) {
+                trackerValues[stage][i] =
+                        ReflectiveAccessors.method(tracker.getClass(), STAGE_GETTERS[stage][i])
+                                .invokeLong(tracker);
+            }
+        }
+    }
+
+    private void appendStages(String indexName, String shardId) {
+        for (int stage = 0; stage < STAGES.length; stage++) {
+            long[] values = trackerValues[stage];
+            value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
+                    .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                    .append(
+                            new ShardIndexingPressureStatus(
+                                            STAGES[stage].toString(),
+                                            indexName,
+                                            shardId,
+                                            values[REJECTIONS],
+                                            values[CURRENT_BYTES],
+                                            values[LIMITS],
+                                            // The moving average is a double stored as long bits.
+                                            Double.longBitsToDouble(values[THROUGHPUT]),
+                                            values[LAST_SUCCESSFUL_TIMESTAMP])
+                                    .serialize())
+                    .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
+        }
+    }
+
+    private static String getterOf(String property) {
+        return "get" + Character.toUpperCase(property.charAt(0)) + property.substring(1);
+    }
+
+    FieldAccessor getField(String className, String fieldName)
             throws NoSuchFieldException, ClassNotFoundException {
-        Class<?> clusterServiceClass = Class.forName(className);
-        Field indexingPressureField = clusterServiceClass.getDeclaredField(fieldName);
-        indexingPressureField.setAccessible(true);
-        return indexingPressureField;
+        return ReflectiveAccessors.field(className, fieldName);
     }
 
     @Override
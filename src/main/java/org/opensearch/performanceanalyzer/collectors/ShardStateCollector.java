@@ -12,17 +12,21 @@ import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetri
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
+import java.util.Map;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.json.JSONObject;
 import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.cluster.routing.RoutingTable;
 import org.opensearch.cluster.routing.ShardRouting;
 import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
 import org.opensearch.performanceanalyzer.commons.config.overrides.ConfigOverridesWrapper;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
@@ -30,19 +34,34 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
 
-public class ShardStateCollector extends PerformanceAnalyzerMetricsCollector
-        implements MetricsProcessor {
+public class ShardStateCollector extends InstrumentedMetricsCollector implements MetricsProcessor {
     public static final int SAMPLING_TIME_INTERVAL =
             MetricsConfiguration.CONFIG_MAP.get(ShardStateCollector.class).samplingInterval;
     private static final Logger LOG = LogManager.getLogger(ShardStateCollector.class);
     private static final int KEYS_PATH_LENGTH = 0;
+    static final String EVENT_DRIVEN_SETTING = "shard-state-event-driven";
     private final ConfigOverridesWrapper configOverridesWrapper;
     private final PerformanceAnalyzerController controller;
+    // Only set in the event driven mode.
+    private final ShardStateTracker tracker;
+    private boolean listening;
     private StringBuilder value;
 
     public ShardStateCollector(
             PerformanceAnalyzerController controller,
             ConfigOverridesWrapper configOverridesWrapper) {
+        this(controller, configOverridesWrapper, readEventDrivenSetting());
+    }
+
+    /**
+     * In the event driven mode the non started shards are kept up to date by a cluster state
+     * listener, see {@link ShardStateTracker}, instead of walking the whole routing table on every
+     * run.
+     */
+    ShardStateCollector(
+            PerformanceAnalyzerController controller,
+            ConfigOverridesWrapper configOverridesWrapper,
+            boolean eventDriven) {
         super(
                 SAMPLING_TIME_INTERVAL,
                 "ShardsStateCollector",
@@ -51,6 +70,7 @@ public class ShardStateCollector extends PerformanceAnalyzerMetricsCollector
         value = new StringBuilder();
         this.controller = controller;
         this.configOverridesWrapper = configOverridesWrapper;
+        this.tracker = eventDriven ? new ShardStateTracker() : null;
     }
 
     @Override
@@ -58,38 +78,48 @@ public class ShardStateCollector extends PerformanceAnalyzerMetricsCollector
         if (!controller.isCollectorEnabled(configOverridesWrapper, getCollectorName())) {
             return;
         }
-        if (OpenSearchResources.INSTANCE.getClusterService() == null) {
+        ClusterService clusterService = OpenSearchResources.INSTANCE.getClusterService();
+        if (clusterService == null) {
             return;
         }
 
-        ClusterState clusterState = OpenSearchResources.INSTANCE.getClusterService().state();
+        ClusterState clusterState = clusterService.state();
         boolean inActiveShard = false;
         value.setLength(0);
         value.append(PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds())
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor);
-        RoutingTable routingTable = clusterState.routingTable();
-        String[] indices = routingTable.indicesRouting().keySet().toArray(new String[0]);
-        for (String index : indices) {
-            List<ShardRouting> allShardsIndex = routingTable.allShards(index);
-            value.append(
-                    createJsonObject(AllMetrics.ShardStateDimension.INDEX_NAME.toString(), index));
-            for (ShardRouting shard : allShardsIndex) {
-                String nodeName = StringUtils.EMPTY;
-                if (shard.assignedToNode()) {
-                    nodeName = clusterState.nodes().get(shard.currentNodeId()).getName();
-                }
-                if (shard.state() != ShardRoutingState.STARTED) {
+        if (tracker != null) {
+            if (!listening) {
+                clusterService.addListener(tracker);
+                listening = true;
+            }
+            if (!tracker.isInitialized()) {
+                tracker.apply(clusterState);
+            }
+            for (Map.Entry<String, List<ShardRouting>> entry :
+                    tracker.getNonStartedShards().entrySet()) {
+                value.append(
+                        createJsonObject(
+                                AllMetrics.ShardStateDimension.INDEX_NAME.toString(),
+                                entry.getKey()));
+                for (ShardRouting shard : entry.getValue()) {
                     inActiveShard = true;
-                    value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                            .append(
-                                    new ShardStateMetrics(
-                                                    shard.getId(),
-                                                    shard.primary()
-                                                            ? SHARD_PRIMARY.toString()
-                                                            : SHARD_REPLICA.toString(),
-                                                    nodeName,
-                                                    shard.state().name())
-                                            .serialize());
+                    appendShard(shard, clusterState.nodes());
+                }
+            }
+        } else {
+            RoutingTable routingTable = clusterState.routingTable();
+            String[] indices = routingTable.indicesRouting().keySet().toArray(new String[0]);
+            for (String index : indices) {
+                List<ShardRouting> allShardsIndex = routingTable.allShards(index);
+                value.append(
+                        createJsonObject(
+                                AllMetrics.ShardStateDimension.INDEX_NAME.toString(), index));
+                for (ShardRouting shard : allShardsIndex) {
+                    if (shard.state() != ShardRoutingState.STARTED) {
+                        inActiveShard = true;
+                        appendShard(shard, clusterState.nodes());
+                    }
                 }
             }
         }
@@ -99,6 +129,38 @@ public class ShardStateCollector extends PerformanceAnalyzerMetricsCollector
         }
     }
 
+    private void appendShard(ShardRouting shard, DiscoveryNodes nodes) {
+        String nodeName = StringUtils.EMPTY;
+        if (shard.assignedToNode()) {
+            DiscoveryNode node = nodes.get(shard.currentNodeId());
+            if (node != null) {
+                nodeName = node.getName();
+            }
+        }
+        value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(
+                        new ShardStateMetrics(
+                                        shard.getId(),
+                                        shard.primary()
+                                                ? SHARD_PRIMARY.toString()
+                                                : SHARD_REPLICA.toString(),
+                                        nodeName,
+                                        shard.state().name())
+                                .serialize());
+    }
+
+    private static boolean readEventDrivenSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance()
+                            .getSettingValue(EVENT_DRIVEN_SETTING, "false")
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, event driven collection disabled", EVENT_DRIVEN_SETTING);
+            return false;
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private String createJsonObject(String key, String value) {
         JSONObject json = new JSONObject();
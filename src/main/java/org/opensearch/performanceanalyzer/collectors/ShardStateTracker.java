@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+
+/**
+ * Keeps the shards of the routing table that are not started, by index, for the event driven mode
+ * of the {@link ShardStateCollector}.
+ *
+ * <p>Each applied cluster state is diffed against the routing table seen last. Cluster state diffs
+ * keep the routing table instance of the indices they do not change, so only the indices whose
+ * routing table is a different instance are visited again, and the cost of a cluster state change
+ * is proportional to the indices it touched rather than to the size of the cluster. Collection
+ * only reads the shards kept here.
+ */
+class ShardStateTracker implements ClusterStateListener {
+    // Non started shards of the indices that have any, in the order of the index name.
+    private final Map<String, List<ShardRouting>> nonStartedShards = new TreeMap<>();
+    private RoutingTable routingTable;
+    private long version = -1;
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        if (event.routingTableChanged() || !isInitialized()) {
+            apply(event.state());
+        }
+    }
+
+    /** Whether a cluster state has been applied. */
+    synchronized boolean isInitialized() {
+        return routingTable != null;
+    }
+
+    /** Diffs the routing table of the state against the last one, older states are ignored. */
+    synchronized void apply(ClusterState state) {
+        RoutingTable newRoutingTable = state.routingTable();
+        if (state.version() < version || newRoutingTable == routingTable) {
+            return;
+        }
+        for (Map.Entry<String, IndexRoutingTable> entry :
+                newRoutingTable.indicesRouting().entrySet()) {
+            IndexRoutingTable indexRoutingTable = entry.getValue();
+            if (routingTable != null && routingTable.index(entry.getKey()) == indexRoutingTable) {
+                continue;
+            }
+            List<ShardRouting> shards = nonStartedShards(indexRoutingTable);
+            if (shards.isEmpty()) {
+                nonStartedShards.remove(entry.getKey());
+            } else {
+                nonStartedShards.put(entry.getKey(), shards);
+            }
+        }
+        // Deleted indices, the map only holds the indices with non started shards.
+        Iterator<String> indices = nonStartedShards.keySet().iterator();
+        while (indices.hasNext()) {
+            if (!newRoutingTable.hasIndex(indices.next())) {
+                indices.remove();
+            }
+        }
+        routingTable = newRoutingTable;
+        version = state.version();
+    }
+
+    /** Returns a copy of the non started shards by index, empty if all shards are started. */
+    synchronized Map<String, List<ShardRouting>> getNonStartedShards() {
+        return new TreeMap<>(nonStartedShards);
+    }
+
+    private static List<ShardRouting> nonStartedShards(IndexRoutingTable indexRoutingTable) {
+        List<ShardRouting> shards = new ArrayList<>();
+        for (IndexShardRoutingTable indexShardRoutingTable : indexRoutingTable) {
+            for (ShardRouting shard : indexShardRoutingTable) {
+                if (shard.state() != ShardRoutingState.STARTED) {
+                    shards.add(shard);
+                }
+            }
+        }
+        return shards;
+    }
+}
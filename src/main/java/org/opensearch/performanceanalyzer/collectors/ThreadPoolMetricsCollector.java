@@ -15,23 +15,23 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.ThreadPoolExecutor;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.common.util.concurrent.SizeBlockingQueue;
+import org.opensearch.indices.IndicesService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
-import org.opensearch.performanceanalyzer.commons.collectors.PerformanceAnalyzerMetricsCollector;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ThreadPoolDimension;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ThreadPoolValue;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.threadpool.ThreadPoolStats.Stats;
 
-public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollector
+public class ThreadPoolMetricsCollector extends InstrumentedMetricsCollector
         implements MetricsProcessor {
     private static final Logger LOG = LogManager.getLogger(ThreadPoolMetricsCollector.class);
     public static final int SAMPLING_TIME_INTERVAL =
@@ -39,6 +39,7 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
     private static final int KEYS_PATH_LENGTH = 0;
     private StringBuilder value;
     private final Map<String, ThreadPoolStatsRecord> statsRecordMap;
+    private final ThreadPoolQueueLatencySampler queueLatencySampler;
 
     public ThreadPoolMetricsCollector() {
         super(
@@ -48,6 +49,12 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
                 THREADPOOL_METRICS_COLLECTOR_ERROR);
         value = new StringBuilder();
         statsRecordMap = new HashMap<>();
+        queueLatencySampler = new ThreadPoolQueueLatencySampler();
+    }
+
+    /** Stops the background sampling of the thread pool queue latency. */
+    public void shutdown() {
+        queueLatencySampler.shutdown();
     }
 
     @Override
@@ -91,15 +98,18 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
                                     () -> {
                                         try {
                                             ThreadPool threadPool =
-                                                    (ThreadPool)
-                                                            FieldUtils.readField(
+                                                    ReflectiveAccessors.field(
+                                                                    IndicesService.class,
+                                                                    "threadPool")
+                                                            .get(
                                                                     OpenSearchResources.INSTANCE
                                                                             .getIndicesService(),
-                                                                    "threadPool",
-                                                                    true);
+                                                                    ThreadPool.class);
                                             ThreadPoolExecutor threadPoolExecutor =
                                                     (ThreadPoolExecutor)
                                                             threadPool.executor(threadPoolName);
+                                            queueLatencySampler.track(
+                                                    threadPoolName, threadPoolExecutor);
                                             Object queue = threadPoolExecutor.getQueue();
                                             // TODO: we might want to read the capacity of
                                             // SifiResizableBlockingQueue in the future.
@@ -119,6 +129,7 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
                                         }
                                         return -1;
                                     });
+            double[] queueLatency = queueLatencySampler.takePercentiles(threadPoolName);
             ThreadPoolStatus threadPoolStatus =
                     new ThreadPoolStatus(
                             stats.getName(),
@@ -126,7 +137,8 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
                             finalRejectionDelta,
                             stats.getThreads(),
                             stats.getActive(),
-                            -1.0,
+                            queueLatency == null ? -1.0 : queueLatency[0],
+                            queueLatency == null ? -1.0 : queueLatency[1],
                             capacity);
             value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                     .append(threadPoolStatus.serialize());
@@ -164,12 +176,18 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
     }
 
     public static class ThreadPoolStatus extends MetricStatus {
+        public static final String QUEUE_LATENCY_P99_VALUE =
+                ThreadPoolValue.Constants.QUEUE_LATENCY_VALUE + "P99";
+
         public final String type;
         public final int queueSize;
         public final long rejected;
         public final int threadsCount;
         public final int threadsActive;
+        // p50 and p99 of the time the next task to start has been waiting in the queue, in
+        // milliseconds, or -1 if unknown.
         public final double queueLatency;
+        public final double queueLatencyP99;
         public final int queueCapacity;
 
         public ThreadPoolStatus(
@@ -179,6 +197,7 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
                 int threadsCount,
                 int threadsActive,
                 double queueLatency,
+                double queueLatencyP99,
                 int queueCapacity) {
             this.type = type;
             this.queueSize = queueSize;
@@ -186,6 +205,7 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
             this.threadsCount = threadsCount;
             this.threadsActive = threadsActive;
             this.queueLatency = queueLatency;
+            this.queueLatencyP99 = queueLatencyP99;
             this.queueCapacity = queueCapacity;
         }
 
@@ -219,6 +239,11 @@ public class ThreadPoolMetricsCollector extends PerformanceAnalyzerMetricsCollec
             return queueLatency;
         }
 
+        @JsonProperty(QUEUE_LATENCY_P99_VALUE)
+        public double getQueueLatencyP99() {
+            return queueLatencyP99;
+        }
+
         @JsonProperty(ThreadPoolValue.Constants.QUEUE_CAPACITY_VALUE)
         public int getQueueCapacity() {
             return queueCapacity;
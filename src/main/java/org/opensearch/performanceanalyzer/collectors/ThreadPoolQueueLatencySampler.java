@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+
+/**
+ * Samples how long the task at the head of each thread pool queue has been waiting, which is the
+ * time the next task to start spent in the queue, and reports the p50 and p99 of the samples taken
+ * since the previous report.
+ *
+ * <p>The age of the head task is read from its creation time when the queue holds timed runnables,
+ * as the auto queue resizing executors do. For other queues, the head task is tracked by identity
+ * across samples, so its age is known from the second sample that finds it at the head onwards,
+ * and the first one records nothing rather than a 0 wait. An empty queue is not sampled, so a pool whose queue stayed empty since the previous report has no
+ * percentiles rather than a 0 wait that could not be told apart from a real one.
+ *
+ * <p>The overhead is bounded: each sample peeks at the head of each queue, and at most {@link
+ * #MAX_SAMPLES} samples are kept per pool between two reports.
+ */
+class ThreadPoolQueueLatencySampler {
+    private static final Logger LOG = LogManager.getLogger(ThreadPoolQueueLatencySampler.class);
+    static final String SAMPLE_INTERVAL_SETTING = "thread-pool-queue-latency-sample-millis";
+    static final long DEFAULT_SAMPLE_INTERVAL_MILLIS = 100;
+    static final int MAX_SAMPLES = 256;
+    private static final String SAMPLER_THREAD_NAME = "pa-thread-pool-queue-latency-sampler";
+    // Creation time field of org.opensearch.common.util.concurrent.TimedRunnable.
+    private static final String CREATION_TIME_FIELD = "creationTimeNanos";
+
+    private final long sampleIntervalMillis;
+    private final Map<String, PoolSamples> pools = new ConcurrentHashMap<>();
+    private ScheduledExecutorService samplerExecutor;
+    private volatile boolean shutdown;
+
+    ThreadPoolQueueLatencySampler() {
+        this(readSampleInterval());
+    }
+
+    @VisibleForTesting
+    ThreadPoolQueueLatencySampler(long sampleIntervalMillis) {
+        this.sampleIntervalMillis = sampleIntervalMillis;
+    }
+
+    boolean isEnabled() {
+        return sampleIntervalMillis > 0;
+    }
+
+    /**
+     * Samples the queue of the executor from now on, until it is replaced by another executor for
+     * the same pool. Starts sampling on the first call, unless the sampler has been shut down.
+     */
+    void track(String poolName, ThreadPoolExecutor executor) {
+        if (!isEnabled() || shutdown) {
+            return;
+        }
+        PoolSamples samples = pools.get(poolName);
+        if (samples == null || samples.executor != executor) {
+            pools.put(poolName, new PoolSamples(executor));
+        }
+        synchronized (this) {
+            if (samplerExecutor == null && !shutdown) {
+                samplerExecutor =
+                        Executors.newSingleThreadScheduledExecutor(
+                                runnable -> {
+                                    Thread thread = new Thread(runnable, SAMPLER_THREAD_NAME);
+                                    thread.setDaemon(true);
+                                    return thread;
+                                });
+                samplerExecutor.scheduleAtFixedRate(
+                        this::sampleAll,
+                        sampleIntervalMillis,
+                        sampleIntervalMillis,
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /** Stops sampling for good, called when the plugin is closed. */
+    synchronized void shutdown() {
+        shutdown = true;
+        if (samplerExecutor != null) {
+            samplerExecutor.shutdownNow();
+            samplerExecutor = null;
+        }
+        pools.clear();
+    }
+
+    /**
+     * Returns the p50 and p99 head of queue wait in milliseconds of the samples taken since the
+     * previous call, or null if no task was found queued since the previous call.
+     */
+    double[] takePercentiles(String poolName) {
+        PoolSamples samples = pools.get(poolName);
+        return samples == null ? null : samples.takePercentiles();
+    }
+
+    @VisibleForTesting
+    void sampleAll() {
+        long now = System.nanoTime();
+        for (PoolSamples samples : pools.values()) {
+            try {
+                samples.sample(now);
+            } catch (Exception ex) {
+                LOG.debug("Unable to sample thread pool queue: {}", ex.toString());
+            }
+        }
+    }
+
+    private static long readSampleInterval() {
+        try {
+            return Long.parseLong(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    SAMPLE_INTERVAL_SETTING,
+                                    String.valueOf(DEFAULT_SAMPLE_INTERVAL_MILLIS))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, using {}",
+                    SAMPLE_INTERVAL_SETTING,
+                    DEFAULT_SAMPLE_INTERVAL_MILLIS);
+            return DEFAULT_SAMPLE_INTERVAL_MILLIS;
+        }
+    }
+
+    /** Head of queue waits of one pool, written by the sampler and taken by the collector. */
+    private static class PoolSamples {
+        private final ThreadPoolExecutor executor;
+        private final long[] waitNanos = new long[MAX_SAMPLES];
+        private int count;
+        // Total samples since the last report, the latest MAX_SAMPLES are kept.
+        private long taken;
+        // Head task seen by the previous sample, only used for its identity.
+        private Object head;
+        private long headSeenNanos;
+
+        PoolSamples(ThreadPoolExecutor executor) {
+            this.executor = executor;
+        }
+
+        synchronized void sample(long now) {
+            BlockingQueue<Runnable> queue = executor.getQueue();
+            Object current = queue.peek();
+            long wait;
+            if (current == null) {
+                head = null;
+                return;
+            } else if (current == head) {
+                wait = now - headSeenNanos;
+            } else {
+                long created =
+                        ReflectiveAccessors.readLong(current, CREATION_TIME_FIELD, Long.MIN_VALUE);
+                head = current;
+                if (created == Long.MIN_VALUE || now - created < 0) {
+                    // The age is unknown until the next sample finds the same head task.
+                    headSeenNanos = now;
+                    return;
+                }
+                headSeenNanos = created;
+                wait = now - created;
+            }
+            waitNanos[(int) (taken++ % MAX_SAMPLES)] = wait;
+            count = (int) Math.min(taken, MAX_SAMPLES);
+        }
+
+        synchronized double[] takePercentiles() {
+            if (count == 0) {
+                return null;
+            }
+            long[] sorted = Arrays.copyOf(waitNanos, count);
+            Arrays.sort(sorted);
+            count = 0;
+            taken = 0;
+            return new double[] {
+                toMillis(percentile(sorted, 50)), toMillis(percentile(sorted, 99))
+            };
+        }
+
+        // Nearest rank percentile.
+        private static long percentile(long[] sorted, int percentile) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
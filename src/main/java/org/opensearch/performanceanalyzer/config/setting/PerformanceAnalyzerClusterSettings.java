@@ -50,4 +50,17 @@ public final class PerformanceAnalyzerClusterSettings {
                     "",
                     Setting.Property.NodeScope,
                     Setting.Property.Dynamic);
+
+    /**
+     * Comma separated names of the shard bulk transport actions whose requests are instrumented,
+     * {@code indices:data/write/bulk[s][p]} for the primary and {@code
+     * indices:data/write/bulk[s][r]} for the replica shards. Empty, the default, instruments both
+     * and {@code none} neither. Other actions are ignored, their handlers are never wrapped.
+     */
+    public static final Setting<String> TRANSPORT_INSTRUMENTED_ACTIONS_SETTING =
+            Setting.simpleString(
+                    "cluster.metadata.perf_analyzer.transport_instrumented_actions",
+                    "",
+                    Setting.Property.NodeScope,
+                    Setting.Property.Dynamic);
 }
@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.config.setting.handler;
+
+import org.opensearch.performanceanalyzer.config.setting.ClusterSettingListener;
+import org.opensearch.performanceanalyzer.transport.TransportInterceptionRegistry;
+
+public class TransportInstrumentationSettingHandler implements ClusterSettingListener<String> {
+    private final TransportInterceptionRegistry registry;
+
+    public TransportInstrumentationSettingHandler(final TransportInterceptionRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Handler that gets called when there is a new value for the setting that this listener is
+     * listening to.
+     *
+     * @param newSettingValue The comma separated transport actions to instrument.
+     */
+    @Override
+    public void onSettingUpdate(final String newSettingValue) {
+        if (newSettingValue != null) {
+            registry.updateAllowList(newSettingValue);
+        }
+    }
+}
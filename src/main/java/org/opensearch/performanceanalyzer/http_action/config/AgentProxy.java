@@ -0,0 +1,371 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+
+/**
+ * Forwards requests to the agent on worker threads of its own, so that a slow agent call does not
+ * hold an OpenSearch network thread.
+ *
+ * <p>At most {@link #MAX_CONCURRENT_REQUESTS_SETTING} calls are in flight and at most {@link
+ * #MAX_QUEUED_REQUESTS_SETTING} wait for a worker, other requests are answered with 429 right away.
+ * The agent connections are kept alive and reused between calls. The response body is passed on
+ * as bytes, with the status and headers of the agent response.
+ *
+ * <p>Each redirect endpoint has a circuit breaker: after {@link #FAILURE_THRESHOLD_SETTING}
+ * consecutive failed calls, the requests to the endpoint are answered with 503 for {@link
+ * #OPEN_MILLIS_SETTING}, after which one call is let through to probe the agent.
+ *
+ * <p>The responses of the metrics and rca endpoints go through the {@link AgentResponseCache}, if
+ * enabled.
+ */
+class AgentProxy {
+    private static final Logger LOG = LogManager.getLogger(AgentProxy.class);
+    static final String MAX_CONCURRENT_REQUESTS_SETTING = "agent-proxy-max-concurrent-requests";
+    static final String MAX_QUEUED_REQUESTS_SETTING = "agent-proxy-max-queued-requests";
+    static final String FAILURE_THRESHOLD_SETTING = "agent-proxy-failure-threshold";
+    static final String OPEN_MILLIS_SETTING = "agent-proxy-open-millis";
+    static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
+    static final int DEFAULT_MAX_QUEUED_REQUESTS = 16;
+    static final int DEFAULT_FAILURE_THRESHOLD = 5;
+    static final long DEFAULT_OPEN_MILLIS = 30000;
+    private static final long WORKER_KEEP_ALIVE_SECONDS = 60;
+    private static final String WORKER_THREAD_NAME = "pa-agent-proxy-";
+    private static final String CONTENT_TYPE = "Content-Type";
+    private static final String CONTENT_LENGTH = "Content-Length";
+    private static final String TRANSFER_ENCODING = "Transfer-Encoding";
+    private static final String DEFAULT_CONTENT_TYPE = "application/json; charset=UTF-8";
+    private static final String CALL_ERROR_MESSAGE =
+            "Encountered error possibly with downstream APIs";
+
+    /** Opens a connection to the agent. */
+    interface ConnectionFactory {
+        HttpURLConnection open(URL url) throws IOException;
+    }
+
+    private final ConnectionFactory connectionFactory;
+    private final ThreadPoolExecutor workers;
+    private final int failureThreshold;
+    private final long openMillis;
+    private final Map<String, EndpointBreaker> breakers = new ConcurrentHashMap<>();
+    private final AgentResponseCache responseCache;
+
+    AgentProxy(ConnectionFactory connectionFactory) {
+        this(
+                connectionFactory,
+                AgentResponseCache.create(),
+                readIntSetting(MAX_CONCURRENT_REQUESTS_SETTING, DEFAULT_MAX_CONCURRENT_REQUESTS),
+                readIntSetting(MAX_QUEUED_REQUESTS_SETTING, DEFAULT_MAX_QUEUED_REQUESTS),
+                readIntSetting(FAILURE_THRESHOLD_SETTING, DEFAULT_FAILURE_THRESHOLD),
+                readOpenMillisSetting());
+    }
+
+    @VisibleForTesting
+    AgentProxy(
+            ConnectionFactory connectionFactory,
+            AgentResponseCache responseCache,
+            int maxConcurrentRequests,
+            int maxQueuedRequests,
+            int failureThreshold,
+            long openMillis) {
+        this.connectionFactory = connectionFactory;
+        this.responseCache = responseCache;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers =
+                new ThreadPoolExecutor(
+                        maxConcurrentRequests,
+                        maxConcurrentRequests,
+                        WORKER_KEEP_ALIVE_SECONDS,
+                        TimeUnit.SECONDS,
+                        new ArrayBlockingQueue<>(Math.max(1, maxQueuedRequests)),
+                        runnable -> {
+                            Thread thread =
+                                    new Thread(
+                                            runnable,
+                                            WORKER_THREAD_NAME + threadCount.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Forwards the request to the agent url and sends the agent response on the channel. Requests
+     * with a cache key are served from the response cache, if there is one.
+     */
+    void forward(String endpoint, URL url, String cacheKey, RestChannel channel) {
+        if (responseCache == null || cacheKey == null) {
+            forward(endpoint, url, response -> send(channel, response));
+            return;
+        }
+        AgentResponseCache.Lookup lookup =
+                responseCache.lookup(cacheKey, System.currentTimeMillis());
+        lookup.getResponse().thenAccept(response -> send(channel, response));
+        if (lookup.isOwner()) {
+            forward(
+                    endpoint,
+                    url,
+                    response -> lookup.complete(response, System.currentTimeMillis()));
+        }
+    }
+
+    private void forward(String endpoint, URL url, Consumer<AgentResponse> onResponse) {
+        EndpointBreaker breaker = getBreaker(endpoint);
+        if (!breaker.allowRequest(System.currentTimeMillis())) {
+            onResponse.accept(
+                    AgentResponse.error(
+                            RestStatus.SERVICE_UNAVAILABLE,
+                            "Agent endpoint " + endpoint + " is unavailable, try again later"));
+            return;
+        }
+        try {
+            workers.execute(
+                    () -> {
+                        AgentResponse response = null;
+                        try {
+                            response = call(endpoint, url, breaker);
+                        } finally {
+                            // The callback runs even if the call threw an Error, so that a
+                            // cached call in flight always completes.
+                            onResponse.accept(
+                                    response != null
+                                            ? response
+                                            : AgentResponse.error(
+                                                    RestStatus.INTERNAL_SERVER_ERROR,
+                                                    CALL_ERROR_MESSAGE));
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            breaker.onRejected();
+            onResponse.accept(
+                    AgentResponse.error(
+                            RestStatus.TOO_MANY_REQUESTS,
+                            "Too many concurrent requests to the agent"));
+        }
+    }
+
+    private AgentResponse call(String endpoint, URL url, EndpointBreaker breaker) {
+        HttpURLConnection connection = null;
+        try {
+            connection = connectionFactory.open(url);
+            int responseCode = connection.getResponseCode();
+            byte[] body;
+            try (InputStream inputStream =
+                    responseCode == HttpURLConnection.HTTP_OK
+                            ? connection.getInputStream()
+                            : connection.getErrorStream()) {
+                // Reading the stream to the end lets the connection be reused.
+                body = inputStream == null ? new byte[0] : inputStream.readAllBytes();
+            }
+            if (responseCode >= HttpURLConnection.HTTP_INTERNAL_ERROR) {
+                onFailure(endpoint, breaker);
+            } else {
+                breaker.onSuccess();
+            }
+            String contentType = connection.getContentType();
+            return new AgentResponse(
+                    responseCode,
+                    contentType == null ? DEFAULT_CONTENT_TYPE : contentType,
+                    body,
+                    copyHeaders(connection));
+        } catch (Exception ex) {
+            LOG.error("Error receiving response for Request Uri {} - {}", url, ex);
+            if (connection != null) {
+                connection.disconnect();
+            }
+            onFailure(endpoint, breaker);
+            return AgentResponse.error(RestStatus.INTERNAL_SERVER_ERROR, CALL_ERROR_MESSAGE);
+        }
+    }
+
+    private static void send(RestChannel channel, AgentResponse response) {
+        try {
+            channel.sendResponse(response.toRestResponse());
+        } catch (Exception ex) {
+            LOG.error("Error sending response", ex);
+        }
+    }
+
+    private void onFailure(String endpoint, EndpointBreaker breaker) {
+        if (breaker.onFailure(System.currentTimeMillis())) {
+            LOG.warn(
+                    "Agent endpoint {} failed {} consecutive times, failing requests for {}ms",
+                    endpoint,
+                    failureThreshold,
+                    openMillis);
+        }
+    }
+
+    private static Map<String, List<String>> copyHeaders(HttpURLConnection connection) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : connection.getHeaderFields().entrySet()) {
+            String name = entry.getKey();
+            // The status line has a null name, the body headers are set by the response.
+            if (name == null
+                    || name.isEmpty()
+                    || name.equalsIgnoreCase(CONTENT_TYPE)
+                    || name.equalsIgnoreCase(CONTENT_LENGTH)
+                    || name.equalsIgnoreCase(TRANSFER_ENCODING)) {
+                continue;
+            }
+            headers.put(name, entry.getValue());
+        }
+        return headers;
+    }
+
+    AgentResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    @VisibleForTesting
+    EndpointBreaker getBreaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint, k -> new EndpointBreaker());
+    }
+
+    private static int readIntSetting(String key, int defaultValue) {
+        try {
+            return Integer.parseInt(
+                    PluginSettings.instance()
+                            .getSettingValue(key, String.valueOf(defaultValue))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, using {}", key, defaultValue);
+            return defaultValue;
+        }
+    }
+
+    private static long readOpenMillisSetting() {
+        try {
+            return Long.parseLong(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    OPEN_MILLIS_SETTING, String.valueOf(DEFAULT_OPEN_MILLIS))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, using {}ms", OPEN_MILLIS_SETTING, DEFAULT_OPEN_MILLIS);
+            return DEFAULT_OPEN_MILLIS;
+        }
+    }
+
+    /**
+     * Circuit breaker of a redirect endpoint: closed, open until {@code openUntilMillis}, or half
+     * open while a single probe call is in flight.
+     */
+    final class EndpointBreaker {
+        private int consecutiveFailures;
+        private long openUntilMillis;
+        private boolean probing;
+
+        /** Whether a call can be made, lets a single probe through once the open time is over. */
+        synchronized boolean allowRequest(long nowMillis) {
+            if (openUntilMillis == 0) {
+                return true;
+            }
+            if (probing || nowMillis < openUntilMillis) {
+                return false;
+            }
+            probing = true;
+            return true;
+        }
+
+        synchronized void onSuccess() {
+            consecutiveFailures = 0;
+            openUntilMillis = 0;
+            probing = false;
+        }
+
+        /** Accounts for a failed call and returns whether the breaker opened. */
+        synchronized boolean onFailure(long nowMillis) {
+            consecutiveFailures++;
+            if (probing || consecutiveFailures >= failureThreshold) {
+                consecutiveFailures = 0;
+                openUntilMillis = nowMillis + openMillis;
+                probing = false;
+                return true;
+            }
+            return false;
+        }
+
+        /** A probe that could not be queued does not count, the next request probes again. */
+        synchronized void onRejected() {
+            probing = false;
+        }
+
+        synchronized boolean isOpen(long nowMillis) {
+            return openUntilMillis != 0 && nowMillis < openUntilMillis;
+        }
+    }
+
+    /** Status, headers and body of an agent response, which can be sent on several channels. */
+    static final class AgentResponse {
+        private final int status;
+        private final String contentType;
+        private final byte[] body;
+        private final Map<String, List<String>> headers;
+
+        AgentResponse(
+                int status, String contentType, byte[] body, Map<String, List<String>> headers) {
+            this.status = status;
+            this.contentType = contentType;
+            this.body = body;
+            this.headers = headers;
+        }
+
+        static AgentResponse error(RestStatus status, String message) {
+            return new AgentResponse(
+                    status.getStatus(),
+                    BytesRestResponse.TEXT_CONTENT_TYPE,
+                    message.getBytes(StandardCharsets.UTF_8),
+                    Collections.emptyMap());
+        }
+
+        boolean isSuccessful() {
+            return status == HttpURLConnection.HTTP_OK;
+        }
+
+        int getStatus() {
+            return status;
+        }
+
+        BytesRestResponse toRestResponse() {
+            BytesRestResponse response =
+                    new BytesRestResponse(
+                            RestStatus.fromCode(status), contentType, new BytesArray(body));
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                for (String value : header.getValue()) {
+                    response.addHeader(header.getKey(), value);
+                }
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,234 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.http_action.config.AgentProxy.AgentResponse;
+
+/**
+ * Caches the agent responses of the metrics and rca endpoints, which only change once per sampling
+ * interval, until the end of the sampling interval they were received in.
+ *
+ * <p>Responses are keyed by the redirect endpoint and the query parameters sorted by name.
+ * Concurrent requests with the same key share a single agent call: the first request makes the
+ * call and the others wait for its response. Only successful responses are kept.
+ *
+ * <p>A call still in flight a sampling interval after it started is given up on: the requests
+ * waiting for it are answered with 504, and the next request with the same key makes a new call.
+ */
+class AgentResponseCache {
+    private static final Logger LOG = LogManager.getLogger(AgentResponseCache.class);
+    static final String ENABLED_SETTING = "agent-response-cache";
+    static final String MAX_ENTRIES_SETTING = "agent-response-cache-max-entries";
+    static final int DEFAULT_MAX_ENTRIES = 256;
+    static final Set<String> CACHED_ENDPOINTS = ImmutableSet.of("metrics", "rca");
+    private static final String REDIRECT_ENDPOINT_PARAM = "redirectEndpoint";
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long intervalMillis;
+    private final int maxEntries;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    @VisibleForTesting
+    AgentResponseCache(long intervalMillis, int maxEntries) {
+        this.intervalMillis = intervalMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /** Returns a cache if the {@link #ENABLED_SETTING} setting is set, null otherwise. */
+    static AgentResponseCache create() {
+        return readEnabledSetting()
+                ? new AgentResponseCache(MetricsConfiguration.SAMPLING_INTERVAL, readMaxEntries())
+                : null;
+    }
+
+    /**
+     * Returns the cache key of a request, or null if the responses of the endpoint are not cached.
+     */
+    static String key(String redirectEndpoint, Map<String, String> params) {
+        if (!CACHED_ENDPOINTS.contains(redirectEndpoint)) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder(redirectEndpoint).append('?');
+        for (Map.Entry<String, String> param : new TreeMap<>(params).entrySet()) {
+            if (!REDIRECT_ENDPOINT_PARAM.equals(param.getKey())) {
+                key.append(param.getKey()).append('=').append(param.getValue()).append('&');
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Looks the key up. The response of a lookup that is the owner of its entry is not cached nor
+     * in flight, the caller must call the agent and {@link Lookup#complete} the lookup.
+     */
+    Lookup lookup(String key, long nowMillis) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (!isExpired(entry, nowMillis)) {
+                return shared(key, entry);
+            }
+            timeOut(entry);
+        }
+        if (entries.size() >= maxEntries) {
+            purge(nowMillis);
+        }
+        Entry newEntry = new Entry(nowMillis);
+        if (entries.size() >= maxEntries) {
+            // Full of responses in flight, the response is not shared.
+            misses.incrementAndGet();
+            return new Lookup(null, newEntry, true);
+        }
+        Entry current =
+                entries.compute(
+                        key,
+                        (k, existing) ->
+                                existing == null || isExpired(existing, nowMillis)
+                                        ? newEntry
+                                        : existing);
+        if (current != newEntry) {
+            return shared(key, current);
+        }
+        misses.incrementAndGet();
+        return new Lookup(key, newEntry, true);
+    }
+
+    private Lookup shared(String key, Entry entry) {
+        if (entry.response.isDone()) {
+            hits.incrementAndGet();
+        } else {
+            coalesced.incrementAndGet();
+        }
+        return new Lookup(key, entry, false);
+    }
+
+    private boolean isExpired(Entry entry, long nowMillis) {
+        if (!entry.response.isDone()) {
+            return nowMillis >= entry.startMillis + intervalMillis;
+        }
+        return nowMillis >= entry.expiresAtMillis;
+    }
+
+    /** Answers the requests waiting for a call in flight that is given up on, if any. */
+    private static void timeOut(Entry entry) {
+        if (entry.response.complete(
+                AgentResponse.error(
+                        RestStatus.GATEWAY_TIMEOUT, "Timed out waiting for the agent response"))) {
+            LOG.warn("Agent call still in flight after a sampling interval, giving up on it");
+        }
+    }
+
+    private void purge(long nowMillis) {
+        entries.values()
+                .removeIf(
+                        entry -> {
+                            if (!isExpired(entry, nowMillis)) {
+                                return false;
+                            }
+                            timeOut(entry);
+                            return true;
+                        });
+    }
+
+    long getHits() {
+        return hits.get();
+    }
+
+    long getMisses() {
+        return misses.get();
+    }
+
+    /** Requests that waited for the response of an identical request in flight. */
+    long getCoalesced() {
+        return coalesced.get();
+    }
+
+    int getSize() {
+        return entries.size();
+    }
+
+    private static boolean readEnabledSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance().getSettingValue(ENABLED_SETTING, "false").trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, agent response cache disabled", ENABLED_SETTING);
+            return false;
+        }
+    }
+
+    private static int readMaxEntries() {
+        try {
+            return Integer.parseInt(
+                    PluginSettings.instance()
+                            .getSettingValue(
+                                    MAX_ENTRIES_SETTING, String.valueOf(DEFAULT_MAX_ENTRIES))
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, using {}", MAX_ENTRIES_SETTING, DEFAULT_MAX_ENTRIES);
+            return DEFAULT_MAX_ENTRIES;
+        }
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<AgentResponse> response = new CompletableFuture<>();
+        private final long startMillis;
+        // Set before the response completes.
+        private volatile long expiresAtMillis;
+
+        Entry(long startMillis) {
+            this.startMillis = startMillis;
+        }
+    }
+
+    /** Result of a {@link #lookup}, the response completes when the agent call is over. */
+    final class Lookup {
+        private final String key;
+        private final Entry entry;
+        private final boolean owner;
+
+        private Lookup(String key, Entry entry, boolean owner) {
+            this.key = key;
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        boolean isOwner() {
+            return owner;
+        }
+
+        CompletableFuture<AgentResponse> getResponse() {
+            return entry.response;
+        }
+
+        /**
+         * Completes the lookup of the owner with the agent response, which is kept until the end
+         * of the sampling interval if successful.
+         */
+        void complete(AgentResponse response, long nowMillis) {
+            if (response.isSuccessful()) {
+                entry.expiresAtMillis = (nowMillis / intervalMillis + 1) * intervalMillis;
+            } else if (key != null) {
+                entries.remove(key, entry);
+            }
+            entry.response.complete(response);
+        }
+    }
+}
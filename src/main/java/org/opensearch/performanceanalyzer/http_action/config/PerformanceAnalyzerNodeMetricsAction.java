@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.common.Strings;
+import org.opensearch.performanceanalyzer.http_action.nodemetrics.NodeMetricsAction;
+import org.opensearch.performanceanalyzer.http_action.nodemetrics.NodeMetricsRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestActions;
+
+/**
+ * Serves the latest metrics of all nodes, or of the nodes given as a comma separated list, in one
+ * call, see {@link NodeMetricsAction}.
+ */
+public class PerformanceAnalyzerNodeMetricsAction extends BaseRestHandler {
+    public static final String NODE_METRICS_ACTION = "PerformanceAnalyzer_Node_Metrics_Action";
+    public static final String NODE_METRICS_PATH = RestConfig.PA_BASE_URI + "/_node_metrics";
+    public static final String NODE_ID = "nodeId";
+    private static final List<Route> ROUTES =
+            Arrays.asList(
+                    new Route(RestRequest.Method.GET, NODE_METRICS_PATH),
+                    new Route(RestRequest.Method.GET, NODE_METRICS_PATH + "/{" + NODE_ID + "}"));
+
+    @Override
+    public List<Route> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public String getName() {
+        return NODE_METRICS_ACTION;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client)
+            throws IOException {
+        NodeMetricsRequest nodeMetricsRequest =
+                new NodeMetricsRequest(Strings.splitStringByCommaToArray(request.param(NODE_ID)));
+        nodeMetricsRequest.timeout(request.param("timeout"));
+        return channel ->
+                client.execute(
+                        NodeMetricsAction.INSTANCE,
+                        nodeMetricsRequest,
+                        new RestActions.NodesResponseRestListener<>(channel));
+    }
+}
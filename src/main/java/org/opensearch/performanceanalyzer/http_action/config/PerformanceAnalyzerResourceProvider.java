@@ -8,17 +8,13 @@ package org.opensearch.performanceanalyzer.http_action.config;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableSet;
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.net.URL;
 import java.security.AccessControlException;
 import java.security.cert.X509Certificate;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -51,6 +47,7 @@ public class PerformanceAnalyzerResourceProvider extends BaseRestHandler {
 
     private String portNumber;
     private final boolean isHttpsEnabled;
+    private final AgentProxy agentProxy;
     private static Set<String> SUPPORTED_REDIRECTIONS =
             ImmutableSet.of("rca", "metrics", "batch", "actions");
 
@@ -68,6 +65,7 @@ public class PerformanceAnalyzerResourceProvider extends BaseRestHandler {
         portNumber =
                 pluginSettings.getSettingValue("webservice-listener-port", DEFAULT_PORT_NUMBER);
         isHttpsEnabled = pluginSettings.getHttpsEnabled();
+        agentProxy = new AgentProxy(this::openConnection);
 
         if (isHttpsEnabled) {
             // skip host name verification
@@ -137,10 +135,6 @@ public class PerformanceAnalyzerResourceProvider extends BaseRestHandler {
     @Override
     protected RestChannelConsumer prepareRequest(RestRequest request, NodeClient client)
             throws IOException {
-        StringBuilder response = new StringBuilder();
-        String inputLine;
-        int responseCode;
-
         URL url = getAgentUri(request);
         // 'url' is null if no correct mapping for input uri is found
         if (url == null) {
@@ -148,56 +142,15 @@ public class PerformanceAnalyzerResourceProvider extends BaseRestHandler {
                 RestResponse finalResponse = new BytesRestResponse(RestStatus.NOT_FOUND, "");
                 channel.sendResponse(finalResponse);
             };
-        } else {
-            HttpURLConnection httpURLConnection =
-                    isHttpsEnabled ? createHttpsURLConnection(url) : createHttpURLConnection(url);
-            // Build Response in buffer
-            responseCode = httpURLConnection.getResponseCode();
-            InputStream inputStream =
-                    (responseCode == HttpsURLConnection.HTTP_OK)
-                            ? httpURLConnection.getInputStream()
-                            : httpURLConnection.getErrorStream();
-
-            try (BufferedReader in = new BufferedReader(new InputStreamReader(inputStream))) {
-                while ((inputLine = in.readLine()) != null) {
-                    response.append(inputLine);
-                }
-                LOG.debug("Response received - {}", response);
-            } catch (Exception ex) {
-                LOG.error("Error receiving response for Request Uri {} - {}", request.uri(), ex);
-                return channel -> {
-                    channel.sendResponse(
-                            new BytesRestResponse(
-                                    RestStatus.INTERNAL_SERVER_ERROR,
-                                    "Encountered error possibly with downstream APIs"));
-                };
-            }
-
-            RestResponse finalResponse =
-                    new BytesRestResponse(
-                            RestStatus.fromCode(responseCode), String.valueOf(response));
-            LOG.debug("finalResponse: {}", finalResponse);
-
-            return channel -> {
-                try {
-                    Map<String, List<String>> map = httpURLConnection.getHeaderFields();
-                    for (Map.Entry<String, List<String>> entry : map.entrySet()) {
-                        if (entry.getKey() != null && entry.getKey().length() != 0) {
-                            for (String value : entry.getValue()) {
-                                finalResponse.addHeader(entry.getKey(), value);
-                            }
-                        }
-                    }
-                    // Send Response back to callee
-                    channel.sendResponse(finalResponse);
-                } catch (Exception ex) {
-                    LOG.error("Error sending response", ex);
-                    channel.sendResponse(
-                            new BytesRestResponse(
-                                    RestStatus.INTERNAL_SERVER_ERROR, "Something went wrong"));
-                }
-            };
         }
+        String redirectEndpoint = request.param("redirectEndpoint");
+        String cacheKey = AgentResponseCache.key(redirectEndpoint, request.params());
+        // The agent is called on a proxy worker, which sends the response back to the callee.
+        return channel -> agentProxy.forward(redirectEndpoint, url, cacheKey, channel);
+    }
+
+    private HttpURLConnection openConnection(URL url) throws IOException {
+        return isHttpsEnabled ? createHttpsURLConnection(url) : createHttpURLConnection(url);
     }
 
     private HttpURLConnection createHttpsURLConnection(URL url) throws IOException {
@@ -214,6 +167,11 @@ public class PerformanceAnalyzerResourceProvider extends BaseRestHandler {
         return httpURLConnection;
     }
 
+    /** Returns the agent response cache, null if disabled. */
+    AgentResponseCache getResponseCache() {
+        return agentProxy.getResponseCache();
+    }
+
     @VisibleForTesting
     void setPortNumber(String portNumber) {
         this.portNumber = portNumber;
@@ -0,0 +1,142 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.performanceanalyzer.collectors.CollectorTelemetry;
+import org.opensearch.performanceanalyzer.collectors.CollectorTelemetry.CollectorStats;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+
+/**
+ * Serves the self telemetry of the collectors of the local node, see {@link CollectorTelemetry}.
+ */
+public class PerformanceAnalyzerStatsAction extends BaseRestHandler {
+    private static final Logger LOG = LogManager.getLogger(PerformanceAnalyzerStatsAction.class);
+
+    public static final String STATS_ACTION = "PerformanceAnalyzer_Stats_Action";
+    public static final String STATS_PATH = RestConfig.PA_BASE_URI + "/_stats";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String COLLECTORS = "collectors";
+    public static final String NAME = "name";
+    public static final String INTERVAL = "interval_millis";
+    public static final String RUNS = "runs";
+    public static final String OVERRUNS = "overruns";
+    public static final String SKIPPED = "skipped";
+    public static final String EVENTS = "events";
+    public static final String BYTES = "bytes";
+    public static final String LAST_RUN_TIME = "last_run_time";
+    public static final String ISOLATED = "isolated";
+    public static final String BUDGET = "budget_millis";
+    public static final String OVER_BUDGET = "over_budget";
+    public static final String BACKOFFS = "backoffs";
+    public static final String RECOVERIES = "recoveries";
+    public static final String COVERAGE_WINDOW = "coverage_window_millis";
+    public static final String RUN_TIME = "run_time_micros";
+    public static final String MEAN = "mean";
+    public static final String P50 = "p50";
+    public static final String P90 = "p90";
+    public static final String P99 = "p99";
+    public static final String MAX = "max";
+    public static final String TOTAL = "total";
+    public static final String AGENT_RESPONSE_CACHE = "agent_response_cache";
+    public static final String HITS = "hits";
+    public static final String MISSES = "misses";
+    public static final String COALESCED = "coalesced";
+    public static final String ENTRIES = "entries";
+    private static final List<Route> ROUTES =
+            singletonList(new Route(RestRequest.Method.GET, STATS_PATH));
+
+    private final PerformanceAnalyzerResourceProvider resourceProvider;
+
+    public PerformanceAnalyzerStatsAction() {
+        this(null);
+    }
+
+    /** Also serves the counters of the agent response cache of the resource provider. */
+    public PerformanceAnalyzerStatsAction(PerformanceAnalyzerResourceProvider resourceProvider) {
+        this.resourceProvider = resourceProvider;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public String getName() {
+        return STATS_ACTION;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client)
+            throws IOException {
+        return channel -> {
+            try {
+                XContentBuilder builder = channel.newBuilder();
+                builder.startObject();
+                builder.field(TIMESTAMP, System.currentTimeMillis());
+                builder.startArray(COLLECTORS);
+                for (CollectorStats stats : CollectorTelemetry.getStats()) {
+                    LatencyHistogram.Snapshot runTimes = stats.getRunTimes();
+                    builder.startObject();
+                    builder.field(NAME, stats.getName());
+                    builder.field(INTERVAL, stats.getIntervalMillis());
+                    builder.field(RUNS, stats.getRuns());
+                    builder.field(OVERRUNS, stats.getOverruns());
+                    builder.field(SKIPPED, stats.getSkipped());
+                    builder.field(EVENTS, stats.getEvents());
+                    builder.field(BYTES, stats.getBytes());
+                    builder.field(LAST_RUN_TIME, stats.getLastRunTime());
+                    builder.field(ISOLATED, stats.isIsolated());
+                    if (stats.isIsolated()) {
+                        builder.field(BUDGET, stats.getBudgetMillis());
+                        builder.field(OVER_BUDGET, stats.getOverBudget());
+                        builder.field(BACKOFFS, stats.getBackoffs());
+                        builder.field(RECOVERIES, stats.getRecoveries());
+                    }
+                    if (stats.getCoverageWindowMillis() > 0) {
+                        builder.field(COVERAGE_WINDOW, stats.getCoverageWindowMillis());
+                    }
+                    builder.startObject(RUN_TIME);
+                    builder.field(TOTAL, runTimes.getSum());
+                    builder.field(MEAN, Math.round(runTimes.getMean()));
+                    builder.field(P50, runTimes.getPercentile(50));
+                    builder.field(P90, runTimes.getPercentile(90));
+                    builder.field(P99, runTimes.getPercentile(99));
+                    builder.field(MAX, runTimes.getMax());
+                    builder.endObject();
+                    builder.endObject();
+                }
+                builder.endArray();
+                AgentResponseCache responseCache =
+                        resourceProvider == null ? null : resourceProvider.getResponseCache();
+                if (responseCache != null) {
+                    builder.startObject(AGENT_RESPONSE_CACHE);
+                    builder.field(HITS, responseCache.getHits());
+                    builder.field(MISSES, responseCache.getMisses());
+                    builder.field(COALESCED, responseCache.getCoalesced());
+                    builder.field(ENTRIES, responseCache.getSize());
+                    builder.endObject();
+                }
+                builder.endObject();
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            } catch (IOException ioe) {
+                LOG.error("Error sending response", ioe);
+            }
+        };
+    }
+}
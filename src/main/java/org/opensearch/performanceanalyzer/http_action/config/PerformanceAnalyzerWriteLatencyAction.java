@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import static java.util.Collections.singletonList;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.performanceanalyzer.transport.ShardWriteLatencyHistograms;
+import org.opensearch.performanceanalyzer.transport.ShardWriteLatencyHistograms.ShardWriteSnapshot;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestRequest;
+
+/**
+ * Serves the shard write latency and item count histogram snapshots of the last sampling interval
+ * of the local node, see {@link ShardWriteLatencyHistograms}.
+ */
+public class PerformanceAnalyzerWriteLatencyAction extends BaseRestHandler {
+    private static final Logger LOG =
+            LogManager.getLogger(PerformanceAnalyzerWriteLatencyAction.class);
+
+    public static final String WRITE_LATENCY_ACTION = "PerformanceAnalyzer_Write_Latency_Action";
+    public static final String WRITE_LATENCY_PATH = RestConfig.PA_BASE_URI + "/_write_latency";
+    public static final String ENABLED = "enabled";
+    public static final String TIMESTAMP = "timestamp";
+    public static final String SHARDS = "shards";
+    public static final String INDEX = "index";
+    public static final String SHARD = "shard";
+    public static final String ROLE = "role";
+    private static final List<Route> ROUTES =
+            singletonList(new Route(RestRequest.Method.GET, WRITE_LATENCY_PATH));
+
+    @Override
+    public List<Route> routes() {
+        return ROUTES;
+    }
+
+    @Override
+    public String getName() {
+        return WRITE_LATENCY_ACTION;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client)
+            throws IOException {
+        return channel -> {
+            try {
+                XContentBuilder builder = channel.newBuilder();
+                builder.startObject();
+                builder.field(ENABLED, ShardWriteLatencyHistograms.isEnabled());
+                builder.field(TIMESTAMP, ShardWriteLatencyHistograms.getLatestSnapshotTime());
+                builder.startArray(SHARDS);
+                for (ShardWriteSnapshot snapshot :
+                        ShardWriteLatencyHistograms.getLatestSnapshots()) {
+                    builder.startObject();
+                    builder.field(INDEX, snapshot.getIndexName());
+                    builder.field(SHARD, snapshot.getShardId());
+                    builder.field(ROLE, snapshot.getRole());
+                    builder.field(ShardWriteSnapshot.COUNT, snapshot.getCount());
+                    builder.field(ShardWriteSnapshot.FAILED, snapshot.getFailed());
+                    builder.field(ShardWriteSnapshot.MAX, snapshot.getMax());
+                    builder.field(ShardWriteSnapshot.P50, snapshot.getP50());
+                    builder.field(ShardWriteSnapshot.P90, snapshot.getP90());
+                    builder.field(ShardWriteSnapshot.P99, snapshot.getP99());
+                    builder.field(ShardWriteSnapshot.BUCKETS, snapshot.getBuckets());
+                    builder.field(ShardWriteSnapshot.ITEMS, snapshot.getItems());
+                    builder.field(ShardWriteSnapshot.MAX_ITEMS, snapshot.getMaxItems());
+                    builder.endObject();
+                }
+                builder.endArray();
+                builder.endObject();
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, builder));
+            } catch (IOException ioe) {
+                LOG.error("Error sending response", ioe);
+            }
+        };
+    }
+}
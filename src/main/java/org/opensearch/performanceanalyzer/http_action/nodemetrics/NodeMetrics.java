@@ -0,0 +1,214 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import static org.opensearch.performanceanalyzer.collectors.ShardIndexingPressureMetricsCollector.CLUSTER_SERVICE_CLASS_NAME;
+import static org.opensearch.performanceanalyzer.collectors.ShardIndexingPressureMetricsCollector.INDEXING_PRESSURE_FIELD_NAME;
+
+import java.io.IOException;
+import java.util.Iterator;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.admin.indices.stats.CommonStats;
+import org.opensearch.action.admin.indices.stats.CommonStatsFlags;
+import org.opensearch.action.support.nodes.BaseNodeResponse;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.indices.breaker.AllCircuitBreakerStats;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.IndexService;
+import org.opensearch.index.cache.query.QueryCacheStats;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.index.fielddata.FieldDataStats;
+import org.opensearch.index.shard.IndexShard;
+import org.opensearch.index.stats.IndexingPressureStats;
+import org.opensearch.indices.IndicesService;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+/**
+ * Metrics of one node: thread pools, circuit breakers, the caches summed over the shards of the
+ * node and the node indexing pressure. Each part is serialized in the binary form OpenSearch uses
+ * for node stats, and is absent if its service is not available on the node.
+ */
+public class NodeMetrics extends BaseNodeResponse implements ToXContentFragment {
+    private static final Logger LOG = LogManager.getLogger(NodeMetrics.class);
+    public static final String NAME = "name";
+    public static final String TIMESTAMP = "timestamp";
+    private static final CommonStatsFlags CACHE_FLAGS =
+            new CommonStatsFlags(
+                    CommonStatsFlags.Flag.QueryCache,
+                    CommonStatsFlags.Flag.FieldData,
+                    CommonStatsFlags.Flag.RequestCache);
+
+    private final long timestamp;
+    private final ThreadPoolStats threadPoolStats;
+    private final AllCircuitBreakerStats circuitBreakerStats;
+    private final QueryCacheStats queryCacheStats;
+    private final RequestCacheStats requestCacheStats;
+    private final FieldDataStats fieldDataStats;
+    private final IndexingPressureStats indexingPressureStats;
+
+    public NodeMetrics(
+            DiscoveryNode node,
+            long timestamp,
+            ThreadPoolStats threadPoolStats,
+            AllCircuitBreakerStats circuitBreakerStats,
+            QueryCacheStats queryCacheStats,
+            RequestCacheStats requestCacheStats,
+            FieldDataStats fieldDataStats,
+            IndexingPressureStats indexingPressureStats) {
+        super(node);
+        this.timestamp = timestamp;
+        this.threadPoolStats = threadPoolStats;
+        this.circuitBreakerStats = circuitBreakerStats;
+        this.queryCacheStats = queryCacheStats;
+        this.requestCacheStats = requestCacheStats;
+        this.fieldDataStats = fieldDataStats;
+        this.indexingPressureStats = indexingPressureStats;
+    }
+
+    public NodeMetrics(StreamInput in) throws IOException {
+        super(in);
+        timestamp = in.readVLong();
+        threadPoolStats = in.readOptionalWriteable(ThreadPoolStats::new);
+        circuitBreakerStats = in.readOptionalWriteable(AllCircuitBreakerStats::new);
+        queryCacheStats = in.readOptionalWriteable(QueryCacheStats::new);
+        requestCacheStats = in.readOptionalWriteable(RequestCacheStats::new);
+        fieldDataStats = in.readOptionalWriteable(FieldDataStats::new);
+        indexingPressureStats = in.readOptionalWriteable(IndexingPressureStats::new);
+    }
+
+    /** Takes the metrics of the local node from the services of {@link OpenSearchResources}. */
+    public static NodeMetrics take(DiscoveryNode node, long timestamp) {
+        ThreadPool threadPool = OpenSearchResources.INSTANCE.getThreadPool();
+        CircuitBreakerService circuitBreakerService =
+                OpenSearchResources.INSTANCE.getCircuitBreakerService();
+        IndicesService indicesService = OpenSearchResources.INSTANCE.getIndicesService();
+        QueryCacheStats queryCacheStats = null;
+        RequestCacheStats requestCacheStats = null;
+        FieldDataStats fieldDataStats = null;
+        if (indicesService != null) {
+            queryCacheStats = new QueryCacheStats();
+            requestCacheStats = new RequestCacheStats();
+            fieldDataStats = new FieldDataStats();
+            Iterator<IndexService> indexServices = indicesService.iterator();
+            while (indexServices.hasNext()) {
+                for (IndexShard indexShard : indexServices.next()) {
+                    CommonStats stats =
+                            new CommonStats(
+                                    indicesService.getIndicesQueryCache(), indexShard, CACHE_FLAGS);
+                    queryCacheStats.add(stats.getQueryCache());
+                    requestCacheStats.add(stats.getRequestCache());
+                    fieldDataStats.add(stats.getFieldData());
+                }
+            }
+        }
+        return new NodeMetrics(
+                node,
+                timestamp,
+                threadPool == null ? null : threadPool.stats(),
+                circuitBreakerService == null ? null : circuitBreakerService.stats(),
+                queryCacheStats,
+                requestCacheStats,
+                fieldDataStats,
+                indexingPressureStats(OpenSearchResources.INSTANCE.getClusterService()));
+    }
+
+    private static IndexingPressureStats indexingPressureStats(ClusterService clusterService) {
+        if (clusterService == null) {
+            return null;
+        }
+        try {
+            Object indexingPressure =
+                    ReflectiveAccessors.field(
+                                    CLUSTER_SERVICE_CLASS_NAME, INDEXING_PRESSURE_FIELD_NAME)
+                            .get(clusterService);
+            if (indexingPressure == null) {
+                return null;
+            }
+            return (IndexingPressureStats)
+                    ReflectiveAccessors.method(indexingPressure.getClass(), "stats")
+                            .invoke(indexingPressure);
+        } catch (Exception e) {
+            LOG.debug("Unable to read the indexing pressure stats: {}", e.toString());
+            return null;
+        }
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public ThreadPoolStats getThreadPoolStats() {
+        return threadPoolStats;
+    }
+
+    public AllCircuitBreakerStats getCircuitBreakerStats() {
+        return circuitBreakerStats;
+    }
+
+    public QueryCacheStats getQueryCacheStats() {
+        return queryCacheStats;
+    }
+
+    public RequestCacheStats getRequestCacheStats() {
+        return requestCacheStats;
+    }
+
+    public FieldDataStats getFieldDataStats() {
+        return fieldDataStats;
+    }
+
+    public IndexingPressureStats getIndexingPressureStats() {
+        return indexingPressureStats;
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeVLong(timestamp);
+        out.writeOptionalWriteable(threadPoolStats);
+        out.writeOptionalWriteable(circuitBreakerStats);
+        out.writeOptionalWriteable(queryCacheStats);
+        out.writeOptionalWriteable(requestCacheStats);
+        out.writeOptionalWriteable(fieldDataStats);
+        out.writeOptionalWriteable(indexingPressureStats);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(getNode().getId());
+        builder.field(NAME, getNode().getName());
+        builder.field(TIMESTAMP, timestamp);
+        if (threadPoolStats != null) {
+            threadPoolStats.toXContent(builder, params);
+        }
+        if (circuitBreakerStats != null) {
+            circuitBreakerStats.toXContent(builder, params);
+        }
+        if (queryCacheStats != null) {
+            queryCacheStats.toXContent(builder, params);
+        }
+        if (requestCacheStats != null) {
+            requestCacheStats.toXContent(builder, params);
+        }
+        if (fieldDataStats != null) {
+            fieldDataStats.toXContent(builder, params);
+        }
+        if (indexingPressureStats != null) {
+            indexingPressureStats.toXContent(builder, params);
+        }
+        builder.endObject();
+        return builder;
+    }
+}
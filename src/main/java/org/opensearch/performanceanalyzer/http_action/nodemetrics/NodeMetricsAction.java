@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import org.opensearch.action.ActionType;
+
+public class NodeMetricsAction extends ActionType<NodeMetricsResponse> {
+
+    public static final String NAME = "cluster:monitor/performanceanalyzer/node_metrics";
+    public static final NodeMetricsAction INSTANCE = new NodeMetricsAction();
+
+    private NodeMetricsAction() {
+        super(NAME, NodeMetricsResponse::new);
+    }
+}
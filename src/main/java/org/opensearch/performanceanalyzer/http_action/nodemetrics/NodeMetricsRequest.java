@@ -0,0 +1,22 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import java.io.IOException;
+import org.opensearch.action.support.nodes.BaseNodesRequest;
+import org.opensearch.core.common.io.stream.StreamInput;
+
+/** Requests the latest metrics of the given nodes, all nodes if none are given. */
+public class NodeMetricsRequest extends BaseNodesRequest<NodeMetricsRequest> {
+
+    public NodeMetricsRequest(String... nodeIds) {
+        super(nodeIds);
+    }
+
+    public NodeMetricsRequest(StreamInput in) throws IOException {
+        super(in);
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.xcontent.ToXContentFragment;
+import org.opensearch.core.xcontent.XContentBuilder;
+
+/** The latest metrics of each node, aggregated on the coordinating node. */
+public class NodeMetricsResponse extends BaseNodesResponse<NodeMetrics>
+        implements ToXContentFragment {
+    public static final String NODES = "nodes";
+
+    public NodeMetricsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public NodeMetricsResponse(
+            ClusterName clusterName, List<NodeMetrics> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    protected List<NodeMetrics> readNodesFrom(StreamInput in) throws IOException {
+        return in.readList(NodeMetrics::new);
+    }
+
+    @Override
+    protected void writeNodesTo(StreamOutput out, List<NodeMetrics> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject(NODES);
+        for (NodeMetrics nodeMetrics : getNodes()) {
+            nodeMetrics.toXContent(builder, params);
+        }
+        builder.endObject();
+        return builder;
+    }
+}
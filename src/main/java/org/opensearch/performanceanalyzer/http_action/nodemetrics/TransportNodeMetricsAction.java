@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import java.io.IOException;
+import java.util.List;
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.nodes.TransportNodesAction;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportService;
+
+/**
+ * Fans a {@link NodeMetricsRequest} out to the requested nodes and aggregates their {@link
+ * NodeMetrics} on the coordinating node. A node takes its metrics once per sampling interval and
+ * serves the same metrics to the requests of the rest of the interval.
+ */
+public class TransportNodeMetricsAction
+        extends TransportNodesAction<
+                NodeMetricsRequest,
+                NodeMetricsResponse,
+                TransportNodeMetricsAction.NodeRequest,
+                NodeMetrics> {
+    private NodeMetrics lastNodeMetrics;
+    private long lastTimeInterval = -1;
+
+    @Inject
+    public TransportNodeMetricsAction(
+            final ThreadPool threadPool,
+            final ClusterService clusterService,
+            final TransportService transportService,
+            final ActionFilters actionFilters) {
+        super(
+                NodeMetricsAction.NAME,
+                threadPool,
+                clusterService,
+                transportService,
+                actionFilters,
+                NodeMetricsRequest::new,
+                NodeRequest::new,
+                ThreadPool.Names.MANAGEMENT,
+                NodeMetrics.class);
+    }
+
+    @Override
+    protected NodeMetricsResponse newResponse(
+            NodeMetricsRequest request,
+            List<NodeMetrics> responses,
+            List<FailedNodeException> failures) {
+        return new NodeMetricsResponse(clusterService.getClusterName(), responses, failures);
+    }
+
+    @Override
+    protected NodeRequest newNodeRequest(NodeMetricsRequest request) {
+        return new NodeRequest();
+    }
+
+    @Override
+    protected NodeMetrics newNodeResponse(StreamInput in) throws IOException {
+        return new NodeMetrics(in);
+    }
+
+    @Override
+    protected synchronized NodeMetrics nodeOperation(NodeRequest request) {
+        long now = System.currentTimeMillis();
+        long timeInterval = PerformanceAnalyzerMetrics.getTimeInterval(now);
+        if (lastNodeMetrics == null || timeInterval != lastTimeInterval) {
+            lastNodeMetrics = NodeMetrics.take(clusterService.localNode(), now);
+            lastTimeInterval = timeInterval;
+        }
+        return lastNodeMetrics;
+    }
+
+    public static class NodeRequest extends TransportRequest {
+
+        public NodeRequest() {}
+
+        public NodeRequest(StreamInput in) throws IOException {
+            super(in);
+        }
+    }
+}
@@ -17,6 +17,8 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.commons.util.ThreadIDUtil;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.performanceanalyzer.writer.StripedMetricQueue;
 import org.opensearch.search.internal.SearchContext;
 
 public class PerformanceAnalyzerSearchListener
@@ -102,8 +104,22 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void preQueryPhase(SearchContext searchContext) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchStart(
+                    false,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateStartMetrics(
                         currTime,
                         searchContext.request().shardId().getIndexName(),
@@ -117,8 +133,25 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void queryPhase(SearchContext searchContext, long tookInNanos) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            ShardSearchLatencyHistograms.recordPhase(
+                    false, searchContext.request().shardId(), tookInNanos);
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchFinish(
+                    false,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    false,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateFinishMetrics(
                         currTime,
                         false,
@@ -133,8 +166,25 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void failedQueryPhase(SearchContext searchContext) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            ShardSearchLatencyHistograms.recordFailedPhase(
+                    false, searchContext.request().shardId());
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchFinish(
+                    false,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    true,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateFinishMetrics(
                         currTime,
                         true,
@@ -149,8 +199,22 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void preFetchPhase(SearchContext searchContext) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchStart(
+                    true,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateStartMetrics(
                         currTime,
                         searchContext.request().shardId().getIndexName(),
@@ -164,8 +228,25 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void fetchPhase(SearchContext searchContext, long tookInNanos) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            ShardSearchLatencyHistograms.recordPhase(
+                    true, searchContext.request().shardId(), tookInNanos);
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchFinish(
+                    true,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    false,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateFinishMetrics(
                         currTime,
                         false,
@@ -180,8 +261,25 @@ public class PerformanceAnalyzerSearchListener
 
     @Override
     public void failedFetchPhase(SearchContext searchContext) {
+        if (ShardSearchLatencyHistograms.isEnabled()) {
+            ShardSearchLatencyHistograms.recordFailedPhase(
+                    true, searchContext.request().shardId());
+            return;
+        }
         long currTime = System.currentTimeMillis();
-        saveMetricValues(
+        if (RequestEventRecorder.isEnabled()) {
+            RequestEventRecorder.recordShardSearchFinish(
+                    true,
+                    ThreadIDUtil.INSTANCE.getNativeCurrentThreadId(),
+                    searchContext.id(),
+                    currTime,
+                    true,
+                    searchContext.request().shardId().getIndexName(),
+                    searchContext.request().shardId().getId());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
                 generateFinishMetrics(
                         currTime,
                         true,
@@ -213,8 +311,16 @@ public class PerformanceAnalyzerSearchListener
     }
 
     public static String generateStartMetrics(long startTime, String indexName, int shardId) {
+        return generateStartMetrics(System.currentTimeMillis(), startTime, indexName, shardId);
+    }
+
+    /** @param currentTime the time the event was recorded, emitted as the current_time metric */
+    public static String generateStartMetrics(
+            long currentTime, long startTime, String indexName, int shardId) {
         return new StringBuilder()
-                .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
+                .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(currentTime)
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                 .append(CommonMetric.START_TIME.toString())
                 .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
@@ -232,8 +338,17 @@ public class PerformanceAnalyzerSearchListener
 
     public static String generateFinishMetrics(
             long finishTime, boolean failed, String indexName, int shardId) {
+        return generateFinishMetrics(
+                System.currentTimeMillis(), finishTime, failed, indexName, shardId);
+    }
+
+    /** @param currentTime the time the event was recorded, emitted as the current_time metric */
+    public static String generateFinishMetrics(
+            long currentTime, long finishTime, boolean failed, String indexName, int shardId) {
         return new StringBuilder()
-                .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
+                .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(currentTime)
                 .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                 .append(CommonMetric.FINISH_TIME.toString())
                 .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
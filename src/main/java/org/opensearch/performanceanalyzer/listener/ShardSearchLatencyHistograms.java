@@ -0,0 +1,170 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.listener;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.IntervalSnapshotEmitter;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+import org.opensearch.performanceanalyzer.util.LatencyHistogramStatus;
+
+/**
+ * Aggregates the shard query and fetch phase latencies reported to the search listener in per
+ * shard {@link LatencyHistogram}s, instead of emitting a start and a finish event per phase.
+ *
+ * <p>The listener records {@code tookInNanos} of every phase, in microseconds, into the histogram
+ * of the shard and phase. Once per sampling interval, the {@link
+ * org.opensearch.performanceanalyzer.writer.EventLogQueueProcessor} thread calls {@link
+ * #emitSnapshots(long)}, which emits one snapshot event per shard and phase that ran in the
+ * interval and resets the histograms, so the event volume grows with the number of active shards
+ * instead of the number of requests. Shards that did not run any phase in an interval are
+ * dropped.
+ *
+ * <p>The histograms are opt-in through the {@code search-latency-histograms} plugin setting. When
+ * they are enabled the listener no longer emits the per phase start and finish events.
+ */
+public final class ShardSearchLatencyHistograms {
+    private static final Logger LOG = LogManager.getLogger(ShardSearchLatencyHistograms.class);
+    static final String SEARCH_LATENCY_HISTOGRAMS_SETTING = "search-latency-histograms";
+    // Root of the metrics path of the snapshots, followed by the phase, index name and shard id.
+    static final String SEARCH_LATENCY_PATH = "search_latency";
+
+    private static final Map<ShardId, ShardLatencies> SHARDS = new ConcurrentHashMap<>();
+    private static final IntervalSnapshotEmitter EMITTER =
+            new IntervalSnapshotEmitter(SEARCH_LATENCY_HISTOGRAMS_SETTING, SEARCH_LATENCY_PATH, 3);
+
+    private ShardSearchLatencyHistograms() {}
+
+    public static boolean isEnabled() {
+        return EMITTER.isEnabled();
+    }
+
+    @VisibleForTesting
+    public static void setEnabled(boolean value) {
+        EMITTER.setEnabled(value);
+    }
+
+    /** @param fetch true for the fetch phase, false for the query phase */
+    public static void recordPhase(boolean fetch, ShardId shardId, long tookInNanos) {
+        ShardLatencies latencies = SHARDS.computeIfAbsent(shardId, ShardLatencies::new);
+        (fetch ? latencies.fetch : latencies.query)
+                .record(TimeUnit.NANOSECONDS.toMicros(tookInNanos));
+    }
+
+    public static void recordFailedPhase(boolean fetch, ShardId shardId) {
+        ShardLatencies latencies = SHARDS.computeIfAbsent(shardId, ShardLatencies::new);
+        (fetch ? latencies.fetchFailed : latencies.queryFailed).incrementAndGet();
+    }
+
+    /**
+     * Emits the snapshots of the histograms to {@link PerformanceAnalyzerMetrics#metricQueue} if
+     * the time starts a new sampling interval, see {@link IntervalSnapshotEmitter#startInterval}.
+     *
+     * @return the number of snapshots emitted
+     */
+    public static int emitSnapshots(long currentTimeMillis) {
+        if (!EMITTER.startInterval(currentTimeMillis)) {
+            return 0;
+        }
+        int emitted = 0;
+        for (ShardLatencies latencies : SHARDS.values()) {
+            try {
+                boolean active =
+                        emit(
+                                currentTimeMillis,
+                                latencies,
+                                PerformanceAnalyzerMetrics.sShardQueryPath,
+                                latencies.query,
+                                latencies.queryFailed);
+                active |=
+                        emit(
+                                currentTimeMillis,
+                                latencies,
+                                PerformanceAnalyzerMetrics.sShardFetchPath,
+                                latencies.fetch,
+                                latencies.fetchFailed);
+                if (active) {
+                    emitted++;
+                } else {
+                    // A phase recorded concurrently with the removal is lost.
+                    SHARDS.remove(latencies.shardId, latencies);
+                }
+            } catch (Exception ex) {
+                LOG.debug("Unable to emit search latency snapshot", ex);
+            }
+        }
+        return emitted;
+    }
+
+    /** Drops every histogram, used while Performance Analyzer is disabled. */
+    public static void discard() {
+        SHARDS.clear();
+    }
+
+    private static boolean emit(
+            long currentTimeMillis,
+            ShardLatencies latencies,
+            String phase,
+            LatencyHistogram histogram,
+            AtomicLong failed) {
+        LatencyHistogram.Snapshot snapshot = histogram.takeSnapshot();
+        long failedCount = failed.getAndSet(0);
+        if (snapshot.getCount() == 0 && failedCount == 0) {
+            return false;
+        }
+        EMITTER.emit(
+                new SearchLatencySnapshot(snapshot, failedCount),
+                currentTimeMillis,
+                phase,
+                latencies.shardId.getIndexName(),
+                String.valueOf(latencies.shardId.getId()));
+        return true;
+    }
+
+    /** Histograms and failure counts of the two search phases of one shard. */
+    private static final class ShardLatencies {
+        private final ShardId shardId;
+        private final LatencyHistogram query = new LatencyHistogram();
+        private final LatencyHistogram fetch = new LatencyHistogram();
+        private final AtomicLong queryFailed = new AtomicLong();
+        private final AtomicLong fetchFailed = new AtomicLong();
+
+        ShardLatencies(ShardId shardId) {
+            this.shardId = shardId;
+        }
+    }
+
+    /** Latencies of one phase of one shard over a sampling interval, in microseconds. */
+    public static class SearchLatencySnapshot extends LatencyHistogramStatus {
+        public static final String FAILED = "Failed";
+        public static final String SUM = "SumMicros";
+
+        private final long failed;
+
+        public SearchLatencySnapshot(LatencyHistogram.Snapshot snapshot, long failed) {
+            super(snapshot);
+            this.failed = failed;
+        }
+
+        @JsonProperty(FAILED)
+        public long getFailed() {
+            return failed;
+        }
+
+        @JsonProperty(SUM)
+        public long getSum() {
+            return latencies.getSum();
+        }
+    }
+}
@@ -6,23 +6,42 @@
 package org.opensearch.performanceanalyzer.transport;
 
 
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.util.concurrent.atomic.AtomicLong;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardBulkDimension;
 import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardBulkMetric;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.commons.util.ThreadIDUtil;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
+import org.opensearch.performanceanalyzer.writer.StripedMetricQueue;
 import org.opensearch.transport.TransportChannel;
 
+/**
+ * Wraps the channel of a shard bulk operation to emit its start and finish events.
+ *
+ * <p>With the opt-in {@code shard-bulk-fused-records} plugin setting, the channel instead emits a
+ * single {@link #COMPLETE_FILE_NAME} event holding both the start and the finish of the operation
+ * when the response is sent. The reader does not parse complete events yet, so the shard bulk
+ * metrics of the reader are empty while the setting is enabled.
+ *
+ * <p>With the opt-in {@code write-latency-histograms} plugin setting, the channel also records the
+ * latency and item count of the operation in the {@link ShardWriteLatencyHistograms} when the
+ * response is sent.
+ */
 public class PerformanceAnalyzerTransportChannel implements TransportChannel, MetricsProcessor {
     private static final Logger LOG =
             LogManager.getLogger(PerformanceAnalyzerTransportChannel.class);
+    static final String SHARD_BULK_FUSED_RECORDS_SETTING = "shard-bulk-fused-records";
+    public static final String COMPLETE_FILE_NAME = "complete";
     private static final int KEYS_PATH_LENGTH = 3;
     private static final AtomicLong UNIQUE_ID = new AtomicLong(0);
+    private static volatile boolean fusedRecords = readFusedRecordsSetting();
 
     private TransportChannel original;
     private String indexName;
@@ -30,6 +49,26 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
     private boolean primary;
     private String id;
     private String threadID;
+    // Set instead of id/threadID when the operation is tracked by the RequestEventRecorder.
+    private boolean recorded;
+    private long numericId;
+    private long numericThreadId;
+    // Set when a single complete event is emitted, with the start of the operation.
+    private boolean fused;
+    private long startTime;
+    private int itemCount;
+    // Set when the operation is recorded in the ShardWriteLatencyHistograms.
+    private boolean histogrammed;
+    private long startNanos;
+
+    public static boolean isFusedRecords() {
+        return fusedRecords;
+    }
+
+    @VisibleForTesting
+    public static void setFusedRecords(boolean value) {
+        fusedRecords = value;
+    }
 
     void set(
             TransportChannel original,
@@ -39,38 +78,37 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
             int itemCount,
             boolean bPrimary) {
         this.original = original;
-        this.id = String.valueOf(UNIQUE_ID.getAndIncrement());
         this.indexName = indexName;
         this.shardId = shardId;
         this.primary = bPrimary;
-        this.threadID = String.valueOf(ThreadIDUtil.INSTANCE.getNativeCurrentThreadId());
+        this.recorded = RequestEventRecorder.isEnabled();
+        this.fused = fusedRecords;
+        this.histogrammed = ShardWriteLatencyHistograms.isEnabled();
+        this.itemCount = itemCount;
+        if (histogrammed) {
+            this.startNanos = System.nanoTime();
+        }
 
-        StringBuilder value =
-                new StringBuilder()
-                        .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
-                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                        .append(ShardBulkMetric.START_TIME.toString())
-                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(startTime)
-                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                        .append(ShardBulkMetric.ITEM_COUNT.toString())
-                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(itemCount)
-                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                        .append(ShardBulkDimension.INDEX_NAME.toString())
-                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(indexName)
-                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                        .append(ShardBulkDimension.SHARD_ID.toString())
-                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(shardId)
-                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
-                        .append(ShardBulkDimension.PRIMARY.toString())
-                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(bPrimary);
+        if (fused) {
+            this.startTime = startTime;
+            this.numericId = UNIQUE_ID.getAndIncrement();
+            this.numericThreadId = ThreadIDUtil.INSTANCE.getNativeCurrentThreadId();
+            return;
+        }
+
+        if (recorded) {
+            this.numericId = UNIQUE_ID.getAndIncrement();
+            this.numericThreadId = ThreadIDUtil.INSTANCE.getNativeCurrentThreadId();
+            RequestEventRecorder.recordShardBulkStart(
+                    numericThreadId, numericId, startTime, indexName, shardId, itemCount, bPrimary);
+            return;
+        }
 
-        saveMetricValues(
-                value.toString(),
+        this.id = String.valueOf(UNIQUE_ID.getAndIncrement());
+        this.threadID = String.valueOf(ThreadIDUtil.INSTANCE.getNativeCurrentThreadId());
+        StripedMetricQueue.save(
+                this,
+                generateStartMetrics(startTime, itemCount, indexName, shardId, bPrimary),
                 startTime,
                 threadID,
                 id,
@@ -89,25 +127,171 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
 
     @Override
     public void sendResponse(TransportResponse response) throws IOException {
+        recordWriteLatency(false);
+        if (fused) {
+            emitMetricsComplete(null);
+            original.sendResponse(response);
+            return;
+        }
         emitMetricsFinish(null);
         original.sendResponse(response);
     }
 
     @Override
     public void sendResponse(Exception exception) throws IOException {
+        recordWriteLatency(true);
+        if (fused) {
+            emitMetricsComplete(exception);
+            original.sendResponse(exception);
+            return;
+        }
         emitMetricsFinish(exception);
         original.sendResponse(exception);
     }
 
+    private void recordWriteLatency(boolean failed) {
+        if (histogrammed) {
+            ShardWriteLatencyHistograms.record(
+                    indexName,
+                    shardId,
+                    primary,
+                    System.nanoTime() - startNanos,
+                    itemCount,
+                    failed);
+        }
+    }
+
+    private void emitMetricsComplete(Exception exception) {
+        long finishTime = System.currentTimeMillis();
+        Class<?> exceptionClass = exception == null ? null : exception.getClass();
+        if (recorded) {
+            RequestEventRecorder.recordShardBulkComplete(
+                    numericThreadId,
+                    numericId,
+                    startTime,
+                    finishTime,
+                    indexName,
+                    shardId,
+                    itemCount,
+                    primary,
+                    exceptionClass);
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
+                generateCompleteMetrics(
+                        startTime,
+                        finishTime,
+                        itemCount,
+                        indexName,
+                        shardId,
+                        primary,
+                        exceptionClass == null ? null : exceptionClass.getName()),
+                finishTime,
+                String.valueOf(numericThreadId),
+                String.valueOf(numericId),
+                COMPLETE_FILE_NAME);
+    }
+
     private void emitMetricsFinish(Exception exception) {
         long currTime = System.currentTimeMillis();
+        if (recorded) {
+            RequestEventRecorder.recordShardBulkFinish(
+                    numericThreadId,
+                    numericId,
+                    currTime,
+                    indexName,
+                    shardId,
+                    primary,
+                    exception == null ? null : exception.getClass());
+            return;
+        }
+        StripedMetricQueue.save(
+                this,
+                generateFinishMetrics(
+                        currTime,
+                        indexName,
+                        shardId,
+                        primary,
+                        exception == null ? null : exception.getClass().getName()),
+                currTime,
+                threadID,
+                id,
+                PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+    }
+
+    public static String generateStartMetrics(
+            long startTime, int itemCount, String indexName, int shardId, boolean primary) {
+        return generateStartMetrics(
+                System.currentTimeMillis(), startTime, itemCount, indexName, shardId, primary);
+    }
+
+    /** @param currentTime the time the event was recorded, emitted as the current_time metric */
+    public static String generateStartMetrics(
+            long currentTime,
+            long startTime,
+            int itemCount,
+            String indexName,
+            int shardId,
+            boolean primary) {
+        return new StringBuilder()
+                .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(currentTime)
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkMetric.START_TIME.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(startTime)
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkMetric.ITEM_COUNT.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(itemCount)
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkDimension.INDEX_NAME.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(indexName)
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkDimension.SHARD_ID.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(shardId)
+                .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkDimension.PRIMARY.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(primary)
+                .toString();
+    }
+
+    /**
+     * @param exception class name of the exception the operation failed with, or null if it
+     *     succeeded
+     */
+    public static String generateFinishMetrics(
+            long finishTime, String indexName, int shardId, boolean primary, String exception) {
+        return generateFinishMetrics(
+                System.currentTimeMillis(), finishTime, indexName, shardId, primary, exception);
+    }
+
+    /**
+     * @param currentTime the time the event was recorded, emitted as the current_time metric
+     * @param exception class name of the exception the operation failed with, or null if it
+     *     succeeded
+     */
+    public static String generateFinishMetrics(
+            long currentTime,
+            long finishTime,
+            String indexName,
+            int shardId,
+            boolean primary,
+            String exception) {
         StringBuilder value =
                 new StringBuilder()
-                        .append(PerformanceAnalyzerMetrics.getCurrentTimeMetric())
+                        .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(currentTime)
                         .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                         .append(ShardBulkMetric.FINISH_TIME.toString())
                         .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                        .append(currTime)
+                        .append(finishTime)
                         .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                         .append(ShardBulkDimension.INDEX_NAME.toString())
                         .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
@@ -124,7 +308,7 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
             value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                     .append(ShardBulkDimension.EXCEPTION.toString())
                     .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
-                    .append(exception.getClass().getName());
+                    .append(exception);
             value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
                     .append(ShardBulkDimension.FAILED.toString())
                     .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
@@ -135,13 +319,86 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
                     .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
                     .append(false);
         }
+        return value.toString();
+    }
 
-        saveMetricValues(
-                value.toString(),
-                currTime,
-                threadID,
-                id,
-                PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+    /**
+     * @param exception class name of the exception the operation failed with, or null if it
+     *     succeeded
+     */
+    public static String generateCompleteMetrics(
+            long startTime,
+            long finishTime,
+            int itemCount,
+            String indexName,
+            int shardId,
+            boolean primary,
+            String exception) {
+        return generateCompleteMetrics(
+                System.currentTimeMillis(),
+                startTime,
+                finishTime,
+                itemCount,
+                indexName,
+                shardId,
+                primary,
+                exception);
+    }
+
+    /**
+     * @param currentTime the time the event was recorded, emitted as the current_time metric
+     * @param exception class name of the exception the operation failed with, or null if it
+     *     succeeded
+     */
+    public static String generateCompleteMetrics(
+            long currentTime,
+            long startTime,
+            long finishTime,
+            int itemCount,
+            String indexName,
+            int shardId,
+            boolean primary,
+            String exception) {
+        StringBuilder value =
+                new StringBuilder()
+                        .append(PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME)
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(currentTime)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkMetric.START_TIME.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(startTime)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkMetric.FINISH_TIME.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(finishTime)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkMetric.ITEM_COUNT.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(itemCount)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkDimension.INDEX_NAME.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(indexName)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkDimension.SHARD_ID.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(shardId)
+                        .append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                        .append(ShardBulkDimension.PRIMARY.toString())
+                        .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                        .append(primary);
+        if (exception != null) {
+            value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                    .append(ShardBulkDimension.EXCEPTION.toString())
+                    .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                    .append(exception);
+        }
+        return value.append(PerformanceAnalyzerMetrics.sMetricNewLineDelimitor)
+                .append(ShardBulkDimension.FAILED.toString())
+                .append(PerformanceAnalyzerMetrics.sKeyValueDelimitor)
+                .append(exception != null)
+                .toString();
     }
 
     // This function is called from the security plugin using reflection. Do not
@@ -150,6 +407,20 @@ public class PerformanceAnalyzerTransportChannel implements TransportChannel, Me
         return this.original;
     }
 
+    private static boolean readFusedRecordsSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance()
+                            .getSettingValue(SHARD_BULK_FUSED_RECORDS_SETTING, "false")
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, shard bulk fused records disabled",
+                    SHARD_BULK_FUSED_RECORDS_SETTING);
+            return false;
+        }
+    }
+
     @Override
     public String getMetricsPath(long startTime, String... keysPath) {
         // throw exception if keys.length is not equal to 3 (Keys should be threadID, ShardBulkId,
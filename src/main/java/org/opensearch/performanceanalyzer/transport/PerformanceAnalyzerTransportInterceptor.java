@@ -17,10 +17,14 @@ public class PerformanceAnalyzerTransportInterceptor implements TransportInterce
 
     private static final Logger LOG =
             LogManager.getLogger(PerformanceAnalyzerTransportInterceptor.class);
-    private final PerformanceAnalyzerController controller;
+    private final TransportInterceptionRegistry registry;
 
     public PerformanceAnalyzerTransportInterceptor(final PerformanceAnalyzerController controller) {
-        this.controller = controller;
+        this(new TransportInterceptionRegistry(controller));
+    }
+
+    public PerformanceAnalyzerTransportInterceptor(final TransportInterceptionRegistry registry) {
+        this.registry = registry;
     }
 
     @Override
@@ -29,6 +33,6 @@ public class PerformanceAnalyzerTransportInterceptor implements TransportInterce
             String executor,
             boolean forceExecution,
             TransportRequestHandler<T> actualHandler) {
-        return new PerformanceAnalyzerTransportRequestHandler<>(actualHandler, controller);
+        return registry.intercept(action, actualHandler);
     }
 }
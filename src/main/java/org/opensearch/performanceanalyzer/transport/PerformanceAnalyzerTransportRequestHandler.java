@@ -11,6 +11,7 @@ import com.google.common.annotations.VisibleForTesting;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteReplicaRequest;
 import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteShardRequest;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
@@ -25,6 +26,8 @@ public class PerformanceAnalyzerTransportRequestHandler<T extends TransportReque
             LogManager.getLogger(PerformanceAnalyzerTransportRequestHandler.class);
     private final PerformanceAnalyzerController controller;
     private TransportRequestHandler<T> actualHandler;
+    // Cleared when the action is removed from the instrumented transport actions.
+    private volatile boolean instrumented = true;
     boolean logOnce = false;
 
     PerformanceAnalyzerTransportRequestHandler(
@@ -38,6 +41,10 @@ public class PerformanceAnalyzerTransportRequestHandler<T extends TransportReque
         return this;
     }
 
+    void setInstrumented(boolean instrumented) {
+        this.instrumented = instrumented;
+    }
+
     @Override
     public void messageReceived(T request, TransportChannel channel, Task task) throws Exception {
         actualHandler.messageReceived(request, getChannel(request, channel, task), task);
@@ -45,7 +52,7 @@ public class PerformanceAnalyzerTransportRequestHandler<T extends TransportReque
 
     @VisibleForTesting
     TransportChannel getChannel(T request, TransportChannel channel, Task task) {
-        if (!controller.isPerformanceAnalyzerEnabled()) {
+        if (!instrumented || !controller.isPerformanceAnalyzerEnabled()) {
             return channel;
         }
 
@@ -57,14 +64,12 @@ public class PerformanceAnalyzerTransportRequestHandler<T extends TransportReque
     }
 
     private TransportChannel getShardBulkChannel(T request, TransportChannel channel, Task task) {
-        String className = request.getClass().getName();
+        Class<?> requestClass = request.getClass();
         boolean bPrimary = false;
 
-        if (className.equals(
-                "org.opensearch.action.support.replication.TransportReplicationAction$ConcreteShardRequest")) {
+        if (requestClass == ConcreteShardRequest.class) {
             bPrimary = true;
-        } else if (className.equals(
-                "org.opensearch.action.support.replication.TransportReplicationAction$ConcreteReplicaRequest")) {
+        } else if (requestClass == ConcreteReplicaRequest.class) {
             bPrimary = false;
         } else {
             return channel;
@@ -0,0 +1,273 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.transport;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.annotations.VisibleForTesting;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.IntervalSnapshotEmitter;
+import org.opensearch.performanceanalyzer.util.LatencyHistogram;
+import org.opensearch.performanceanalyzer.util.LatencyHistogramStatus;
+
+/**
+ * Aggregates the shard bulk operations seen by the {@link PerformanceAnalyzerTransportChannel} in
+ * per shard and role (primary or replica) {@link LatencyHistogram}s of their latency, in
+ * microseconds, along with the total and max of their item count. The histogram of a role is only
+ * allocated once the shard writes in that role.
+ *
+ * <p>The channel records each operation when its response is sent. Once per sampling interval, the
+ * {@link org.opensearch.performanceanalyzer.writer.EventLogQueueProcessor} thread calls {@link
+ * #emitSnapshots(long)}, which emits one snapshot event per shard and role that wrote in the
+ * interval, resets the histograms and keeps the snapshots for {@link #getLatestSnapshots()}, which
+ * backs the local write latency REST endpoint. Shards that did not write in an interval are
+ * dropped.
+ *
+ * <p>The histograms are opt-in through the {@code write-latency-histograms} plugin setting, and
+ * come in addition to the shard bulk start and finish events.
+ */
+public final class ShardWriteLatencyHistograms {
+    private static final Logger LOG = LogManager.getLogger(ShardWriteLatencyHistograms.class);
+    static final String WRITE_LATENCY_HISTOGRAMS_SETTING = "write-latency-histograms";
+    // Root of the metrics path of the snapshots, followed by the role, index name and shard id.
+    static final String WRITE_LATENCY_PATH = "write_latency";
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    // Shards by index name and shard id.
+    private static final Map<String, Map<Integer, ShardWrites>> INDICES =
+            new ConcurrentHashMap<>();
+    private static final IntervalSnapshotEmitter EMITTER =
+            new IntervalSnapshotEmitter(WRITE_LATENCY_HISTOGRAMS_SETTING, WRITE_LATENCY_PATH, 3);
+    private static volatile List<ShardWriteSnapshot> latestSnapshots = Collections.emptyList();
+    private static volatile long latestSnapshotTime;
+
+    private ShardWriteLatencyHistograms() {}
+
+    public static boolean isEnabled() {
+        return EMITTER.isEnabled();
+    }
+
+    @VisibleForTesting
+    public static void setEnabled(boolean value) {
+        EMITTER.setEnabled(value);
+    }
+
+    static void record(
+            String indexName,
+            int shardId,
+            boolean primary,
+            long tookInNanos,
+            int itemCount,
+            boolean failed) {
+        ShardWrites shard =
+                INDICES.computeIfAbsent(indexName, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(shardId, k -> new ShardWrites(indexName, shardId));
+        RoleWrites role = shard.role(primary);
+        role.latencies.record(TimeUnit.NANOSECONDS.toMicros(tookInNanos));
+        role.items.addAndGet(itemCount);
+        if (itemCount > role.maxItems.get()) {
+            role.maxItems.accumulateAndGet(itemCount, Math::max);
+        }
+        if (failed) {
+            role.failed.incrementAndGet();
+        }
+    }
+
+    /**
+     * Snapshots and resets the histograms of every shard and role once the time reaches a new
+     * sampling interval, and emits the snapshots to {@link PerformanceAnalyzerMetrics#metricQueue}.
+     *
+     * @return the number of snapshots emitted
+     */
+    public static int emitSnapshots(long currentTimeMillis) {
+        if (!EMITTER.startInterval(currentTimeMillis)) {
+            return 0;
+        }
+        List<ShardWriteSnapshot> snapshots = new ArrayList<>();
+        for (Map<Integer, ShardWrites> shards : INDICES.values()) {
+            for (ShardWrites shard : shards.values()) {
+                boolean active = take(shard, true, snapshots);
+                active |= take(shard, false, snapshots);
+                if (!active) {
+                    // An operation recorded concurrently with the removal is lost.
+                    shards.remove(shard.shardId, shard);
+                }
+            }
+        }
+        INDICES.values().removeIf(Map::isEmpty);
+        for (ShardWriteSnapshot snapshot : snapshots) {
+            try {
+                EMITTER.emit(
+                        snapshot,
+                        currentTimeMillis,
+                        snapshot.getRole(),
+                        snapshot.getIndexName(),
+                        String.valueOf(snapshot.getShardId()));
+            } catch (Exception ex) {
+                LOG.debug("Unable to emit write latency snapshot", ex);
+            }
+        }
+        latestSnapshots = Collections.unmodifiableList(snapshots);
+        latestSnapshotTime = currentTimeMillis;
+        return snapshots.size();
+    }
+
+    /** Returns the snapshots taken by the last {@link #emitSnapshots(long)}. */
+    public static List<ShardWriteSnapshot> getLatestSnapshots() {
+        return latestSnapshots;
+    }
+
+    /** Returns the time of the last {@link #emitSnapshots(long)}, or 0 if none. */
+    public static long getLatestSnapshotTime() {
+        return latestSnapshotTime;
+    }
+
+    /** Drops every histogram and snapshot, used while Performance Analyzer is disabled. */
+    public static void discard() {
+        INDICES.clear();
+        latestSnapshots = Collections.emptyList();
+    }
+
+    private static boolean take(
+            ShardWrites shard, boolean primary, List<ShardWriteSnapshot> snapshots) {
+        RoleWrites role = primary ? shard.primary : shard.replica;
+        if (role == null) {
+            return false;
+        }
+        LatencyHistogram.Snapshot latencies = role.latencies.takeSnapshot();
+        long items = role.items.getAndSet(0);
+        long maxItems = role.maxItems.getAndSet(0);
+        long failed = role.failed.getAndSet(0);
+        if (latencies.getCount() == 0) {
+            return false;
+        }
+        snapshots.add(
+                new ShardWriteSnapshot(
+                        shard.indexName,
+                        shard.shardId,
+                        primary ? PRIMARY : REPLICA,
+                        latencies,
+                        items,
+                        maxItems,
+                        failed));
+        return true;
+    }
+
+    /** Writes of the two roles of one shard, null until the shard writes in the role. */
+    private static final class ShardWrites {
+        private final String indexName;
+        private final int shardId;
+        private volatile RoleWrites primary;
+        private volatile RoleWrites replica;
+
+        ShardWrites(String indexName, int shardId) {
+            this.indexName = indexName;
+            this.shardId = shardId;
+        }
+
+        RoleWrites role(boolean isPrimary) {
+            RoleWrites role = isPrimary ? primary : replica;
+            return role != null ? role : createRole(isPrimary);
+        }
+
+        private synchronized RoleWrites createRole(boolean isPrimary) {
+            if (isPrimary) {
+                if (primary == null) {
+                    primary = new RoleWrites();
+                }
+                return primary;
+            }
+            if (replica == null) {
+                replica = new RoleWrites();
+            }
+            return replica;
+        }
+    }
+
+    private static final class RoleWrites {
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final AtomicLong items = new AtomicLong();
+        private final AtomicLong maxItems = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    /**
+     * Shard bulk operations of one shard and role over a sampling interval, latencies are in
+     * microseconds. The index name, shard id and role are part of the metrics path.
+     */
+    public static class ShardWriteSnapshot extends LatencyHistogramStatus {
+        public static final String FAILED = "Failed";
+        public static final String ITEMS = "Items";
+        public static final String MAX_ITEMS = "MaxItems";
+
+        private final String indexName;
+        private final int shardId;
+        private final String role;
+        private final long items;
+        private final long maxItems;
+        private final long failed;
+
+        ShardWriteSnapshot(
+                String indexName,
+                int shardId,
+                String role,
+                LatencyHistogram.Snapshot latencies,
+                long items,
+                long maxItems,
+                long failed) {
+            super(latencies);
+            this.indexName = indexName;
+            this.shardId = shardId;
+            this.role = role;
+            this.items = items;
+            this.maxItems = maxItems;
+            this.failed = failed;
+        }
+
+        @JsonIgnore
+        public String getIndexName() {
+            return indexName;
+        }
+
+        @JsonIgnore
+        public int getShardId() {
+            return shardId;
+        }
+
+        /** {@link #PRIMARY} or {@link #REPLICA}. */
+        @JsonIgnore
+        public String getRole() {
+            return role;
+        }
+
+        @JsonProperty(FAILED)
+        public long getFailed() {
+            return failed;
+        }
+
+        /** Total items of the operations. */
+        @JsonProperty(ITEMS)
+        public long getItems() {
+            return items;
+        }
+
+        /** Most items of one operation. */
+        @JsonProperty(MAX_ITEMS)
+        public long getMaxItems() {
+            return maxItems;
+        }
+    }
+}
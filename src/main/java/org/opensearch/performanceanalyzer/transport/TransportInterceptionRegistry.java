@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.transport;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+
+/**
+ * Decides, per transport action and when its handler is registered, whether the handler is wrapped
+ * in a {@link PerformanceAnalyzerTransportRequestHandler}.
+ *
+ * <p>Only the primary and replica shard bulk actions are wrapped, as they are the only ones the
+ * handler instruments. The handlers of every other action, such as pings, cluster state
+ * publication and recovery, are returned as is, so their requests go through no Performance
+ * Analyzer code at all.
+ *
+ * <p>The allow-list selects which of the shard bulk actions are instrumented, an empty allow-list
+ * selects both and {@link #NONE} neither. Since their handlers are always wrapped, a change of the
+ * allow-list applies to them right away, without a restart. Other actions in the allow-list are
+ * ignored.
+ */
+public class TransportInterceptionRegistry {
+    private static final Logger LOG = LogManager.getLogger(TransportInterceptionRegistry.class);
+    /** Allow-list that instruments none of the shard bulk actions. */
+    public static final String NONE = "none";
+    static final Set<String> SHARD_BULK_ACTIONS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    TransportShardBulkAction.ACTION_NAME + "[p]",
+                                    TransportShardBulkAction.ACTION_NAME + "[r]")));
+
+    private final PerformanceAnalyzerController controller;
+    // Wrapped handlers by action name.
+    private final Map<String, PerformanceAnalyzerTransportRequestHandler<?>> handlers =
+            new ConcurrentHashMap<>();
+    private volatile Set<String> allowList;
+
+    /** Instruments both shard bulk actions. */
+    public TransportInterceptionRegistry(PerformanceAnalyzerController controller) {
+        this(controller, "");
+    }
+
+    /**
+     * @param allowList comma separated names of the shard bulk actions to instrument, empty for
+     *     both or {@link #NONE}
+     */
+    public TransportInterceptionRegistry(
+            PerformanceAnalyzerController controller, String allowList) {
+        this.controller = controller;
+        this.allowList = parseAllowList(allowList);
+    }
+
+    <T extends TransportRequest> TransportRequestHandler<T> intercept(
+            String action, TransportRequestHandler<T> actualHandler) {
+        if (!SHARD_BULK_ACTIONS.contains(action)) {
+            return actualHandler;
+        }
+        PerformanceAnalyzerTransportRequestHandler<T> handler =
+                new PerformanceAnalyzerTransportRequestHandler<>(actualHandler, controller);
+        handler.setInstrumented(isInstrumented(action));
+        handlers.put(action, handler);
+        return handler;
+    }
+
+    boolean isInstrumented(String action) {
+        return allowList.contains(action);
+    }
+
+    boolean isWrapped(String action) {
+        return handlers.containsKey(action);
+    }
+
+    /** Applies a new allow-list to the wrapped shard bulk handlers. */
+    public void updateAllowList(String newAllowList) {
+        allowList = parseAllowList(newAllowList);
+        for (Map.Entry<String, PerformanceAnalyzerTransportRequestHandler<?>> entry :
+                handlers.entrySet()) {
+            entry.getValue().setInstrumented(isInstrumented(entry.getKey()));
+        }
+    }
+
+    private static Set<String> parseAllowList(String allowList) {
+        if (allowList == null || allowList.trim().isEmpty()) {
+            return SHARD_BULK_ACTIONS;
+        }
+        if (NONE.equals(allowList.trim())) {
+            return Collections.emptySet();
+        }
+        Set<String> actions =
+                Arrays.stream(allowList.split(","))
+                        .map(String::trim)
+                        .filter(action -> !action.isEmpty())
+                        .collect(Collectors.toSet());
+        for (String action : actions) {
+            if (!SHARD_BULK_ACTIONS.contains(action)) {
+                LOG.warn(
+                        "Transport action {} cannot be instrumented, only {} can",
+                        action,
+                        SHARD_BULK_ACTIONS);
+            }
+        }
+        actions.retainAll(SHARD_BULK_ACTIONS);
+        return actions;
+    }
+}
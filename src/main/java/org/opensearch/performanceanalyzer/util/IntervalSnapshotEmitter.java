@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+
+/**
+ * Emits the per sampling interval aggregates of the request path hooks, such as the {@link
+ * LatencyHistogram} snapshots of the search, bulk and shard write latencies, as one event per
+ * aggregate under a fixed metrics path root.
+ *
+ * <p>It holds the opt-in plugin setting of the aggregates and lets the {@link
+ * org.opensearch.performanceanalyzer.writer.EventLogQueueProcessor} thread emit them at most once
+ * per sampling interval, see {@link #startInterval(long)}.
+ */
+public final class IntervalSnapshotEmitter implements MetricsProcessor {
+    private static final Logger LOG = LogManager.getLogger(IntervalSnapshotEmitter.class);
+
+    private final String enabledSetting;
+    private final String pathRoot;
+    private final int keysPathLength;
+    private volatile boolean enabled;
+    // Only accessed by the emitting thread.
+    private long lastInterval;
+
+    /**
+     * @param enabledSetting boolean plugin setting enabling the aggregates, false by default
+     * @param pathRoot root of the metrics path of the events
+     * @param keysPathLength number of keys following the root in the metrics path
+     */
+    public IntervalSnapshotEmitter(String enabledSetting, String pathRoot, int keysPathLength) {
+        this.enabledSetting = enabledSetting;
+        this.pathRoot = pathRoot;
+        this.keysPathLength = keysPathLength;
+        this.enabled = readEnabledSetting();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @VisibleForTesting
+    public void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    /**
+     * Returns true if the time falls in a sampling interval that has not been started yet, in which
+     * case the caller emits the aggregates of the previous one. Must only be called from a single
+     * thread at a time, normally the queue processor.
+     */
+    public boolean startInterval(long currentTimeMillis) {
+        long interval =
+                PerformanceAnalyzerMetrics.getTimeInterval(
+                        currentTimeMillis, MetricsConfiguration.SAMPLING_INTERVAL);
+        if (interval == lastInterval) {
+            return false;
+        }
+        lastInterval = interval;
+        return true;
+    }
+
+    /** Emits one aggregate to {@link PerformanceAnalyzerMetrics#metricQueue}. */
+    public void emit(MetricStatus aggregate, long currentTimeMillis, String... keysPath) {
+        saveMetricValues(
+                PerformanceAnalyzerMetrics.getJsonCurrentMilliSeconds()
+                        + PerformanceAnalyzerMetrics.sMetricNewLineDelimitor
+                        + aggregate.serialize(),
+                currentTimeMillis,
+                keysPath);
+    }
+
+    @Override
+    public String getMetricsPath(long startTime, String... keysPath) {
+        if (keysPath.length != keysPathLength) {
+            throw new RuntimeException("keys length should be " + keysPathLength);
+        }
+        String[] path = new String[keysPathLength + 1];
+        path[0] = pathRoot;
+        System.arraycopy(keysPath, 0, path, 1, keysPathLength);
+        return PerformanceAnalyzerMetrics.generatePath(startTime, path);
+    }
+
+    private boolean readEnabledSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance().getSettingValue(enabledSetting, "false").trim());
+        } catch (Exception ex) {
+            LOG.warn("Unable to read {}, disabled", enabledSetting);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed size, lock free histogram of non negative values, with buckets laid out like an HDR
+ * histogram: values below {@code 2 * SUB_BUCKETS} get a bucket each, and every power of two above
+ * that is split in {@link #SUB_BUCKETS} linear buckets. A value is counted in a bucket whose bounds
+ * are within 1/{@link #SUB_BUCKETS} (~3%) of it, whatever its magnitude.
+ *
+ * <p>Recording is one atomic increment of the bucket and of the sum, plus a max update, and never
+ * allocates. {@link #takeSnapshot()} moves the counts out of the histogram bucket by bucket, so a
+ * value recorded concurrently is counted either in this snapshot or in the next one, never lost.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Values are clamped to 2^36 - 1, which is ~19 hours in microseconds.
+    private static final int MAX_VALUE_BITS = 36;
+    public static final long MAX_VALUE = (1L << MAX_VALUE_BITS) - 1;
+    public static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long value) {
+        long clamped = Math.max(0, Math.min(value, MAX_VALUE));
+        counts.incrementAndGet(bucketIndex(clamped));
+        sum.addAndGet(clamped);
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    /** Returns the values recorded since the previous snapshot and resets the histogram. */
+    public Snapshot takeSnapshot() {
+        return snapshot(true);
+    }
+
+    /** Returns the values recorded so far, without resetting the histogram. */
+    public Snapshot snapshot() {
+        return snapshot(false);
+    }
+
+    private Snapshot snapshot(boolean reset) {
+        int used = 0;
+        int[] indices = new int[SUB_BUCKETS];
+        long[] bucketCounts = new long[SUB_BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts.get(i) == 0) {
+                continue;
+            }
+            long count = reset ? counts.getAndSet(i, 0) : counts.get(i);
+            if (used == indices.length) {
+                indices = Arrays.copyOf(indices, used * 2);
+                bucketCounts = Arrays.copyOf(bucketCounts, used * 2);
+            }
+            indices[used] = i;
+            bucketCounts[used++] = count;
+            total += count;
+        }
+        return new Snapshot(
+                Arrays.copyOf(indices, used),
+                Arrays.copyOf(bucketCounts, used),
+                total,
+                reset ? sum.getAndSet(0) : sum.get(),
+                reset ? max.getAndSet(0) : max.get());
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKETS + (int) (value >>> shift);
+    }
+
+    static long lowestValue(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        return (long) (index - shift * SUB_BUCKETS) << shift;
+    }
+
+    static long highestValue(int index) {
+        return lowestValue(index + 1) - 1;
+    }
+
+    /** Counts of the non empty buckets of a histogram at the time of the snapshot. */
+    public static final class Snapshot {
+        private final int[] indices;
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(int[] indices, long[] counts, long count, long sum, long max) {
+            this.indices = indices;
+            this.counts = counts;
+            this.count = count;
+            this.sum = sum;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSum() {
+            return sum;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public double getMean() {
+            return count == 0 ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the highest value of the bucket holding the given percentile, capped to the max
+         * recorded value, or 0 if the snapshot is empty.
+         */
+        public long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < indices.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    // The max can miss a value recorded while the snapshot was taken.
+                    int index = indices[i];
+                    return max >= lowestValue(index)
+                            ? Math.min(highestValue(index), max)
+                            : highestValue(index);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * Returns the non empty buckets as comma separated {@code index:count} pairs, so that
+         * snapshots can be merged by the reader without loss.
+         */
+        public String encodeBuckets() {
+            StringBuilder builder = new StringBuilder(indices.length * 8);
+            for (int i = 0; i < indices.length; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                builder.append(indices[i]).append(':').append(counts[i]);
+            }
+            return builder.toString();
+        }
+    }
+}
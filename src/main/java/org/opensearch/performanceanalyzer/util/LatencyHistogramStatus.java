@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.opensearch.performanceanalyzer.commons.collectors.MetricStatus;
+
+/**
+ * Serializes the count, max, percentiles and buckets of a {@link LatencyHistogram.Snapshot} of
+ * latencies in microseconds. Subclasses add the other values of their aggregate.
+ */
+public abstract class LatencyHistogramStatus extends MetricStatus {
+    public static final String COUNT = "Count";
+    public static final String MAX = "MaxMicros";
+    public static final String P50 = "P50Micros";
+    public static final String P90 = "P90Micros";
+    public static final String P99 = "P99Micros";
+    public static final String BUCKETS = "Buckets";
+
+    protected final LatencyHistogram.Snapshot latencies;
+
+    protected LatencyHistogramStatus(LatencyHistogram.Snapshot latencies) {
+        this.latencies = latencies;
+    }
+
+    @JsonProperty(COUNT)
+    public long getCount() {
+        return latencies.getCount();
+    }
+
+    @JsonProperty(MAX)
+    public long getMax() {
+        return latencies.getMax();
+    }
+
+    @JsonProperty(P50)
+    public long getP50() {
+        return latencies.getPercentile(50);
+    }
+
+    @JsonProperty(P90)
+    public long getP90() {
+        return latencies.getPercentile(90);
+    }
+
+    @JsonProperty(P99)
+    public long getP99() {
+        return latencies.getPercentile(99);
+    }
+
+    /** Non empty buckets of the histogram, see {@link LatencyHistogram.Snapshot}. */
+    @JsonProperty(BUCKETS)
+    public String getBuckets() {
+        return latencies.encodeBuckets();
+    }
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the fields and methods the collectors read through reflection.
+ *
+ * <p>Each class, field and method is looked up and made accessible once, on first use, and the
+ * resolved {@link MethodHandle} is shared by all the collectors. A member that does not exist in
+ * the running OpenSearch version is remembered as absent, so every later lookup fails fast with
+ * the same checked exception the reflection API would throw, without repeating the lookup.
+ */
+public final class ReflectiveAccessors {
+    // Marker for a class or member that could not be resolved.
+    private static final Object ABSENT = new Object();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ConcurrentHashMap<String, Object> CLASSES = new ConcurrentHashMap<>();
+    private static final ClassValue<ConcurrentHashMap<String, Object>> FIELDS =
+            new ClassValue<ConcurrentHashMap<String, Object>>() {
+                @Override
+                protected ConcurrentHashMap<String, Object> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+    private static final ClassValue<ConcurrentHashMap<String, Object>> METHODS =
+            new ClassValue<ConcurrentHashMap<String, Object>>() {
+                @Override
+                protected ConcurrentHashMap<String, Object> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private ReflectiveAccessors() {}
+
+    /** Returns the class with the given name, loaded by the plugin class loader. */
+    public static Class<?> findClass(String className) throws ClassNotFoundException {
+        Object cached = CLASSES.computeIfAbsent(className, ReflectiveAccessors::loadClass);
+        if (cached == ABSENT) {
+            throw new ClassNotFoundException(className);
+        }
+        return (Class<?>) cached;
+    }
+
+    public static boolean isClassPresent(String className) {
+        return CLASSES.computeIfAbsent(className, ReflectiveAccessors::loadClass) != ABSENT;
+    }
+
+    /** Returns an accessor for a field declared by {@code owner}, of any visibility. */
+    public static FieldAccessor field(Class<?> owner, String fieldName)
+            throws NoSuchFieldException {
+        Object cached = lookupField(owner, fieldName);
+        if (cached == ABSENT) {
+            throw new NoSuchFieldException(owner.getName() + "." + fieldName);
+        }
+        return (FieldAccessor) cached;
+    }
+
+    /**
+     * Returns the value of a field declared by the class of {@code target} or by one of its
+     * superclasses, of any visibility.
+     */
+    public static Object readField(Object target, String fieldName) throws NoSuchFieldException {
+        FieldAccessor accessor = findInHierarchy(target.getClass(), fieldName);
+        if (accessor == null) {
+            throw new NoSuchFieldException(target.getClass().getName() + "." + fieldName);
+        }
+        return accessor.get(target);
+    }
+
+    /**
+     * Returns the value of a numeric field of {@code target}, see {@link #readField(Object,
+     * String)}.
+     *
+     * @throws ClassCastException if the field does not hold a {@link Number}
+     */
+    public static long readLong(Object target, String fieldName) throws NoSuchFieldException {
+        return ((Number) readField(target, fieldName)).longValue();
+    }
+
+    /** Same as {@link #readLong(Object, String)}, returns {@code defaultValue} if absent. */
+    public static long readLong(Object target, String fieldName, long defaultValue) {
+        FieldAccessor accessor = findInHierarchy(target.getClass(), fieldName);
+        return accessor == null ? defaultValue : ((Number) accessor.get(target)).longValue();
+    }
+
+    public static FieldAccessor field(String className, String fieldName)
+            throws ClassNotFoundException, NoSuchFieldException {
+        return field(findClass(className), fieldName);
+    }
+
+    /**
+     * Returns an accessor for a method declared by {@code owner}, of any visibility, or for a
+     * public method {@code owner} inherits.
+     */
+    public static MethodAccessor method(
+            Class<?> owner, String methodName, Class<?>... parameterTypes)
+            throws NoSuchMethodException {
+        String key =
+                parameterTypes.length == 0
+                        ? methodName
+                        : methodName + Arrays.toString(parameterTypes);
+        Object cached =
+                METHODS.get(owner)
+                        .computeIfAbsent(
+                                key, k -> resolveMethod(owner, methodName, parameterTypes));
+        if (cached == ABSENT) {
+            throw new NoSuchMethodException(owner.getName() + "." + key);
+        }
+        return (MethodAccessor) cached;
+    }
+
+    public static boolean isMethodPresent(
+            Class<?> owner, String methodName, Class<?>... parameterTypes) {
+        try {
+            method(owner, methodName, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static Object lookupField(Class<?> owner, String fieldName) {
+        return FIELDS.get(owner).computeIfAbsent(fieldName, name -> resolveField(owner, name));
+    }
+
+    private static FieldAccessor findInHierarchy(Class<?> type, String fieldName) {
+        for (Class<?> owner = type; owner != null; owner = owner.getSuperclass()) {
+            Object cached = lookupField(owner, fieldName);
+            if (cached != ABSENT) {
+                return (FieldAccessor) cached;
+            }
+        }
+        return null;
+    }
+
+    private static Object loadClass(String className) {
+        try {
+            return Class.forName(className);
+        } catch (ClassNotFoundException | LinkageError e) {
+            return ABSENT;
+        }
+    }
+
+    private static Object resolveField(Class<?> owner, String fieldName) {
+        try {
+            Field field = owner.getDeclaredField(fieldName);
+            field.setAccessible(true);
+            return new FieldAccessor(field, LOOKUP.unreflectGetter(field));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ABSENT;
+        }
+    }
+
+    private static Object resolveMethod(
+            Class<?> owner, String methodName, Class<?>... parameterTypes) {
+        Method method;
+        try {
+            method = owner.getDeclaredMethod(methodName, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            try {
+                method = owner.getMethod(methodName, parameterTypes);
+            } catch (NoSuchMethodException notPublic) {
+                return ABSENT;
+            }
+        }
+        try {
+            method.setAccessible(true);
+            return new MethodAccessor(method, LOOKUP.unreflect(method));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return ABSENT;
+        }
+    }
+
+    private static RuntimeException rethrowUnchecked(Throwable t) {
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return new IllegalStateException(t);
+    }
+
+    /** Reads a resolved field through a getter handle. */
+    public static final class FieldAccessor {
+        private final Field field;
+        // Takes the target as an Object, or no argument for a static field, and returns an Object.
+        private final MethodHandle getter;
+        private final boolean isStatic;
+
+        private FieldAccessor(Field field, MethodHandle getter) {
+            this.field = field;
+            this.isStatic = Modifier.isStatic(field.getModifiers());
+            this.getter =
+                    isStatic
+                            ? getter.asType(MethodType.methodType(Object.class))
+                            : getter.asType(MethodType.methodType(Object.class, Object.class));
+        }
+
+        /** Returns the value of the field, {@code target} is ignored for a static field. */
+        public Object get(Object target) {
+            try {
+                return isStatic
+                        ? (Object) getter.invokeExact()
+                        : (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrowUnchecked(t);
+            }
+        }
+
+        public <T> T get(Object target, Class<T> type) {
+            return type.cast(get(target));
+        }
+
+        public Field getField() {
+            return field;
+        }
+    }
+
+    /** Invokes a resolved method through a method handle. */
+    public static final class MethodAccessor {
+        private final Method method;
+        private final MethodHandle handle;
+        private final boolean isStatic;
+
+        private MethodAccessor(Method method, MethodHandle handle) {
+            this.method = method;
+            this.isStatic = Modifier.isStatic(method.getModifiers());
+            this.handle = handle.asType(handle.type().generic());
+        }
+
+        /**
+         * Invokes the method, {@code target} is ignored for a static method. Like {@link
+         * Method#invoke}, an exception thrown by the method is wrapped in an {@link
+         * InvocationTargetException}.
+         */
+        public Object invoke(Object target, Object... args) throws InvocationTargetException {
+            try {
+                if (isStatic) {
+                    return args.length == 0 ? handle.invoke() : handle.invokeWithArguments(args);
+                }
+                if (args.length == 0) {
+                    return handle.invoke(target);
+                }
+                Object[] arguments = new Object[args.length + 1];
+                arguments[0] = target;
+                System.arraycopy(args, 0, arguments, 1, args.length);
+                return handle.invokeWithArguments(arguments);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        public long invokeLong(Object target, Object... args) throws InvocationTargetException {
+            return ((Number) invoke(target, args)).longValue();
+        }
+
+        public Method getMethod() {
+            return method;
+        }
+    }
+}
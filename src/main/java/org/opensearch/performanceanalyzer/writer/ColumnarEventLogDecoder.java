@@ -0,0 +1,182 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.JSON_LONG;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.JSON_STRING;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.KEY_PATH_SEPARATOR;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.KEY_VALUE_SEPARATOR;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_JSON_OBJECT;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_KEY_LONG;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_KEY_STRING;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_RAW;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_SEPARATOR;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+/**
+ * Versioned reader for files written in the columnar event log format. See {@link
+ * ColumnarEventLogFormat} for the layout.
+ */
+public final class ColumnarEventLogDecoder {
+
+    private ColumnarEventLogDecoder() {}
+
+    /** Decodes every block of the file, including the value column. */
+    public static List<Event> readFile(Path path) throws IOException {
+        return decode(Files.readAllBytes(path), true);
+    }
+
+    /** Decodes every block in {@code bytes}, including the value column. */
+    public static List<Event> decode(byte[] bytes) {
+        return decode(bytes, true);
+    }
+
+    /**
+     * Decodes every block in {@code bytes}.
+     *
+     * @param bytes the contents of an event log file
+     * @param includeValues when false, the value column is skipped without being parsed and every
+     *     returned event carries an empty value. This is useful for readers that only need to know
+     *     which metric paths are present in a bucket.
+     * @return the decoded events, in write order
+     */
+    public static List<Event> decode(byte[] bytes, boolean includeValues) {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        List<Event> events = new ArrayList<>();
+        while (in.hasRemaining()) {
+            decodeBlock(in, includeValues, events);
+        }
+        return events;
+    }
+
+    private static void decodeBlock(ByteBuffer in, boolean includeValues, List<Event> out) {
+        int magic = in.getInt();
+        if (magic != ColumnarEventLogFormat.MAGIC) {
+            throw new IllegalArgumentException(
+                    "Not a columnar event log block, magic: " + Integer.toHexString(magic));
+        }
+        byte version = in.get();
+        if (version != ColumnarEventLogFormat.VERSION_1) {
+            throw new IllegalArgumentException(
+                    "Unsupported columnar event log version: " + version);
+        }
+        long bucket = ColumnarEventLogFormat.readVarLong(in);
+        int count = ColumnarEventLogFormat.readVarInt(in);
+
+        String[] dictionary = readDictionary(section(in));
+        ByteBuffer keys = section(in);
+        ByteBuffer epochs = section(in);
+        ByteBuffer values = section(in);
+
+        StringBuilder sb = new StringBuilder();
+        long prevEpoch = bucket;
+        for (int i = 0; i < count; i++) {
+            String key = readKey(keys, dictionary, sb);
+            long epoch = prevEpoch + ColumnarEventLogFormat.readZigZagLong(epochs);
+            prevEpoch = epoch;
+            String value = includeValues ? readValue(values, dictionary, sb) : "";
+            out.add(new Event(key, value, epoch));
+        }
+    }
+
+    /** Returns a view over the next length-prefixed section and advances past it. */
+    private static ByteBuffer section(ByteBuffer in) {
+        int length = ColumnarEventLogFormat.readVarInt(in);
+        ByteBuffer section = in.slice();
+        section.limit(length);
+        in.position(in.position() + length);
+        return section;
+    }
+
+    private static String[] readDictionary(ByteBuffer in) {
+        String[] dictionary = new String[ColumnarEventLogFormat.readVarInt(in)];
+        for (int i = 0; i < dictionary.length; i++) {
+            int length = ColumnarEventLogFormat.readVarInt(in);
+            dictionary[i] =
+                    new String(
+                            in.array(),
+                            in.arrayOffset() + in.position(),
+                            length,
+                            StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        }
+        return dictionary;
+    }
+
+    private static String readKey(ByteBuffer in, String[] dictionary, StringBuilder sb) {
+        sb.setLength(0);
+        int components = ColumnarEventLogFormat.readVarInt(in);
+        for (int i = 0; i < components; i++) {
+            if (i > 0) {
+                sb.append(KEY_PATH_SEPARATOR);
+            }
+            sb.append(dictionary[ColumnarEventLogFormat.readVarInt(in)]);
+        }
+        return sb.toString();
+    }
+
+    private static String readValue(ByteBuffer in, String[] dictionary, StringBuilder sb) {
+        sb.setLength(0);
+        int lines = ColumnarEventLogFormat.readVarInt(in);
+        for (int i = 0; i < lines; i++) {
+            if (i > 0) {
+                sb.append(LINE_SEPARATOR);
+            }
+            int type = ColumnarEventLogFormat.readVarInt(in);
+            switch (type) {
+                case LINE_RAW:
+                    sb.append(dictionary[ColumnarEventLogFormat.readVarInt(in)]);
+                    break;
+                case LINE_KEY_LONG:
+                    sb.append(dictionary[ColumnarEventLogFormat.readVarInt(in)])
+                            .append(KEY_VALUE_SEPARATOR)
+                            .append(ColumnarEventLogFormat.readZigZagLong(in));
+                    break;
+                case LINE_KEY_STRING:
+                    sb.append(dictionary[ColumnarEventLogFormat.readVarInt(in)])
+                            .append(KEY_VALUE_SEPARATOR)
+                            .append(dictionary[ColumnarEventLogFormat.readVarInt(in)]);
+                    break;
+                case LINE_JSON_OBJECT:
+                    readJsonObject(in, dictionary, sb);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown line type: " + type);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void readJsonObject(ByteBuffer in, String[] dictionary, StringBuilder sb) {
+        int members = ColumnarEventLogFormat.readVarInt(in);
+        sb.append('{');
+        for (int i = 0; i < members; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append('"').append(dictionary[ColumnarEventLogFormat.readVarInt(in)]).append("\":");
+            int kind = ColumnarEventLogFormat.readVarInt(in);
+            if (kind == JSON_LONG) {
+                sb.append(ColumnarEventLogFormat.readZigZagLong(in));
+            } else if (kind == JSON_STRING) {
+                sb.append('"')
+                        .append(dictionary[ColumnarEventLogFormat.readVarInt(in)])
+                        .append('"');
+            } else {
+                sb.append(dictionary[ColumnarEventLogFormat.readVarInt(in)]);
+            }
+        }
+        sb.append('}');
+    }
+}
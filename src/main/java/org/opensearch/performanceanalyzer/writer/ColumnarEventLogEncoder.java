@@ -0,0 +1,268 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.JSON_LITERAL;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.JSON_LONG;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.JSON_STRING;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.KEY_PATH_SEPARATOR;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.KEY_VALUE_SEPARATOR;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_JSON_OBJECT;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_KEY_LONG;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_KEY_STRING;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_RAW;
+import static org.opensearch.performanceanalyzer.writer.ColumnarEventLogFormat.LINE_SEPARATOR;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+/**
+ * Encodes the events of one time bucket into a single block of the columnar event log format
+ * described in {@link ColumnarEventLogFormat}.
+ *
+ * <p>Instances are not thread safe. The queue processor owns one encoder and reuses its buffers
+ * across flushes.
+ */
+public class ColumnarEventLogEncoder {
+    private final Map<String, Integer> dictionary = new HashMap<>();
+    private final List<String> dictionaryEntries = new ArrayList<>();
+    private final ByteArrayOutputStream keys = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream epochs = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream values = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream section = new ByteArrayOutputStream();
+    // Scratch space for JSON lines: member names, values and value kinds of the current line.
+    private final List<String> jsonNames = new ArrayList<>();
+    private final List<String> jsonValues = new ArrayList<>();
+    private final List<Integer> jsonKinds = new ArrayList<>();
+
+    /**
+     * Encodes the given events into one block.
+     *
+     * @param events events of the bucket, in the order they were drained from the queue
+     * @param bucket the time bucket the events belong to; epochs are delta encoded against it
+     * @return the encoded block
+     */
+    public byte[] encode(List<Event> events, long bucket) {
+        reset();
+        long prevEpoch = bucket;
+        for (Event event : events) {
+            encodeKey(event.key);
+            ColumnarEventLogFormat.writeZigZagLong(epochs, event.epoch - prevEpoch);
+            prevEpoch = event.epoch;
+            encodeValue(event.value);
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream(estimateSize());
+        try {
+            DataOutputStream header = new DataOutputStream(block);
+            header.writeInt(ColumnarEventLogFormat.MAGIC);
+            header.writeByte(ColumnarEventLogFormat.CURRENT_VERSION);
+            header.flush();
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws.
+            throw new IllegalStateException(e);
+        }
+        ColumnarEventLogFormat.writeVarLong(block, bucket);
+        ColumnarEventLogFormat.writeVarInt(block, events.size());
+
+        writeDictionary();
+        writeSection(block, section);
+        writeSection(block, keys);
+        writeSection(block, epochs);
+        writeSection(block, values);
+        return block.toByteArray();
+    }
+
+    private void reset() {
+        dictionary.clear();
+        dictionaryEntries.clear();
+        keys.reset();
+        epochs.reset();
+        values.reset();
+        section.reset();
+    }
+
+    private int estimateSize() {
+        return 32 + keys.size() + epochs.size() + values.size() + 16 * dictionaryEntries.size();
+    }
+
+    private void encodeKey(String key) {
+        if (key == null) {
+            key = "";
+        }
+        int components = 1;
+        for (int i = 0; i < key.length(); i++) {
+            if (key.charAt(i) == KEY_PATH_SEPARATOR) {
+                components++;
+            }
+        }
+        ColumnarEventLogFormat.writeVarInt(keys, components);
+        int start = 0;
+        for (int i = 0; i <= key.length(); i++) {
+            if (i == key.length() || key.charAt(i) == KEY_PATH_SEPARATOR) {
+                ColumnarEventLogFormat.writeVarInt(keys, idOf(key.substring(start, i)));
+                start = i + 1;
+            }
+        }
+    }
+
+    private void encodeValue(String value) {
+        if (value == null) {
+            value = "";
+        }
+        int lines = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == LINE_SEPARATOR) {
+                lines++;
+            }
+        }
+        ColumnarEventLogFormat.writeVarInt(values, lines);
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == LINE_SEPARATOR) {
+                encodeLine(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+    }
+
+    private void encodeLine(String line) {
+        if (!line.isEmpty() && line.charAt(0) == '{') {
+            if (parseFlatJsonObject(line)) {
+                ColumnarEventLogFormat.writeVarInt(values, LINE_JSON_OBJECT);
+                ColumnarEventLogFormat.writeVarInt(values, jsonNames.size());
+                for (int i = 0; i < jsonNames.size(); i++) {
+                    int kind = jsonKinds.get(i);
+                    ColumnarEventLogFormat.writeVarInt(values, idOf(jsonNames.get(i)));
+                    ColumnarEventLogFormat.writeVarInt(values, kind);
+                    if (kind == JSON_LONG) {
+                        ColumnarEventLogFormat.writeZigZagLong(
+                                values, Long.parseLong(jsonValues.get(i)));
+                    } else {
+                        ColumnarEventLogFormat.writeVarInt(values, idOf(jsonValues.get(i)));
+                    }
+                }
+                return;
+            }
+        }
+        int separator =
+                line.isEmpty() || line.charAt(0) == '{' ? -1 : line.indexOf(KEY_VALUE_SEPARATOR);
+        if (separator <= 0) {
+            // Nested JSON documents and free-form lines are kept verbatim.
+            ColumnarEventLogFormat.writeVarInt(values, LINE_RAW);
+            ColumnarEventLogFormat.writeVarInt(values, idOf(line));
+            return;
+        }
+        int keyId = idOf(line.substring(0, separator));
+        if (ColumnarEventLogFormat.isCanonicalLong(line, separator + 1)) {
+            ColumnarEventLogFormat.writeVarInt(values, LINE_KEY_LONG);
+            ColumnarEventLogFormat.writeVarInt(values, keyId);
+            ColumnarEventLogFormat.writeZigZagLong(
+                    values, Long.parseLong(line.substring(separator + 1)));
+        } else {
+            ColumnarEventLogFormat.writeVarInt(values, LINE_KEY_STRING);
+            ColumnarEventLogFormat.writeVarInt(values, keyId);
+            ColumnarEventLogFormat.writeVarInt(values, idOf(line.substring(separator + 1)));
+        }
+    }
+
+    /**
+     * Parses a compact JSON object whose members are all scalars, e.g. {@code
+     * {"a":1,"b":"x","c":1.5,"d":null}}, into the scratch lists. Anything else (whitespace, escape
+     * sequences, nested values) is rejected so that the line can be rebuilt exactly on decode.
+     */
+    private boolean parseFlatJsonObject(String line) {
+        jsonNames.clear();
+        jsonValues.clear();
+        jsonKinds.clear();
+        int len = line.length();
+        if (line.charAt(len - 1) != '}' || line.indexOf('\\') >= 0) {
+            return false;
+        }
+        if (len == 2) {
+            return true;
+        }
+        int i = 1;
+        while (i < len && line.charAt(i) == '"') {
+            int nameEnd = line.indexOf('"', i + 1);
+            if (nameEnd < 0 || nameEnd + 2 >= len || line.charAt(nameEnd + 1) != ':') {
+                return false;
+            }
+            String name = line.substring(i + 1, nameEnd);
+            int valueStart = nameEnd + 2;
+            int valueEnd;
+            if (line.charAt(valueStart) == '"') {
+                valueEnd = line.indexOf('"', valueStart + 1);
+                if (valueEnd < 0) {
+                    return false;
+                }
+                jsonValues.add(line.substring(valueStart + 1, valueEnd));
+                jsonKinds.add(JSON_STRING);
+                valueEnd++;
+            } else {
+                valueEnd = valueStart;
+                while (valueEnd < len
+                        && line.charAt(valueEnd) != ','
+                        && line.charAt(valueEnd) != '}') {
+                    char c = line.charAt(valueEnd);
+                    if (c == '{' || c == '[' || c == '"' || c == ' ') {
+                        return false;
+                    }
+                    valueEnd++;
+                }
+                String value = line.substring(valueStart, valueEnd);
+                if (value.isEmpty()) {
+                    return false;
+                }
+                jsonValues.add(value);
+                jsonKinds.add(
+                        ColumnarEventLogFormat.isCanonicalLong(value, 0)
+                                ? JSON_LONG
+                                : JSON_LITERAL);
+            }
+            jsonNames.add(name);
+            if (valueEnd == len - 1) {
+                return true;
+            }
+            if (valueEnd >= len || line.charAt(valueEnd) != ',') {
+                return false;
+            }
+            i = valueEnd + 1;
+        }
+        return false;
+    }
+
+    private int idOf(String s) {
+        Integer id = dictionary.get(s);
+        if (id == null) {
+            id = dictionaryEntries.size();
+            dictionary.put(s, id);
+            dictionaryEntries.add(s);
+        }
+        return id;
+    }
+
+    private void writeDictionary() {
+        ColumnarEventLogFormat.writeVarInt(section, dictionaryEntries.size());
+        for (String entry : dictionaryEntries) {
+            byte[] bytes = entry.getBytes(StandardCharsets.UTF_8);
+            ColumnarEventLogFormat.writeVarInt(section, bytes.length);
+            section.write(bytes, 0, bytes.length);
+        }
+    }
+
+    private static void writeSection(ByteArrayOutputStream block, ByteArrayOutputStream column) {
+        ColumnarEventLogFormat.writeVarInt(block, column.size());
+        block.write(column.toByteArray(), 0, column.size());
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.PerformanceAnalyzerPlugin;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+/**
+ * Appends columnar encoded blocks to {@code <bucket>.tmp} files in the metrics location. It is a
+ * drop-in replacement for {@code EventLogFileHandler#writeTmpFile}; rotation and deletion of the
+ * files are still done by the {@code EventLogFileHandler} as they do not depend on the encoding.
+ */
+public class ColumnarEventLogFileWriter {
+    private static final Logger LOG = LogManager.getLogger(ColumnarEventLogFileWriter.class);
+    private static final String TMP_FILE_EXT = ".tmp";
+
+    private final String metricsLocation;
+    private final ColumnarEventLogEncoder encoder = new ColumnarEventLogEncoder();
+
+    public ColumnarEventLogFileWriter(String metricsLocation) {
+        this.metricsLocation = metricsLocation;
+    }
+
+    public void writeTmpFile(List<Event> events, long bucket) {
+        byte[] block = encoder.encode(events, bucket);
+        Path path = Paths.get(metricsLocation, bucket + TMP_FILE_EXT);
+        PerformanceAnalyzerPlugin.invokePrivileged(
+                () -> {
+                    try {
+                        Files.write(
+                                path,
+                                block,
+                                StandardOpenOption.CREATE,
+                                StandardOpenOption.WRITE,
+                                StandardOpenOption.APPEND);
+                    } catch (IOException e) {
+                        LOG.error("Error writing columnar event log block to {}", path, e);
+                    }
+                });
+    }
+}
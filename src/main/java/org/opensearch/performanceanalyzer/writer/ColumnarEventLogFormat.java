@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Constants and primitive helpers shared by {@link ColumnarEventLogEncoder} and {@link
+ * ColumnarEventLogDecoder}.
+ *
+ * <p>An event log file in the columnar encoding is a sequence of self-describing blocks, one per
+ * {@link EventLogQueueProcessor} flush. Each block is laid out as:
+ *
+ * <pre>
+ *   magic (4 bytes) | version (1 byte) | bucket (varlong) | event count (varint)
+ *   dictionary section | key column | epoch column | value column
+ * </pre>
+ *
+ * Every section is prefixed with its length in bytes (varint) so that a reader can skip the columns
+ * it does not need. Strings (path components, metric names, JSON member names and non-numeric
+ * metric values) are dictionary encoded per block, epochs are zig-zag delta encoded against the
+ * bucket and numeric metric values are stored as zig-zag varlongs.
+ */
+public final class ColumnarEventLogFormat {
+    /** "PAEB" - Performance Analyzer Event Block. */
+    public static final int MAGIC = 0x50414542;
+
+    public static final byte VERSION_1 = 1;
+    public static final byte CURRENT_VERSION = VERSION_1;
+
+    /** Value of the {@code event-log-encoding} plugin setting that enables this format. */
+    public static final String ENCODING_NAME = "columnar";
+
+    static final char KEY_PATH_SEPARATOR = '/';
+    static final char LINE_SEPARATOR = '\n';
+    static final char KEY_VALUE_SEPARATOR = ':';
+
+    /** The line is stored verbatim as a dictionary entry. */
+    static final int LINE_RAW = 0;
+    /** The line is a {@code key:value} pair whose value is a canonical long. */
+    static final int LINE_KEY_LONG = 1;
+    /** The line is a {@code key:value} pair whose value is an arbitrary string. */
+    static final int LINE_KEY_STRING = 2;
+    /**
+     * The line is a flat, compact JSON object (as written by the collectors via Jackson). Member
+     * names and values are stored as dictionary ids and numbers, and the line is rebuilt byte for
+     * byte on decode.
+     */
+    static final int LINE_JSON_OBJECT = 3;
+
+    /** JSON member value kinds of a {@link #LINE_JSON_OBJECT} line. */
+    static final int JSON_LONG = 0;
+
+    static final int JSON_STRING = 1;
+    static final int JSON_LITERAL = 2;
+
+    private ColumnarEventLogFormat() {}
+
+    static void writeVarInt(ByteArrayOutputStream out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    static void writeZigZagLong(ByteArrayOutputStream out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        int shift = 0;
+        while (shift < 64) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+        }
+        throw new IllegalArgumentException("Malformed varlong");
+    }
+
+    static long readZigZagLong(ByteBuffer in) {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Returns true if the string is the canonical decimal representation of a long, i.e. {@code
+     * Long.toString(Long.parseLong(s)).equals(s)}. Only such values are stored as numbers so that
+     * decoding is lossless.
+     */
+    static boolean isCanonicalLong(String s, int from) {
+        int len = s.length() - from;
+        if (len <= 0 || len > 20) {
+            return false;
+        }
+        int i = from;
+        if (s.charAt(i) == '-') {
+            i++;
+            if (i == s.length() || s.charAt(i) == '0') {
+                return false;
+            }
+        }
+        if (s.charAt(i) == '0' && i != s.length() - 1) {
+            return false;
+        }
+        for (int j = i; j < s.length(); j++) {
+            char c = s.charAt(j);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        if (len >= 19) {
+            try {
+                Long.parseLong(s.substring(from));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
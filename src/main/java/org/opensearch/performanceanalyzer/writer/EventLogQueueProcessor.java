@@ -11,10 +11,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
-import java.util.stream.Collectors;
-import java.util.stream.LongStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.action.HttpRequestSummaries;
 import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
 import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
 import org.opensearch.performanceanalyzer.commons.event_process.Event;
@@ -23,14 +22,26 @@ import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerConfigAction;
+import org.opensearch.performanceanalyzer.listener.ShardSearchLatencyHistograms;
+import org.opensearch.performanceanalyzer.transport.ShardWriteLatencyHistograms;
 
 public class EventLogQueueProcessor {
     private static final Logger LOG = LogManager.getLogger(EventLogQueueProcessor.class);
+    // Set to "columnar" in performance-analyzer.properties to write binary columnar event logs.
+    static final String EVENT_LOG_ENCODING_SETTING = "event-log-encoding";
+    static final String DEFAULT_EVENT_LOG_ENCODING = "text";
+    // Set to "segment" in performance-analyzer.properties to write memory mapped segment files.
+    static final String EVENT_LOG_WRITER_SETTING = "event-log-writer";
+    static final String DEFAULT_EVENT_LOG_WRITER = "file";
 
     private final ScheduledExecutorService writerExecutor = Executors.newScheduledThreadPool(1);
     private final int filesCleanupPeriodicityMillis =
             PluginSettings.instance().getMetricsDeletionInterval(); // defaults to 60seconds
     private final EventLogFileHandler eventLogFileHandler;
+    // Null unless the columnar encoding is enabled, in which case tmp files are written through it.
+    private final ColumnarEventLogFileWriter columnarWriter;
+    // Null unless segment files are enabled, in which case it replaces the per bucket files.
+    private final EventLogSegmentWriter segmentWriter;
     private final long initialDelayMillis;
     private final long purgePeriodicityMillis;
     private final PerformanceAnalyzerController controller;
@@ -42,7 +53,45 @@ public class EventLogQueueProcessor {
             long initialDelayMillis,
             long purgePeriodicityMillis,
             PerformanceAnalyzerController controller) {
+        this(
+                eventLogFileHandler,
+                initialDelayMillis,
+                purgePeriodicityMillis,
+                controller,
+                isColumnarEncodingEnabled()
+                        ? new ColumnarEventLogFileWriter(
+                                PluginSettings.instance().getMetricsLocation())
+                        : null,
+                isSegmentWriterEnabled()
+                        ? new EventLogSegmentWriter(PluginSettings.instance().getMetricsLocation())
+                        : null);
+    }
+
+    public EventLogQueueProcessor(
+            EventLogFileHandler eventLogFileHandler,
+            long initialDelayMillis,
+            long purgePeriodicityMillis,
+            PerformanceAnalyzerController controller,
+            ColumnarEventLogFileWriter columnarWriter) {
+        this(
+                eventLogFileHandler,
+                initialDelayMillis,
+                purgePeriodicityMillis,
+                controller,
+                columnarWriter,
+                null);
+    }
+
+    public EventLogQueueProcessor(
+            EventLogFileHandler eventLogFileHandler,
+            long initialDelayMillis,
+            long purgePeriodicityMillis,
+            PerformanceAnalyzerController controller,
+            ColumnarEventLogFileWriter columnarWriter,
+            EventLogSegmentWriter segmentWriter) {
         this.eventLogFileHandler = eventLogFileHandler;
+        this.columnarWriter = columnarWriter;
+        this.segmentWriter = segmentWriter;
         this.initialDelayMillis = initialDelayMillis;
         this.purgePeriodicityMillis = purgePeriodicityMillis;
         this.lastCleanupTimeBucket = 0;
@@ -54,6 +103,9 @@ public class EventLogQueueProcessor {
         // Cleanup any lingering files from previous plugin run.
         try {
             eventLogFileHandler.deleteAllFiles();
+            if (segmentWriter != null) {
+                segmentWriter.deleteAllSegments();
+            }
         } catch (Exception ex) {
             LOG.error("Unable to cleanup lingering files from previous plugin run.", ex);
         }
@@ -96,6 +148,11 @@ public class EventLogQueueProcessor {
             // new files. But we also want to drain the queue so that when it is
             // enabled next, we don't have the current elements as they would be
             // old.
+            RequestEventRecorder.discard();
+            StripedMetricQueue.discard();
+            ShardSearchLatencyHistograms.discard();
+            HttpRequestSummaries.discard();
+            ShardWriteLatencyHistograms.discard();
             if (PerformanceAnalyzerMetrics.metricQueue.size() > 0) {
                 List<Event> metrics = new ArrayList<>();
                 PerformanceAnalyzerMetrics.metricQueue.drainTo(metrics);
@@ -107,6 +164,13 @@ public class EventLogQueueProcessor {
         }
 
         LOG.debug("Starting to purge the queue.");
+        // Move the records and events of the request path hooks into the queue so that they are
+        // written along with the collector metrics.
+        RequestEventRecorder.flush();
+        ShardSearchLatencyHistograms.emitSnapshots(System.currentTimeMillis());
+        HttpRequestSummaries.emitSummaries(System.currentTimeMillis());
+        ShardWriteLatencyHistograms.emitSnapshots(System.currentTimeMillis());
+        StripedMetricQueue.drain();
         List<Event> metrics = new ArrayList<>();
         PerformanceAnalyzerMetrics.metricQueue.drainTo(metrics);
         LOG.debug("Queue draining successful.");
@@ -149,7 +213,7 @@ public class EventLogQueueProcessor {
             // The next bucket metrics don't need to be considered for
             // rotation just yet. So, we just write them to the
             // <nextTimeBucket>.tmp
-            eventLogFileHandler.writeTmpFile(nextMetrics, nextTimeBucket);
+            writeTmpFile(nextMetrics, nextTimeBucket);
         }
         LOG.debug("Writing to disk complete.");
 
@@ -173,35 +237,71 @@ public class EventLogQueueProcessor {
             // sec)
             // This is done to ensure that there is enough files for deletion.
             if (currCleanupTimeBucket - lastCleanupTimeBucket > filesCleanupPeriodicityMillis) {
-                // Get list of files(time buckets) for purging, considered range :
-                // [lastCleanupTimeBucket, currCleanupTimeBucket)
-                List<String> filesForCleanup =
-                        LongStream.range(lastCleanupTimeBucket, currCleanupTimeBucket)
-                                .filter(
-                                        timeMillis ->
-                                                timeMillis % MetricsConfiguration.SAMPLING_INTERVAL
-                                                        == 0)
-                                .mapToObj(String::valueOf)
-                                .collect(Collectors.toList());
-                eventLogFileHandler.deleteFiles(Collections.unmodifiableList(filesForCleanup));
+                if (segmentWriter != null) {
+                    segmentWriter.deleteSegmentsBefore(currCleanupTimeBucket);
+                } else {
+                    // Get list of files(time buckets) for purging, considered range :
+                    // [lastCleanupTimeBucket, currCleanupTimeBucket)
+                    eventLogFileHandler.deleteFiles(
+                            Collections.unmodifiableList(
+                                    getTimeBuckets(lastCleanupTimeBucket, currCleanupTimeBucket)));
+                }
                 lastCleanupTimeBucket = currCleanupTimeBucket;
             }
         }
     }
 
+    /** Returns the sampling interval aligned time buckets in [from, to). */
+    static List<String> getTimeBuckets(long from, long to) {
+        long interval = MetricsConfiguration.SAMPLING_INTERVAL;
+        List<String> buckets = new ArrayList<>();
+        for (long bucket = from + Math.floorMod(-from, interval); bucket < to; bucket += interval) {
+            buckets.add(String.valueOf(bucket));
+        }
+        return buckets;
+    }
+
     private void writeAndRotate(
             final List<Event> currMetrics, long currTimeBucket, long currentTime) {
         // Going by the continuing example, we will rotate the 5.tmp file to
         // 5, which contains the metrics with epoch 5-10, whenever the purger
         // runs after the 15th second.
         if (lastTimeBucket != 0 && lastTimeBucket != currTimeBucket) {
-            eventLogFileHandler.renameFromTmp(lastTimeBucket);
+            if (segmentWriter != null) {
+                segmentWriter.seal(lastTimeBucket);
+            } else {
+                eventLogFileHandler.renameFromTmp(lastTimeBucket);
+            }
         }
         // Append to the tmp file only if we have metrics to publish.
         if (!currMetrics.isEmpty()) {
             // This appends the data to a file named <currTimeBucket>.tmp
-            eventLogFileHandler.writeTmpFile(currMetrics, currTimeBucket);
+            writeTmpFile(currMetrics, currTimeBucket);
         }
         lastTimeBucket = currTimeBucket;
     }
+
+    private void writeTmpFile(final List<Event> metrics, long timeBucket) {
+        if (segmentWriter != null) {
+            segmentWriter.append(metrics, timeBucket);
+        } else if (columnarWriter != null) {
+            columnarWriter.writeTmpFile(metrics, timeBucket);
+        } else {
+            eventLogFileHandler.writeTmpFile(metrics, timeBucket);
+        }
+    }
+
+    private static boolean isColumnarEncodingEnabled() {
+        String encoding =
+                PluginSettings.instance()
+                        .getSettingValue(EVENT_LOG_ENCODING_SETTING, DEFAULT_EVENT_LOG_ENCODING);
+        return ColumnarEventLogFormat.ENCODING_NAME.equalsIgnoreCase(encoding.trim());
+    }
+
+    private static boolean isSegmentWriterEnabled() {
+        String writer =
+                PluginSettings.instance()
+                        .getSettingValue(EVENT_LOG_WRITER_SETTING, DEFAULT_EVENT_LOG_WRITER);
+        return EventLogSegmentFormat.WRITER_NAME.equalsIgnoreCase(writer.trim());
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Layout of the pre-allocated event log segment files written by {@link EventLogSegmentWriter}.
+ *
+ * <p>A segment file has a fixed size and starts with a header followed by the data region:
+ *
+ * <pre>
+ *   magic (int) | version (int) | sealed bucket (long) | min bucket (long) | max bucket (long)
+ *   chunk count (int) | data end (int) | reserved up to {@link #INDEX_OFFSET}
+ *   index: {@link #INDEX_CAPACITY} x [ bucket (long) | offset (int) | length (int) ]
+ *   data: chunks, each a {@link ColumnarEventLogFormat} block of the events of one bucket
+ * </pre>
+ *
+ * A bucket may span several chunks and several segments. A bucket is complete, the equivalent of
+ * the {@code <bucket>.tmp} file being renamed to {@code <bucket>}, once it is lower than or equal
+ * to the sealed bucket of the most recent segment. The min and max buckets bound the buckets of
+ * every chunk of the segment, which are not necessarily appended in order. The chunk count is
+ * updated after the chunk, its index entry and the bounds are written, so a reader never sees a
+ * partially written chunk.
+ */
+public final class EventLogSegmentFormat {
+    /** "PASG" - Performance Analyzer SeGment. */
+    public static final int MAGIC = 0x50415347;
+
+    public static final int VERSION_1 = 1;
+    public static final int CURRENT_VERSION = VERSION_1;
+
+    /** Value of the {@code event-log-writer} plugin setting that enables segment files. */
+    public static final String WRITER_NAME = "segment";
+
+    public static final String SEGMENT_FILE_EXT = ".seg";
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int SEALED_BUCKET_OFFSET = 8;
+    static final int MIN_BUCKET_OFFSET = 16;
+    static final int MAX_BUCKET_OFFSET = 24;
+    static final int CHUNK_COUNT_OFFSET = 32;
+    static final int DATA_END_OFFSET = 36;
+    static final int INDEX_OFFSET = 64;
+    /**
+     * View of the header ints, used to publish and read the chunk count with release and acquire
+     * semantics. Segments are big endian, the default order of a mapped buffer.
+     */
+    static final VarHandle INT_VIEW =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    static final int INDEX_ENTRY_SIZE = 16;
+    static final int INDEX_ENTRY_OFFSET = 8;
+    static final int INDEX_ENTRY_LENGTH = 12;
+    /** Chunks per segment; the writer appends at most two chunks per purge. */
+    static final int INDEX_CAPACITY = 4096;
+
+    static final int DATA_OFFSET = INDEX_OFFSET + INDEX_CAPACITY * INDEX_ENTRY_SIZE;
+
+    /** No bucket has been sealed yet. */
+    public static final long NO_BUCKET = -1;
+
+    private EventLogSegmentFormat() {}
+
+    static int indexEntryPosition(int chunk) {
+        return INDEX_OFFSET + chunk * INDEX_ENTRY_SIZE;
+    }
+
+    /** Segment files are named {@code <first bucket>-<sequence>.seg}. */
+    static String segmentFileName(long firstBucket, long sequence) {
+        return firstBucket + "-" + sequence + SEGMENT_FILE_EXT;
+    }
+
+    static boolean isSegmentFileName(String name) {
+        return name.endsWith(SEGMENT_FILE_EXT) && name.indexOf('-') > 0;
+    }
+
+    /** Returns the sequence number of a segment file name; segments sort by it. */
+    static long sequenceOf(String name) {
+        return Long.parseLong(
+                name.substring(name.indexOf('-') + 1, name.length() - SEGMENT_FILE_EXT.length()));
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.CHUNK_COUNT_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INT_VIEW;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.CURRENT_VERSION;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INDEX_ENTRY_LENGTH;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INDEX_ENTRY_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAGIC;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAGIC_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAX_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MIN_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.NO_BUCKET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.SEALED_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.VERSION_OFFSET;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+/** Reads the event log segment files written by {@link EventLogSegmentWriter}. */
+public final class EventLogSegmentReader {
+
+    private EventLogSegmentReader() {}
+
+    /** Returns the segment files of the directory, oldest first. */
+    public static List<Path> listSegments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (EventLogSegmentFormat.isSegmentFileName(file.getFileName().toString())) {
+                    segments.add(file);
+                }
+            }
+        }
+        segments.sort(
+                Comparator.comparingLong(
+                        path -> EventLogSegmentFormat.sequenceOf(path.getFileName().toString())));
+        return segments;
+    }
+
+    /** Returns the highest complete bucket of the directory, or {@code NO_BUCKET}. */
+    public static long readSealedBucket(Path directory) throws IOException {
+        long sealed = NO_BUCKET;
+        for (Path segment : listSegments(directory)) {
+            sealed = Math.max(sealed, map(segment).getLong(SEALED_BUCKET_OFFSET));
+        }
+        return sealed;
+    }
+
+    /** Returns the events of a bucket across every segment of the directory, in write order. */
+    public static List<Event> readBucket(Path directory, long bucket) throws IOException {
+        List<Event> events = new ArrayList<>();
+        for (Path segment : listSegments(directory)) {
+            readBucket(map(segment), bucket, events);
+        }
+        return events;
+    }
+
+    /** Returns the events of a bucket in a single segment, in write order. */
+    public static List<Event> readSegment(Path segment, long bucket) throws IOException {
+        List<Event> events = new ArrayList<>();
+        readBucket(map(segment), bucket, events);
+        return events;
+    }
+
+    private static void readBucket(ByteBuffer segment, long bucket, List<Event> out) {
+        if (segment.getInt(MAGIC_OFFSET) != MAGIC) {
+            throw new IllegalArgumentException("Not an event log segment");
+        }
+        int version = segment.getInt(VERSION_OFFSET);
+        if (version != CURRENT_VERSION) {
+            throw new IllegalArgumentException("Unsupported event log segment version " + version);
+        }
+        // Read before the bounds, which the writer updates before publishing a chunk.
+        int chunkCount = (int) INT_VIEW.getAcquire(segment, CHUNK_COUNT_OFFSET);
+        if (bucket < segment.getLong(MIN_BUCKET_OFFSET)
+                || bucket > segment.getLong(MAX_BUCKET_OFFSET)) {
+            return;
+        }
+        for (int i = 0; i < chunkCount; i++) {
+            int entry = EventLogSegmentFormat.indexEntryPosition(i);
+            if (segment.getLong(entry) != bucket) {
+                continue;
+            }
+            byte[] chunk = new byte[segment.getInt(entry + INDEX_ENTRY_LENGTH)];
+            ByteBuffer data = segment.duplicate();
+            data.position(segment.getInt(entry + INDEX_ENTRY_OFFSET));
+            data.get(chunk);
+            out.addAll(ColumnarEventLogDecoder.decode(chunk));
+        }
+    }
+
+    private static ByteBuffer map(Path segment) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.CHUNK_COUNT_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.CURRENT_VERSION;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.DATA_END_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.DATA_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INDEX_CAPACITY;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INDEX_ENTRY_LENGTH;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INDEX_ENTRY_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.INT_VIEW;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAGIC;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAGIC_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MAX_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.MIN_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.NO_BUCKET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.SEALED_BUCKET_OFFSET;
+import static org.opensearch.performanceanalyzer.writer.EventLogSegmentFormat.VERSION_OFFSET;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.PerformanceAnalyzerPlugin;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
+
+/**
+ * Writes the event log into pre-allocated, memory mapped segment files in the metrics location
+ * instead of one {@code <bucket>.tmp} file per bucket that is appended to and renamed.
+ *
+ * <p>Appending a chunk is a copy into the mapped region, rotating a bucket is a single header
+ * update and cleanup unlinks whole segments, so a purge no longer opens, writes, closes and renames
+ * files and cleanup is linear in the number of segments rather than the length of the window. See
+ * {@link EventLogSegmentFormat} for the file layout and {@link EventLogSegmentReader} to read it.
+ *
+ * <p>A deleted segment is unmapped right away, so that its pages are freed along with the file
+ * rather than once the garbage collector gets to the mapping, which matters on a tmpfs metrics
+ * location.
+ *
+ * <p>Not thread safe, it is only used by the {@link EventLogQueueProcessor} thread.
+ */
+public class EventLogSegmentWriter {
+    private static final Logger LOG = LogManager.getLogger(EventLogSegmentWriter.class);
+    static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final String UNSAFE_CLASS_NAME = "sun.misc.Unsafe";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ColumnarEventLogEncoder encoder = new ColumnarEventLogEncoder();
+    // Segments that are no longer appended to, oldest first.
+    private final Deque<Segment> closedSegments = new ArrayDeque<>();
+    private Segment current;
+    private long nextSequence;
+    private long sealedBucket = NO_BUCKET;
+    // Set once unmapping failed, the mappings are then left to the garbage collector.
+    private boolean unmapUnsupported;
+
+    public EventLogSegmentWriter(String metricsLocation) {
+        this(metricsLocation, DEFAULT_SEGMENT_SIZE);
+    }
+
+    public EventLogSegmentWriter(String metricsLocation, int segmentSize) {
+        if (segmentSize <= DATA_OFFSET) {
+            throw new IllegalArgumentException("Segment size must exceed the header size");
+        }
+        this.directory = Paths.get(metricsLocation);
+        this.segmentSize = segmentSize;
+    }
+
+    /** Appends the events of a bucket as one chunk, rolling to a new segment when needed. */
+    public void append(List<Event> events, long bucket) {
+        byte[] chunk = encoder.encode(events, bucket);
+        if (chunk.length > segmentSize - DATA_OFFSET) {
+            LOG.error(
+                    "Dropping {} events of bucket {}, {} bytes do not fit in a segment",
+                    events.size(),
+                    bucket,
+                    chunk.length);
+            return;
+        }
+        if (current == null || !current.hasRoomFor(chunk.length)) {
+            roll(bucket);
+            if (current == null) {
+                return;
+            }
+        }
+        current.append(bucket, chunk);
+    }
+
+    /** Marks every bucket up to and including the given one as complete. */
+    public void seal(long bucket) {
+        sealedBucket = Math.max(sealedBucket, bucket);
+        if (current != null) {
+            current.buffer.putLong(SEALED_BUCKET_OFFSET, sealedBucket);
+        }
+    }
+
+    /**
+     * Deletes the closed segments that only hold buckets older than the given one.
+     *
+     * @return the number of segments deleted
+     */
+    public int deleteSegmentsBefore(long bucket) {
+        int deleted = 0;
+        while (!closedSegments.isEmpty() && closedSegments.peekFirst().maxBucket < bucket) {
+            Segment segment = closedSegments.pollFirst();
+            unmap(segment.buffer);
+            delete(segment.path);
+            deleted++;
+        }
+        return deleted;
+    }
+
+    /** Deletes every segment file in the metrics location, including lingering ones. */
+    public void deleteAllSegments() {
+        for (Segment segment : closedSegments) {
+            unmap(segment.buffer);
+        }
+        closedSegments.clear();
+        if (current != null) {
+            unmap(current.buffer);
+            current = null;
+        }
+        PerformanceAnalyzerPlugin.invokePrivileged(
+                () -> {
+                    try (DirectoryStream<Path> files =
+                            Files.newDirectoryStream(
+                                    directory, "*" + EventLogSegmentFormat.SEGMENT_FILE_EXT)) {
+                        for (Path file : files) {
+                            Files.deleteIfExists(file);
+                        }
+                    } catch (IOException e) {
+                        LOG.error("Unable to delete event log segments in {}", directory, e);
+                    }
+                });
+    }
+
+    int getClosedSegmentCount() {
+        return closedSegments.size();
+    }
+
+    private void roll(long firstBucket) {
+        if (current != null) {
+            closedSegments.addLast(current);
+            current = null;
+        }
+        Path path =
+                directory.resolve(
+                        EventLogSegmentFormat.segmentFileName(firstBucket, nextSequence++));
+        MappedByteBuffer[] mapped = new MappedByteBuffer[1];
+        PerformanceAnalyzerPlugin.invokePrivileged(
+                () -> {
+                    // The mapping stays valid once the file is closed.
+                    try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+                        file.setLength(segmentSize);
+                        mapped[0] =
+                                file.getChannel()
+                                        .map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+                    } catch (IOException e) {
+                        LOG.error("Unable to create event log segment {}", path, e);
+                    }
+                });
+        if (mapped[0] != null) {
+            current = new Segment(path, mapped[0], firstBucket, sealedBucket);
+        }
+    }
+
+    /**
+     * Releases the mapping of a segment through {@code sun.misc.Unsafe#invokeCleaner}. The buffer
+     * must not be accessed afterwards.
+     */
+    private void unmap(MappedByteBuffer buffer) {
+        if (unmapUnsupported) {
+            return;
+        }
+        PerformanceAnalyzerPlugin.invokePrivileged(
+                () -> {
+                    try {
+                        Class<?> unsafeClass = ReflectiveAccessors.findClass(UNSAFE_CLASS_NAME);
+                        Object unsafe =
+                                ReflectiveAccessors.field(unsafeClass, "theUnsafe").get(null);
+                        ReflectiveAccessors.method(unsafeClass, "invokeCleaner", ByteBuffer.class)
+                                .invoke(unsafe, buffer);
+                    } catch (ReflectiveOperationException | RuntimeException e) {
+                        unmapUnsupported = true;
+                        LOG.warn(
+                                "Unable to unmap event log segments, their memory is released by"
+                                        + " the garbage collector: {}",
+                                e.toString());
+                    }
+                });
+    }
+
+    private static void delete(Path path) {
+        PerformanceAnalyzerPlugin.invokePrivileged(
+                () -> {
+                    try {
+                        Files.deleteIfExists(path);
+                    } catch (IOException e) {
+                        LOG.error("Unable to delete event log segment {}", path, e);
+                    }
+                });
+    }
+
+    private static final class Segment {
+        private final Path path;
+        private final MappedByteBuffer buffer;
+        // Bounds of the buckets of every chunk appended so far. A late chunk of an older bucket
+        // can land in a segment opened for a newer one, so both bounds move.
+        private long minBucket;
+        private long maxBucket;
+        private int chunkCount;
+        private int dataEnd = DATA_OFFSET;
+
+        private Segment(Path path, MappedByteBuffer buffer, long firstBucket, long sealedBucket) {
+            this.path = path;
+            this.buffer = buffer;
+            this.minBucket = firstBucket;
+            this.maxBucket = firstBucket;
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            buffer.putInt(VERSION_OFFSET, CURRENT_VERSION);
+            buffer.putLong(SEALED_BUCKET_OFFSET, sealedBucket);
+            buffer.putLong(MIN_BUCKET_OFFSET, firstBucket);
+            buffer.putLong(MAX_BUCKET_OFFSET, firstBucket);
+            buffer.putInt(DATA_END_OFFSET, dataEnd);
+            INT_VIEW.setRelease(buffer, CHUNK_COUNT_OFFSET, chunkCount);
+        }
+
+        private boolean hasRoomFor(int length) {
+            return chunkCount < INDEX_CAPACITY && length <= buffer.capacity() - dataEnd;
+        }
+
+        private void append(long bucket, byte[] chunk) {
+            buffer.position(dataEnd);
+            buffer.put(chunk);
+            int entry = EventLogSegmentFormat.indexEntryPosition(chunkCount);
+            buffer.putLong(entry, bucket);
+            buffer.putInt(entry + INDEX_ENTRY_OFFSET, dataEnd);
+            buffer.putInt(entry + INDEX_ENTRY_LENGTH, chunk.length);
+            dataEnd += chunk.length;
+            if (bucket < minBucket) {
+                minBucket = bucket;
+                buffer.putLong(MIN_BUCKET_OFFSET, minBucket);
+            }
+            if (bucket > maxBucket) {
+                maxBucket = bucket;
+                buffer.putLong(MAX_BUCKET_OFFSET, maxBucket);
+            }
+            buffer.putInt(DATA_END_OFFSET, dataEnd);
+            // Written last with a release store, it publishes the chunk to readers.
+            INT_VIEW.setRelease(buffer, CHUNK_COUNT_OFFSET, ++chunkCount);
+        }
+    }
+}
@@ -0,0 +1,457 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.action.PerformanceAnalyzerActionListener;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.listener.PerformanceAnalyzerSearchListener;
+import org.opensearch.performanceanalyzer.transport.PerformanceAnalyzerTransportChannel;
+
+/**
+ * Allocation free recorder for the request path hooks (action filter, search listener and shard
+ * bulk transport channel).
+ *
+ * <p>Instead of formatting a text event on the calling thread, each hook writes a fixed layout
+ * record of primitives and references to objects it already holds (index name, search context id,
+ * exception class) into a ring buffer owned by the calling thread. The {@link
+ * EventLogQueueProcessor} thread periodically calls {@link #flush()}, which formats the records
+ * into exactly the same events the hooks would have emitted and pushes them to {@link
+ * PerformanceAnalyzerMetrics#metricQueue}.
+ *
+ * <p>The recorder is opt-in through the {@code request-event-records} plugin setting. When a
+ * thread's ring buffer is full the record is dropped and counted in {@link #getDroppedRecords()}
+ * and in a single StatsCollector counter.
+ */
+public final class RequestEventRecorder {
+    private static final Logger LOG = LogManager.getLogger(RequestEventRecorder.class);
+    static final String REQUEST_EVENT_RECORDS_SETTING = "request-event-records";
+    // Records per thread, must be a power of two. Records are flushed every second and a thread
+    // emits at most two records per request phase, so this covers ~500 phases/s per thread at
+    // ~90KB of buffer per thread.
+    static final int BUFFER_CAPACITY = 1024;
+
+    static final int HTTP_START = 0;
+    static final int HTTP_FINISH = 1;
+    static final int SHARD_QUERY_START = 2;
+    static final int SHARD_QUERY_FINISH = 3;
+    static final int SHARD_FETCH_START = 4;
+    static final int SHARD_FETCH_FINISH = 5;
+    static final int SHARD_BULK_START = 6;
+    static final int SHARD_BULK_FINISH = 7;
+    static final int SHARD_BULK_COMPLETE = 8;
+
+    // Layout of the long slots of a record.
+    private static final int TYPE = 0;
+    private static final int TIME = 1;
+    private static final int THREAD_ID = 2;
+    private static final int REQUEST_ID = 3;
+    private static final int SHARD_ID = 4;
+    private static final int COUNT = 5;
+    private static final int STATUS = 6;
+    // Only used by the complete records, which carry both the start and the finish time.
+    private static final int START_TIME = 7;
+    // Wall clock time the record was appended, emitted as the current_time metric so that it
+    // reflects when the hook ran rather than when the record was flushed.
+    private static final int CURRENT_TIME = 8;
+    private static final int LONG_SLOTS = 9;
+
+    // Layout of the reference slots of a record.
+    private static final int NAME = 0;
+    private static final int INDEX = 1;
+    private static final int EXCEPTION = 2;
+    private static final int REF_SLOTS = 3;
+
+    // StatsCollector counter of the records dropped by all the threads.
+    static final String DROPPED_RECORDS_COUNTER = "RequestEventRecordsDropped";
+
+    private static final ThreadStripes<RecordBuffer> BUFFERS =
+            new ThreadStripes<>(RecordBuffer::new, DROPPED_RECORDS_COUNTER);
+
+    private static volatile boolean enabled = readEnabledSetting();
+
+    // Used only on the flushing thread to reuse getMetricsPath of the hooks.
+    private static final PerformanceAnalyzerActionListener<?> HTTP_PROCESSOR =
+            new PerformanceAnalyzerActionListener<>();
+    private static final PerformanceAnalyzerSearchListener SEARCH_PROCESSOR =
+            new PerformanceAnalyzerSearchListener(null);
+    private static final PerformanceAnalyzerTransportChannel SHARD_BULK_PROCESSOR =
+            new PerformanceAnalyzerTransportChannel();
+
+    private RequestEventRecorder() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    @VisibleForTesting
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static long getDroppedRecords() {
+        return BUFFERS.getOverflow();
+    }
+
+    public static void recordHttpStart(
+            String requestType, long requestId, long startTime, Object indices, int itemCount) {
+        append(HTTP_START, startTime, 0, requestId, 0, itemCount, 0, requestType, indices, null);
+    }
+
+    public static void recordHttpFinish(
+            String requestType, long requestId, long finishTime, int status, Class<?> exception) {
+        append(HTTP_FINISH, finishTime, 0, requestId, 0, 0, status, requestType, null, exception);
+    }
+
+    /**
+     * @param fetch true for the fetch phase, false for the query phase
+     * @param contextId the search context id; it is only converted to a string on flush
+     */
+    public static void recordShardSearchStart(
+            boolean fetch,
+            long threadId,
+            Object contextId,
+            long startTime,
+            String indexName,
+            int shardId) {
+        append(
+                fetch ? SHARD_FETCH_START : SHARD_QUERY_START,
+                startTime,
+                threadId,
+                0,
+                shardId,
+                0,
+                0,
+                contextId,
+                indexName,
+                null);
+    }
+
+    public static void recordShardSearchFinish(
+            boolean fetch,
+            long threadId,
+            Object contextId,
+            long finishTime,
+            boolean failed,
+            String indexName,
+            int shardId) {
+        append(
+                fetch ? SHARD_FETCH_FINISH : SHARD_QUERY_FINISH,
+                finishTime,
+                threadId,
+                0,
+                shardId,
+                0,
+                failed ? 1 : 0,
+                contextId,
+                indexName,
+                null);
+    }
+
+    public static void recordShardBulkStart(
+            long threadId,
+            long id,
+            long startTime,
+            String indexName,
+            int shardId,
+            int itemCount,
+            boolean primary) {
+        append(
+                SHARD_BULK_START,
+                startTime,
+                threadId,
+                id,
+                shardId,
+                itemCount,
+                primary ? 1 : 0,
+                null,
+                indexName,
+                null);
+    }
+
+    public static void recordShardBulkFinish(
+            long threadId,
+            long id,
+            long finishTime,
+            String indexName,
+            int shardId,
+            boolean primary,
+            Class<?> exception) {
+        append(
+                SHARD_BULK_FINISH,
+                finishTime,
+                threadId,
+                id,
+                shardId,
+                0,
+                primary ? 1 : 0,
+                null,
+                indexName,
+                exception);
+    }
+
+    /** Records a shard bulk operation with a single record, written when it completes. */
+    public static void recordShardBulkComplete(
+            long threadId,
+            long id,
+            long startTime,
+            long finishTime,
+            String indexName,
+            int shardId,
+            int itemCount,
+            boolean primary,
+            Class<?> exception) {
+        append(
+                SHARD_BULK_COMPLETE,
+                finishTime,
+                startTime,
+                threadId,
+                id,
+                shardId,
+                itemCount,
+                primary ? 1 : 0,
+                null,
+                indexName,
+                exception);
+    }
+
+    private static void append(
+            int type,
+            long time,
+            long threadId,
+            long requestId,
+            long shardId,
+            long count,
+            long status,
+            Object name,
+            Object index,
+            Object exception) {
+        append(type, time, 0, threadId, requestId, shardId, count, status, name, index, exception);
+    }
+
+    private static void append(
+            int type,
+            long time,
+            long startTime,
+            long threadId,
+            long requestId,
+            long shardId,
+            long count,
+            long status,
+            Object name,
+            Object index,
+            Object exception) {
+        RecordBuffer buffer = BUFFERS.local();
+        int slot = buffer.claim();
+        if (slot < 0) {
+            return;
+        }
+        int l = slot * LONG_SLOTS;
+        long[] longs = buffer.longs;
+        longs[l + TYPE] = type;
+        longs[l + TIME] = time;
+        longs[l + THREAD_ID] = threadId;
+        longs[l + REQUEST_ID] = requestId;
+        longs[l + SHARD_ID] = shardId;
+        longs[l + COUNT] = count;
+        longs[l + STATUS] = status;
+        longs[l + START_TIME] = startTime;
+        longs[l + CURRENT_TIME] = System.currentTimeMillis();
+        int r = slot * REF_SLOTS;
+        Object[] refs = buffer.refs;
+        refs[r + NAME] = name;
+        refs[r + INDEX] = index;
+        refs[r + EXCEPTION] = exception;
+        // Publishes the record to the flushing thread.
+        buffer.publish();
+    }
+
+    /**
+     * Formats every pending record into an event on {@link PerformanceAnalyzerMetrics#metricQueue}.
+     * Must only be called from a single thread at a time, normally the queue processor.
+     *
+     * @return the number of records formatted
+     */
+    public static int flush() {
+        return drain(true);
+    }
+
+    /** Drops every pending record, used while Performance Analyzer is disabled. */
+    public static int discard() {
+        return drain(false);
+    }
+
+    private static int drain(boolean format) {
+        return BUFFERS.drain(
+                (buffer, slot) -> {
+                    int r = slot * REF_SLOTS;
+                    if (format) {
+                        try {
+                            emit(buffer.longs, slot * LONG_SLOTS, buffer.refs, r);
+                        } catch (Exception ex) {
+                            LOG.debug("Unable to format request event record", ex);
+                        }
+                    }
+                    buffer.refs[r + NAME] = null;
+                    buffer.refs[r + INDEX] = null;
+                    buffer.refs[r + EXCEPTION] = null;
+                });
+    }
+
+    private static void emit(long[] longs, int l, Object[] refs, int r) {
+        long time = longs[l + TIME];
+        long currentTime = longs[l + CURRENT_TIME];
+        switch ((int) longs[l + TYPE]) {
+            case HTTP_START:
+                HTTP_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerActionListener.generateStartMetrics(
+                                currentTime,
+                                time,
+                                indicesToString(refs[r + INDEX]),
+                                (int) longs[l + COUNT]),
+                        time,
+                        (String) refs[r + NAME],
+                        String.valueOf(longs[l + REQUEST_ID]),
+                        PerformanceAnalyzerMetrics.START_FILE_NAME);
+                break;
+            case HTTP_FINISH:
+                HTTP_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerActionListener.generateFinishMetrics(
+                                currentTime,
+                                time,
+                                (int) longs[l + STATUS],
+                                exceptionName(refs[r + EXCEPTION])),
+                        time,
+                        (String) refs[r + NAME],
+                        String.valueOf(longs[l + REQUEST_ID]),
+                        PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+                break;
+            case SHARD_QUERY_START:
+            case SHARD_FETCH_START:
+                SEARCH_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerSearchListener.generateStartMetrics(
+                                currentTime,
+                                time,
+                                (String) refs[r + INDEX],
+                                (int) longs[l + SHARD_ID]),
+                        time,
+                        String.valueOf(longs[l + THREAD_ID]),
+                        longs[l + TYPE] == SHARD_QUERY_START
+                                ? PerformanceAnalyzerMetrics.sShardQueryPath
+                                : PerformanceAnalyzerMetrics.sShardFetchPath,
+                        String.valueOf(refs[r + NAME]),
+                        PerformanceAnalyzerMetrics.START_FILE_NAME);
+                break;
+            case SHARD_QUERY_FINISH:
+            case SHARD_FETCH_FINISH:
+                SEARCH_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerSearchListener.generateFinishMetrics(
+                                currentTime,
+                                time,
+                                longs[l + STATUS] != 0,
+                                (String) refs[r + INDEX],
+                                (int) longs[l + SHARD_ID]),
+                        time,
+                        String.valueOf(longs[l + THREAD_ID]),
+                        longs[l + TYPE] == SHARD_QUERY_FINISH
+                                ? PerformanceAnalyzerMetrics.sShardQueryPath
+                                : PerformanceAnalyzerMetrics.sShardFetchPath,
+                        String.valueOf(refs[r + NAME]),
+                        PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+                break;
+            case SHARD_BULK_START:
+                SHARD_BULK_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerTransportChannel.generateStartMetrics(
+                                currentTime,
+                                time,
+                                (int) longs[l + COUNT],
+                                (String) refs[r + INDEX],
+                                (int) longs[l + SHARD_ID],
+                                longs[l + STATUS] != 0),
+                        time,
+                        String.valueOf(longs[l + THREAD_ID]),
+                        String.valueOf(longs[l + REQUEST_ID]),
+                        PerformanceAnalyzerMetrics.START_FILE_NAME);
+                break;
+            case SHARD_BULK_FINISH:
+                SHARD_BULK_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerTransportChannel.generateFinishMetrics(
+                                currentTime,
+                                time,
+                                (String) refs[r + INDEX],
+                                (int) longs[l + SHARD_ID],
+                                longs[l + STATUS] != 0,
+                                refs[r + EXCEPTION] == null
+                                        ? null
+                                        : exceptionName(refs[r + EXCEPTION])),
+                        time,
+                        String.valueOf(longs[l + THREAD_ID]),
+                        String.valueOf(longs[l + REQUEST_ID]),
+                        PerformanceAnalyzerMetrics.FINISH_FILE_NAME);
+                break;
+            case SHARD_BULK_COMPLETE:
+                SHARD_BULK_PROCESSOR.saveMetricValues(
+                        PerformanceAnalyzerTransportChannel.generateCompleteMetrics(
+                                currentTime,
+                                longs[l + START_TIME],
+                                time,
+                                (int) longs[l + COUNT],
+                                (String) refs[r + INDEX],
+                                (int) longs[l + SHARD_ID],
+                                longs[l + STATUS] != 0,
+                                refs[r + EXCEPTION] == null
+                                        ? null
+                                        : exceptionName(refs[r + EXCEPTION])),
+                        time,
+                        String.valueOf(longs[l + THREAD_ID]),
+                        String.valueOf(longs[l + REQUEST_ID]),
+                        PerformanceAnalyzerTransportChannel.COMPLETE_FILE_NAME);
+                break;
+            default:
+                LOG.debug("Unknown request event record type {}", longs[l + TYPE]);
+        }
+    }
+
+    private static String indicesToString(Object indices) {
+        if (indices == null) {
+            return "";
+        } else if (indices instanceof String[]) {
+            return String.join(",", (String[]) indices);
+        }
+        return indices.toString();
+    }
+
+    private static String exceptionName(Object exception) {
+        return exception == null ? "" : ((Class<?>) exception).getName();
+    }
+
+    private static boolean readEnabledSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance()
+                            .getSettingValue(REQUEST_EVENT_RECORDS_SETTING, "false")
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, request event records disabled",
+                    REQUEST_EVENT_RECORDS_SETTING);
+            return false;
+        }
+    }
+
+    /** Ring of records owned by one thread. */
+    private static final class RecordBuffer extends ThreadStripe {
+        private final long[] longs = new long[BUFFER_CAPACITY * LONG_SLOTS];
+        private final Object[] refs = new Object[BUFFER_CAPACITY * REF_SLOTS];
+
+        private RecordBuffer(Thread owner) {
+            super(owner, BUFFER_CAPACITY);
+        }
+    }
+}
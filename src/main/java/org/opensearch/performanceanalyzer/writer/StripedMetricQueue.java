@@ -0,0 +1,147 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsProcessor;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+
+/**
+ * Per-thread front end of {@link PerformanceAnalyzerMetrics#metricQueue} for the request path
+ * hooks.
+ *
+ * <p>Every search, bulk and shard bulk request thread offers its events to the shared queue, so on
+ * nodes with many cores the queue's lock becomes a point of contention on the request path. When
+ * the {@code striped-metric-queue} plugin setting is enabled, {@link #save} instead appends the
+ * arguments of {@link MetricsProcessor#saveMetricValues} to a single producer ring owned by the
+ * calling thread, without any lock or allocation besides the ring itself. The {@link
+ * EventLogQueueProcessor} thread calls {@link #drain()} before draining the shared queue, which
+ * moves the entries to it in a single batch.
+ *
+ * <p>When a thread's ring is full the entry is dropped; drops are counted in a single
+ * StatsCollector counter and in {@link #getOverflowCount()}.
+ */
+public final class StripedMetricQueue {
+    private static final Logger LOG = LogManager.getLogger(StripedMetricQueue.class);
+    static final String STRIPED_METRIC_QUEUE_SETTING = "striped-metric-queue";
+    // StatsCollector counter of the entries dropped by all the threads.
+    static final String OVERFLOW_COUNTER = "StripedMetricQueueOverflow";
+    // Entries per thread, must be a power of two. The rings are drained every purge interval and
+    // a request thread emits at most two events per request phase.
+    static final int STRIPE_CAPACITY = 1024;
+
+    // Layout of the reference slots of an entry.
+    private static final int PROCESSOR = 0;
+    private static final int VALUE = 1;
+    private static final int KEYS = 2;
+    private static final int REF_SLOTS = 3;
+
+    private static final ThreadStripes<Stripe> STRIPES =
+            new ThreadStripes<>(Stripe::new, OVERFLOW_COUNTER);
+
+    private static volatile boolean enabled = readEnabledSetting();
+
+    private StripedMetricQueue() {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    @VisibleForTesting
+    public static void setEnabled(boolean value) {
+        enabled = value;
+    }
+
+    public static long getOverflowCount() {
+        return STRIPES.getOverflow();
+    }
+
+    /**
+     * Saves the metric through the calling thread's stripe when enabled, or directly through
+     * {@link MetricsProcessor#saveMetricValues} otherwise.
+     */
+    public static void save(
+            MetricsProcessor processor, String value, long startTime, String... keysPath) {
+        if (!enabled) {
+            processor.saveMetricValues(value, startTime, keysPath);
+            return;
+        }
+        Stripe stripe = STRIPES.local();
+        int slot = stripe.claim();
+        if (slot < 0) {
+            return;
+        }
+        int r = slot * REF_SLOTS;
+        stripe.refs[r + PROCESSOR] = processor;
+        stripe.refs[r + VALUE] = value;
+        stripe.refs[r + KEYS] = keysPath;
+        stripe.startTimes[slot] = startTime;
+        stripe.publish();
+    }
+
+    /**
+     * Moves every pending entry to {@link PerformanceAnalyzerMetrics#metricQueue}. Must only be
+     * called from a single thread at a time, normally the queue processor.
+     *
+     * @return the number of entries moved
+     */
+    public static int drain() {
+        return drain(true);
+    }
+
+    /** Drops every pending entry, used while Performance Analyzer is disabled. */
+    public static int discard() {
+        return drain(false);
+    }
+
+    private static int drain(boolean save) {
+        return STRIPES.drain(
+                (stripe, slot) -> {
+                    int r = slot * REF_SLOTS;
+                    if (save) {
+                        try {
+                            ((MetricsProcessor) stripe.refs[r + PROCESSOR])
+                                    .saveMetricValues(
+                                            (String) stripe.refs[r + VALUE],
+                                            stripe.startTimes[slot],
+                                            (String[]) stripe.refs[r + KEYS]);
+                        } catch (Exception ex) {
+                            LOG.debug("Unable to save striped metric", ex);
+                        }
+                    }
+                    stripe.refs[r + PROCESSOR] = null;
+                    stripe.refs[r + VALUE] = null;
+                    stripe.refs[r + KEYS] = null;
+                });
+    }
+
+    private static boolean readEnabledSetting() {
+        try {
+            return Boolean.parseBoolean(
+                    PluginSettings.instance()
+                            .getSettingValue(STRIPED_METRIC_QUEUE_SETTING, "false")
+                            .trim());
+        } catch (Exception ex) {
+            LOG.warn(
+                    "Unable to read {}, striped metric queue disabled",
+                    STRIPED_METRIC_QUEUE_SETTING);
+            return false;
+        }
+    }
+
+    /** Ring of pending entries owned by one thread. */
+    private static final class Stripe extends ThreadStripe {
+        private final Object[] refs = new Object[STRIPE_CAPACITY * REF_SLOTS];
+        private final long[] startTimes = new long[STRIPE_CAPACITY];
+
+        private Stripe(Thread owner) {
+            super(owner, STRIPE_CAPACITY);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bookkeeping of a single producer, single consumer ring owned by one thread. Subclasses hold the
+ * slot arrays; the owner thread writes a slot between {@link #claim()} and {@link #publish()} and
+ * the draining thread reads the slots between {@link #head} and {@link #tail}.
+ */
+abstract class ThreadStripe {
+    private final WeakReference<Thread> owner;
+    private final int capacity;
+    private final int mask;
+    // Next slot to be written by the owner thread.
+    final AtomicLong tail = new AtomicLong(0);
+    // Next slot to be read by the draining thread.
+    final AtomicLong head = new AtomicLong(0);
+    // Entries the owner could not write because the ring was full.
+    private final AtomicLong overflow = new AtomicLong(0);
+    // Part of overflow already reported to the StatsCollector, only accessed by the drainer.
+    private long reportedOverflow;
+
+    ThreadStripe(Thread owner, int capacity) {
+        if (Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Stripe capacity must be a power of two");
+        }
+        this.owner = new WeakReference<>(owner);
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the slot the owner thread should write next, or -1 if the ring is full in which case
+     * the entry is counted as an overflow.
+     */
+    final int claim() {
+        long t = tail.get();
+        if (t - head.get() >= capacity) {
+            overflow.incrementAndGet();
+            return -1;
+        }
+        return (int) (t & mask);
+    }
+
+    /** Makes the slot returned by the last {@link #claim()} visible to the draining thread. */
+    final void publish() {
+        tail.lazySet(tail.get() + 1);
+    }
+
+    final int slotOf(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    final boolean isOwnerTerminated() {
+        Thread thread = owner.get();
+        return thread == null || !thread.isAlive();
+    }
+
+    final long getOverflow() {
+        return overflow.get();
+    }
+
+    /** Returns the overflow accumulated since the previous call. Drainer thread only. */
+    final long takeUnreportedOverflow() {
+        long current = overflow.get();
+        long delta = current - reportedOverflow;
+        reportedOverflow = current;
+        return delta;
+    }
+}
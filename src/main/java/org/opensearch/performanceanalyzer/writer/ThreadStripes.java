@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
+
+/**
+ * Registry of the {@link ThreadStripe}s of every producing thread. Producers only ever touch their
+ * own stripe, so appending is contention free regardless of the number of cores; a single drainer
+ * thread visits all stripes in a batch.
+ */
+final class ThreadStripes<S extends ThreadStripe> {
+    interface SlotConsumer<S> {
+        void accept(S stripe, int slot);
+    }
+
+    private final ConcurrentLinkedQueue<S> stripes = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<S> localStripe;
+    private final String overflowCounter;
+    // Overflow of the stripes already released, only updated by the drainer.
+    private volatile long releasedOverflow;
+
+    /**
+     * @param factory creates the stripe of a producing thread on its first append
+     * @param overflowCounter name of the {@link StatsCollector} counter the overflow of all the
+     *     stripes is reported to
+     */
+    ThreadStripes(Function<Thread, S> factory, String overflowCounter) {
+        this.overflowCounter = overflowCounter;
+        this.localStripe =
+                ThreadLocal.withInitial(
+                        () -> {
+                            S stripe = factory.apply(Thread.currentThread());
+                            stripes.add(stripe);
+                            return stripe;
+                        });
+    }
+
+    /** Returns the stripe of the calling thread. */
+    S local() {
+        return localStripe.get();
+    }
+
+    /**
+     * Hands every published slot of every stripe to the consumer, then frees the slots. Stripes
+     * of terminated threads are released once drained. Must only be called by one thread at a
+     * time.
+     *
+     * @return the number of slots drained
+     */
+    int drain(SlotConsumer<S> consumer) {
+        int drained = 0;
+        Iterator<S> it = stripes.iterator();
+        while (it.hasNext()) {
+            S stripe = it.next();
+            // Checked before reading the tail so that entries appended right before the owner
+            // terminated are still drained.
+            boolean released = stripe.isOwnerTerminated();
+            long head = stripe.head.get();
+            long tail = stripe.tail.get();
+            for (long i = head; i < tail; i++) {
+                consumer.accept(stripe, stripe.slotOf(i));
+            }
+            stripe.head.lazySet(tail);
+            drained += (int) (tail - head);
+            reportOverflow(stripe);
+            if (released) {
+                releasedOverflow += stripe.getOverflow();
+                it.remove();
+            }
+        }
+        return drained;
+    }
+
+    /** Total number of entries dropped because the stripe of their thread was full. */
+    long getOverflow() {
+        long total = releasedOverflow;
+        for (S stripe : stripes) {
+            total += stripe.getOverflow();
+        }
+        return total;
+    }
+
+    int size() {
+        return stripes.size();
+    }
+
+    private void reportOverflow(S stripe) {
+        long overflow = stripe.takeUnreportedOverflow();
+        if (overflow > 0) {
+            Map<String, AtomicInteger> counters = StatsCollector.instance().getCounters();
+            counters.computeIfAbsent(overflowCounter, k -> new AtomicInteger(0))
+                    .addAndGet((int) Math.min(overflow, Integer.MAX_VALUE));
+        }
+    }
+}
@@ -37,8 +37,12 @@ import org.opensearch.performanceanalyzer.action.PerformanceAnalyzerActionFilter
 import org.opensearch.performanceanalyzer.config.setting.PerformanceAnalyzerClusterSettings;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerClusterConfigAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerConfigAction;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerNodeMetricsAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerOverridesClusterConfigAction;
 import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerResourceProvider;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerStatsAction;
+import org.opensearch.performanceanalyzer.http_action.config.PerformanceAnalyzerWriteLatencyAction;
+import org.opensearch.performanceanalyzer.http_action.nodemetrics.NodeMetricsAction;
 import org.opensearch.performanceanalyzer.transport.PerformanceAnalyzerTransportInterceptor;
 import org.opensearch.plugins.ActionPlugin.ActionHandler;
 import org.opensearch.rest.RestController;
@@ -106,8 +110,9 @@ public class PerformanceAnalyzerPluginTests extends OpenSearchTestCase {
     public void testGetActions() {
         List<ActionHandler<? extends ActionRequest, ? extends ActionResponse>> list =
                 plugin.getActions();
-        assertEquals(1, list.size());
+        assertEquals(2, list.size());
         assertEquals(ActionHandler.class, list.get(0).getClass());
+        assertEquals(NodeMetricsAction.INSTANCE, list.get(1).getAction());
     }
 
     @Test
@@ -121,12 +126,15 @@ public class PerformanceAnalyzerPluginTests extends OpenSearchTestCase {
     public void testGetRestHandlers() {
         List<RestHandler> handlers =
                 plugin.getRestHandlers(settings, restController, null, null, null, null, null);
-        assertEquals(4, handlers.size());
+        assertEquals(7, handlers.size());
         assertEquals(PerformanceAnalyzerConfigAction.class, handlers.get(0).getClass());
         assertEquals(PerformanceAnalyzerClusterConfigAction.class, handlers.get(1).getClass());
         assertEquals(PerformanceAnalyzerResourceProvider.class, handlers.get(2).getClass());
         assertEquals(
                 PerformanceAnalyzerOverridesClusterConfigAction.class, handlers.get(3).getClass());
+        assertEquals(PerformanceAnalyzerWriteLatencyAction.class, handlers.get(4).getClass());
+        assertEquals(PerformanceAnalyzerStatsAction.class, handlers.get(5).getClass());
+        assertEquals(PerformanceAnalyzerNodeMetricsAction.class, handlers.get(6).getClass());
     }
 
     @Test
@@ -164,9 +172,12 @@ public class PerformanceAnalyzerPluginTests extends OpenSearchTestCase {
     @Test
     public void testGetSettings() {
         List<Setting<?>> list = plugin.getSettings();
-        assertEquals(3, list.size());
+        assertEquals(4, list.size());
         assertEquals(PerformanceAnalyzerClusterSettings.COMPOSITE_PA_SETTING, list.get(0));
         assertEquals(PerformanceAnalyzerClusterSettings.PA_NODE_STATS_SETTING, list.get(1));
         assertEquals(PerformanceAnalyzerClusterSettings.CONFIG_OVERRIDES_SETTING, list.get(2));
+        assertEquals(
+                PerformanceAnalyzerClusterSettings.TRANSPORT_INSTRUMENTED_ACTIONS_SETTING,
+                list.get(3));
     }
 }
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.action;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.util.TestUtil;
+
+public class HttpRequestSummariesTests {
+    // The last emitted interval is static, so it is shared by the tests.
+    private static long now = System.currentTimeMillis();
+
+    @Before
+    public void init() {
+        HttpRequestSummaries.discard();
+        TestUtil.readEvents();
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+    }
+
+    @After
+    public void tearDown() {
+        HttpRequestSummaries.discard();
+        TestUtil.readEvents();
+    }
+
+    @Test
+    public void testEmitsOneSummaryPerRequestType() {
+        long start = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            HttpRequestSummaries.recordStart(RequestType.bulk, 5);
+            HttpRequestSummaries.recordFinish(RequestType.bulk, start, 200, null);
+        }
+        HttpRequestSummaries.recordStart(RequestType.bulk, 1);
+        HttpRequestSummaries.recordFinish(
+                RequestType.bulk, start, 429, IllegalStateException.class);
+        HttpRequestSummaries.recordStart(RequestType.bulk, 1);
+        HttpRequestSummaries.recordFinish(RequestType.bulk, start, -1, RuntimeException.class);
+
+        assertEquals(1, HttpRequestSummaries.emitSummaries(now));
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(1, events.size());
+        Event bulk = events.get(0);
+        assertTrue(bulk.key.contains(HttpRequestSummaries.HTTP_SUMMARY_PATH + "/bulk"));
+        assertTrue(bulk.value.contains("\"Count\":12"));
+        assertTrue(bulk.value.contains("\"Docs\":52"));
+        assertTrue(bulk.value.contains("\"Status_2xx\":10"));
+        assertTrue(bulk.value.contains("\"Status_4xx\":1"));
+        assertTrue(bulk.value.contains("\"Status_unknown\":1"));
+        assertTrue(bulk.value.contains(IllegalStateException.class.getName() + ":1"));
+        assertTrue(bulk.value.contains(RuntimeException.class.getName() + ":1"));
+
+        // At most one summary per sampling interval, and nothing once the counters are reset.
+        HttpRequestSummaries.recordStart(RequestType.search, 0);
+        assertEquals(0, HttpRequestSummaries.emitSummaries(now));
+        HttpRequestSummaries.discard();
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+        assertEquals(0, HttpRequestSummaries.emitSummaries(now));
+        assertEquals(0, TestUtil.readEvents().size());
+    }
+
+    @Test
+    public void testExceptionClassesAreBounded() {
+        long start = System.nanoTime();
+        int classes = HttpRequestSummaries.MAX_EXCEPTION_CLASSES + 8;
+        for (int i = 1; i <= classes; i++) {
+            // int[], int[][], ... are distinct classes.
+            Class<?> exception = Array.newInstance(int.class, new int[i]).getClass();
+            HttpRequestSummaries.recordFinish(RequestType.search, start, 500, exception);
+        }
+
+        assertEquals(1, HttpRequestSummaries.emitSummaries(now));
+        String summary = TestUtil.readEvents().get(0).value;
+        assertTrue(summary.contains("\"Count\":" + classes));
+        assertTrue(summary.contains("\"Status_5xx\":" + classes));
+        assertTrue(summary.contains(HttpRequestSummaries.OTHER_EXCEPTIONS + ":8"));
+    }
+}
@@ -22,6 +22,7 @@ import org.opensearch.action.support.ActionFilterChain;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.action.ActionResponse;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.TestUtil;
 import org.opensearch.tasks.Task;
 
 public class PerformanceAnalyzerActionFilterTests {
@@ -65,6 +66,20 @@ public class PerformanceAnalyzerActionFilterTests {
         verify(chain).proceed(eq(task), eq("_action"), eq(request), any());
     }
 
+    @Test
+    public void testApplyWithRequestSummaries() {
+        HttpRequestSummaries.setEnabled(true);
+        try {
+            TestUtil.readEvents();
+            testApply(bulkRequest);
+            testApply(searchRequest);
+            assertEquals(0, TestUtil.readEvents().size());
+        } finally {
+            HttpRequestSummaries.setEnabled(false);
+            HttpRequestSummaries.discard();
+        }
+    }
+
     @Test
     public void testOrder() {
         assertEquals(Integer.MIN_VALUE, filter.order());
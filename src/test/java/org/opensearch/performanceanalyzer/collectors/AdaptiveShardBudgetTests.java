@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class AdaptiveShardBudgetTests {
+
+    @Test
+    public void testCoverageBeforeFirstMeasurement() {
+        // 12 runs per window.
+        AdaptiveShardBudget budget = new AdaptiveShardBudget(20, 60_000, 5000);
+        assertEquals(0, budget.getShardsPerCollection(0));
+        assertEquals(1, budget.getShardsPerCollection(5));
+        assertEquals(9, budget.getShardsPerCollection(100));
+    }
+
+    @Test
+    public void testCheapShardsFillTheCpuBudget() {
+        AdaptiveShardBudget budget = new AdaptiveShardBudget(20, 60_000, 5000);
+        // 100us per shard, 200 shards fit in 20ms.
+        budget.recordCollection(10, 1_000_000);
+        assertEquals(200, budget.getShardsPerCollection(1000));
+        assertEquals(150, budget.getShardsPerCollection(150));
+    }
+
+    @Test
+    public void testCoverageWinsOverCpuBudget() {
+        AdaptiveShardBudget budget = new AdaptiveShardBudget(20, 60_000, 5000);
+        // 10ms per shard, only 2 shards fit in 20ms but 1200 shards need 100 per run.
+        budget.recordCollection(2, 20_000_000);
+        assertEquals(100, budget.getShardsPerCollection(1200));
+    }
+
+    @Test
+    public void testCoverageWindowOfACappedCount() {
+        AdaptiveShardBudget budget = new AdaptiveShardBudget(20, 60_000, 5000);
+        assertEquals(100, budget.getCoverageShards(1200));
+        assertEquals(60_000, budget.getCoverageWindowMillis(1200, 100));
+        // Capped below the coverage count, the shards are visited once every 120s.
+        assertEquals(120_000, budget.getCoverageWindowMillis(1200, 50));
+        assertEquals(0, budget.getCoverageWindowMillis(1200, 0));
+    }
+
+    @Test
+    public void testCostIsSmoothed() {
+        AdaptiveShardBudget budget = new AdaptiveShardBudget(20, 60_000, 5000);
+        budget.recordCollection(1, 100_000);
+        budget.recordCollection(1, 200_000);
+        assertEquals(130_000, budget.getShardCostNanos(), 0.001);
+        budget.recordCollection(0, 1_000_000);
+        assertEquals(130_000, budget.getShardCostNanos(), 0.001);
+    }
+}
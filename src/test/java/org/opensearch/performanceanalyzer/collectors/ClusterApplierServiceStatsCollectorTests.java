@@ -7,6 +7,7 @@ package org.opensearch.performanceanalyzer.collectors;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,6 +29,7 @@ import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics;
 import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
 import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
 import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.ReflectiveAccessors;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.powermock.reflect.Whitebox;
@@ -241,4 +243,33 @@ public class ClusterApplierServiceStatsCollectorTests extends CustomMetricsLocat
         // ClusterApplierServiceStatsCollector.
         assertEquals(0, metrics.size());
     }
+
+    @SuppressWarnings("unused")
+    private static class CoreStats {
+        private final long totalCount = 23;
+        private final long timeTakenInMillis = 15;
+        private final long failedCount = 2;
+    }
+
+    @SuppressWarnings("unused")
+    private static class CurrentCoreStats extends CoreStats {
+        private final long elapsedTimeCurrentInMillis = 7;
+    }
+
+    @Test
+    public void testReadClusterApplierServiceStatsDirectly() throws Exception {
+        ClusterApplierServiceStatsCollector.ClusterApplierServiceStats stats =
+                ClusterApplierServiceStatsCollector.readClusterApplierServiceStats(
+                        new CurrentCoreStats());
+        assertEquals(23, ReflectiveAccessors.readLong(stats, "totalCount"));
+        assertEquals(15, ReflectiveAccessors.readLong(stats, "timeTakenInMillis"));
+        assertEquals(2, ReflectiveAccessors.readLong(stats, "failedCount"));
+        assertEquals(7, ReflectiveAccessors.readLong(stats, "elapsedTimeCurrentInMillis"));
+
+        try {
+            ClusterApplierServiceStatsCollector.readClusterApplierServiceStats(new CoreStats());
+            fail("expected a NoSuchFieldException");
+        } catch (NoSuchFieldException expected) {
+        }
+    }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.cluster.service.SourcePrioritizedRunnable;
+import org.opensearch.common.Priority;
+import org.opensearch.common.util.concurrent.PrioritizedOpenSearchThreadPoolExecutor;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.collectors.ClusterManagerQueueTracker.QueueSnapshot;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.util.Utils;
+import org.opensearch.test.ClusterServiceUtils;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+@SuppressWarnings("unchecked")
+public class ClusterManagerQueueTrackerTests {
+    private ThreadPool threadPool;
+    private PrioritizedOpenSearchThreadPoolExecutor executor;
+    private Queue<Runnable> current;
+    private CountDownLatch release;
+    private CountDownLatch started;
+
+    @Before
+    public void init() throws Exception {
+        Utils.configureMetrics();
+        threadPool = new TestThreadPool("test");
+        ClusterService clusterService = ClusterServiceUtils.createClusterService(threadPool);
+        OpenSearchResources.INSTANCE.setClusterService(clusterService);
+        MetricsConfiguration.CONFIG_MAP.put(
+                ClusterManagerServiceEventMetrics.class, MetricsConfiguration.cdefault);
+
+        ClusterManagerServiceEventMetrics eventMetrics = new ClusterManagerServiceEventMetrics();
+        executor =
+                (PrioritizedOpenSearchThreadPoolExecutor)
+                        eventMetrics
+                                .getClusterManagerServiceTPExecutorField()
+                                .get(clusterService.getClusterManagerService());
+        current =
+                (Queue<Runnable>)
+                        eventMetrics.getPrioritizedTPExecutorCurrentField().get(executor);
+        release = new CountDownLatch(1);
+        started = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testSampleCountsEveryQueuedTask() throws Exception {
+        fillQueue();
+        ClusterManagerQueueTracker tracker = new ClusterManagerQueueTracker(100);
+        QueueSnapshot snapshot = tracker.sample(executor, current, null, 1000);
+
+        assertEquals(5, snapshot.getPending());
+        assertEquals(5, snapshot.getSampled());
+        assertEquals(3, (int) snapshot.getCountsByType().get("create-index"));
+        assertEquals(2, (int) snapshot.getCountsByType().get("put-mapping"));
+        assertEquals(5, snapshot.getAges().getCount());
+        assertEquals("_blocking_ task", snapshot.getCurrentSource());
+        assertEquals(Priority.URGENT, snapshot.getCurrentPriority());
+        assertTrue(snapshot.getCurrentInsertionOrder() >= 0);
+        assertEquals(0, snapshot.getEnqueued());
+        assertEquals(0, snapshot.getDequeued());
+    }
+
+    @Test
+    public void testLongQueueIsNotSampled() throws Exception {
+        fillQueue();
+        ClusterManagerQueueTracker tracker = new ClusterManagerQueueTracker(4);
+        QueueSnapshot snapshot = tracker.sample(executor, current, null, 1000);
+
+        // Only the size and the head of the queue are read.
+        assertEquals(5, snapshot.getPending());
+        assertEquals(0, snapshot.getSampled());
+        assertEquals(1, snapshot.getCountsByType().size());
+        assertEquals(
+                5,
+                (int) snapshot.getCountsByType().get(ClusterManagerQueueTracker.UNKNOWN_TASK_TYPE));
+        assertEquals(0, snapshot.getAges().getCount());
+        assertTrue(snapshot.getHeadAgeMillis() >= 0);
+        assertEquals("_blocking_ task", snapshot.getCurrentSource());
+    }
+
+    @Test
+    public void testLongQueueCountsAreScaledFromThePreviousSnapshot() throws Exception {
+        fillQueue();
+        QueueSnapshot previous =
+                new ClusterManagerQueueTracker(100).sample(executor, current, null, 1000);
+
+        executor.submit(task(Priority.HIGH, "create-index [d]"));
+        QueueSnapshot snapshot =
+                new ClusterManagerQueueTracker(4).sample(executor, current, previous, 6000);
+
+        assertEquals(6, snapshot.getPending());
+        assertEquals(0, snapshot.getSampled());
+        assertEquals(4, (int) snapshot.getCountsByType().get("create-index"));
+        assertEquals(2, (int) snapshot.getCountsByType().get("put-mapping"));
+    }
+
+    @Test
+    public void testEnqueuedAndDequeuedSinceThePreviousSnapshot() throws Exception {
+        fillQueue();
+        ClusterManagerQueueTracker tracker = new ClusterManagerQueueTracker(100);
+        QueueSnapshot previous = tracker.sample(executor, current, null, 1000);
+
+        release.countDown();
+        awaitIdle();
+        executor.submit(task(Priority.NORMAL, "create-index [c]"));
+        awaitIdle();
+        QueueSnapshot snapshot = tracker.sample(executor, current, previous, 6000);
+
+        assertEquals(0, snapshot.getPending());
+        assertEquals(-1, snapshot.getCurrentInsertionOrder());
+        assertNull(snapshot.getCurrentSource());
+        // The 5 queued tasks and the new one started, the blocking task was already in progress.
+        assertEquals(6, snapshot.getDequeued());
+        assertEquals(1, snapshot.getEnqueued());
+        assertEquals(5000, snapshot.getElapsedMillis());
+    }
+
+    /** Blocks the cluster manager thread and queues 5 tasks behind it. */
+    private void fillQueue() throws InterruptedException {
+        executor.submit(
+                new SourcePrioritizedRunnable(Priority.URGENT, "_blocking_ task") {
+                    @Override
+                    public void run() {
+                        started.countDown();
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+        executor.submit(task(Priority.HIGH, "create-index [a]"));
+        executor.submit(task(Priority.HIGH, "create-index [b]"));
+        executor.submit(task(Priority.HIGH, "create-index [c]"));
+        executor.submit(task(Priority.NORMAL, "put-mapping [a]"));
+        executor.submit(task(Priority.NORMAL, "put-mapping [b]"));
+    }
+
+    private void awaitIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while ((executor.getQueue().size() > 0 || executor.getActiveCount() > 0)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static SourcePrioritizedRunnable task(Priority priority, String source) {
+        return new SourcePrioritizedRunnable(priority, source) {
+            @Override
+            public void run() {}
+        };
+    }
+}
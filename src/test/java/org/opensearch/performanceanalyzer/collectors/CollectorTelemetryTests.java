@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.collectors.CollectorTelemetry.CollectorStats;
+
+public class CollectorTelemetryTests {
+    private static final long INTERVAL = 5000;
+
+    @Before
+    public void setUp() {
+        CollectorTelemetry.clear();
+    }
+
+    @After
+    public void tearDown() {
+        CollectorTelemetry.clear();
+    }
+
+    @Test
+    public void testRunsAndOverruns() {
+        CollectorTelemetry.recordRun("a", 10_000, TimeUnit.MILLISECONDS.toNanos(2), INTERVAL);
+        CollectorTelemetry.recordRun("a", 15_000, TimeUnit.MILLISECONDS.toNanos(6000), INTERVAL);
+        CollectorStats stats = CollectorTelemetry.getStats().get(0);
+        assertEquals("a", stats.getName());
+        assertEquals(INTERVAL, stats.getIntervalMillis());
+        assertEquals(2, stats.getRuns());
+        assertEquals(1, stats.getOverruns());
+        assertEquals(0, stats.getSkipped());
+        assertEquals(15_000, stats.getLastRunTime());
+        assertEquals(2, stats.getRunTimes().getCount());
+        assertEquals(6_002_000, stats.getRunTimes().getSum());
+    }
+
+    @Test
+    public void testSkippedRuns() {
+        CollectorTelemetry.recordRun("a", 10_000, 0, INTERVAL);
+        // Late by less than half an interval, nothing was skipped.
+        CollectorTelemetry.recordRun("a", 17_000, 0, INTERVAL);
+        assertEquals(0, CollectorTelemetry.getStats().get(0).getSkipped());
+        // Two runs were due in between.
+        CollectorTelemetry.recordRun("a", 32_000, 0, INTERVAL);
+        assertEquals(2, CollectorTelemetry.getStats().get(0).getSkipped());
+    }
+
+    @Test
+    public void testEmittedEvents() {
+        CollectorTelemetry.recordEmit("a", INTERVAL, 100);
+        CollectorTelemetry.recordEmit("a", INTERVAL, 20);
+        CollectorStats stats = CollectorTelemetry.getStats().get(0);
+        assertEquals(2, stats.getEvents());
+        assertEquals(120, stats.getBytes());
+        assertEquals(0, stats.getRuns());
+    }
+
+    @Test
+    public void testCoverageWindow() {
+        CollectorTelemetry.recordRun("a", 10_000, 0, INTERVAL);
+        assertEquals(0, CollectorTelemetry.getStats().get(0).getCoverageWindowMillis());
+        CollectorTelemetry.recordCoverageWindow("a", INTERVAL, 60_000);
+        assertEquals(60_000, CollectorTelemetry.getStats().get(0).getCoverageWindowMillis());
+    }
+
+    @Test
+    public void testStatsAreOrderedByCollector() {
+        CollectorTelemetry.recordRun("b", 10_000, 0, INTERVAL);
+        CollectorTelemetry.recordRun("a", 10_000, 0, INTERVAL);
+        List<CollectorStats> stats = CollectorTelemetry.getStats();
+        assertEquals(2, stats.size());
+        assertEquals("a", stats.get(0).getName());
+        assertEquals("b", stats.get(1).getName());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatExceptionCode.CACHE_CONFIG_METRICS_COLLECTOR_ERROR;
+import static org.opensearch.performanceanalyzer.commons.stats.metrics.StatMetrics.CACHE_CONFIG_METRICS_COLLECTOR_EXECUTION_TIME;
+
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.collectors.CollectorTelemetry.CollectorStats;
+import org.opensearch.performanceanalyzer.collectors.IsolatedCollectorScheduler.CollectorSchedule;
+import org.opensearch.performanceanalyzer.collectors.IsolatedCollectorScheduler.Decision;
+
+public class IsolatedCollectorSchedulerTests {
+    private static final long INTERVAL = 5000;
+
+    @Before
+    public void setUp() {
+        CollectorTelemetry.clear();
+    }
+
+    @After
+    public void tearDown() {
+        CollectorTelemetry.clear();
+    }
+
+    @Test
+    public void testBackOffAfterConsecutiveOverruns() {
+        CollectorSchedule schedule = new CollectorSchedule(null, INTERVAL, 50);
+        assertEquals(2500, schedule.getBudgetMillis());
+        assertEquals(Decision.NONE, schedule.onRun(3000));
+        assertEquals(Decision.NONE, schedule.onRun(3000));
+        // A run within budget resets the count.
+        assertEquals(Decision.NONE, schedule.onRun(100));
+        assertEquals(Decision.NONE, schedule.onRun(3000));
+        assertEquals(Decision.NONE, schedule.onRun(3000));
+        assertEquals(INTERVAL, schedule.getIntervalMillis());
+        assertEquals(Decision.BACK_OFF, schedule.onRun(3000));
+        assertEquals(2 * INTERVAL, schedule.getIntervalMillis());
+
+        for (int i = 0; i < 10 * IsolatedCollectorScheduler.BACK_OFF_AFTER; i++) {
+            schedule.onRun(3000);
+        }
+        assertEquals(
+                IsolatedCollectorScheduler.MAX_MULTIPLIER * INTERVAL, schedule.getIntervalMillis());
+    }
+
+    @Test
+    public void testRecoveryAfterConsecutiveRunsWithinBudget() {
+        CollectorSchedule schedule = new CollectorSchedule(null, INTERVAL, 50);
+        for (int i = 0; i < 2 * IsolatedCollectorScheduler.BACK_OFF_AFTER; i++) {
+            schedule.onRun(3000);
+        }
+        assertEquals(4 * INTERVAL, schedule.getIntervalMillis());
+
+        for (int i = 1; i < IsolatedCollectorScheduler.RECOVER_AFTER; i++) {
+            assertEquals(Decision.NONE, schedule.onRun(100));
+        }
+        assertEquals(Decision.RECOVER, schedule.onRun(100));
+        assertEquals(2 * INTERVAL, schedule.getIntervalMillis());
+        for (int i = 0; i < 2 * IsolatedCollectorScheduler.RECOVER_AFTER; i++) {
+            schedule.onRun(100);
+        }
+        assertEquals(INTERVAL, schedule.getIntervalMillis());
+    }
+
+    @Test
+    public void testNextRunIsAlignedAfterThePhase() {
+        CollectorSchedule schedule = new CollectorSchedule(null, INTERVAL, 50);
+        assertEquals(11_250, schedule.nextRunMillis(10_000));
+        assertEquals(11_250, schedule.nextRunMillis(11_249));
+        assertEquals(16_250, schedule.nextRunMillis(11_250));
+        // A run that took longer than the interval skips the slots it missed.
+        assertEquals(26_250, schedule.nextRunMillis(22_000));
+
+        for (int i = 0; i < IsolatedCollectorScheduler.BACK_OFF_AFTER; i++) {
+            schedule.onRun(3000);
+        }
+        assertEquals(21_250, schedule.nextRunMillis(12_000));
+    }
+
+    @Test
+    public void testIsolatedCollectors() {
+        IsolatedCollectorScheduler scheduler =
+                new IsolatedCollectorScheduler(
+                        () -> true, Collections.singleton("SlowCollector"), 50);
+        assertTrue(scheduler.isIsolated(new SlowCollector(false)));
+        assertFalse(scheduler.isIsolated(new CacheConfigMetricsCollector()));
+    }
+
+    @Test
+    public void testRunOnceReportsDecisions() {
+        CollectorSchedule schedule = new CollectorSchedule(new SlowCollector(false), INTERVAL, 0);
+        for (int i = 1; i < IsolatedCollectorScheduler.BACK_OFF_AFTER; i++) {
+            assertEquals(Decision.NONE, IsolatedCollectorScheduler.runOnce(schedule, i * INTERVAL));
+        }
+        assertEquals(Decision.BACK_OFF, IsolatedCollectorScheduler.runOnce(schedule, 15_000));
+
+        CollectorStats stats = CollectorTelemetry.getStats().get(0);
+        assertEquals("SlowCollector", stats.getName());
+        assertTrue(stats.isIsolated());
+        assertEquals(0, stats.getBudgetMillis());
+        assertEquals(3, stats.getRuns());
+        assertEquals(3, stats.getOverBudget());
+        assertEquals(1, stats.getBackoffs());
+        assertEquals(0, stats.getRecoveries());
+        assertEquals(2 * INTERVAL, stats.getIntervalMillis());
+    }
+
+    @Test
+    public void testRunOnceSurvivesCollectorExceptions() {
+        CollectorSchedule schedule = new CollectorSchedule(new SlowCollector(true), INTERVAL, 50);
+        assertEquals(Decision.NONE, IsolatedCollectorScheduler.runOnce(schedule, INTERVAL));
+        assertEquals(1, CollectorTelemetry.getStats().get(0).getRuns());
+    }
+
+    @Test
+    public void testRunOnceSkipsCollectorInProgress() {
+        SlowCollector collector = new SlowCollector(false);
+        CollectorSchedule schedule = new CollectorSchedule(collector, INTERVAL, 50);
+        collector.setStartTime(INTERVAL);
+        assertEquals(Decision.NONE, IsolatedCollectorScheduler.runOnce(schedule, 2 * INTERVAL));
+        assertTrue(CollectorTelemetry.getStats().isEmpty());
+
+        collector.run();
+        assertFalse(collector.inProgress());
+        IsolatedCollectorScheduler.runOnce(schedule, 3 * INTERVAL);
+        assertFalse(collector.inProgress());
+        assertEquals(2, CollectorTelemetry.getStats().get(0).getRuns());
+    }
+
+    @Test
+    public void testStopShutsDownWorkers() {
+        IsolatedCollectorScheduler scheduler =
+                new IsolatedCollectorScheduler(
+                        () -> true, Collections.singleton("SlowCollector"), 50);
+        scheduler.addCollector(new SlowCollector(false));
+        scheduler.start();
+        assertEquals(1, scheduler.getWorkers().size());
+        assertFalse(scheduler.getWorkers().get(0).isShutdown());
+
+        scheduler.stop();
+        assertTrue(scheduler.getWorkers().get(0).isShutdown());
+    }
+
+    private static class SlowCollector extends InstrumentedMetricsCollector {
+        private final boolean fail;
+
+        SlowCollector(boolean fail) {
+            super(
+                    (int) INTERVAL,
+                    "SlowCollector",
+                    CACHE_CONFIG_METRICS_COLLECTOR_EXECUTION_TIME,
+                    CACHE_CONFIG_METRICS_COLLECTOR_ERROR);
+            this.fail = fail;
+        }
+
+        @Override
+        public void collectMetrics(long startTime) {
+            if (fail) {
+                throw new IllegalStateException("collector failure");
+            }
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String getMetricsPath(long startTime, String... keysPath) {
+            return "";
+        }
+    }
+}
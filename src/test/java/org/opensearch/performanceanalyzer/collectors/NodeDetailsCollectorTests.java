@@ -16,6 +16,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodeRole;
@@ -81,6 +82,12 @@ public class NodeDetailsCollectorTests extends OpenSearchTestCase {
                         + PerformanceAnalyzerMetrics.sNodesPath;
         String actualPath = collector.getMetricsPath(startTimeInMills);
         assertEquals(expectedPath, actualPath);
+        assertEquals(
+                PluginSettings.instance().getMetricsLocation()
+                        + PerformanceAnalyzerMetrics.getTimeInterval(startTimeInMills)
+                        + "/"
+                        + NodeDetailsCollector.HEARTBEAT_PATH,
+                collector.getMetricsPath(startTimeInMills, NodeDetailsCollector.HEARTBEAT_PATH));
 
         try {
             collector.getMetricsPath(startTimeInMills, "nodesPath");
@@ -102,6 +109,37 @@ public class NodeDetailsCollectorTests extends OpenSearchTestCase {
         assertTrue(nodeDetailsStatus.getIsClusterManagerNode());
     }
 
+    @Test
+    public void testChangeDrivenCollectMetrics() {
+        NodeDetailsCollector changeDrivenCollector =
+                new NodeDetailsCollector(configOverrides, true, 60_000);
+        changeDrivenCollector.collectMetrics(startTimeInMills);
+        changeDrivenCollector.collectMetrics(startTimeInMills + 5_000);
+        // The overrides changed.
+        Mockito.when(configOverrides.getLastUpdatedTimestamp()).thenReturn(1L);
+        changeDrivenCollector.collectMetrics(startTimeInMills + 10_000);
+        changeDrivenCollector.collectMetrics(startTimeInMills + 15_000);
+        // The last full snapshot is too old.
+        changeDrivenCollector.collectMetrics(startTimeInMills + 70_000);
+
+        List<Event> metrics = TestUtil.readEvents();
+        assertEquals(5, metrics.size());
+        assertEquals(4, metrics.get(0).value.split("\n").length);
+        // The heartbeat goes to a file of its own, the node details file only holds snapshots.
+        assertTrue(metrics.get(0).key.endsWith("/" + PerformanceAnalyzerMetrics.sNodesPath));
+        assertTrue(metrics.get(1).key.endsWith("/" + NodeDetailsCollector.HEARTBEAT_PATH));
+        assertTrue(metrics.get(3).key.endsWith("/" + NodeDetailsCollector.HEARTBEAT_PATH));
+        String[] heartbeat = metrics.get(1).value.split("\n");
+        assertEquals(2, heartbeat.length);
+        assertEquals(
+                "{\"" + NodeDetailsCollector.LAST_SNAPSHOT_TIME + "\":" + startTimeInMills + "}",
+                heartbeat[1]);
+        assertEquals(4, metrics.get(2).value.split("\n").length);
+        assertEquals("1", metrics.get(2).value.split("\n")[2]);
+        assertEquals(2, metrics.get(3).value.split("\n").length);
+        assertEquals(4, metrics.get(4).value.split("\n").length);
+    }
+
     private NodeDetailsCollector.NodeDetailsStatus readMetrics() throws IOException {
         List<Event> metrics = TestUtil.readEvents();
         assert metrics.size() == 1;
@@ -14,6 +14,7 @@ import java.util.List;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.indices.IndicesService;
 import org.opensearch.performanceanalyzer.OpenSearchResources;
 import org.opensearch.performanceanalyzer.commons.config.PluginSettings;
@@ -103,6 +104,47 @@ public class NodeStatsAllShardsMetricsCollectorTests extends OpenSearchSingleNod
         assertEquals(0, diffMetricValue.getRequestCacheMissCount());
     }
 
+    @Test
+    public void testIncrementalCollectMetrics() throws IOException {
+        createIndex(
+                TEST_INDEX,
+                Settings.builder()
+                        .put("index.number_of_shards", 3)
+                        .put("index.number_of_replicas", 0)
+                        .build());
+        // A zero budget visits a single shard per run.
+        NodeStatsAllShardsMetricsCollector collector =
+                new NodeStatsAllShardsMetricsCollector(null, true, 0);
+
+        for (int i = 0; i < 3; i++) {
+            collector.collectMetrics(startTimeInMills);
+            assertEquals(1, TestUtil.readEvents().size());
+        }
+
+        // The next run starts a new pass and emits the delta of the first shard.
+        startTimeInMills += 500;
+        collector.collectMetrics(startTimeInMills);
+        List<Event> metrics = TestUtil.readEvents();
+        assertEquals(1, metrics.size());
+        String[] jsonStrs = metrics.get(0).value.split("\n");
+        assertEquals(2, jsonStrs.length);
+        NodeStatsAllShardsMetricsCollector.NodeStatsMetricsAllShardsPerCollectionStatus
+                diffMetricValue =
+                        new ObjectMapper()
+                                .registerModule(new ParanamerModule())
+                                .readValue(
+                                        jsonStrs[1],
+                                        NodeStatsAllShardsMetricsCollector
+                                                .NodeStatsMetricsAllShardsPerCollectionStatus
+                                                .class);
+        assertEquals(0, diffMetricValue.getQueryCacheHitCount());
+        assertEquals(0, diffMetricValue.getQueryCacheMissCount());
+        assertEquals(0, diffMetricValue.getFieldDataEvictions());
+        assertEquals(0, diffMetricValue.getRequestCacheHitCount());
+        assertEquals(0, diffMetricValue.getRequestCacheMissCount());
+        assertEquals(0, diffMetricValue.getRequestCacheEvictions());
+    }
+
     private List<NodeStatsAllShardsMetricsCollector.NodeStatsMetricsAllShardsPerCollectionStatus>
             readMetrics() throws IOException {
         List<Event> metrics = TestUtil.readEvents();
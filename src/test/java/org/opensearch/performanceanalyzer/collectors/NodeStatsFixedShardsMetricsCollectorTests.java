@@ -143,6 +143,21 @@ public class NodeStatsFixedShardsMetricsCollectorTests extends OpenSearchSingleN
         assertTrue(jsonStr.contains(ShardStatsValue.Constants.SHARD_SIZE_IN_BYTES_VALUE));
     }
 
+    @Test
+    public void testZeroShardsPerCollectionDisablesAdaptiveCollection() {
+        createIndex(TEST_INDEX);
+        collector =
+                new NodeStatsFixedShardsMetricsCollector(
+                        controller, new AdaptiveShardBudget(20, 60_000, 5000));
+        Mockito.when(controller.getNodeStatsShardsPerCollection()).thenReturn(0);
+        collector.collectMetrics(startTimeInMills);
+        assertTrue(TestUtil.readEvents().isEmpty());
+
+        Mockito.when(controller.getNodeStatsShardsPerCollection()).thenReturn(1);
+        collector.collectMetrics(startTimeInMills);
+        assertEquals(1, TestUtil.readEvents().size());
+    }
+
     private String readMetricsInJsonString() {
         List<Event> metrics = TestUtil.readEvents();
         assert metrics.size() == 1;
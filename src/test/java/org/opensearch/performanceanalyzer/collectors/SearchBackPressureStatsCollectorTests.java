@@ -173,4 +173,57 @@ public class SearchBackPressureStatsCollectorTests {
             assertTrue(jsonStr.contains(required_field));
         }
     }
+
+    @Test
+    public void testReadSearchBackPressureStatsDirectly() throws Exception {
+        Map<String, SearchBackPressureStatsCollector.ResourceUsageTrackerStats> trackerStats =
+                Map.of(
+                        "HEAP_USAGE_TRACKER",
+                        new SearchBackPressureStatsCollector.ResourceUsageTrackerStats(
+                                1, 2, 0, 3, false),
+                        "CPU_USAGE_TRACKER",
+                        new SearchBackPressureStatsCollector.ResourceUsageTrackerStats(
+                                4, 5, 6, 0, false));
+        SearchBackPressureStatsCollector.SearchBackPressureStats stats =
+                new SearchBackPressureStatsCollector.SearchBackPressureStats(
+                        new SearchBackPressureStatsCollector.SearchShardTaskStats(
+                                7, 8, trackerStats),
+                        "ENFORCED",
+                        new SearchBackPressureStatsCollector.SearchTaskStats(9, 10, trackerStats));
+
+        SearchBackPressureStatsCollector.SearchBackPressureStats read =
+                SearchBackPressureStatsCollector.readSearchBackPressureStats(stats);
+
+        assertEquals("ENFORCED", read.getMode());
+        assertEquals(7, read.getSearchShardTaskStats().getCancellationCount());
+        assertEquals(8, read.getSearchShardTaskStats().getLimitReachedCount());
+        assertEquals(9, read.getSearchTaskStats().getCancellationCount());
+        assertEquals(10, read.getSearchTaskStats().getLimitReachedCount());
+        SearchBackPressureStatsCollector.ResourceUsageTrackerStats heap =
+                read.getSearchShardTaskStats()
+                        .getResourceUsageTrackerStats()
+                        .get("HEAP_USAGE_TRACKER");
+        assertEquals(1, heap.getCancellationCount());
+        assertEquals(2, heap.getCurrentMax());
+        assertEquals(3, heap.getRollingAvg());
+        SearchBackPressureStatsCollector.ResourceUsageTrackerStats cpu =
+                read.getSearchTaskStats().getResourceUsageTrackerStats().get("CPU_USAGE_TRACKER");
+        assertEquals(4, cpu.getCancellationCount());
+        assertEquals(6, cpu.getCurrentAvg());
+    }
+
+    @Test
+    public void testNullNestedStatsFallBackToJson() throws Exception {
+        SearchBackPressureStatsCollector.SearchBackPressureStats stats =
+                new SearchBackPressureStatsCollector.SearchBackPressureStats(
+                        null,
+                        "MONITOR_ONLY",
+                        new SearchBackPressureStatsCollector.SearchTaskStats(9, 10, Map.of()));
+
+        SearchBackPressureStatsCollector.SearchBackPressureStats read =
+                searchBackPressureStatsCollector.toSearchBackPressureStats(stats);
+
+        assertEquals("MONITOR_ONLY", read.getMode());
+        assertEquals(9, read.getSearchTaskStats().getCancellationCount());
+    }
 }
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+import org.opensearch.core.index.shard.ShardId;
+
+public class ShardCounterTableTests {
+
+    @Test
+    public void testCountersAreKeptPerShard() {
+        ShardCounterTable table = new ShardCounterTable(3);
+        ShardId first = new ShardId("index", "uuid", 0);
+        ShardId second = new ShardId("index", "uuid", 1);
+        assertEquals(-1, table.ordinalOf(first));
+
+        int firstOrdinal = table.add(first);
+        int secondOrdinal = table.add(second);
+        table.set(firstOrdinal, new long[] {1, 2, 3});
+        table.set(secondOrdinal, new long[] {4, 5, 6});
+
+        assertEquals(firstOrdinal, table.ordinalOf(new ShardId("index", "uuid", 0)));
+        assertEquals(2, table.get(firstOrdinal, 1));
+        assertEquals(6, table.get(secondOrdinal, 2));
+        assertEquals(2, table.size());
+    }
+
+    @Test
+    public void testTableGrows() {
+        ShardCounterTable table = new ShardCounterTable(2);
+        for (int i = 0; i < 1000; i++) {
+            int ordinal = table.add(new ShardId("index", "uuid", i));
+            table.set(ordinal, new long[] {i, -i});
+        }
+        for (int i = 0; i < 1000; i++) {
+            int ordinal = table.ordinalOf(new ShardId("index", "uuid", i));
+            assertEquals(i, table.get(ordinal, 0));
+            assertEquals(-i, table.get(ordinal, 1));
+        }
+    }
+
+    @Test
+    public void testUnseenShardsAreEvicted() {
+        ShardCounterTable table = new ShardCounterTable(1);
+        ShardId kept = new ShardId("index", "uuid", 0);
+        ShardId relocated = new ShardId("index", "uuid", 1);
+        table.startGeneration();
+        table.set(table.add(kept), new long[] {1});
+        table.set(table.add(relocated), new long[] {2});
+        assertEquals(0, table.evictUnseen());
+
+        table.startGeneration();
+        table.set(table.ordinalOf(kept), new long[] {3});
+        assertEquals(1, table.evictUnseen());
+        assertEquals(1, table.size());
+        assertEquals(-1, table.ordinalOf(relocated));
+        assertEquals(3, table.get(table.ordinalOf(kept), 0));
+
+        // The ordinal of the evicted shard is reused instead of growing the table.
+        assertEquals(1, table.add(new ShardId("other", "uuid", 0)));
+    }
+}
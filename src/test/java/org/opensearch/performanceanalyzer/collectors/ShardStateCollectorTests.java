@@ -98,6 +98,24 @@ public class ShardStateCollectorTests {
         assertEquals(SHARD_REPLICA.toString(), metrics.get(1).getShardType());
     }
 
+    @Test
+    public void testCollectMetricsEventDriven() {
+        Mockito.when(controller.isCollectorEnabled(configOverrides, "ShardsStateCollector"))
+                .thenReturn(true);
+        Mockito.when(clusterService.state()).thenReturn(generateClusterState());
+        ShardStateCollector collector = new ShardStateCollector(controller, configOverrides, true);
+        collector.collectMetrics(startTimeInMills);
+        collector.collectMetrics(startTimeInMills + ShardStateCollector.SAMPLING_TIME_INTERVAL);
+
+        Mockito.verify(clusterService).addListener(Mockito.any(ShardStateTracker.class));
+        List<Event> metrics = TestUtil.readEvents();
+        assertEquals(2, metrics.size());
+        // Index line followed by the unassigned primary and replica.
+        assertEquals(
+                2 + NUMBER_OF_PRIMARY_SHARDS + NUMBER_OF_REPLICAS,
+                metrics.get(0).value.split("\n").length);
+    }
+
     private ClusterState generateClusterState() {
         Metadata metaData =
                 Metadata.builder()
@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.routing.IndexRoutingTable;
+import org.opensearch.cluster.routing.IndexShardRoutingTable;
+import org.opensearch.cluster.routing.RoutingTable;
+import org.opensearch.cluster.routing.ShardRouting;
+import org.opensearch.cluster.routing.ShardRoutingState;
+import org.opensearch.cluster.routing.TestShardRouting;
+import org.opensearch.core.index.Index;
+import org.opensearch.core.index.shard.ShardId;
+
+public class ShardStateTrackerTests {
+    private static final int SHARDS_PER_INDEX = 2;
+
+    @Test
+    public void testTracksNonStartedShards() {
+        ShardStateTracker tracker = new ShardStateTracker();
+        assertFalse(tracker.isInitialized());
+        RoutingTable routingTable =
+                RoutingTable.builder()
+                        .add(indexRoutingTable("started", ShardRoutingState.STARTED))
+                        .add(indexRoutingTable("unassigned", ShardRoutingState.UNASSIGNED))
+                        .build();
+        tracker.apply(clusterState(1, routingTable));
+
+        assertTrue(tracker.isInitialized());
+        Map<String, List<ShardRouting>> shards = tracker.getNonStartedShards();
+        assertEquals(1, shards.size());
+        assertEquals(SHARDS_PER_INDEX, shards.get("unassigned").size());
+        for (ShardRouting shard : shards.get("unassigned")) {
+            assertFalse(shard.primary());
+            assertEquals(ShardRoutingState.UNASSIGNED, shard.state());
+        }
+    }
+
+    @Test
+    public void testRoutingTableChanges() {
+        ShardStateTracker tracker = new ShardStateTracker();
+        ClusterState previous =
+                clusterState(
+                        1,
+                        RoutingTable.builder()
+                                .add(indexRoutingTable("a", ShardRoutingState.STARTED))
+                                .add(indexRoutingTable("b", ShardRoutingState.INITIALIZING))
+                                .add(indexRoutingTable("c", ShardRoutingState.UNASSIGNED))
+                                .build());
+        tracker.clusterChanged(new ClusterChangedEvent("test", previous, previous));
+        assertEquals(2, tracker.getNonStartedShards().size());
+
+        // b got started, c was deleted and a replica of a is relocating.
+        ClusterState current =
+                clusterState(
+                        2,
+                        RoutingTable.builder(previous.routingTable())
+                                .add(indexRoutingTable("a", ShardRoutingState.RELOCATING))
+                                .add(indexRoutingTable("b", ShardRoutingState.STARTED))
+                                .remove("c")
+                                .build());
+        tracker.clusterChanged(new ClusterChangedEvent("test", current, previous));
+        Map<String, List<ShardRouting>> shards = tracker.getNonStartedShards();
+        assertEquals(1, shards.size());
+        assertEquals(SHARDS_PER_INDEX, shards.get("a").size());
+        assertEquals(ShardRoutingState.RELOCATING, shards.get("a").get(0).state());
+    }
+
+    @Test
+    public void testOlderStatesAreIgnored() {
+        ShardStateTracker tracker = new ShardStateTracker();
+        tracker.apply(
+                clusterState(
+                        2,
+                        RoutingTable.builder()
+                                .add(indexRoutingTable("a", ShardRoutingState.UNASSIGNED))
+                                .build()));
+        tracker.apply(
+                clusterState(
+                        1,
+                        RoutingTable.builder()
+                                .add(indexRoutingTable("a", ShardRoutingState.STARTED))
+                                .build()));
+        assertEquals(1, tracker.getNonStartedShards().size());
+    }
+
+    private static ClusterState clusterState(long version, RoutingTable routingTable) {
+        return ClusterState.builder(ClusterName.DEFAULT)
+                .version(version)
+                .routingTable(routingTable)
+                .build();
+    }
+
+    /** An index whose primaries are started and whose replicas are in the given state. */
+    private static IndexRoutingTable indexRoutingTable(String name, ShardRoutingState replicas) {
+        Index index = new Index(name, "_na_");
+        IndexRoutingTable.Builder builder = IndexRoutingTable.builder(index);
+        for (int shard = 0; shard < SHARDS_PER_INDEX; shard++) {
+            ShardId shardId = new ShardId(index, shard);
+            builder.addIndexShard(
+                    new IndexShardRoutingTable.Builder(shardId)
+                            .addShard(
+                                    TestShardRouting.newShardRouting(
+                                            shardId, "node-0", true, ShardRoutingState.STARTED))
+                            .addShard(
+                                    replicas == ShardRoutingState.UNASSIGNED
+                                            ? TestShardRouting.newShardRouting(
+                                                    shardId, null, false, replicas)
+                                            : TestShardRouting.newShardRouting(
+                                                    shardId,
+                                                    "node-1",
+                                                    replicas == ShardRoutingState.RELOCATING
+                                                            ? "node-2"
+                                                            : null,
+                                                    false,
+                                                    replicas))
+                            .build());
+        }
+        return builder.build();
+    }
+}
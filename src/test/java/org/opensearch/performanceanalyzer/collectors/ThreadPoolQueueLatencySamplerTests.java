@@ -0,0 +1,127 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ThreadPoolQueueLatencySamplerTests {
+    private ThreadPoolExecutor executor;
+    private CountDownLatch release;
+
+    @Before
+    public void setup() {
+        executor =
+                new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>());
+        release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    private static class TimedTask implements Runnable {
+        @SuppressWarnings("unused")
+        private final long creationTimeNanos;
+
+        TimedTask(long creationTimeNanos) {
+            this.creationTimeNanos = creationTimeNanos;
+        }
+
+        @Override
+        public void run() {}
+    }
+
+    private void blockWorker() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testEmptyQueueIsNotSampled() throws InterruptedException {
+        ThreadPoolQueueLatencySampler sampler = new ThreadPoolQueueLatencySampler(0);
+        assertFalse(sampler.isEnabled());
+
+        sampler = new ThreadPoolQueueLatencySampler(Long.MAX_VALUE);
+        assertNull(sampler.takePercentiles("search"));
+        sampler.track("search", executor);
+        sampler.sampleAll();
+        sampler.sampleAll();
+        assertNull(sampler.takePercentiles("search"));
+
+        blockWorker();
+        executor.execute(new TimedTask(System.nanoTime()));
+        sampler.sampleAll();
+        assertEquals(1, executor.getQueue().size());
+        assertTrue(sampler.takePercentiles("search") != null);
+        // Samples are consumed by the report.
+        assertNull(sampler.takePercentiles("search"));
+    }
+
+    @Test
+    public void testShutdownStopsSampling() throws InterruptedException {
+        ThreadPoolQueueLatencySampler sampler = new ThreadPoolQueueLatencySampler(Long.MAX_VALUE);
+        blockWorker();
+        executor.execute(new TimedTask(System.nanoTime()));
+        sampler.shutdown();
+        sampler.track("search", executor);
+        sampler.sampleAll();
+        assertNull(sampler.takePercentiles("search"));
+    }
+
+    @Test
+    public void testReadsTheCreationTimeOfTheHeadTask() throws InterruptedException {
+        ThreadPoolQueueLatencySampler sampler = new ThreadPoolQueueLatencySampler(Long.MAX_VALUE);
+        sampler.track("write", executor);
+        blockWorker();
+        executor.execute(new TimedTask(System.nanoTime() - TimeUnit.SECONDS.toNanos(2)));
+
+        sampler.sampleAll();
+        double[] latency = sampler.takePercentiles("write");
+        assertTrue(latency[0] >= 2000);
+        assertTrue(latency[1] >= latency[0]);
+    }
+
+    @Test
+    public void testTracksTheHeadTaskAcrossSamples() throws InterruptedException {
+        ThreadPoolQueueLatencySampler sampler = new ThreadPoolQueueLatencySampler(Long.MAX_VALUE);
+        sampler.track("get", executor);
+        sampler.sampleAll();
+        blockWorker();
+        executor.execute(() -> {});
+
+        // Unknown age the first time the head task is seen, nothing is recorded.
+        sampler.sampleAll();
+        assertNull(sampler.takePercentiles("get"));
+        Thread.sleep(20);
+        sampler.sampleAll();
+
+        double[] latency = sampler.takePercentiles("get");
+        assertTrue(latency[0] >= 20);
+        assertTrue(latency[1] >= 20);
+    }
+}
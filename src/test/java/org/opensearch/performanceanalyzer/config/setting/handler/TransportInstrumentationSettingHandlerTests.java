@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.config.setting.handler;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opensearch.performanceanalyzer.transport.TransportInterceptionRegistry;
+
+public class TransportInstrumentationSettingHandlerTests {
+    private TransportInstrumentationSettingHandler handler;
+
+    @Mock private TransportInterceptionRegistry registry;
+
+    @Before
+    public void init() {
+        initMocks(this);
+        handler = new TransportInstrumentationSettingHandler(registry);
+    }
+
+    @Test
+    public void testOnSettingUpdate() {
+        String newSettingValue = null;
+        handler.onSettingUpdate(newSettingValue);
+        verify(registry, never()).updateAllowList(anyString());
+
+        newSettingValue = "indices:data/write/bulk[s][p]";
+        handler.onSettingUpdate(newSettingValue);
+        verify(registry).updateAllowList(newSettingValue);
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.performanceanalyzer.http_action.config.AgentProxy.EndpointBreaker;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+
+public class AgentProxyTests {
+    private static final String BODY = "{\"metrics\":\n[1,\n2]}\n";
+
+    private HttpServer server;
+    private URL url;
+    private volatile int responseCode = HttpURLConnection.HTTP_OK;
+    private final CountDownLatch release = new CountDownLatch(1);
+    private volatile boolean blocking;
+    private final AtomicInteger requests = new AtomicInteger();
+
+    @Before
+    public void init() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(
+                "/",
+                exchange -> {
+                    requests.incrementAndGet();
+                    if (blocking) {
+                        try {
+                            release.await(10, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    byte[] body = BODY.getBytes(StandardCharsets.UTF_8);
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.getResponseHeaders().add("X-Agent", "pa");
+                    exchange.sendResponseHeaders(responseCode, body.length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(body);
+                    }
+                });
+        server.start();
+        url = new URL("http://localhost:" + server.getAddress().getPort() + "/metrics");
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    public void testForwardPassesTheBodyAndHeaders() throws InterruptedException {
+        AgentProxy proxy = newProxy(2, 2, 3);
+        FakeRestChannel channel = forward(proxy, "metrics");
+
+        assertTrue(channel.await());
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        assertEquals(BODY, channel.capturedResponse().content().utf8ToString());
+        assertEquals("application/json", channel.capturedResponse().contentType());
+        assertEquals("pa", channel.capturedResponse().getHeaders().get("X-Agent").get(0));
+    }
+
+    @Test
+    public void testBreakerOpensAfterConsecutiveFailures() throws InterruptedException {
+        responseCode = HttpURLConnection.HTTP_INTERNAL_ERROR;
+        AgentProxy proxy = newProxy(1, 1, 2);
+        for (int i = 0; i < 2; i++) {
+            FakeRestChannel channel = forward(proxy, "rca");
+            assertTrue(channel.await());
+            assertEquals(RestStatus.INTERNAL_SERVER_ERROR, channel.capturedResponse().status());
+        }
+        assertTrue(proxy.getBreaker("rca").isOpen(System.currentTimeMillis()));
+
+        FakeRestChannel channel = forward(proxy, "rca");
+        assertTrue(channel.await());
+        assertEquals(RestStatus.SERVICE_UNAVAILABLE, channel.capturedResponse().status());
+        // Other endpoints are not affected.
+        responseCode = HttpURLConnection.HTTP_OK;
+        channel = forward(proxy, "metrics");
+        assertTrue(channel.await());
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+    }
+
+    @Test
+    public void testBreakerProbesOnceOpenTimeIsOver() {
+        AgentProxy proxy = newProxy(1, 1, 1);
+        EndpointBreaker breaker = proxy.getBreaker("rca");
+        assertTrue(breaker.onFailure(1000));
+        assertFalse(breaker.allowRequest(1000 + 59_999));
+        assertTrue(breaker.allowRequest(1000 + 60_000));
+        // A single probe at a time.
+        assertFalse(breaker.allowRequest(1000 + 60_001));
+        assertTrue(breaker.onFailure(1000 + 60_002));
+        assertFalse(breaker.allowRequest(1000 + 60_003));
+
+        assertTrue(breaker.allowRequest(1000 + 120_002));
+        breaker.onSuccess();
+        assertFalse(breaker.isOpen(1000 + 120_003));
+        assertTrue(breaker.allowRequest(1000 + 120_003));
+    }
+
+    @Test
+    public void testRejectsRequestsOverTheLimit() throws InterruptedException {
+        blocking = true;
+        AgentProxy proxy = newProxy(1, 1, 3);
+        FakeRestChannel inFlight = forward(proxy, "metrics");
+        FakeRestChannel queued = forward(proxy, "metrics");
+        // Answered right away, the worker is busy and the queue is full.
+        FakeRestChannel rejected = forward(proxy, "metrics");
+        assertEquals(1, rejected.responses().get());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, rejected.capturedResponse().status());
+
+        release.countDown();
+        assertTrue(inFlight.await());
+        assertTrue(queued.await());
+        assertEquals(RestStatus.OK, inFlight.capturedResponse().status());
+    }
+
+    @Test
+    public void testCachedResponsesAreShared() throws InterruptedException {
+        blocking = true;
+        AgentResponseCache responseCache = new AgentResponseCache(60_000, 16);
+        AgentProxy proxy = newProxy(responseCache, 2, 2, 3);
+        FakeRestChannel first = forward(proxy, "metrics", "metrics?dim=ShardID&");
+        FakeRestChannel second = forward(proxy, "metrics", "metrics?dim=ShardID&");
+        release.countDown();
+
+        assertTrue(first.await());
+        assertTrue(second.await());
+        assertEquals(BODY, second.capturedResponse().content().utf8ToString());
+        FakeRestChannel third = forward(proxy, "metrics", "metrics?dim=ShardID&");
+        assertTrue(third.await());
+        assertEquals(BODY, third.capturedResponse().content().utf8ToString());
+        assertEquals(1, requests.get());
+        assertEquals(1, responseCache.getMisses());
+        assertEquals(1, responseCache.getCoalesced());
+        assertEquals(1, responseCache.getHits());
+    }
+
+    @Test
+    public void testCachedCallThatThrowsAnErrorCompletes() throws InterruptedException {
+        AgentResponseCache responseCache = new AgentResponseCache(60_000, 16);
+        AgentProxy proxy =
+                new AgentProxy(
+                        url -> {
+                            throw new AssertionError("agent call failure");
+                        },
+                        responseCache,
+                        2,
+                        2,
+                        3,
+                        60_000);
+        FakeRestChannel first = forward(proxy, "metrics", "metrics?dim=ShardID&");
+        assertTrue(first.await());
+        assertEquals(RestStatus.INTERNAL_SERVER_ERROR, first.capturedResponse().status());
+        assertEquals(0, responseCache.getSize());
+    }
+
+    private AgentProxy newProxy(int maxConcurrent, int maxQueued, int failureThreshold) {
+        return newProxy(null, maxConcurrent, maxQueued, failureThreshold);
+    }
+
+    private AgentProxy newProxy(
+            AgentResponseCache responseCache,
+            int maxConcurrent,
+            int maxQueued,
+            int failureThreshold) {
+        return new AgentProxy(
+                url -> (HttpURLConnection) url.openConnection(),
+                responseCache,
+                maxConcurrent,
+                maxQueued,
+                failureThreshold,
+                60_000);
+    }
+
+    private FakeRestChannel forward(AgentProxy proxy, String endpoint) {
+        return forward(proxy, endpoint, null);
+    }
+
+    private FakeRestChannel forward(AgentProxy proxy, String endpoint, String cacheKey) {
+        FakeRestChannel channel =
+                new FakeRestChannel(
+                        new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).build(), true, 1);
+        proxy.forward(endpoint, url, cacheKey, channel);
+        return channel;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.performanceanalyzer.http_action.config.AgentProxy.AgentResponse;
+import org.opensearch.performanceanalyzer.http_action.config.AgentResponseCache.Lookup;
+
+public class AgentResponseCacheTests {
+    private static final long INTERVAL = 5000;
+    private static final AgentResponse OK =
+            new AgentResponse(
+                    200,
+                    "application/json",
+                    "{}".getBytes(StandardCharsets.UTF_8),
+                    Collections.emptyMap());
+
+    @Test
+    public void testKeyIsNormalized() {
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("redirectEndpoint", "metrics");
+        params.put("metrics", "CPU_Utilization");
+        params.put("agg", "avg");
+        Map<String, String> reordered = new LinkedHashMap<>();
+        reordered.put("agg", "avg");
+        reordered.put("metrics", "CPU_Utilization");
+        reordered.put("redirectEndpoint", "metrics");
+
+        assertEquals(
+                "metrics?agg=avg&metrics=CPU_Utilization&",
+                AgentResponseCache.key("metrics", params));
+        assertEquals(
+                AgentResponseCache.key("metrics", params),
+                AgentResponseCache.key("metrics", reordered));
+        assertNull(AgentResponseCache.key("batch", Collections.emptyMap()));
+    }
+
+    @Test
+    public void testResponsesAreKeptUntilTheEndOfTheInterval() {
+        AgentResponseCache cache = new AgentResponseCache(INTERVAL, 16);
+        Lookup owner = cache.lookup("rca?", 11_000);
+        assertTrue(owner.isOwner());
+        Lookup waiting = cache.lookup("rca?", 11_500);
+        assertFalse(waiting.isOwner());
+        owner.complete(OK, 12_000);
+        assertSame(OK, waiting.getResponse().join());
+
+        Lookup hit = cache.lookup("rca?", 14_999);
+        assertFalse(hit.isOwner());
+        assertSame(OK, hit.getResponse().join());
+        assertTrue(cache.lookup("rca?", 15_000).isOwner());
+        assertEquals(2, cache.getMisses());
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getCoalesced());
+    }
+
+    @Test
+    public void testFailedResponsesAreNotKept() {
+        AgentResponseCache cache = new AgentResponseCache(INTERVAL, 16);
+        Lookup owner = cache.lookup("rca?", 11_000);
+        Lookup waiting = cache.lookup("rca?", 11_000);
+        owner.complete(AgentResponse.error(RestStatus.INTERNAL_SERVER_ERROR, "error"), 11_000);
+
+        assertEquals(500, waiting.getResponse().join().getStatus());
+        assertEquals(0, cache.getSize());
+        assertTrue(cache.lookup("rca?", 11_001).isOwner());
+    }
+
+    @Test
+    public void testExpiredEntriesArePurgedWhenFull() {
+        AgentResponseCache cache = new AgentResponseCache(INTERVAL, 2);
+        cache.lookup("a?", 11_000).complete(OK, 11_000);
+        Lookup inFlight = cache.lookup("b?", 11_000);
+        // Full: the response is neither cached nor shared.
+        Lookup uncached = cache.lookup("c?", 11_000);
+        assertTrue(uncached.isOwner());
+        uncached.complete(OK, 11_000);
+        assertEquals(2, cache.getSize());
+
+        // The response of a is expired and makes room for c.
+        assertTrue(cache.lookup("c?", 15_000).isOwner());
+        assertFalse(cache.lookup("c?", 15_000).isOwner());
+        assertFalse(inFlight.getResponse().isDone());
+        assertEquals(2, cache.getSize());
+    }
+
+    @Test
+    public void testCallsInFlightForAnIntervalTimeOut() {
+        AgentResponseCache cache = new AgentResponseCache(INTERVAL, 16);
+        Lookup hung = cache.lookup("rca?", 11_000);
+        Lookup waiting = cache.lookup("rca?", 15_999);
+        assertFalse(waiting.isOwner());
+        assertFalse(waiting.getResponse().isDone());
+
+        Lookup owner = cache.lookup("rca?", 16_000);
+        assertTrue(owner.isOwner());
+        assertEquals(504, waiting.getResponse().join().getStatus());
+        assertEquals(504, hung.getResponse().join().getStatus());
+
+        // The hung call completing late does not affect the new entry.
+        hung.complete(OK, 17_000);
+        assertFalse(cache.lookup("rca?", 17_000).getResponse().isDone());
+        owner.complete(OK, 17_000);
+        assertSame(OK, cache.lookup("rca?", 17_001).getResponse().join());
+    }
+}
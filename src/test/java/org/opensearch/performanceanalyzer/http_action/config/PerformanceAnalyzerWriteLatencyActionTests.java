@@ -0,0 +1,91 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.config;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.core.indices.breaker.CircuitBreakerService;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.identity.IdentityService;
+import org.opensearch.indices.breaker.BreakerSettings;
+import org.opensearch.indices.breaker.HierarchyCircuitBreakerService;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.rest.FakeRestChannel;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.usage.UsageService;
+
+public class PerformanceAnalyzerWriteLatencyActionTests {
+    private PerformanceAnalyzerWriteLatencyAction writeLatencyAction;
+    private RestController restController;
+    private ThreadPool threadPool;
+
+    @Before
+    public void init() {
+        ClusterSettings clusterSettings =
+                new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS);
+        CircuitBreakerService circuitBreakerService =
+                new HierarchyCircuitBreakerService(
+                        Settings.EMPTY, new ArrayList<BreakerSettings>(), clusterSettings);
+        threadPool = new TestThreadPool("test");
+        NodeClient nodeClient = new NodeClient(Settings.EMPTY, threadPool);
+        IdentityService identityService = new IdentityService(Settings.EMPTY, List.of());
+        restController =
+                new RestController(
+                        Collections.emptySet(),
+                        null,
+                        nodeClient,
+                        circuitBreakerService,
+                        new UsageService(),
+                        identityService);
+        writeLatencyAction = new PerformanceAnalyzerWriteLatencyAction();
+        restController.registerHandler(writeLatencyAction);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testRoutes() {
+        assertEquals(1, writeLatencyAction.routes().size());
+        assertEquals(
+                PerformanceAnalyzerWriteLatencyAction.WRITE_LATENCY_ACTION,
+                writeLatencyAction.getName());
+    }
+
+    @Test
+    public void testGetWriteLatency() {
+        final FakeRestRequest fakeRestRequest =
+                new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY)
+                        .withMethod(RestRequest.Method.GET)
+                        .withPath(PerformanceAnalyzerWriteLatencyAction.WRITE_LATENCY_PATH)
+                        .build();
+        final FakeRestChannel channel = new FakeRestChannel(fakeRestRequest, true, 10);
+        restController.dispatchRequest(fakeRestRequest, channel, new ThreadContext(Settings.EMPTY));
+
+        assertEquals(RestStatus.OK, channel.capturedResponse().status());
+        String responseStr = channel.capturedResponse().content().utf8ToString();
+        assertTrue(responseStr.contains(PerformanceAnalyzerWriteLatencyAction.ENABLED));
+        assertTrue(responseStr.contains(PerformanceAnalyzerWriteLatencyAction.SHARDS));
+        assertTrue(responseStr.contains(PerformanceAnalyzerWriteLatencyAction.TIMESTAMP));
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.http_action.nodemetrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import java.io.IOException;
+import java.util.Collections;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.opensearch.Version;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodeRole;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.indices.breaker.AllCircuitBreakerStats;
+import org.opensearch.core.indices.breaker.CircuitBreakerStats;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.index.cache.request.RequestCacheStats;
+import org.opensearch.performanceanalyzer.OpenSearchResources;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.Utils;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class NodeMetricsTests {
+    private ThreadPool threadPool;
+    private DiscoveryNode node;
+
+    @Mock private ClusterService clusterService;
+    @Mock private TransportService transportService;
+    @Mock private ActionFilters actionFilters;
+
+    @Before
+    public void init() {
+        initMocks(this);
+        Utils.configureMetrics();
+        threadPool = new TestThreadPool("test");
+        node =
+                new DiscoveryNode(
+                        "node-0",
+                        OpenSearchTestCase.buildNewFakeTransportAddress(),
+                        Collections.emptyMap(),
+                        DiscoveryNodeRole.BUILT_IN_ROLES,
+                        Version.CURRENT);
+        OpenSearchResources.INSTANCE.setThreadPool(threadPool);
+        OpenSearchResources.INSTANCE.setCircuitBreakerService(null);
+        OpenSearchResources.INSTANCE.setIndicesService(null);
+        OpenSearchResources.INSTANCE.setClusterService(null);
+    }
+
+    @After
+    public void tearDown() {
+        OpenSearchResources.INSTANCE.setThreadPool(null);
+        threadPool.shutdownNow();
+    }
+
+    @Test
+    public void testSerialization() throws IOException {
+        NodeMetrics nodeMetrics =
+                new NodeMetrics(
+                        node,
+                        1000,
+                        threadPool.stats(),
+                        new AllCircuitBreakerStats(
+                                new CircuitBreakerStats[] {
+                                    new CircuitBreakerStats("request", 100, 10, 1.0, 2)
+                                }),
+                        null,
+                        new RequestCacheStats(1024, 1, 2, 3),
+                        null,
+                        null);
+        NodeMetricsResponse response =
+                new NodeMetricsResponse(
+                        ClusterName.DEFAULT,
+                        Collections.singletonList(nodeMetrics),
+                        Collections.emptyList());
+
+        BytesStreamOutput out = new BytesStreamOutput();
+        response.writeTo(out);
+        NodeMetricsResponse read = new NodeMetricsResponse(out.bytes().streamInput());
+
+        assertEquals(1, read.getNodes().size());
+        NodeMetrics readMetrics = read.getNodes().get(0);
+        assertEquals(node, readMetrics.getNode());
+        assertEquals(1000, readMetrics.getTimestamp());
+        assertEquals(
+                threadPool.stats().iterator().next().getName(),
+                readMetrics.getThreadPoolStats().iterator().next().getName());
+        assertEquals(
+                2, readMetrics.getCircuitBreakerStats().getStats("request").getTrippedCount());
+        assertEquals(1024, readMetrics.getRequestCacheStats().getMemorySizeInBytes());
+        assertEquals(3, readMetrics.getRequestCacheStats().getMissCount());
+        assertNull(readMetrics.getQueryCacheStats());
+        assertNull(readMetrics.getIndexingPressureStats());
+
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        builder.startObject();
+        read.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        builder.endObject();
+        String json = builder.toString();
+        assertTrue(json.contains("\"node-0\""));
+        assertTrue(json.contains("\"thread_pool\""));
+        assertTrue(json.contains("\"breakers\""));
+        assertTrue(json.contains("\"request_cache\""));
+    }
+
+    @Test
+    public void testNodeOperationTakesOneSnapshotPerInterval() {
+        when(clusterService.localNode()).thenReturn(node);
+        TransportNodeMetricsAction action =
+                new TransportNodeMetricsAction(
+                        threadPool, clusterService, transportService, actionFilters);
+
+        long before = System.currentTimeMillis();
+        NodeMetrics nodeMetrics =
+                action.nodeOperation(new TransportNodeMetricsAction.NodeRequest());
+        assertEquals(node, nodeMetrics.getNode());
+        assertTrue(nodeMetrics.getThreadPoolStats().iterator().hasNext());
+        assertNull(nodeMetrics.getCircuitBreakerStats());
+        assertNull(nodeMetrics.getRequestCacheStats());
+        NodeMetrics again = action.nodeOperation(new TransportNodeMetricsAction.NodeRequest());
+        long after = System.currentTimeMillis();
+        if (PerformanceAnalyzerMetrics.getTimeInterval(before)
+                == PerformanceAnalyzerMetrics.getTimeInterval(after)) {
+            assertSame(nodeMetrics, again);
+        }
+    }
+}
@@ -170,6 +170,28 @@ public class PerformanceAnalyzerSearchListenerTests {
         assertTrue(jsonStrs.get(3).contains(AllMetrics.CommonDimension.SHARD_ID.toString()));
     }
 
+    @Test
+    public void testLatencyHistogramsReplacePhaseEvents() {
+        initializeValidSearchContext(true);
+        ShardSearchLatencyHistograms.setEnabled(true);
+        try {
+            searchListener.onPreQueryPhase(searchContext);
+            searchListener.onQueryPhase(searchContext, TOOK_IN_NANOS);
+            searchListener.onPreFetchPhase(searchContext);
+            searchListener.onFailedFetchPhase(searchContext);
+            assertEquals(0, TestUtil.readEvents().size());
+
+            assertEquals(
+                    1,
+                    ShardSearchLatencyHistograms.emitSnapshots(
+                            System.currentTimeMillis() + MetricsConfiguration.SAMPLING_INTERVAL));
+            assertEquals(2, TestUtil.readEvents().size());
+        } finally {
+            ShardSearchLatencyHistograms.setEnabled(false);
+            ShardSearchLatencyHistograms.discard();
+        }
+    }
+
     @Ignore
     @Test
     public void testInvalidSearchContext() {
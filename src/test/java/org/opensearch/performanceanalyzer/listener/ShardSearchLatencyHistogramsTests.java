@@ -0,0 +1,83 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.listener;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.TestUtil;
+
+public class ShardSearchLatencyHistogramsTests {
+    private static final ShardId SHARD = new ShardId("index", "uuid", 2);
+    // The last emitted interval is static, so it is shared by the tests.
+    private static long now = System.currentTimeMillis();
+
+    @Before
+    public void init() {
+        ShardSearchLatencyHistograms.discard();
+        TestUtil.readEvents();
+        // Starts a new sampling interval so that the first emit is not skipped.
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+    }
+
+    @After
+    public void tearDown() {
+        ShardSearchLatencyHistograms.discard();
+        TestUtil.readEvents();
+    }
+
+    @Test
+    public void testEmitsOneSnapshotPerShardAndPhase() {
+        for (int i = 1; i <= 100; i++) {
+            ShardSearchLatencyHistograms.recordPhase(false, SHARD, i * 1_000_000L);
+        }
+        ShardSearchLatencyHistograms.recordFailedPhase(true, new ShardId("index", "uuid", 2));
+
+        assertEquals(1, ShardSearchLatencyHistograms.emitSnapshots(now));
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(2, events.size());
+
+        Event query = events.get(0);
+        assertTrue(
+                query.key.contains(
+                        ShardSearchLatencyHistograms.SEARCH_LATENCY_PATH
+                                + "/"
+                                + PerformanceAnalyzerMetrics.sShardQueryPath
+                                + "/index/2"));
+        assertTrue(query.value.contains("\"Count\":100"));
+        assertTrue(query.value.contains("\"Failed\":0"));
+        assertTrue(query.value.contains("\"MaxMicros\":100000"));
+
+        Event fetch = events.get(1);
+        assertTrue(fetch.key.contains(PerformanceAnalyzerMetrics.sShardFetchPath + "/index/2"));
+        assertTrue(fetch.value.contains("\"Count\":0"));
+        assertTrue(fetch.value.contains("\"Failed\":1"));
+
+        // At most one snapshot per sampling interval.
+        ShardSearchLatencyHistograms.recordPhase(false, SHARD, 1_000);
+        assertEquals(0, ShardSearchLatencyHistograms.emitSnapshots(now));
+        assertEquals(0, TestUtil.readEvents().size());
+    }
+
+    @Test
+    public void testIdleShardsAreDropped() {
+        ShardSearchLatencyHistograms.recordPhase(true, SHARD, 1_000);
+        assertEquals(1, ShardSearchLatencyHistograms.emitSnapshots(now));
+        assertEquals(1, TestUtil.readEvents().size());
+
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+        assertEquals(0, ShardSearchLatencyHistograms.emitSnapshots(now));
+        assertEquals(0, TestUtil.readEvents().size());
+    }
+}
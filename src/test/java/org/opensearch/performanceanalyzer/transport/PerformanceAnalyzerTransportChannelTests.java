@@ -6,16 +6,24 @@
 package org.opensearch.performanceanalyzer.transport;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import java.io.IOException;
+import java.util.List;
 import org.apache.commons.lang3.SystemUtils;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.opensearch.core.transport.TransportResponse;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardBulkDimension;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.ShardBulkMetric;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.util.TestUtil;
 import org.opensearch.performanceanalyzer.util.Utils;
+import org.opensearch.performanceanalyzer.writer.RequestEventRecorder;
 import org.opensearch.transport.TransportChannel;
 
 public class PerformanceAnalyzerTransportChannelTests {
@@ -47,4 +55,126 @@ public class PerformanceAnalyzerTransportChannelTests {
         channel.sendResponse(exception);
         verify(originalChannel).sendResponse(exception);
     }
+
+    @Test
+    public void testResponseWithRequestEventRecorder() throws IOException {
+        RequestEventRecorder.setEnabled(true);
+        try {
+            TestUtil.readEvents();
+            PerformanceAnalyzerTransportChannel recordedChannel =
+                    new PerformanceAnalyzerTransportChannel();
+            recordedChannel.set(originalChannel, 10L, "testIndex", 1, 5, true);
+            recordedChannel.sendResponse(response);
+            verify(originalChannel).sendResponse(response);
+            assertTrue("events are formatted on flush", TestUtil.readEvents().isEmpty());
+
+            assertEquals(2, RequestEventRecorder.flush());
+            List<Event> events = TestUtil.readEvents();
+            assertEquals(2, events.size());
+            String[] start = events.get(0).value.split("\n");
+            assertEquals(ShardBulkMetric.START_TIME + ":10", start[1]);
+            assertEquals(ShardBulkMetric.ITEM_COUNT + ":5", start[2]);
+            assertEquals(ShardBulkDimension.INDEX_NAME + ":testIndex", start[3]);
+            assertEquals(ShardBulkDimension.SHARD_ID + ":1", start[4]);
+            assertEquals(ShardBulkDimension.PRIMARY + ":true", start[5]);
+            String[] finish = events.get(1).value.split("\n");
+            assertEquals(ShardBulkDimension.FAILED + ":false", finish[finish.length - 1]);
+        } finally {
+            RequestEventRecorder.setEnabled(false);
+        }
+    }
+
+    @Test
+    public void testFusedRecords() throws IOException {
+        PerformanceAnalyzerTransportChannel.setFusedRecords(true);
+        try {
+            TestUtil.readEvents();
+            PerformanceAnalyzerTransportChannel fusedChannel =
+                    new PerformanceAnalyzerTransportChannel();
+            fusedChannel.set(originalChannel, 10L, "testIndex", 1, 5, true);
+            assertTrue("nothing is emitted on start", TestUtil.readEvents().isEmpty());
+
+            fusedChannel.sendResponse(response);
+            verify(originalChannel).sendResponse(response);
+            List<Event> events = TestUtil.readEvents();
+            assertEquals(1, events.size());
+            assertTrue(
+                    events.get(0)
+                            .key
+                            .endsWith(PerformanceAnalyzerTransportChannel.COMPLETE_FILE_NAME));
+            String[] complete = events.get(0).value.split("\n");
+            assertEquals(ShardBulkMetric.START_TIME + ":10", complete[1]);
+            assertTrue(complete[2].startsWith(ShardBulkMetric.FINISH_TIME + ":"));
+            assertEquals(ShardBulkMetric.ITEM_COUNT + ":5", complete[3]);
+            assertEquals(ShardBulkDimension.PRIMARY + ":true", complete[6]);
+            assertEquals(ShardBulkDimension.FAILED + ":false", complete[7]);
+
+            fusedChannel = new PerformanceAnalyzerTransportChannel();
+            fusedChannel.set(originalChannel, 20L, "testIndex", 2, 1, false);
+            Exception exception = new Exception("dummy exception");
+            fusedChannel.sendResponse(exception);
+            verify(originalChannel).sendResponse(exception);
+            complete = TestUtil.readEvents().get(0).value.split("\n");
+            assertEquals(
+                    ShardBulkDimension.EXCEPTION + ":" + Exception.class.getName(), complete[7]);
+            assertEquals(ShardBulkDimension.FAILED + ":true", complete[8]);
+        } finally {
+            PerformanceAnalyzerTransportChannel.setFusedRecords(false);
+        }
+    }
+
+    @Test
+    public void testFusedRecordsWithRequestEventRecorder() throws IOException {
+        PerformanceAnalyzerTransportChannel.setFusedRecords(true);
+        RequestEventRecorder.setEnabled(true);
+        try {
+            TestUtil.readEvents();
+            PerformanceAnalyzerTransportChannel fusedChannel =
+                    new PerformanceAnalyzerTransportChannel();
+            fusedChannel.set(originalChannel, 10L, "testIndex", 1, 5, true);
+            fusedChannel.sendResponse(response);
+
+            assertEquals(1, RequestEventRecorder.flush());
+            List<Event> events = TestUtil.readEvents();
+            assertEquals(1, events.size());
+            String[] complete = events.get(0).value.split("\n");
+            assertEquals(ShardBulkMetric.START_TIME + ":10", complete[1]);
+            assertEquals(ShardBulkDimension.INDEX_NAME + ":testIndex", complete[4]);
+        } finally {
+            RequestEventRecorder.setEnabled(false);
+            PerformanceAnalyzerTransportChannel.setFusedRecords(false);
+        }
+    }
+
+    @Test
+    public void testResponseWithWriteLatencyHistograms() throws IOException {
+        ShardWriteLatencyHistograms.setEnabled(true);
+        try {
+            ShardWriteLatencyHistograms.discard();
+            PerformanceAnalyzerTransportChannel histogrammedChannel =
+                    new PerformanceAnalyzerTransportChannel();
+            histogrammedChannel.set(originalChannel, 10L, "testIndex", 1, 5, true);
+            histogrammedChannel.sendResponse(response);
+            histogrammedChannel.set(originalChannel, 10L, "testIndex", 1, 7, false);
+            histogrammedChannel.sendResponse(new Exception("dummy exception"));
+            TestUtil.readEvents();
+
+            // An interval that the other tests do not emit in.
+            long past = System.currentTimeMillis() - 1000 * MetricsConfiguration.SAMPLING_INTERVAL;
+            assertEquals(2, ShardWriteLatencyHistograms.emitSnapshots(past));
+            for (ShardWriteLatencyHistograms.ShardWriteSnapshot snapshot :
+                    ShardWriteLatencyHistograms.getLatestSnapshots()) {
+                assertEquals("testIndex", snapshot.getIndexName());
+                assertEquals(1, snapshot.getShardId());
+                assertEquals(1, snapshot.getCount());
+                boolean primary = snapshot.getRole().equals(ShardWriteLatencyHistograms.PRIMARY);
+                assertEquals(primary ? 5 : 7, snapshot.getItems());
+                assertEquals(primary ? 0 : 1, snapshot.getFailed());
+            }
+        } finally {
+            ShardWriteLatencyHistograms.setEnabled(false);
+            ShardWriteLatencyHistograms.discard();
+            TestUtil.readEvents();
+        }
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.transport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.MetricsConfiguration;
+import org.opensearch.performanceanalyzer.transport.ShardWriteLatencyHistograms.ShardWriteSnapshot;
+import org.opensearch.performanceanalyzer.util.TestUtil;
+
+public class ShardWriteLatencyHistogramsTests {
+    // The last emitted interval is static, so it is shared by the tests.
+    private static long now = System.currentTimeMillis();
+
+    @Before
+    public void init() {
+        ShardWriteLatencyHistograms.discard();
+        TestUtil.readEvents();
+        // Starts a new sampling interval so that the first emit is not skipped.
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+    }
+
+    @After
+    public void tearDown() {
+        ShardWriteLatencyHistograms.discard();
+        TestUtil.readEvents();
+    }
+
+    @Test
+    public void testEmitsOneSnapshotPerShardAndRole() {
+        for (int i = 1; i <= 100; i++) {
+            ShardWriteLatencyHistograms.record("index", 1, true, i * 1_000_000L, 10, false);
+        }
+        ShardWriteLatencyHistograms.record("index", 1, false, 5_000_000L, 10, true);
+        ShardWriteLatencyHistograms.record("other", 0, false, 1_000_000L, 3, false);
+
+        assertEquals(3, ShardWriteLatencyHistograms.emitSnapshots(now));
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(3, events.size());
+        Event primary = null;
+        for (Event event : events) {
+            if (event.key.contains(
+                    ShardWriteLatencyHistograms.WRITE_LATENCY_PATH
+                            + "/"
+                            + ShardWriteLatencyHistograms.PRIMARY
+                            + "/index/1")) {
+                primary = event;
+            }
+        }
+        assertTrue(primary != null);
+        assertTrue(primary.value.contains("\"Count\":100"));
+        assertTrue(primary.value.contains("\"Failed\":0"));
+        assertTrue(primary.value.contains("\"MaxMicros\":100000"));
+        assertTrue(primary.value.contains("\"Items\":1000"));
+        assertTrue(primary.value.contains("\"MaxItems\":10"));
+        // The dimensions are in the path, not in the value.
+        assertTrue(!primary.value.contains("index"));
+
+        List<ShardWriteSnapshot> snapshots = ShardWriteLatencyHistograms.getLatestSnapshots();
+        assertEquals(3, snapshots.size());
+        assertEquals(now, ShardWriteLatencyHistograms.getLatestSnapshotTime());
+        for (ShardWriteSnapshot snapshot : snapshots) {
+            if (snapshot.getIndexName().equals("index")
+                    && snapshot.getRole().equals(ShardWriteLatencyHistograms.REPLICA)) {
+                assertEquals(1, snapshot.getCount());
+                assertEquals(1, snapshot.getFailed());
+                assertEquals(10, snapshot.getItems());
+                assertEquals(10, snapshot.getMaxItems());
+            }
+        }
+
+        // At most one snapshot per sampling interval.
+        ShardWriteLatencyHistograms.record("index", 1, true, 1_000, 1, false);
+        assertEquals(0, ShardWriteLatencyHistograms.emitSnapshots(now));
+        assertEquals(0, TestUtil.readEvents().size());
+    }
+
+    @Test
+    public void testIdleShardsAreDropped() {
+        ShardWriteLatencyHistograms.record("index", 1, true, 1_000, 1, false);
+        assertEquals(1, ShardWriteLatencyHistograms.emitSnapshots(now));
+        assertEquals(1, TestUtil.readEvents().size());
+
+        now += MetricsConfiguration.SAMPLING_INTERVAL;
+        assertEquals(0, ShardWriteLatencyHistograms.emitSnapshots(now));
+        assertEquals(0, TestUtil.readEvents().size());
+        assertEquals(0, ShardWriteLatencyHistograms.getLatestSnapshots().size());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.transport;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.MockitoAnnotations.initMocks;
+
+import org.apache.commons.lang3.SystemUtils;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.opensearch.action.bulk.BulkItemRequest;
+import org.opensearch.action.bulk.BulkShardRequest;
+import org.opensearch.action.bulk.TransportShardBulkAction;
+import org.opensearch.action.support.replication.TransportReplicationAction.ConcreteShardRequest;
+import org.opensearch.core.index.shard.ShardId;
+import org.opensearch.performanceanalyzer.config.PerformanceAnalyzerController;
+import org.opensearch.performanceanalyzer.util.Utils;
+import org.opensearch.tasks.Task;
+import org.opensearch.transport.TransportChannel;
+import org.opensearch.transport.TransportRequest;
+import org.opensearch.transport.TransportRequestHandler;
+
+@SuppressWarnings("unchecked")
+public class TransportInterceptionRegistryTests {
+    private static final String PRIMARY_ACTION = TransportShardBulkAction.ACTION_NAME + "[p]";
+    private static final String REPLICA_ACTION = TransportShardBulkAction.ACTION_NAME + "[r]";
+    private static final String PING_ACTION = "internal:coordination/fault_detection/leader_check";
+    private static final String SEARCH_ACTION = "indices:data/read/search[phase/query]";
+
+    @Mock private TransportRequestHandler<TransportRequest> actualHandler;
+    @Mock private PerformanceAnalyzerController controller;
+    @Mock private TransportChannel channel;
+    @Mock private BulkShardRequest bulkShardRequest;
+    @Mock private Task task;
+    @Mock private ShardId shardId;
+
+    @Before
+    public void init() {
+        // this test only runs in Linux system
+        // as some of the static members of the ThreadList class are specific to Linux
+        org.junit.Assume.assumeTrue(SystemUtils.IS_OS_LINUX);
+        Utils.configureMetrics();
+        initMocks(this);
+        Mockito.when(controller.isPerformanceAnalyzerEnabled()).thenReturn(true);
+    }
+
+    @Test
+    public void testOnlyShardBulkActionsAreWrapped() {
+        TransportInterceptionRegistry registry =
+                new TransportInterceptionRegistry(controller, SEARCH_ACTION);
+        assertTrue(
+                registry.intercept(PRIMARY_ACTION, actualHandler)
+                        instanceof PerformanceAnalyzerTransportRequestHandler);
+        assertTrue(
+                registry.intercept(REPLICA_ACTION, actualHandler)
+                        instanceof PerformanceAnalyzerTransportRequestHandler);
+        assertSame(actualHandler, registry.intercept(PING_ACTION, actualHandler));
+        assertSame(actualHandler, registry.intercept(SEARCH_ACTION, actualHandler));
+        assertTrue(registry.isWrapped(PRIMARY_ACTION));
+        assertFalse(registry.isWrapped(SEARCH_ACTION));
+        assertFalse(registry.isInstrumented(SEARCH_ACTION));
+    }
+
+    @Test
+    public void testBothShardBulkActionsAreInstrumentedByDefault() {
+        TransportInterceptionRegistry registry = new TransportInterceptionRegistry(controller);
+        assertTrue(registry.isInstrumented(PRIMARY_ACTION));
+        assertTrue(registry.isInstrumented(REPLICA_ACTION));
+
+        registry.updateAllowList(TransportInterceptionRegistry.NONE);
+        assertFalse(registry.isInstrumented(PRIMARY_ACTION));
+        assertFalse(registry.isInstrumented(REPLICA_ACTION));
+
+        // Empty has the same meaning at startup and on update.
+        registry.updateAllowList("");
+        assertTrue(registry.isInstrumented(PRIMARY_ACTION));
+        assertTrue(registry.isInstrumented(REPLICA_ACTION));
+    }
+
+    @Test
+    public void testAllowListUpdate() {
+        TransportInterceptionRegistry registry =
+                new TransportInterceptionRegistry(controller, " " + REPLICA_ACTION + " ,,");
+        PerformanceAnalyzerTransportRequestHandler<TransportRequest> primary =
+                (PerformanceAnalyzerTransportRequestHandler<TransportRequest>)
+                        registry.intercept(PRIMARY_ACTION, actualHandler);
+        Mockito.when(bulkShardRequest.shardId()).thenReturn(shardId);
+        Mockito.when(bulkShardRequest.items()).thenReturn(new BulkItemRequest[1]);
+        ConcreteShardRequest<BulkShardRequest> request =
+                new ConcreteShardRequest<>(bulkShardRequest, "id", 1);
+
+        // The handler is wrapped even though the action is not in the allow-list.
+        assertSame(channel, primary.getChannel(request, channel, task));
+
+        // Adding the action instruments its wrapped handler right away.
+        registry.updateAllowList(PRIMARY_ACTION + "," + SEARCH_ACTION);
+        assertFalse(registry.isInstrumented(SEARCH_ACTION));
+        assertTrue(
+                primary.getChannel(request, channel, task)
+                        instanceof PerformanceAnalyzerTransportChannel);
+
+        registry.updateAllowList(REPLICA_ACTION);
+        assertSame(channel, primary.getChannel(request, channel, task));
+    }
+}
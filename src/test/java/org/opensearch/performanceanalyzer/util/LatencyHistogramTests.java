@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+
+public class LatencyHistogramTests {
+
+    @Test
+    public void testBucketsAreContiguous() {
+        assertEquals(1024, LatencyHistogram.BUCKET_COUNT);
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT; i++) {
+            long lowest = LatencyHistogram.lowestValue(i);
+            long highest = LatencyHistogram.highestValue(i);
+            assertEquals(i, LatencyHistogram.bucketIndex(lowest));
+            assertEquals(i, LatencyHistogram.bucketIndex(highest));
+            // Bucket width is within 1/SUB_BUCKETS of the values it holds.
+            assertTrue(highest - lowest <= lowest / LatencyHistogram.SUB_BUCKETS);
+        }
+        assertEquals(LatencyHistogram.MAX_VALUE, LatencyHistogram.highestValue(1023));
+    }
+
+    @Test
+    public void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        histogram.record(-5);
+
+        LatencyHistogram.Snapshot snapshot = histogram.takeSnapshot();
+        assertEquals(1001, snapshot.getCount());
+        assertEquals(500_500_000L, snapshot.getSum());
+        assertEquals(1_000_000L, snapshot.getMax());
+        assertEquals(500_000, snapshot.getPercentile(50), 500_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(990_000, snapshot.getPercentile(99), 990_000 / LatencyHistogram.SUB_BUCKETS);
+        assertEquals(1_000_000L, snapshot.getPercentile(100));
+        assertEquals(0, snapshot.getPercentile(0));
+    }
+
+    @Test
+    public void testSnapshotResetsTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(3);
+        histogram.record(100);
+        LatencyHistogram.Snapshot snapshot = histogram.takeSnapshot();
+        assertEquals("3:2,82:1", snapshot.encodeBuckets());
+
+        snapshot = histogram.takeSnapshot();
+        assertEquals(0, snapshot.getCount());
+        assertEquals(0, snapshot.getMax());
+        assertEquals(0, snapshot.getPercentile(99));
+        assertEquals("", snapshot.encodeBuckets());
+    }
+
+    @Test
+    public void testSnapshotKeepsTheHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(100);
+        assertEquals("3:1,82:1", histogram.snapshot().encodeBuckets());
+
+        histogram.record(3);
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(3, snapshot.getCount());
+        assertEquals(106, snapshot.getSum());
+        assertEquals(100, snapshot.getMax());
+        assertEquals("3:2,82:1", snapshot.encodeBuckets());
+    }
+
+    @Test
+    public void testConcurrentRecordsAreNotLost() throws InterruptedException {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread =
+                    new Thread(
+                            () -> {
+                                for (int i = 0; i < 100_000; i++) {
+                                    histogram.record(i % 5000);
+                                }
+                            });
+            threads.add(thread);
+            thread.start();
+        }
+        long count = 0;
+        while (threads.stream().anyMatch(Thread::isAlive)) {
+            count += histogram.takeSnapshot().getCount();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        count += histogram.takeSnapshot().getCount();
+        assertEquals(400_000, count);
+    }
+}
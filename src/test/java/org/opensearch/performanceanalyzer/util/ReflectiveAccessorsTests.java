@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+import org.junit.Test;
+
+public class ReflectiveAccessorsTests {
+
+    @SuppressWarnings("unused")
+    private static class Target {
+        private static final String NAME = "target";
+        private final long count;
+
+        Target(long count) {
+            this.count = count;
+        }
+
+        private long twice(int factor) {
+            return count * 2 * factor;
+        }
+
+        private static int fail() {
+            throw new IllegalStateException("expected");
+        }
+    }
+
+    @Test
+    public void testReadsPrivateFields() throws Exception {
+        ReflectiveAccessors.FieldAccessor count =
+                ReflectiveAccessors.field(Target.class, "count");
+        assertEquals(21L, count.get(new Target(21)));
+        assertEquals(Long.valueOf(7), count.get(new Target(7), Long.class));
+        assertEquals("target", ReflectiveAccessors.field(Target.class, "NAME").get(null));
+
+        // Resolved once and shared.
+        assertSame(count, ReflectiveAccessors.field(Target.class.getName(), "count"));
+    }
+
+    @SuppressWarnings("unused")
+    private static class SubTarget extends Target {
+        private final Integer extra = 5;
+        private final String text = "text";
+
+        SubTarget(long count) {
+            super(count);
+        }
+    }
+
+    @Test
+    public void testReadsFieldsOfTheClassHierarchy() throws Exception {
+        SubTarget target = new SubTarget(3);
+        assertEquals(3, ReflectiveAccessors.readLong(target, "count"));
+        assertEquals(5, ReflectiveAccessors.readLong(target, "extra"));
+        assertEquals(11, ReflectiveAccessors.readLong(target, "missing", 11));
+        assertEquals("text", ReflectiveAccessors.readField(target, "text"));
+        try {
+            ReflectiveAccessors.readField(target, "missing");
+            fail("expected a NoSuchFieldException");
+        } catch (NoSuchFieldException expected) {
+        }
+        try {
+            ReflectiveAccessors.readLong(target, "text");
+            fail("expected a ClassCastException");
+        } catch (ClassCastException expected) {
+        }
+    }
+
+    @Test
+    public void testInvokesPrivateMethods() throws Exception {
+        ReflectiveAccessors.MethodAccessor twice =
+                ReflectiveAccessors.method(Target.class, "twice", int.class);
+        assertEquals(60L, twice.invokeLong(new Target(10), 3));
+        assertSame(twice, ReflectiveAccessors.method(Target.class, "twice", int.class));
+        // Inherited public method.
+        assertEquals(
+                "target".length(),
+                ReflectiveAccessors.method(CharSequence.class, "length").invokeLong("target"));
+
+        try {
+            ReflectiveAccessors.method(Target.class, "fail").invoke(null);
+            fail("expected an InvocationTargetException");
+        } catch (InvocationTargetException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void testMissingMembersAreRemembered() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                ReflectiveAccessors.field(Target.class, "missing");
+                fail("expected a NoSuchFieldException");
+            } catch (NoSuchFieldException expected) {
+            }
+            try {
+                ReflectiveAccessors.method(Target.class, "twice", long.class);
+                fail("expected a NoSuchMethodException");
+            } catch (NoSuchMethodException expected) {
+            }
+            try {
+                ReflectiveAccessors.findClass("org.opensearch.DoesNotExist");
+                fail("expected a ClassNotFoundException");
+            } catch (ClassNotFoundException expected) {
+            }
+        }
+        assertFalse(ReflectiveAccessors.isClassPresent("org.opensearch.DoesNotExist"));
+        assertFalse(ReflectiveAccessors.isMethodPresent(Target.class, "missing"));
+        assertTrue(ReflectiveAccessors.isMethodPresent(Target.class, "twice", int.class));
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+public class ColumnarEventLogTests {
+    private static final String TEST_DIR = "build/tmp/junit_columnar_event_log";
+    private static final long BUCKET = 1_700_000_000_000L;
+
+    @Before
+    public void init() {
+        new File(TEST_DIR).mkdirs();
+    }
+
+    @After
+    public void cleanup() {
+        File[] files = new File(TEST_DIR).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<Event> events = sampleEvents(50);
+        byte[] block = new ColumnarEventLogEncoder().encode(events, BUCKET);
+        assertEventsEqual(events, ColumnarEventLogDecoder.decode(block));
+    }
+
+    @Test
+    public void testRoundTripEdgeCases() {
+        List<Event> events =
+                Arrays.asList(
+                        new Event("", "", BUCKET),
+                        new Event("/a//b/", "\n\n", BUCKET - 7),
+                        new Event(
+                                "threads/1/shardbulk/2",
+                                "k:-0\nk:007\nk:-9223372036854775808\nk:9223372036854775808\n"
+                                        + ":v\nv:\n{\"a\":1}\nunicode:\u00e9\u4e2d\n{}\n{\"a\":{\"b\":1}}\n"
+                                        + "{\"a\":\"x,}\",\"b\":-1.5,\"c\":null,\"d\":-0}\n"
+                                        + "{\"e\\\"\":1}\n"
+                                        + "{\"a\":1,}\n{\"a\":}\n{\"a\"}\n{\"a\":1 }\n{",
+                                BUCKET + 4999));
+        byte[] block = new ColumnarEventLogEncoder().encode(events, BUCKET);
+        assertEventsEqual(events, ColumnarEventLogDecoder.decode(block));
+    }
+
+    @Test
+    public void testSkipValueColumn() {
+        List<Event> events = sampleEvents(10);
+        byte[] block = new ColumnarEventLogEncoder().encode(events, BUCKET);
+        List<Event> decoded = ColumnarEventLogDecoder.decode(block, false);
+        assertEquals(events.size(), decoded.size());
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals(events.get(i).key, decoded.get(i).key);
+            assertEquals(events.get(i).epoch, decoded.get(i).epoch);
+            assertEquals("", decoded.get(i).value);
+        }
+    }
+
+    @Test
+    public void testBlockIsSmallerThanText() {
+        List<Event> events = sampleEvents(1000);
+        int textSize = 0;
+        for (Event event : events) {
+            textSize += event.key.length() + event.value.length() + 20;
+        }
+        byte[] block = new ColumnarEventLogEncoder().encode(events, BUCKET);
+        assertTrue(
+                "columnar block " + block.length + " should be well below text " + textSize,
+                block.length * 3 < textSize);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedVersion() {
+        byte[] block = new ColumnarEventLogEncoder().encode(sampleEvents(1), BUCKET);
+        block[4] = 42;
+        ColumnarEventLogDecoder.decode(block);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTextFileIsRejected() {
+        ColumnarEventLogDecoder.decode("^threads\nkey:value\n$".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFileWriterAppendsBlocks() throws Exception {
+        ColumnarEventLogFileWriter writer = new ColumnarEventLogFileWriter(TEST_DIR);
+        List<Event> first = sampleEvents(5);
+        List<Event> second = sampleEvents(3);
+        writer.writeTmpFile(first, BUCKET);
+        writer.writeTmpFile(second, BUCKET);
+
+        Path path = Paths.get(TEST_DIR, BUCKET + ".tmp");
+        assertTrue(Files.exists(path));
+        List<Event> expected = new ArrayList<>(first);
+        expected.addAll(second);
+        assertEventsEqual(expected, ColumnarEventLogDecoder.readFile(path));
+    }
+
+    private static List<Event> sampleEvents(int count) {
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String key = "indices/index-" + (i % 7) + "/" + (i % 13);
+            String value =
+                    "current_time:"
+                            + (BUCKET + i)
+                            + "\n{\"indexingThrottleTime\":0,\"queryCacheHitCount\":"
+                            + i
+                            + "}\nShardEvents:"
+                            + (i * 31L)
+                            + "\nShardBulkDocs:"
+                            + (i % 3)
+                            + "\nPrimary:"
+                            + (i % 2 == 0);
+            events.add(new Event(key, value, BUCKET + (i % 5) * 1000L));
+        }
+        return events;
+    }
+
+    private static void assertEventsEqual(List<Event> expected, List<Event> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).key, actual.get(i).key);
+            assertEquals(expected.get(i).value, actual.get(i).value);
+            assertEquals(expected.get(i).epoch, actual.get(i).epoch);
+        }
+    }
+}
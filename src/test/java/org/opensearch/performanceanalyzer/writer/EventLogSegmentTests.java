@@ -0,0 +1,171 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+
+public class EventLogSegmentTests {
+    private static final String TEST_DIR = "build/tmp/junit_event_log_segments";
+    private static final long BUCKET = 1_700_000_000_000L;
+    private static final long INTERVAL = 5000;
+    private static final int SMALL_SEGMENT_SIZE = EventLogSegmentFormat.DATA_OFFSET + 4096;
+
+    private final Path directory = Paths.get(TEST_DIR);
+
+    @Before
+    public void init() {
+        new File(TEST_DIR).mkdirs();
+        cleanup();
+    }
+
+    @After
+    public void cleanup() {
+        File[] files = new File(TEST_DIR).listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.delete();
+            }
+        }
+    }
+
+    @Test
+    public void testAppendAndSeal() throws Exception {
+        EventLogSegmentWriter writer = new EventLogSegmentWriter(TEST_DIR);
+        List<Event> first = events(BUCKET, 0, 10);
+        List<Event> next = events(BUCKET + INTERVAL, 0, 3);
+        List<Event> firstMore = events(BUCKET, 10, 5);
+        writer.append(first, BUCKET);
+        writer.append(next, BUCKET + INTERVAL);
+        writer.append(firstMore, BUCKET);
+        assertEquals(
+                EventLogSegmentFormat.NO_BUCKET, EventLogSegmentReader.readSealedBucket(directory));
+
+        writer.seal(BUCKET);
+        assertEquals(BUCKET, EventLogSegmentReader.readSealedBucket(directory));
+
+        List<Event> expected = new ArrayList<>(first);
+        expected.addAll(firstMore);
+        assertEventsEqual(expected, EventLogSegmentReader.readBucket(directory, BUCKET));
+        assertEventsEqual(next, EventLogSegmentReader.readBucket(directory, BUCKET + INTERVAL));
+        assertTrue(EventLogSegmentReader.readBucket(directory, BUCKET - INTERVAL).isEmpty());
+        assertEquals(1, EventLogSegmentReader.listSegments(directory).size());
+    }
+
+    @Test
+    public void testRollAndDeleteWholeSegments() throws Exception {
+        EventLogSegmentWriter writer = new EventLogSegmentWriter(TEST_DIR, SMALL_SEGMENT_SIZE);
+        for (int i = 0; i < 20; i++) {
+            long bucket = BUCKET + i * INTERVAL;
+            writer.append(events(bucket, 0, 20), bucket);
+            writer.seal(bucket - INTERVAL);
+        }
+        int segments = EventLogSegmentReader.listSegments(directory).size();
+        assertTrue("expected the small segments to roll, got " + segments, segments > 2);
+        assertEquals(segments - 1, writer.getClosedSegmentCount());
+        assertEquals(BUCKET + 18 * INTERVAL, EventLogSegmentReader.readSealedBucket(directory));
+        for (int i = 0; i < 20; i++) {
+            long bucket = BUCKET + i * INTERVAL;
+            assertEventsEqual(
+                    events(bucket, 0, 20), EventLogSegmentReader.readBucket(directory, bucket));
+        }
+
+        int deleted = writer.deleteSegmentsBefore(BUCKET + 10 * INTERVAL);
+        assertTrue(deleted > 0);
+        assertEquals(segments - deleted, EventLogSegmentReader.listSegments(directory).size());
+        assertTrue(EventLogSegmentReader.readBucket(directory, BUCKET).isEmpty());
+        for (int i = 10; i < 20; i++) {
+            long bucket = BUCKET + i * INTERVAL;
+            assertEquals(20, EventLogSegmentReader.readBucket(directory, bucket).size());
+        }
+
+        // The segment being appended to is never deleted.
+        writer.deleteSegmentsBefore(Long.MAX_VALUE);
+        assertEquals(1, EventLogSegmentReader.listSegments(directory).size());
+        writer.deleteAllSegments();
+        assertTrue(EventLogSegmentReader.listSegments(directory).isEmpty());
+    }
+
+    @Test
+    public void testOlderBucketInRolledSegmentIsRead() throws Exception {
+        EventLogSegmentWriter writer = new EventLogSegmentWriter(TEST_DIR, SMALL_SEGMENT_SIZE);
+        List<Event> first = events(BUCKET, 0, 5);
+        writer.append(first, BUCKET);
+        // Fill the segment with the next bucket until the writer rolls to a new one.
+        List<Event> next = new ArrayList<>();
+        for (int from = 0; writer.getClosedSegmentCount() == 0; from += 20) {
+            List<Event> chunk = events(BUCKET + INTERVAL, from, 20);
+            writer.append(chunk, BUCKET + INTERVAL);
+            next.addAll(chunk);
+        }
+        // A late chunk of the older bucket lands in the segment opened for the newer one.
+        List<Event> late = events(BUCKET, 5, 5);
+        writer.append(late, BUCKET);
+        assertEquals(1, writer.getClosedSegmentCount());
+
+        List<Event> expected = new ArrayList<>(first);
+        expected.addAll(late);
+        assertEventsEqual(expected, EventLogSegmentReader.readBucket(directory, BUCKET));
+        assertEventsEqual(next, EventLogSegmentReader.readBucket(directory, BUCKET + INTERVAL));
+        Path rolled = EventLogSegmentReader.listSegments(directory).get(1);
+        assertEventsEqual(late, EventLogSegmentReader.readSegment(rolled, BUCKET));
+    }
+
+    @Test
+    public void testOversizedChunkIsDropped() throws Exception {
+        EventLogSegmentWriter writer = new EventLogSegmentWriter(TEST_DIR, SMALL_SEGMENT_SIZE);
+        writer.append(events(BUCKET, 0, 2000), BUCKET);
+        writer.append(Collections.singletonList(new Event("a/b", "k:1", BUCKET)), BUCKET);
+        assertEquals(1, EventLogSegmentReader.readBucket(directory, BUCKET).size());
+    }
+
+    @Test
+    public void testCleanupTimeBuckets() {
+        assertEquals(
+                Arrays.asList(
+                        String.valueOf(BUCKET),
+                        String.valueOf(BUCKET + INTERVAL),
+                        String.valueOf(BUCKET + 2 * INTERVAL)),
+                EventLogQueueProcessor.getTimeBuckets(BUCKET, BUCKET + 3 * INTERVAL));
+        assertEquals(
+                Collections.singletonList(String.valueOf(BUCKET + INTERVAL)),
+                EventLogQueueProcessor.getTimeBuckets(BUCKET + 1, BUCKET + INTERVAL + 1));
+        assertTrue(EventLogQueueProcessor.getTimeBuckets(BUCKET, BUCKET).isEmpty());
+    }
+
+    private static List<Event> events(long bucket, int from, int count) {
+        List<Event> events = new ArrayList<>();
+        for (int i = from; i < from + count; i++) {
+            events.add(
+                    new Event(
+                            "indices/index-" + i + "/" + (i % 3),
+                            "current_time:" + (bucket + i) + "\nShardEvents:" + (i * 7919L),
+                            bucket));
+        }
+        return events;
+    }
+
+    private static void assertEventsEqual(List<Event> expected, List<Event> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).key, actual.get(i).key);
+            assertEquals(expected.get(i).value, actual.get(i).value);
+            assertEquals(expected.get(i).epoch, actual.get(i).epoch);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.CommonDimension;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.CommonMetric;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.HttpDimension;
+import org.opensearch.performanceanalyzer.commons.metrics.AllMetrics.HttpMetric;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.util.TestUtil;
+import org.opensearch.performanceanalyzer.util.Utils;
+
+public class RequestEventRecorderTests {
+
+    @Before
+    public void init() {
+        Utils.configureMetrics();
+        System.setProperty("performanceanalyzer.metrics.log.enabled", "False");
+        RequestEventRecorder.setEnabled(true);
+        RequestEventRecorder.discard();
+        TestUtil.readEvents();
+    }
+
+    @After
+    public void cleanup() {
+        RequestEventRecorder.setEnabled(false);
+        RequestEventRecorder.discard();
+        TestUtil.readEvents();
+    }
+
+    @Test
+    public void testHttpRecords() {
+        long startTime = System.currentTimeMillis();
+        RequestEventRecorder.recordHttpStart(
+                "search", 42, startTime, new String[] {"index1", "index2"}, 0);
+        RequestEventRecorder.recordHttpFinish(
+                "search", 42, startTime + 1, 500, IllegalStateException.class);
+        assertTrue("records must not be formatted eagerly", TestUtil.readEvents().isEmpty());
+
+        assertEquals(2, RequestEventRecorder.flush());
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(2, events.size());
+
+        assertTrue(
+                events.get(0)
+                        .key
+                        .endsWith("/search/42/" + PerformanceAnalyzerMetrics.START_FILE_NAME));
+        String[] start = events.get(0).value.split("\n");
+        assertEquals(HttpMetric.START_TIME + ":" + startTime, start[1]);
+        assertEquals(HttpDimension.INDICES + ":index1,index2", start[2]);
+        assertEquals(HttpMetric.HTTP_REQUEST_DOCS + ":0", start[3]);
+
+        assertTrue(
+                events.get(1)
+                        .key
+                        .endsWith("/search/42/" + PerformanceAnalyzerMetrics.FINISH_FILE_NAME));
+        String[] finish = events.get(1).value.split("\n");
+        assertEquals(HttpMetric.FINISH_TIME + ":" + (startTime + 1), finish[1]);
+        assertEquals(HttpDimension.HTTP_RESP_CODE + ":500", finish[2]);
+        assertEquals(HttpDimension.EXCEPTION + ":java.lang.IllegalStateException", finish[3]);
+    }
+
+    @Test
+    public void testShardSearchRecords() {
+        long startTime = System.currentTimeMillis();
+        RequestEventRecorder.recordShardSearchStart(false, 7, "[ctx][1]", startTime, "idx", 2);
+        RequestEventRecorder.recordShardSearchFinish(
+                true, 7, "[ctx][1]", startTime + 3, true, "idx", 2);
+        assertEquals(2, RequestEventRecorder.flush());
+
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(2, events.size());
+        assertTrue(
+                events.get(0)
+                        .key
+                        .endsWith(
+                                "/7/"
+                                        + PerformanceAnalyzerMetrics.sShardQueryPath
+                                        + "/[ctx][1]/"
+                                        + PerformanceAnalyzerMetrics.START_FILE_NAME));
+        assertTrue(
+                events.get(1)
+                        .key
+                        .endsWith(
+                                "/7/"
+                                        + PerformanceAnalyzerMetrics.sShardFetchPath
+                                        + "/[ctx][1]/"
+                                        + PerformanceAnalyzerMetrics.FINISH_FILE_NAME));
+        String[] finish = events.get(1).value.split("\n");
+        assertEquals(CommonMetric.FINISH_TIME + ":" + (startTime + 3), finish[1]);
+        assertEquals(CommonDimension.FAILED + ":true", finish[2]);
+        assertEquals(CommonDimension.INDEX_NAME + ":idx", finish[3]);
+        assertEquals(CommonDimension.SHARD_ID + ":2", finish[4]);
+    }
+
+    @Test
+    public void testCurrentTimeIsCapturedWhenRecorded() throws Exception {
+        long before = System.currentTimeMillis();
+        RequestEventRecorder.recordHttpStart("bulk", 1, before, null, 1);
+        long after = System.currentTimeMillis();
+        Thread.sleep(20);
+
+        assertEquals(1, RequestEventRecorder.flush());
+        String[] start = TestUtil.readEvents().get(0).value.split("\n");
+        String prefix = PerformanceAnalyzerMetrics.METRIC_CURRENT_TIME + ":";
+        assertTrue(start[0].startsWith(prefix));
+        long currentTime = Long.parseLong(start[0].substring(prefix.length()));
+        assertTrue(currentTime >= before && currentTime <= after);
+    }
+
+    @Test
+    public void testFullBufferDropsRecords() {
+        long dropped = RequestEventRecorder.getDroppedRecords();
+        for (int i = 0; i < RequestEventRecorder.BUFFER_CAPACITY + 10; i++) {
+            RequestEventRecorder.recordHttpStart("bulk", i, System.currentTimeMillis(), null, 1);
+        }
+        assertEquals(dropped + 10, RequestEventRecorder.getDroppedRecords());
+        assertEquals(RequestEventRecorder.BUFFER_CAPACITY, RequestEventRecorder.discard());
+
+        // The buffer is reusable once drained.
+        RequestEventRecorder.recordHttpStart("bulk", 1, System.currentTimeMillis(), null, 1);
+        assertEquals(1, RequestEventRecorder.discard());
+    }
+
+    @Test
+    public void testRecordsOfTerminatedThreadsAreFlushed() throws Exception {
+        Thread thread =
+                new Thread(
+                        () ->
+                                RequestEventRecorder.recordHttpStart(
+                                        "bulk", 1, System.currentTimeMillis(), null, 3));
+        thread.start();
+        thread.join();
+
+        assertEquals(1, RequestEventRecorder.flush());
+        assertEquals(1, TestUtil.readEvents().size());
+        assertEquals(0, RequestEventRecorder.flush());
+    }
+}
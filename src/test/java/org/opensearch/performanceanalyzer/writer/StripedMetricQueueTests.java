@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.performanceanalyzer.writer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.performanceanalyzer.commons.collectors.StatsCollector;
+import org.opensearch.performanceanalyzer.commons.event_process.Event;
+import org.opensearch.performanceanalyzer.commons.metrics.PerformanceAnalyzerMetrics;
+import org.opensearch.performanceanalyzer.listener.PerformanceAnalyzerSearchListener;
+import org.opensearch.performanceanalyzer.util.TestUtil;
+import org.opensearch.performanceanalyzer.util.Utils;
+
+public class StripedMetricQueueTests {
+    private final PerformanceAnalyzerSearchListener processor =
+            new PerformanceAnalyzerSearchListener(null);
+
+    @Before
+    public void init() {
+        Utils.configureMetrics();
+        System.setProperty("performanceanalyzer.metrics.log.enabled", "False");
+        StripedMetricQueue.setEnabled(true);
+        StripedMetricQueue.discard();
+        TestUtil.readEvents();
+    }
+
+    @After
+    public void cleanup() {
+        StripedMetricQueue.setEnabled(false);
+        StripedMetricQueue.discard();
+        TestUtil.readEvents();
+    }
+
+    @Test
+    public void testDisabledSavesDirectly() {
+        StripedMetricQueue.setEnabled(false);
+        save(1);
+        assertEquals(1, TestUtil.readEvents().size());
+        assertEquals(0, StripedMetricQueue.drain());
+    }
+
+    @Test
+    public void testEventsAreDeferredUntilDrain() {
+        save(1);
+        save(2);
+        assertTrue("events must not reach the queue eagerly", TestUtil.readEvents().isEmpty());
+
+        assertEquals(2, StripedMetricQueue.drain());
+        List<Event> events = TestUtil.readEvents();
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).key.endsWith("/1/" + PerformanceAnalyzerMetrics.START_FILE_NAME));
+        assertTrue(events.get(1).key.endsWith("/2/" + PerformanceAnalyzerMetrics.START_FILE_NAME));
+        assertEquals(0, StripedMetricQueue.drain());
+    }
+
+    @Test
+    public void testOverflowIsCounted() {
+        long overflow = StripedMetricQueue.getOverflowCount();
+        for (int i = 0; i < StripedMetricQueue.STRIPE_CAPACITY + 5; i++) {
+            save(i);
+        }
+        assertEquals(overflow + 5, StripedMetricQueue.getOverflowCount());
+        assertEquals(StripedMetricQueue.STRIPE_CAPACITY, StripedMetricQueue.discard());
+
+        AtomicInteger counter =
+                StatsCollector.instance().getCounters().get(StripedMetricQueue.OVERFLOW_COUNTER);
+        assertTrue(counter != null && counter.get() >= 5);
+
+        // The stripe is reusable once drained.
+        save(1);
+        assertEquals(1, StripedMetricQueue.discard());
+    }
+
+    @Test
+    public void testEventsOfTerminatedThreadsAreDrained() throws Exception {
+        Thread thread = new Thread(() -> save(1));
+        thread.start();
+        thread.join();
+
+        assertEquals(1, StripedMetricQueue.drain());
+        assertEquals(1, TestUtil.readEvents().size());
+        assertEquals(0, StripedMetricQueue.drain());
+    }
+
+    private void save(int contextId) {
+        long startTime = System.currentTimeMillis();
+        StripedMetricQueue.save(
+                processor,
+                PerformanceAnalyzerSearchListener.generateStartMetrics(startTime, "idx", 0),
+                startTime,
+                "7",
+                PerformanceAnalyzerMetrics.sShardQueryPath,
+                String.valueOf(contextId),
+                PerformanceAnalyzerMetrics.START_FILE_NAME);
+    }
+}